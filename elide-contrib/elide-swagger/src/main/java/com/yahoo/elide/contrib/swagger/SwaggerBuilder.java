@@ -11,6 +11,7 @@ import com.yahoo.elide.contrib.swagger.model.Datum;
 import com.yahoo.elide.contrib.swagger.property.Relationship;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.RelationshipType;
+import com.yahoo.elide.core.StartupTimings;
 import com.yahoo.elide.core.filter.Operator;
 import io.swagger.converter.ModelConverters;
 import io.swagger.models.Info;
@@ -666,6 +667,12 @@ public class SwaggerBuilder {
      * @return the constructed 'Swagger' object
      */
     public Swagger build() {
+        Swagger built = dictionary.getStartupTimings().time(StartupTimings.SWAGGER, this::buildSwagger);
+        dictionary.getStartupTimings().report();
+        return built;
+    }
+
+    private Swagger buildSwagger() {
 
         /* Used to convert Elide POJOs into Swagger Model objects */
         ModelConverters converters = ModelConverters.getInstance();
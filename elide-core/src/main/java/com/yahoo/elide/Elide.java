@@ -8,6 +8,7 @@ package com.yahoo.elide;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.yahoo.elide.audit.AuditLogger;
+import com.yahoo.elide.core.ConditionalRequest;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.HttpStatus;
@@ -18,6 +19,7 @@ import com.yahoo.elide.core.exceptions.InternalServerErrorException;
 import com.yahoo.elide.core.exceptions.InvalidConstraintException;
 import com.yahoo.elide.core.exceptions.InvalidURLException;
 import com.yahoo.elide.core.exceptions.JsonPatchExtensionException;
+import com.yahoo.elide.core.exceptions.RequestTimeoutException;
 import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.extensions.JsonApiPatch;
 import com.yahoo.elide.extensions.PatchRequestScope;
@@ -51,6 +53,7 @@ import javax.ws.rs.core.MultivaluedMap;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -58,6 +61,9 @@ import java.util.function.Supplier;
  */
 @Slf4j
 public class Elide {
+    /* Request header shortening the request timeout to a number of milliseconds */
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
     @Getter private final ElideSettings elideSettings;
     @Getter private final AuditLogger auditLogger;
     @Getter private final DataStore dataStore;
@@ -73,6 +79,7 @@ public class Elide {
         this.auditLogger = elideSettings.getAuditLogger();
         this.dataStore = elideSettings.getDataStore();
         this.dataStore.populateEntityDictionary(elideSettings.getDictionary());
+        elideSettings.getDictionary().getStartupTimings().report();
         this.mapper = elideSettings.getMapper();
     }
 
@@ -85,9 +92,34 @@ public class Elide {
      * @return Elide response object
      */
     public ElideResponse get(String path, MultivaluedMap<String, String> queryParams, Object opaqueUser) {
+        return get(path, queryParams, null, opaqueUser);
+    }
+
+    /**
+     * Handle a conditional GET.
+     * The response carries an ETag (and a Last-Modified date for entities with a date version) and is
+     * <em>304 Not Modified</em> without a body when the If-None-Match or If-Modified-Since headers match.
+     * A {@value #REQUEST_TIMEOUT_HEADER} header can shorten the request timeout.
+     *
+     * @param path the path
+     * @param queryParams the query params
+     * @param requestHeaders the request headers or null to skip conditional handling
+     * @param opaqueUser the opaque user
+     * @return Elide response object
+     */
+    public ElideResponse get(String path, MultivaluedMap<String, String> queryParams,
+                             MultivaluedMap<String, String> requestHeaders, Object opaqueUser) {
         return handleRequest(true, opaqueUser, dataStore::beginReadTransaction, (tx, user) -> {
             JsonApiDocument jsonApiDoc = new JsonApiDocument();
             RequestScope requestScope = new RequestScope(path, jsonApiDoc, tx, user, queryParams, elideSettings, false);
+            if (requestHeaders != null) {
+                requestScope.setConditionalRequest(ConditionalRequest.fromHeaders(requestHeaders));
+                String timeout = requestHeaders.getFirst(REQUEST_TIMEOUT_HEADER);
+                if (StringUtils.isNumeric(timeout)) {
+                    requestScope.setDeadline(
+                            requestScope.getDeadline().within(Long.parseLong(timeout), TimeUnit.MILLISECONDS));
+                }
+            }
             BaseVisitor visitor = new GetVisitor(requestScope);
             try {
                 Supplier<Pair<Integer, JsonNode>> responder = visitor.visit(parse(path));
@@ -133,6 +165,22 @@ public class Elide {
      */
     public ElideResponse patch(String contentType, String accept,
                                String path, String jsonApiDocument, Object opaqueUser) {
+        return patch(contentType, accept, path, jsonApiDocument, null, opaqueUser);
+    }
+
+    /**
+     * Handle PATCH. Filter parameters select the records to update in a collection.
+     *
+     * @param contentType the content type
+     * @param accept the accept
+     * @param path the path
+     * @param jsonApiDocument the json api document
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @return Elide response object
+     */
+    public ElideResponse patch(String contentType, String accept, String path, String jsonApiDocument,
+                               MultivaluedMap<String, String> queryParams, Object opaqueUser) {
 
         Handler<DataStoreTransaction, User, HandlerResult> handler;
         if (JsonApiPatch.isPatchExtension(contentType) && JsonApiPatch.isPatchExtension(accept)) {
@@ -149,7 +197,8 @@ public class Elide {
         } else {
             handler = (tx, user) -> {
                 JsonApiDocument jsonApiDoc = mapper.readJsonApiDocument(jsonApiDocument);
-                RequestScope requestScope = new RequestScope(path, jsonApiDoc, tx, user, null, elideSettings, false);
+                RequestScope requestScope =
+                        new RequestScope(path, jsonApiDoc, tx, user, queryParams, elideSettings, false);
                 BaseVisitor visitor = new PatchVisitor(requestScope);
                 try {
                     Supplier<Pair<Integer, JsonNode>> responder = visitor.visit(parse(path));
@@ -172,11 +221,26 @@ public class Elide {
      * @return Elide response object
      */
     public ElideResponse delete(String path, String jsonApiDocument, Object opaqueUser) {
+        return delete(path, jsonApiDocument, null, opaqueUser);
+    }
+
+    /**
+     * Handle DELETE. Filter parameters select the records to delete from a collection.
+     *
+     * @param path the path
+     * @param jsonApiDocument the json api document
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @return Elide response object
+     */
+    public ElideResponse delete(String path, String jsonApiDocument, MultivaluedMap<String, String> queryParams,
+                                Object opaqueUser) {
         return handleRequest(false, opaqueUser, dataStore::beginTransaction, (tx, user) -> {
             JsonApiDocument jsonApiDoc = StringUtils.isEmpty(jsonApiDocument)
                     ? new JsonApiDocument()
                     : mapper.readJsonApiDocument(jsonApiDocument);
-            RequestScope requestScope = new RequestScope(path, jsonApiDoc, tx, user, null, elideSettings, false);
+            RequestScope requestScope =
+                    new RequestScope(path, jsonApiDoc, tx, user, queryParams, elideSettings, false);
             BaseVisitor visitor = new DeleteVisitor(requestScope);
             try {
                 Supplier<Pair<Integer, JsonNode>> responder = visitor.visit(parse(path));
@@ -200,12 +264,14 @@ public class Elide {
                                           Supplier<DataStoreTransaction> transaction,
                                           Handler<DataStoreTransaction, User, HandlerResult> handler) {
         boolean isVerbose = false;
+        RequestScope requestScope = null;
         try (DataStoreTransaction tx = transaction.get()) {
             final User user = tx.accessUser(opaqueUser);
             HandlerResult result = handler.handle(tx, user);
-            RequestScope requestScope = result.getRequestScope();
+            requestScope = result.getRequestScope();
             isVerbose = requestScope.getPermissionExecutor().isVerbose();
             Supplier<Pair<Integer, JsonNode>> responder = result.getResponder();
+            requestScope.getDeadline().check();
             tx.preCommit();
             requestScope.runQueuedPreSecurityTriggers();
             requestScope.getPermissionExecutor().executeCommitChecks();
@@ -214,7 +280,7 @@ public class Elide {
             }
             tx.flush(requestScope);
 
-            ElideResponse response = buildResponse(responder.get());
+            ElideResponse response = buildConditionalResponse(requestScope, buildResponse(responder.get()));
 
             requestScope.runQueuedPreCommitTriggers();
             auditLogger.commit(requestScope);
@@ -261,6 +327,15 @@ public class Elide {
             }
             return buildErrorResponse(new InvalidConstraintException(message), isVerbose);
 
+        } catch (RuntimeException e) {
+            // Data stores interrupted by the deadline fail with their own exceptions
+            if (requestScope != null && requestScope.getDeadline().isExpired()) {
+                log.debug("Request stopped by its deadline", e);
+                return buildErrorResponse(new RequestTimeoutException(), isVerbose);
+            }
+            log.error("Error or exception uncaught by Elide", e);
+            throw e;
+
         } catch (Exception | Error e) {
             log.error("Error or exception uncaught by Elide", e);
             throw e;
@@ -303,6 +378,32 @@ public class Elide {
         return buildResponse(isVerbose ? error.getVerboseErrorResponse() : error.getErrorResponse());
     }
 
+    /**
+     * Attach the validators of a conditional GET to a response.
+     * Responses without a version-derived entity tag are tagged by hashing the serialized body.
+     *
+     * @param requestScope request scope
+     * @param response response to tag
+     * @return the tagged response or 304 if the client representation is current
+     */
+    protected ElideResponse buildConditionalResponse(RequestScope requestScope, ElideResponse response) {
+        ConditionalRequest conditionalRequest = requestScope.getConditionalRequest();
+        int responseCode = response.getResponseCode();
+        if (conditionalRequest == null
+                || (responseCode != HttpStatus.SC_OK && responseCode != HttpStatus.SC_NOT_MODIFIED)) {
+            return response;
+        }
+
+        conditionalRequest.setBody(response.getBody());
+        if (responseCode == HttpStatus.SC_OK && conditionalRequest.isNotModified()) {
+            responseCode = HttpStatus.SC_NOT_MODIFIED;
+        }
+        return new ElideResponse(responseCode,
+                responseCode == HttpStatus.SC_NOT_MODIFIED ? null : response.getBody(),
+                conditionalRequest.getEntityTag(),
+                conditionalRequest.getLastModified());
+    }
+
     protected ElideResponse buildResponse(Pair<Integer, JsonNode> response) {
         try {
             JsonNode responseNode = response.getRight();
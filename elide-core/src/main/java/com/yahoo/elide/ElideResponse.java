@@ -7,12 +7,16 @@ package com.yahoo.elide;
 
 import lombok.Getter;
 
+import java.util.Date;
+
 /**
  * Elide response object.
  */
 public class ElideResponse {
     @Getter private final int responseCode;
     @Getter private final String body;
+    @Getter private final String entityTag;
+    @Getter private final Date lastModified;
 
     /**
      * Constructor.
@@ -21,7 +25,21 @@ public class ElideResponse {
      * @param body returned body string
      */
     public ElideResponse(int responseCode, String body) {
+        this(responseCode, body, null, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param responseCode HTTP response code
+     * @param body returned body string
+     * @param entityTag value of the ETag header or null
+     * @param lastModified value of the Last-Modified header or null
+     */
+    public ElideResponse(int responseCode, String body, String entityTag, Date lastModified) {
         this.responseCode = responseCode;
         this.body = body;
+        this.entityTag = entityTag;
+        this.lastModified = lastModified;
     }
 }
@@ -8,6 +8,7 @@ package com.yahoo.elide;
 import com.yahoo.elide.audit.AuditLogger;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.QueryPlanCache;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.filter.dialect.JoinFilterDialect;
 import com.yahoo.elide.core.filter.dialect.SubqueryFilterDialect;
@@ -35,4 +36,8 @@ public class ElideSettings {
     @Getter private final int defaultPageSize;
     @Getter private final boolean useFilterExpressions;
     @Getter private final int updateStatusCode;
+    /* Null when parsed query parameters are not cached across requests */
+    @Getter private final QueryPlanCache queryPlanCache;
+    /* Milliseconds a request may run for, 0 for no limit */
+    @Getter private final long requestTimeout;
 }
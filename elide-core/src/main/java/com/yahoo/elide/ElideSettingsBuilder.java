@@ -10,6 +10,7 @@ import com.yahoo.elide.audit.Slf4jLogger;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.QueryPlanCache;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.filter.dialect.DefaultFilterDialect;
 import com.yahoo.elide.core.filter.dialect.JoinFilterDialect;
@@ -24,6 +25,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -41,6 +43,8 @@ public class ElideSettingsBuilder {
     private int defaultPageSize = Pagination.DEFAULT_PAGE_LIMIT;
     private boolean useFilterExpressions;
     private int updateStatusCode;
+    private long queryPlanCacheSize = QueryPlanCache.DEFAULT_MAXIMUM_SIZE;
+    private long requestTimeout;
 
     /**
      * A new builder used to generate Elide instances. Instantiates an {@link EntityDictionary} without
@@ -77,7 +81,9 @@ public class ElideSettingsBuilder {
                 defaultMaxPageSize,
                 defaultPageSize,
                 useFilterExpressions,
-                updateStatusCode);
+                updateStatusCode,
+                queryPlanCacheSize > 0 ? new QueryPlanCache(queryPlanCacheSize) : null,
+                requestTimeout);
     }
 
     public ElideSettingsBuilder withAuditLogger(AuditLogger auditLogger) {
@@ -156,4 +162,27 @@ public class ElideSettingsBuilder {
         this.useFilterExpressions = useFilterExpressions;
         return this;
     }
+
+    /**
+     * Bound the number of parsed filter and sort parameters shared across requests.
+     *
+     * @param queryPlanCacheSize the maximum number of cached entries or 0 to parse every request
+     * @return the builder
+     */
+    public ElideSettingsBuilder withQueryPlanCacheSize(long queryPlanCacheSize) {
+        this.queryPlanCacheSize = queryPlanCacheSize;
+        return this;
+    }
+
+    /**
+     * Stop requests running longer than a timeout and roll back their transaction.
+     *
+     * @param timeout the timeout or 0 to let requests run until they complete
+     * @param unit the unit of the timeout
+     * @return the builder
+     */
+    public ElideSettingsBuilder withRequestTimeout(long timeout, TimeUnit unit) {
+        this.requestTimeout = unit.toMillis(timeout);
+        return this;
+    }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import com.yahoo.elide.core.RequestScope;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Logger implementation which formats and writes audit messages on a background thread.
+ * <p>
+ * At commit only the expression values of each message are evaluated on the request thread. The values are handed
+ * to a bounded ring buffer which is drained in batches by a single writer thread. When the buffer is full the
+ * {@link BackpressurePolicy} decides whether the request thread waits, drops a message or writes it itself.
+ * <p>
+ * Expression values are formatted on the writer thread. Audit expressions should therefore resolve to values
+ * (strings, numbers, ids) rather than to entities whose <em>toString</em> may need the request's session.
+ * <p>
+ * By default batches are written to SLF4J in the format of {@link Slf4jLogger}. Override {@link #write(List)} to
+ * write them elsewhere.
+ */
+@Slf4j
+public class AsyncAuditLogger extends AuditLogger implements Closeable {
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * What to do with a message when the ring buffer is full.
+     */
+    public enum BackpressurePolicy {
+        /**
+         * The request thread waits for space in the buffer.
+         */
+        BLOCK,
+        /**
+         * The new message is dropped.
+         */
+        DROP_NEWEST,
+        /**
+         * The oldest buffered message is dropped to make space.
+         */
+        DROP_OLDEST,
+        /**
+         * The request thread writes the message itself.
+         */
+        CALLER_RUNS
+    }
+
+    /**
+     * An audit message captured at commit.
+     */
+    public static final class Entry {
+        @Getter private final long timestamp;
+        @Getter private final int operationCode;
+        private final AuditTemplate template;
+        private final Object[] arguments;
+
+        private Entry(long timestamp, LogMessage message) {
+            this.timestamp = timestamp;
+            this.operationCode = message.getOperationCode();
+            this.template = message.getAuditTemplate();
+            this.arguments = message.getArguments();
+        }
+
+        public String getMessage() {
+            return template.format(arguments);
+        }
+    }
+
+    private final BlockingQueue<Entry> buffer;
+    private final int batchSize;
+    private final BackpressurePolicy policy;
+    private final Thread writer;
+    private final AtomicLong dropped = new AtomicLong();
+    private final ReadWriteLock closing = new ReentrantReadWriteLock();
+    private volatile boolean closed = false;
+
+    public AsyncAuditLogger() {
+        this(DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, BackpressurePolicy.BLOCK);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity maximum number of buffered messages
+     * @param batchSize maximum number of messages per {@link #write(List)}
+     * @param policy what to do when the buffer is full
+     */
+    public AsyncAuditLogger(int capacity, int batchSize, BackpressurePolicy policy) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.policy = policy;
+        this.writer = new Thread(this::drain, "elide-audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void commit(RequestScope requestScope) {
+        try {
+            long now = System.currentTimeMillis();
+            for (LogMessage message : messages.get()) {
+                enqueue(new Entry(now, message));
+            }
+        } finally {
+            messages.get().clear();
+        }
+    }
+
+    /**
+     * Number of messages dropped because the buffer was full.
+     *
+     * @return dropped message count
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Write a batch of messages. Called on the writer thread (or on the request thread under
+     * {@link BackpressurePolicy#CALLER_RUNS}).
+     *
+     * @param batch messages in commit order
+     */
+    protected void write(List<Entry> batch) {
+        for (Entry entry : batch) {
+            log.info("{} {} {}", entry.getTimestamp(), entry.getOperationCode(), entry.getMessage());
+        }
+    }
+
+    /**
+     * Stop accepting messages and wait for the buffered ones to be written.
+     */
+    @Override
+    public void close() {
+        closing.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closing.writeLock().unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        // Close waits for the messages being buffered so the writer cannot stop before they are in the buffer
+        closing.readLock().lock();
+        try {
+            if (closed) {
+                writeSafely(Collections.singletonList(entry));
+                return;
+            }
+            switch (policy) {
+                case BLOCK:
+                    try {
+                        buffer.put(entry);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped.incrementAndGet();
+                    }
+                    break;
+                case DROP_NEWEST:
+                    if (!buffer.offer(entry)) {
+                        dropped.incrementAndGet();
+                    }
+                    break;
+                case DROP_OLDEST:
+                    while (!buffer.offer(entry)) {
+                        if (buffer.poll() != null) {
+                            dropped.incrementAndGet();
+                        }
+                    }
+                    break;
+                case CALLER_RUNS:
+                default:
+                    if (!buffer.offer(entry)) {
+                        writeSafely(Collections.singletonList(entry));
+                    }
+                    break;
+            }
+        } finally {
+            closing.readLock().unlock();
+        }
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (!closed || !buffer.isEmpty()) {
+            try {
+                Entry first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                writeSafely(batch);
+            } catch (InterruptedException e) {
+                log.warn("Audit writer interrupted with {} messages buffered", buffer.size());
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeSafely(List<Entry> batch) {
+        try {
+            write(batch);
+        } catch (RuntimeException e) {
+            log.error("Failed to write {} audit messages", batch.size(), e);
+        }
+    }
+}
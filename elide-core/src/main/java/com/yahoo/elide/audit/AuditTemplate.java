@@ -0,0 +1,250 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import com.yahoo.elide.annotation.Audit;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.ResourceLineage;
+import de.odysseus.el.ExpressionFactoryImpl;
+import de.odysseus.el.util.SimpleContext;
+import lombok.Getter;
+
+import javax.el.ArrayELResolver;
+import javax.el.BeanELResolver;
+import javax.el.CompositeELResolver;
+import javax.el.ELContext;
+import javax.el.ELException;
+import javax.el.ELResolver;
+import javax.el.ExpressionFactory;
+import javax.el.FunctionMapper;
+import javax.el.ListELResolver;
+import javax.el.MapELResolver;
+import javax.el.PropertyNotFoundException;
+import javax.el.ResourceBundleELResolver;
+import javax.el.ValueExpression;
+import javax.el.VariableMapper;
+import java.beans.FeatureDescriptor;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A compiled {@link Audit} log statement.
+ *
+ * The template and the UEL expressions are parsed once. Identifiers in the expressions (the entity names of the
+ * record lineage) are resolved when the expressions are evaluated, so a template is thread safe and can be shared
+ * by every message logged for the same annotation.
+ */
+public class AuditTemplate {
+    //Supposedly this is thread safe.
+    private static final ExpressionFactory EXPRESSION_FACTORY = new ExpressionFactoryImpl();
+    private static final ELResolver RESOLVER = buildResolver();
+
+    @Getter private final List<Audit.Action> actions;
+    @Getter private final int operationCode;
+    @Getter private final String template;
+    private final MessageFormat format;
+    private final ValueExpression[] expressions;
+
+    /**
+     * Compile an audit annotation.
+     *
+     * @param audit the annotation
+     * @throws InvalidSyntaxException if the annotation has invalid syntax.
+     */
+    public AuditTemplate(Audit audit) {
+        this(audit.logStatement(), audit.logExpressions(), audit.operation(), audit.action());
+    }
+
+    /**
+     * Compile a log statement.
+     *
+     * @param template - The log message template that requires variable substitution.
+     * @param expressions - A set of UEL expressions that reference the record lineage.
+     * @param code - The operation code of the auditable action.
+     * @throws InvalidSyntaxException if the template or the expressions have invalid syntax.
+     */
+    public AuditTemplate(String template, String[] expressions, int code) {
+        this(template, expressions, code, new Audit.Action[0]);
+    }
+
+    private AuditTemplate(String template, String[] expressions, int code, Audit.Action[] actions) {
+        this.template = template;
+        this.operationCode = code;
+        this.actions = Collections.unmodifiableList(Arrays.asList(actions));
+
+        SimpleContext compileContext = new SimpleContext();
+        this.expressions = new ValueExpression[expressions.length];
+        try {
+            this.format = new MessageFormat(template);
+            for (int idx = 0; idx < expressions.length; idx++) {
+                this.expressions[idx] =
+                        EXPRESSION_FACTORY.createValueExpression(compileContext, expressions[idx], Object.class);
+            }
+        } catch (ELException | IllegalArgumentException e) {
+            throw new InvalidSyntaxException(e);
+        }
+    }
+
+    /**
+     * Evaluate the expressions against a record.
+     *
+     * @param record the record (and its lineage) to substitute or null
+     * @return the expression values
+     */
+    public Object[] evaluate(PersistentResource<?> record) {
+        Map<String, Object> lists = new HashMap<>();
+        Map<String, Object> singleElements = new HashMap<>();
+
+        if (record != null) {
+            /* Create a new lineage which includes the passed in record */
+            ResourceLineage lineage = new ResourceLineage(record.getLineage(), record);
+
+            for (String name : lineage.getKeys()) {
+                List<PersistentResource> values = lineage.getRecord(name);
+                Object last = values.get(values.size() - 1).getObject();
+                singleElements.put(name, last);
+                lists.put(name, values.size() == 1
+                        ? last
+                        : values.stream().map(PersistentResource::getObject).collect(Collectors.toList()));
+            }
+        }
+
+        ELContext ctx = new LineageContext(lists);
+        ELContext singleElementContext = new LineageContext(singleElements);
+
+        Object[] results = new Object[expressions.length];
+        for (int idx = 0; idx < results.length; idx++) {
+            try {
+                // Single element expressions are intended to allow for access to ${entityType.field} when there are
+                // multiple "entityType" types listed in the lineage. Without this, any access to an entityType
+                // without an explicit list index would otherwise result in a 500. Similarly, since we already
+                // supported lists (i.e. the ${entityType[idx].field} syntax), this also continues to support that.
+                // It should be noted, however, that list indexing is somewhat brittle unless properly accounted for
+                // from all possible paths.
+                results[idx] = expressions[idx].getValue(singleElementContext);
+            } catch (PropertyNotFoundException e) {
+                // Try list syntax if not single element
+                results[idx] = expressions[idx].getValue(ctx);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Substitute evaluated expressions into the template.
+     *
+     * @param arguments the values returned by {@link #evaluate(PersistentResource)}
+     * @return the log message
+     */
+    public String format(Object[] arguments) {
+        try {
+            return ((MessageFormat) format.clone()).format(arguments);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSyntaxException(e);
+        }
+    }
+
+    private static ELResolver buildResolver() {
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new LineageResolver());
+        resolver.add(new ArrayELResolver(true));
+        resolver.add(new ListELResolver(true));
+        resolver.add(new MapELResolver(true));
+        resolver.add(new ResourceBundleELResolver());
+        resolver.add(new BeanELResolver(true));
+        return resolver;
+    }
+
+    /**
+     * Evaluation context exposing the entities of a record lineage as top level identifiers.
+     */
+    private static final class LineageContext extends ELContext {
+        private final Map<String, Object> roots;
+
+        private LineageContext(Map<String, Object> roots) {
+            this.roots = roots;
+        }
+
+        @Override
+        public ELResolver getELResolver() {
+            return RESOLVER;
+        }
+
+        @Override
+        public FunctionMapper getFunctionMapper() {
+            return null;
+        }
+
+        @Override
+        public VariableMapper getVariableMapper() {
+            return null;
+        }
+    }
+
+    /**
+     * Resolves top level identifiers from the {@link LineageContext}.
+     */
+    private static final class LineageResolver extends ELResolver {
+        private static Map<String, Object> getRoots(ELContext context, Object base, Object property) {
+            if (base != null || !(property instanceof String) || !(context instanceof LineageContext)) {
+                return null;
+            }
+            Map<String, Object> roots = ((LineageContext) context).roots;
+            return roots.containsKey(property) ? roots : null;
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base, Object property) {
+            Map<String, Object> roots = getRoots(context, base, property);
+            if (roots == null) {
+                return null;
+            }
+            context.setPropertyResolved(true);
+            return roots.get(property);
+        }
+
+        @Override
+        public Class<?> getType(ELContext context, Object base, Object property) {
+            Map<String, Object> roots = getRoots(context, base, property);
+            if (roots == null) {
+                return null;
+            }
+            context.setPropertyResolved(true);
+            return Object.class;
+        }
+
+        @Override
+        public void setValue(ELContext context, Object base, Object property, Object value) {
+            // Audit expressions are read only
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context, Object base, Object property) {
+            Map<String, Object> roots = getRoots(context, base, property);
+            if (roots == null) {
+                return false;
+            }
+            context.setPropertyResolved(true);
+            return true;
+        }
+
+        @Override
+        public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+            return null;
+        }
+
+        @Override
+        public Class<?> getCommonPropertyType(ELContext context, Object base) {
+            return base == null ? String.class : null;
+        }
+    }
+}
@@ -8,32 +8,18 @@ package com.yahoo.elide.audit;
 import com.yahoo.elide.annotation.Audit;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
-import com.yahoo.elide.core.ResourceLineage;
 import com.yahoo.elide.security.ChangeSpec;
-import de.odysseus.el.ExpressionFactoryImpl;
-import de.odysseus.el.util.SimpleContext;
 
-import javax.el.ELException;
-import javax.el.ExpressionFactory;
-import javax.el.PropertyNotFoundException;
-import javax.el.ValueExpression;
-import java.text.MessageFormat;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * An audit log message that can be logged to a logger.
  */
 public class LogMessage {
-    //Supposedly this is thread safe.
-    private static final ExpressionFactory EXPRESSION_FACTORY = new ExpressionFactoryImpl();
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
 
-    private final String template;
+    private final AuditTemplate auditTemplate;
     private final PersistentResource record;
-    private final String[] expressions;
-    private final int operationCode;
     private final Optional<ChangeSpec> changeSpec;
 
     /**
@@ -54,7 +40,7 @@ public class LogMessage {
      */
     public LogMessage(Audit audit, PersistentResource record, Optional<ChangeSpec> changeSpec)
             throws InvalidSyntaxException {
-        this(audit.logStatement(), record, audit.logExpressions(), audit.operation(), changeSpec);
+        this(new AuditTemplate(audit), record, changeSpec);
     }
 
     /**
@@ -71,10 +57,18 @@ public class LogMessage {
             String[] expressions,
             int code,
             Optional<ChangeSpec> changeSpec) throws InvalidSyntaxException {
-        this.template = template;
+        this(new AuditTemplate(template, expressions, code), record, changeSpec);
+    }
+
+    /**
+     * Construct a log message from a compiled audit template.
+     * @param auditTemplate - The compiled template.
+     * @param record - The record which will serve as the data to substitute.
+     * @param changeSpec - the change spec that we want to log
+     */
+    public LogMessage(AuditTemplate auditTemplate, PersistentResource record, Optional<ChangeSpec> changeSpec) {
+        this.auditTemplate = auditTemplate;
         this.record = record;
-        this.expressions = expressions;
-        this.operationCode = code;
         this.changeSpec = changeSpec;
     }
 
@@ -84,7 +78,25 @@ public class LogMessage {
      * @return the operation code
      */
     public int getOperationCode() {
-        return operationCode;
+        return auditTemplate.getOperationCode();
+    }
+
+    /**
+     * Gets the compiled template of this message.
+     *
+     * @return the template
+     */
+    public AuditTemplate getAuditTemplate() {
+        return auditTemplate;
+    }
+
+    /**
+     * Evaluates the template expressions against the record.
+     *
+     * @return the values to substitute into the template
+     */
+    public Object[] getArguments() {
+        return auditTemplate.evaluate(record);
     }
 
     /**
@@ -93,68 +105,7 @@ public class LogMessage {
      * @return the message
      */
     public String getMessage() {
-        final SimpleContext ctx = new SimpleContext();
-        final SimpleContext singleElementContext = new SimpleContext();
-
-        if (record != null) {
-            /* Create a new lineage which includes the passed in record */
-            ResourceLineage lineage = new ResourceLineage(record.getLineage(), record);
-
-            for (String name : lineage.getKeys()) {
-                List<PersistentResource> values = lineage.getRecord(name);
-
-                final ValueExpression expression;
-                final ValueExpression singleElementExpression;
-                if (values.size() == 1) {
-                    expression = EXPRESSION_FACTORY.createValueExpression(values.get(0).getObject(), Object.class);
-                    singleElementExpression = expression;
-                } else {
-                    List<Object> objects = values.stream().map(PersistentResource::getObject)
-                            .collect(Collectors.toList());
-                    expression = EXPRESSION_FACTORY.createValueExpression(objects, List.class);
-                    singleElementExpression = EXPRESSION_FACTORY.createValueExpression(values.get(values.size() - 1)
-                            .getObject(), Object.class);
-                }
-                ctx.setVariable(name, expression);
-                singleElementContext.setVariable(name, singleElementExpression);
-            }
-        }
-
-        Object[] results = new Object[expressions.length];
-        for (int idx = 0; idx < results.length; idx++) {
-            String expressionText = expressions[idx];
-
-            final ValueExpression expression;
-            final ValueExpression singleElementExpression;
-            try {
-                expression = EXPRESSION_FACTORY.createValueExpression(ctx, expressionText, Object.class);
-                singleElementExpression =
-                        EXPRESSION_FACTORY.createValueExpression(singleElementContext, expressionText, Object.class);
-            } catch (ELException e) {
-                throw new InvalidSyntaxException(e);
-            }
-
-            Object result;
-            try {
-                // Single element expressions are intended to allow for access to ${entityType.field} when there are
-                // multiple "entityType" types listed in the lineage. Without this, any access to an entityType
-                // without an explicit list index would otherwise result in a 500. Similarly, since we already
-                // supported lists (i.e. the ${entityType[idx].field} syntax), this also continues to support that.
-                // It should be noted, however, that list indexing is somewhat brittle unless properly accounted for
-                // from all possible paths.
-                result = singleElementExpression.getValue(singleElementContext);
-            } catch (PropertyNotFoundException e) {
-                // Try list syntax if not single element
-                result = expression.getValue(ctx);
-            }
-            results[idx] = result;
-        }
-
-        try {
-            return MessageFormat.format(template, results);
-        } catch (IllegalArgumentException e) {
-            throw new InvalidSyntaxException(e);
-        }
+        return auditTemplate.format(getArguments());
     }
 
     public RequestScope getRequestScope() {
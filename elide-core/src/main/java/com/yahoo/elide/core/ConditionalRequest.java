@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.yahoo.elide.annotation.ReadPermission;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Preconditions (<em>If-None-Match</em> and <em>If-Modified-Since</em>) of a conditional GET along with the
+ * validators (<em>ETag</em> and <em>Last-Modified</em>) resolved while handling it.
+ *
+ * Entities with a {@link javax.persistence.Version} attribute get a weak entity tag derived from the type, id and
+ * version of the requested resource, unless the request includes related resources or what the user may read of the
+ * resource depends on the user (see {@link #isTaggedByVersion}). Those requests can be answered with
+ * <em>304 Not Modified</em> as soon as the root object is loaded. A <em>Date</em> version doubles as the last-modified
+ * time. Every other response is tagged with a strong entity tag hashed from the serialized body.
+ *
+ * <strong>N.B.</strong> A version-derived tag only tracks the root entity. Changes which do not bump its version
+ *           (e.g. to included resources) are not detected.
+ */
+public class ConditionalRequest {
+    public static final String IF_NONE_MATCH = "If-None-Match";
+    public static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    private static final String INCLUDE = "include";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+
+    private final Set<String> ifNoneMatch;
+    private final Date ifModifiedSince;
+
+    @Getter @Setter private String entityTag;
+    @Getter @Setter private Date lastModified;
+
+    public ConditionalRequest(Set<String> ifNoneMatch, Date ifModifiedSince) {
+        this.ifNoneMatch = ifNoneMatch;
+        this.ifModifiedSince = ifModifiedSince;
+    }
+
+    /**
+     * Extract the preconditions from the request headers.
+     *
+     * @param headers request headers (header names are matched case insensitively)
+     * @return the conditional request
+     */
+    public static ConditionalRequest fromHeaders(MultivaluedMap<String, String> headers) {
+        Map<String, List<String>> lookup = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (headers != null) {
+            lookup.putAll(headers);
+        }
+
+        Set<String> tags = new HashSet<>();
+        for (String header : lookup.getOrDefault(IF_NONE_MATCH, Collections.emptyList())) {
+            for (String tag : header.split(",")) {
+                tag = tag.trim();
+                if (!tag.isEmpty()) {
+                    tags.add(opaqueTag(tag));
+                }
+            }
+        }
+
+        Date since = null;
+        List<String> modifiedSince = lookup.getOrDefault(IF_MODIFIED_SINCE, Collections.emptyList());
+        if (!modifiedSince.isEmpty()) {
+            try {
+                TemporalAccessor parsed = DateTimeFormatter.RFC_1123_DATE_TIME.parse(modifiedSince.get(0).trim());
+                since = Date.from(ZonedDateTime.from(parsed).toInstant());
+            } catch (DateTimeParseException e) {
+                // Invalid dates are ignored (RFC 7232 section 3.3)
+            }
+        }
+
+        return new ConditionalRequest(tags, since);
+    }
+
+    /**
+     * Whether the request carries any precondition.
+     *
+     * @return true if the client sent If-None-Match or If-Modified-Since
+     */
+    public boolean hasPreconditions() {
+        return !ifNoneMatch.isEmpty() || ifModifiedSince != null;
+    }
+
+    /**
+     * Evaluate the preconditions against the resolved validators.
+     * If-Modified-Since is only considered when the client did not send If-None-Match.
+     *
+     * @return true if the client representation is current and a 304 should be returned
+     */
+    public boolean isNotModified() {
+        if (!ifNoneMatch.isEmpty()) {
+            return entityTag != null && (ifNoneMatch.contains(ANY) || ifNoneMatch.contains(opaqueTag(entityTag)));
+        }
+        if (ifModifiedSince != null && lastModified != null) {
+            return !lastModified.toInstant().truncatedTo(ChronoUnit.SECONDS).isAfter(ifModifiedSince.toInstant());
+        }
+        return false;
+    }
+
+    /**
+     * Whether the response for a resource only changes along with its version, so that it can be tagged from the
+     * version: no resources are included, no field of the resource has a read permission of its own and the related
+     * resources listed in its relationships have no read permission.
+     *
+     * @param resource the root resource of the request
+     * @param requestScope request scope
+     * @return true if the response can be tagged with {@link #setVersion}
+     */
+    public static boolean isTaggedByVersion(PersistentResource<?> resource, RequestScope requestScope) {
+        if (requestScope.getQueryParams().map(params -> params.containsKey(INCLUDE)).orElse(false)) {
+            return false;
+        }
+
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Class<?> entityClass = resource.getResourceClass();
+        return dictionary.getAllFields(entityClass).stream()
+                .noneMatch(field -> dictionary.getPermissionsForField(entityClass, field, ReadPermission.class) != null)
+                && dictionary.getRelationships(entityClass).stream()
+                .map(relation -> dictionary.getParameterizedType(entityClass, relation))
+                .noneMatch(relatedClass -> dictionary.entityHasChecksForPermission(relatedClass, ReadPermission.class));
+    }
+
+    /**
+     * Resolve the validators from the version of the requested resource.
+     *
+     * @param resource the root resource of the request
+     * @param version its version
+     * @param requestScope request scope
+     */
+    public void setVersion(PersistentResource<?> resource, Object version, RequestScope requestScope) {
+        Hasher hasher = Hashing.murmur3_128().newHasher()
+                .putString(resource.getType(), StandardCharsets.UTF_8)
+                .putString(String.valueOf(resource.getId()), StandardCharsets.UTF_8)
+                .putString(String.valueOf(version), StandardCharsets.UTF_8)
+                .putString(String.valueOf(requestScope.getPath()), StandardCharsets.UTF_8);
+        requestScope.getQueryParams().ifPresent(params ->
+                new TreeMap<>(params).forEach((key, values) -> hasher
+                        .putString(key, StandardCharsets.UTF_8)
+                        .putString(String.valueOf(values), StandardCharsets.UTF_8)));
+
+        entityTag = WEAK_PREFIX + "\"" + hasher.hash() + "\"";
+        if (version instanceof Date) {
+            lastModified = new Date(((Date) version).getTime());
+        }
+    }
+
+    /**
+     * Resolve the entity tag from the serialized response when no version was available.
+     *
+     * @param body serialized response
+     */
+    public void setBody(String body) {
+        if (entityTag == null && body != null) {
+            entityTag = "\"" + Hashing.murmur3_128().hashString(body, StandardCharsets.UTF_8) + "\"";
+        }
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -5,6 +5,8 @@
  */
 package com.yahoo.elide.core;
 
+import com.yahoo.elide.core.aggregation.Aggregation;
+import com.yahoo.elide.core.aggregation.HashAggregator;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
@@ -12,8 +14,11 @@ import com.yahoo.elide.security.User;
 
 import java.io.Closeable;
 import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Wraps the Database Transaction type.
@@ -38,6 +43,21 @@ public interface DataStoreTransaction extends Closeable {
      */
     void save(Object entity, RequestScope scope);
 
+    /**
+     * Save the updated object knowing which of its fields changed in the request.
+     * <p>
+     * Elide core calls this instead of {@link #save(Object, RequestScope)} so data stores can write only the changed
+     * columns or skip writes the data store already tracks. The set is empty when the object was marked modified
+     * without any of its fields changing, e.g. the unloaded inverse side of a relationship.
+     *
+     * @param entity - the object to save.
+     * @param changedFields - names of the attributes and relationships changed through Elide.
+     * @param scope - contains request level metadata.
+     */
+    default void save(Object entity, Set<String> changedFields, RequestScope scope) {
+        save(entity, scope);
+    }
+
     /**
      * Delete the object.
      *
@@ -46,6 +66,105 @@ public interface DataStoreTransaction extends Closeable {
      */
     void delete(Object entity, RequestScope scope);
 
+    /**
+     * Whether the data store can delete every object of a class matching a filter expression in one operation.
+     *
+     * @param entityClass - the class of the objects to delete.
+     * @param filterExpression - selects the objects to delete.
+     * @param scope - contains request level metadata.
+     * @return true if {@link #deleteObjects} can be called with these arguments
+     */
+    default boolean supportsBulkDelete(Class<?> entityClass, FilterExpression filterExpression, RequestScope scope) {
+        return false;
+    }
+
+    /**
+     * Delete every object of a class matching a filter expression without loading them.
+     * <p>
+     * Elide core only calls this when no lifecycle hook, audit or inverse relationship has to be processed per
+     * object and the filter expression includes the read and delete permission filters of the user.
+     *
+     * @param entityClass - the class of the objects to delete.
+     * @param filterExpression - selects the objects to delete.
+     * @param scope - contains request level metadata.
+     * @return the number of deleted objects
+     */
+    default long deleteObjects(Class<?> entityClass, FilterExpression filterExpression, RequestScope scope) {
+        throw new UnsupportedOperationException("Bulk delete is not supported");
+    }
+
+    /**
+     * Whether the data store can set attributes of every object of a class matching a filter expression in one
+     * operation.
+     *
+     * @param entityClass - the class of the objects to update.
+     * @param filterExpression - selects the objects to update.
+     * @param attributes - the new attribute values keyed by attribute name.
+     * @param scope - contains request level metadata.
+     * @return true if {@link #updateObjects} can be called with these arguments
+     */
+    default boolean supportsBulkUpdate(Class<?> entityClass,
+                                       FilterExpression filterExpression,
+                                       Map<String, Object> attributes,
+                                       RequestScope scope) {
+        return false;
+    }
+
+    /**
+     * Set attributes of every object of a class matching a filter expression without loading them.
+     * <p>
+     * Elide core only calls this when no lifecycle hook or audit has to be processed per object, the attribute
+     * values are coerced to the attribute types and the filter expression includes the read and update permission
+     * filters of the user.
+     *
+     * @param entityClass - the class of the objects to update.
+     * @param filterExpression - selects the objects to update.
+     * @param attributes - the new attribute values keyed by attribute name.
+     * @param scope - contains request level metadata.
+     * @return the number of updated objects
+     */
+    default long updateObjects(Class<?> entityClass,
+                               FilterExpression filterExpression,
+                               Map<String, Object> attributes,
+                               RequestScope scope) {
+        throw new UnsupportedOperationException("Bulk update is not supported");
+    }
+
+    /**
+     * Compute aggregates over every object of a class matching a filter expression, per group of values of the
+     * grouped fields.
+     * <p>
+     * Elide core only calls this when the read permissions of the aggregated and grouped fields do not depend on
+     * the objects and the filter expression includes the read permission filter of the user.  The default loads
+     * the objects and aggregates them in memory with a {@link HashAggregator}; data stores able to group and
+     * aggregate in their query language should override it.
+     *
+     * @param entityClass - the class of the objects to aggregate.
+     * @param filterExpression - selects the objects to aggregate.
+     * @param aggregation - the aggregates and grouped fields.
+     * @param scope - contains request level metadata.
+     * @return one row per group mapping the grouped field paths and the aggregate names to their values
+     */
+    default List<Map<String, Object>> aggregate(Class<?> entityClass,
+                                                Optional<FilterExpression> filterExpression,
+                                                Aggregation aggregation,
+                                                RequestScope scope) {
+        return new HashAggregator(aggregation, scope)
+                .addAll(loadObjects(entityClass, filterExpression, Optional.empty(), Optional.empty(), scope))
+                .getRows();
+    }
+
+    /**
+     * Release saved objects the request will not touch again, so a transaction processing many objects does not
+     * hold all of them until it commits.  The data store must write the pending changes of the objects first.
+     * The default keeps the objects.
+     *
+     * @param entities - the saved objects.
+     * @param scope - contains request level metadata.
+     */
+    default void evict(Iterable<Object> entities, RequestScope scope) {
+    }
+
     /**
      * Write any outstanding entities before processing response.
      *
@@ -164,6 +283,93 @@ public interface DataStoreTransaction extends Closeable {
         return PersistentResource.getValue(entity, relationName, requestScope);
     }
 
+    /**
+     * Loads an object by ID without waiting for the load to complete.
+     * <p>
+     * Elide starts independent loads (e.g. the relationships included for every resource of a page) before it
+     * waits on any of them, so a data store whose transaction can run several loads at once (a remote service,
+     * several pooled connections) takes the latency of the slowest load rather than their sum.  The returned
+     * future may complete on any thread; Elide only uses its result on the request thread.
+     * <p>
+     * The default runs {@link #loadObject} on the calling thread and returns a completed future.
+     *
+     * @param entityClass the type of class to load
+     * @param id - the ID of the object to load.
+     * @param filterExpression - security filters that can be evaluated in the data store.
+     * @param scope - the current request scope
+     * @return the loaded object if it exists AND any provided security filters pass.
+     */
+    default CompletableFuture<Object> loadObjectAsync(Class<?> entityClass,
+                                                      Serializable id,
+                                                      Optional<FilterExpression> filterExpression,
+                                                      RequestScope scope) {
+        return CompletableFuture.completedFuture(loadObject(entityClass, id, filterExpression, scope));
+    }
+
+    /**
+     * Loads a collection of objects without waiting for the load to complete.  See {@link #loadObjectAsync}.
+     * <p>
+     * The default runs {@link #loadObjects} on the calling thread and returns a completed future.
+     *
+     * @param entityClass - the class to load
+     * @param filterExpression - filters that can be evaluated in the data store.
+     * @param sorting - sorting which can be pushed down to the data store.
+     * @param pagination - pagination which can be pushed down to the data store.
+     * @param scope - contains request level metadata.
+     * @return a collection of the loaded objects
+     */
+    default CompletableFuture<Iterable<Object>> loadObjectsAsync(
+            Class<?> entityClass,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            Optional<Pagination> pagination,
+            RequestScope scope) {
+        return CompletableFuture.completedFuture(loadObjects(entityClass, filterExpression, sorting, pagination,
+                scope));
+    }
+
+    /**
+     * Retrieve a relation from an object without waiting for the load to complete.  See {@link #loadObjectAsync}.
+     * <p>
+     * The default runs {@link #getRelation} on the calling thread and returns a completed future.
+     *
+     * @param relationTx - The datastore that governs objects of the relationhip's type.
+     * @param entity - The object which owns the relationship.
+     * @param relationName - name of the relationship.
+     * @param filterExpression - filtering which can be pushed down to the data store.
+     * @param sorting - sorting which can be pushed down to the data store.
+     * @param pagination - pagination which can be pushed down to the data store.
+     * @param scope - contains request level metadata.
+     * @return the object in the relation
+     */
+    default CompletableFuture<Object> getRelationAsync(
+            DataStoreTransaction relationTx,
+            Object entity,
+            String relationName,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            Optional<Pagination> pagination,
+            RequestScope scope) {
+        return CompletableFuture.completedFuture(getRelation(relationTx, entity, relationName, filterExpression,
+                sorting, pagination, scope));
+    }
+
+
+    /**
+     * Whether a to-many relationship of an entity has not been loaded from the data store yet.
+     * <p>
+     * When the non-owning (mapped by) side of a bidirectional relationship is unloaded, Elide core does not load it
+     * just to keep the in memory representation in sync. The change is persisted through the owning side and
+     * {@link #updateToManyRelation} is still called for the unloaded side.
+     *
+     * @param entity - The object which owns the relationship.
+     * @param relationName - name of the relationship.
+     * @param scope - contains request level metadata.
+     * @return true if reading the relationship would load it from the data store
+     */
+    default boolean isRelationUnloaded(Object entity, String relationName, RequestScope scope) {
+        return false;
+    }
 
     /**
      * Elide core will update the in memory representation of the objects to the requested state.
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.core.exceptions.RequestTimeoutException;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time by which a request must complete.
+ * <p>
+ * Elide checks the deadline between the records it loads and the relationships it includes, and data stores may
+ * use the remaining time as a query timeout. A deadline can also be cancelled, for instance when the client
+ * disconnects, which stops the request at the next check.
+ */
+public class Deadline {
+    private final boolean bounded;
+    private final long expiresAt;
+    private volatile boolean cancelled;
+
+    private Deadline(boolean bounded, long expiresAt) {
+        this.bounded = bounded;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Get a deadline which never expires unless it is cancelled.
+     *
+     * @return the deadline
+     */
+    public static Deadline none() {
+        return new Deadline(false, 0);
+    }
+
+    /**
+     * Get a deadline expiring after a timeout.
+     *
+     * @param timeout the timeout
+     * @param unit the unit of the timeout
+     * @return the deadline
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        return new Deadline(true, System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * Get the earlier of this deadline and a timeout from now, keeping this deadline if it is cancelled.
+     *
+     * @param timeout the timeout
+     * @param unit the unit of the timeout
+     * @return the earlier deadline
+     */
+    public Deadline within(long timeout, TimeUnit unit) {
+        Deadline other = after(timeout, unit);
+        return cancelled || bounded && expiresAt - other.expiresAt <= 0 ? this : other;
+    }
+
+    /**
+     * Stop the request at the next check.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Whether the request must stop.
+     *
+     * @return true if the deadline passed or was cancelled
+     */
+    public boolean isExpired() {
+        return cancelled || bounded && System.nanoTime() - expiresAt >= 0;
+    }
+
+    /**
+     * Get the time left before the deadline.
+     *
+     * @param unit the unit of the result, rounded up
+     * @return the remaining time or empty if the deadline never expires
+     * @throws RequestTimeoutException if the deadline passed or was cancelled
+     */
+    public OptionalLong getRemaining(TimeUnit unit) {
+        check();
+        if (!bounded) {
+            return OptionalLong.empty();
+        }
+        long remaining = expiresAt - System.nanoTime();
+        long unitNanos = unit.toNanos(1);
+        return OptionalLong.of((remaining + unitNanos - 1) / unitNanos);
+    }
+
+    /**
+     * Stop the request if the deadline passed or was cancelled.
+     *
+     * @throws RequestTimeoutException if the request must stop
+     */
+    public void check() {
+        if (isExpired()) {
+            throw new RequestTimeoutException();
+        }
+    }
+}
@@ -6,6 +6,7 @@
 package com.yahoo.elide.core;
 
 import com.google.common.base.Throwables;
+import com.yahoo.elide.annotation.Audit;
 import com.yahoo.elide.annotation.ComputedAttribute;
 import com.yahoo.elide.annotation.ComputedRelationship;
 import com.yahoo.elide.annotation.Exclude;
@@ -23,6 +24,7 @@ import com.yahoo.elide.annotation.OnUpdatePreCommit;
 import com.yahoo.elide.annotation.OnUpdatePreSecurity;
 import com.yahoo.elide.annotation.ToMany;
 import com.yahoo.elide.annotation.ToOne;
+import com.yahoo.elide.audit.AuditTemplate;
 import com.yahoo.elide.core.exceptions.DuplicateMappingException;
 import com.yahoo.elide.functions.LifeCycleHook;
 import lombok.Getter;
@@ -40,6 +42,7 @@ import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Transient;
+import javax.persistence.Version;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
@@ -74,6 +77,7 @@ public class EntityBinding {
     @Getter private AccessibleObject idField;
     @Getter private String idFieldName;
     @Getter private Class<?> idType;
+    @Getter private AccessibleObject versionField;
     @Getter @Setter private Initializer initializer;
 
     public final EntityPermissions entityPermissions;
@@ -93,6 +97,7 @@ public class EntityBinding {
     public final ConcurrentHashMap<Method, Boolean> requestScopeableMethods = new ConcurrentHashMap<>();
 
     public final ConcurrentHashMap<Class<? extends Annotation>, Annotation> annotations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, List<AuditTemplate>> auditTemplates = new ConcurrentHashMap<>();
 
     public static final EntityBinding EMPTY_BINDING = new EntityBinding();
 
@@ -156,6 +161,10 @@ public class EntityBinding {
             bindTriggerIfPresent(OnUpdatePostCommit.class, fieldOrMethod);
             bindTriggerIfPresent(OnReadPostCommit.class, fieldOrMethod);
 
+            if (fieldOrMethod.isAnnotationPresent(Version.class)) {
+                versionField = fieldOrMethod;
+            }
+
             if (fieldOrMethod.isAnnotationPresent(Id.class)) {
                 bindEntityId(cls, type, fieldOrMethod);
             } else if (fieldOrMethod.isAnnotationPresent(Transient.class)
@@ -205,6 +214,37 @@ public class EntityBinding {
         }
     }
 
+    /**
+     * Get the compiled audit templates of the entity. Templates are compiled on first use.
+     *
+     * @return templates of the class level {@link Audit} annotations
+     */
+    public List<AuditTemplate> getAuditTemplates() {
+        return auditTemplates.computeIfAbsent("",
+                key -> compileAuditTemplates(entityClass.getAnnotationsByType(Audit.class)));
+    }
+
+    /**
+     * Get the compiled audit templates of an attribute or relationship. Templates are compiled on first use.
+     *
+     * @param fieldName the field
+     * @return templates of the {@link Audit} annotations on the field
+     */
+    public List<AuditTemplate> getAuditTemplates(String fieldName) {
+        AccessibleObject fieldOrMethod = fieldsToValues.get(fieldName);
+        if (fieldOrMethod == null) {
+            return Collections.emptyList();
+        }
+        return auditTemplates.computeIfAbsent(fieldName,
+                key -> compileAuditTemplates(fieldOrMethod.getAnnotationsByType(Audit.class)));
+    }
+
+    private static List<AuditTemplate> compileAuditTemplates(Audit[] annotations) {
+        return Collections.unmodifiableList(Arrays.stream(annotations)
+                .map(AuditTemplate::new)
+                .collect(Collectors.toList()));
+    }
+
     /**
      * Convert a deque to a list.
      *
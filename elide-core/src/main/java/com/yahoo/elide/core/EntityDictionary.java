@@ -8,22 +8,27 @@ package com.yahoo.elide.core;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.collect.Maps;
+import com.yahoo.elide.annotation.Audit;
 import com.yahoo.elide.annotation.ComputedAttribute;
 import com.yahoo.elide.annotation.ComputedRelationship;
 import com.yahoo.elide.annotation.Exclude;
 import com.yahoo.elide.annotation.Include;
 import com.yahoo.elide.annotation.MappedInterface;
 import com.yahoo.elide.annotation.SharePermission;
+import com.yahoo.elide.audit.AuditTemplate;
 import com.yahoo.elide.core.exceptions.DuplicateMappingException;
+import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.functions.LifeCycleHook;
 import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.security.checks.prefab.Collections.AppendOnly;
 import com.yahoo.elide.security.checks.prefab.Collections.RemoveOnly;
 import com.yahoo.elide.security.checks.prefab.Common;
 import com.yahoo.elide.security.checks.prefab.Role;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Entity;
@@ -44,12 +49,14 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Entity Dictionary maps JSON API Entity beans to/from Entity type names.
@@ -65,6 +72,7 @@ public class EntityDictionary {
     protected final CopyOnWriteArrayList<Class<?>> bindEntityRoots = new CopyOnWriteArrayList<>();
     protected final ConcurrentHashMap<Class<?>, List<Class<?>>> subclassingEntities = new ConcurrentHashMap<>();
     protected final BiMap<String, Class<? extends Check>> checkNames;
+    @Getter private final StartupTimings startupTimings = new StartupTimings();
     private final static ConcurrentHashMap<Class, String> SIMPLE_NAMES = new ConcurrentHashMap<>();
 
     /**
@@ -515,6 +523,18 @@ public class EntityDictionary {
         return (type == null) ? RelationshipType.NONE : type;
     }
 
+    /**
+     * Whether a relationship is the non-owning side of a bidirectional relationship.
+     *
+     * @param cls      the cls
+     * @param relation the relation
+     * @return true if the relation declares mappedBy
+     */
+    public boolean isRelationMappedBy(Class<?> cls, String relation) {
+        String mappedBy = getEntityBinding(cls).relationshipToInverse.get(relation);
+        return mappedBy != null && !mappedBy.isEmpty();
+    }
+
     /**
      * If a relationship is bidirectional, returns the name of the peer relationship in the peer entity.
      *
@@ -728,10 +748,42 @@ public class EntityDictionary {
      * @param cls Entity bean class
      */
     public void bindEntity(Class<?> cls) {
-        if (entityBindings.containsKey(lookupEntityClass(cls))) {
-            return;
-        }
+        bindEntities(Collections.singletonList(cls));
+    }
+
+    /**
+     * Add given Entity beans to dictionary.  Binding reflects on the classes and compiles their permissions, which
+     * is done in parallel on the common fork join pool.  The bindings are then added in the order of the classes,
+     * so the dictionary is the same as if each class was bound in turn.
+     *
+     * @param classes Entity bean classes
+     */
+    public void bindEntities(Collection<Class<?>> classes) {
+        startupTimings.time(StartupTimings.DICTIONARY_BINDING, () -> {
+            List<Class<?>> unbound = classes.stream()
+                    .distinct()
+                    .filter(cls -> !entityBindings.containsKey(lookupEntityClass(cls)))
+                    .collect(Collectors.toList());
+
+            Stream<Class<?>> stream = unbound.size() > 1 ? unbound.parallelStream() : unbound.stream();
+            List<Pair<EntityBinding, Boolean>> bindings = stream
+                    .map(this::newEntityBinding)
+                    .collect(Collectors.toList());
+
+            bindings.stream()
+                    .filter(Objects::nonNull)
+                    .forEach(binding -> addEntityBinding(binding.getLeft(), binding.getRight()));
+            return null;
+        });
+    }
 
+    /**
+     * Create the binding of an entity bean.
+     *
+     * @param cls Entity bean class
+     * @return the binding and whether the entity is at the root level, or null if the class is not exposed
+     */
+    private Pair<EntityBinding, Boolean> newEntityBinding(Class<?> cls) {
         Annotation annotation = getFirstAnnotation(cls, Arrays.asList(Include.class, Exclude.class));
         Include include = annotation instanceof Include ? (Include) annotation : null;
         Exclude exclude = annotation instanceof Exclude ? (Exclude) annotation : null;
@@ -739,12 +791,12 @@ public class EntityDictionary {
 
         if (exclude != null) {
             log.trace("Exclude {}", cls.getName());
-            return;
+            return null;
         }
 
         if (include == null) {
             log.trace("Missing include {}", cls.getName());
-            return;
+            return null;
         }
 
         String name;
@@ -761,14 +813,23 @@ public class EntityDictionary {
             type = include.type();
         }
 
-        Class<?> duplicate = bindJsonApiToEntity.put(type, cls);
+        return Pair.of(new EntityBinding(this, cls, type, name), include.rootLevel());
+    }
+
+    private void addEntityBinding(EntityBinding binding, boolean rootLevel) {
+        Class<?> cls = binding.entityClass;
+        if (entityBindings.containsKey(lookupEntityClass(cls))) {
+            return;
+        }
+
+        Class<?> duplicate = bindJsonApiToEntity.put(binding.jsonApiType, cls);
         if (duplicate != null && !duplicate.equals(cls)) {
-            log.error("Duplicate binding {} for {}, {}", type, cls, duplicate);
-            throw new DuplicateMappingException(type + " " + cls.getName() + ":" + duplicate.getName());
+            log.error("Duplicate binding {} for {}, {}", binding.jsonApiType, cls, duplicate);
+            throw new DuplicateMappingException(binding.jsonApiType + " " + cls.getName() + ":" + duplicate.getName());
         }
 
-        entityBindings.putIfAbsent(lookupEntityClass(cls), new EntityBinding(this, cls, type, name));
-        if (include.rootLevel()) {
+        entityBindings.putIfAbsent(lookupEntityClass(cls), binding);
+        if (rootLevel) {
             bindEntityRoots.add(cls);
         }
     }
@@ -841,6 +902,33 @@ public class EntityDictionary {
         return fieldOrMethod.getAnnotationsByType(annotationClass);
     }
 
+    /**
+     * Return the compiled class level audit templates of an entity.
+     *
+     * @param entityClass Entity class
+     * @return compiled {@link Audit} templates
+     */
+    public List<AuditTemplate> getAuditTemplates(Class<?> entityClass) {
+        EntityBinding binding = getEntityBinding(entityClass);
+        if (binding == EntityBinding.EMPTY_BINDING) {
+            return Arrays.stream(entityClass.getAnnotationsByType(Audit.class))
+                    .map(AuditTemplate::new)
+                    .collect(Collectors.toList());
+        }
+        return binding.getAuditTemplates();
+    }
+
+    /**
+     * Return the compiled audit templates of an attribute or relationship.
+     *
+     * @param entityClass Entity class
+     * @param identifier Field to lookup
+     * @return compiled {@link Audit} templates, empty if the field is not audited
+     */
+    public List<AuditTemplate> getAuditTemplates(Class<?> entityClass, String identifier) {
+        return getEntityBinding(entityClass).getAuditTemplates(identifier);
+    }
+
     /**
      * Return first matching annotation from class, parents or package.
      *
@@ -908,6 +996,61 @@ public class EntityDictionary {
         }
     }
 
+    /**
+     * Returns the value of the {@link javax.persistence.Version} field of an entity.
+     *
+     * @param value the entity
+     * @return the version or null if the entity is not versioned
+     */
+    public Object getVersion(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            AccessibleObject versionField = null;
+            for (Class<?> cls = value.getClass(); versionField == null && cls != null; cls = cls.getSuperclass()) {
+                versionField = getEntityBinding(cls).getVersionField();
+            }
+            if (versionField instanceof Field) {
+                return ((Field) versionField).get(value);
+            }
+            if (versionField instanceof Method) {
+                return ((Method) versionField).invoke(value, (Object[]) null);
+            }
+            return null;
+        } catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Invoke the set[fieldName] method on the target object OR set the field with the corresponding name, without
+     * checking permissions, running lifecycle hooks or coercing the value.
+     *
+     * @param target the entity
+     * @param fieldName the attribute, relationship or id field name
+     * @param value the value to set
+     */
+    public void setValue(Object target, String fieldName, Object value) {
+        Class<?> targetClass = target.getClass();
+        Class<?> fieldClass = fieldName.equals(getIdFieldName(targetClass))
+                ? getIdType(targetClass)
+                : getType(targetClass, fieldName);
+        try {
+            Method method = findMethod(targetClass, "set" + StringUtils.capitalize(fieldName), fieldClass);
+            method.invoke(target, value);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new InvalidAttributeException(fieldName, getJsonAliasFor(targetClass), e);
+        } catch (IllegalArgumentException | NoSuchMethodException noMethod) {
+            try {
+                Field field = targetClass.getField(fieldName);
+                field.set(target, value);
+            } catch (NoSuchFieldException | IllegalAccessException noField) {
+                throw new InvalidAttributeException(fieldName, getJsonAliasFor(targetClass), noField);
+            }
+        }
+    }
+
     /**
      * Returns type of id field.
      *
@@ -75,6 +75,7 @@ public class EntityPermissions implements CheckInstantiator {
                              Class<?> cls,
                              Collection<AccessibleObject> fieldOrMethodList)  {
         this.dictionary = dictionary;
+        long start = System.nanoTime();
         for (Class<? extends Annotation> annotationClass : PERMISSION_ANNOTATIONS) {
             final Map<String, ParseTree> fieldPermissions = new HashMap<>();
             fieldOrMethodList.stream()
@@ -86,6 +87,7 @@ public class EntityPermissions implements CheckInstantiator {
                 }
             }
         }
+        dictionary.getStartupTimings().add(StartupTimings.PERMISSION_PARSING, System.nanoTime() - start);
     }
 
     private ParseTree bindClassPermissions(Class<?> cls, Class<? extends Annotation> annotationClass) {
@@ -7,18 +7,27 @@ package com.yahoo.elide.core;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
+import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.annotation.Audit;
+import com.yahoo.elide.annotation.ComputedAttribute;
 import com.yahoo.elide.annotation.CreatePermission;
 import com.yahoo.elide.annotation.DeletePermission;
+import com.yahoo.elide.annotation.OnDeletePostCommit;
+import com.yahoo.elide.annotation.OnDeletePreCommit;
 import com.yahoo.elide.annotation.OnDeletePreSecurity;
 import com.yahoo.elide.annotation.OnReadPreSecurity;
+import com.yahoo.elide.annotation.OnUpdatePostCommit;
+import com.yahoo.elide.annotation.OnUpdatePreCommit;
 import com.yahoo.elide.annotation.OnUpdatePreSecurity;
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.annotation.SharePermission;
 import com.yahoo.elide.annotation.UpdatePermission;
+import com.yahoo.elide.audit.AuditTemplate;
 import com.yahoo.elide.audit.InvalidSyntaxException;
 import com.yahoo.elide.audit.LogMessage;
+import com.yahoo.elide.core.aggregation.Aggregation;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.exceptions.InternalServerErrorException;
@@ -46,6 +55,7 @@ import com.yahoo.elide.security.permissions.ExpressionResult;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -57,12 +67,14 @@ import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -71,10 +83,16 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.yahoo.elide.parsers.expression.PermissionToFilterExpressionVisitor.FALSE_USER_CHECK_EXPRESSION;
+import static com.yahoo.elide.parsers.expression.PermissionToFilterExpressionVisitor.TRUE_USER_CHECK_EXPRESSION;
 
 /**
  * Resource wrapper around Entity bean.
@@ -337,6 +355,301 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         return allResources;
     }
 
+    /**
+     * Delete every record of a class matching a filter.
+     * <p>
+     * If nothing has to happen per record (no delete hooks or delete audit, no inverse relationships to maintain or
+     * deletes to cascade, and read and delete permissions the data store can evaluate) and the data store supports
+     * it, the records are deleted in a single operation. Otherwise each record is loaded and deleted.
+     *
+     * @param loadClass the class of the records
+     * @param filter the filter requested by the client
+     * @param requestScope the request scope
+     * @return the number of deleted records
+     */
+    public static long deleteRecords(Class<?> loadClass, FilterExpression filter, RequestScope requestScope) {
+        if (shouldSkipCollection(loadClass, ReadPermission.class, requestScope)) {
+            return 0;
+        }
+
+        DataStoreTransaction tx = requestScope.getTransaction();
+        Optional<FilterExpression> bulkFilter = getBulkDeleteFilter(loadClass, filter, requestScope);
+        if (bulkFilter.isPresent() && tx.supportsBulkDelete(loadClass, bulkFilter.get(), requestScope)) {
+            return tx.deleteObjects(loadClass, bulkFilter.get(), requestScope);
+        }
+
+        Set<PersistentResource> records = loadRecords(loadClass, Collections.emptyList(), Optional.of(filter),
+                Optional.empty(), Optional.empty(), requestScope);
+        records.forEach(PersistentResource::deleteResource);
+        return records.size();
+    }
+
+    /**
+     * Set attributes of every record of a class matching a filter.
+     * <p>
+     * If nothing has to happen per record (no update hooks or update audit, only persistent attributes change,
+     * and read and update permissions the data store can evaluate) and the data store supports it, the records are
+     * updated in a single operation. Otherwise the records are loaded and updated in chunks of the default page size
+     * ordered by id, so no single read materializes the whole collection.
+     *
+     * @param loadClass the class of the records
+     * @param filter the filter requested by the client
+     * @param attributes the new attribute values keyed by attribute name
+     * @param requestScope the request scope
+     * @return the number of updated records
+     */
+    public static long updateRecords(Class<?> loadClass,
+                                     FilterExpression filter,
+                                     Map<String, Object> attributes,
+                                     RequestScope requestScope) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Map<String, Object> values = new LinkedHashMap<>();
+        attributes.forEach((fieldName, value) -> {
+            if (!dictionary.isAttribute(loadClass, fieldName)) {
+                throw new InvalidAttributeException(fieldName, dictionary.getJsonAliasFor(loadClass));
+            }
+            Class<?> fieldClass = dictionary.getType(loadClass, fieldName);
+            values.put(fieldName, value == null ? null : CoerceUtil.coerce(value, fieldClass));
+        });
+
+        if (values.isEmpty() || shouldSkipCollection(loadClass, ReadPermission.class, requestScope)) {
+            return 0;
+        }
+
+        DataStoreTransaction tx = requestScope.getTransaction();
+        Optional<FilterExpression> bulkFilter = getBulkUpdateFilter(loadClass, filter, values.keySet(), requestScope);
+        if (bulkFilter.isPresent() && tx.supportsBulkUpdate(loadClass, bulkFilter.get(), values, requestScope)) {
+            return tx.updateObjects(loadClass, bulkFilter.get(), values, requestScope);
+        }
+
+        return updateRecordsInChunks(loadClass, filter, values, requestScope);
+    }
+
+    /**
+     * Load and update the records matching a filter a page at a time. Pages are ordered by id and each page starts
+     * after the last id of the previous one, so records which stop matching the filter do not shift later pages.
+     * Read and update permissions are checked on each record. Unless update hooks need the records at commit, each
+     * page is saved and evicted from the data store transaction once it is updated.
+     */
+    private static long updateRecordsInChunks(Class<?> loadClass,
+                                              FilterExpression filter,
+                                              Map<String, Object> values,
+                                              RequestScope requestScope) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        DataStoreTransaction tx = requestScope.getTransaction();
+
+        // Read permissions the data store cannot evaluate are only checked on each loaded record
+        FilterExpression chunkFilter = filter;
+        if (CanPaginateVisitor.canPaginate(loadClass, dictionary, requestScope)) {
+            chunkFilter = getPermissionFilterExpression(loadClass, requestScope)
+                    .map(readFilter -> (FilterExpression) new AndFilterExpression(filter, readFilter))
+                    .orElse(filter);
+        }
+        String idFieldName = dictionary.getIdFieldName(loadClass);
+        Path.PathElement idPath = new Path.PathElement(loadClass, dictionary.getIdType(loadClass), idFieldName);
+        Sorting byId = new Sorting(Collections.singletonMap(idFieldName, Sorting.SortOrder.asc));
+        ElideSettings settings = requestScope.getElideSettings();
+
+        Set<String> hookFields = new HashSet<>(values.keySet());
+        hookFields.add(CLASS_NO_FIELD);
+        boolean evict = Stream.of(OnUpdatePreCommit.class, OnUpdatePostCommit.class)
+                .noneMatch(hook -> hookFields.stream()
+                        .anyMatch(field -> !dictionary.getTriggers(loadClass, hook, field).isEmpty()));
+
+        long updated = 0;
+        Object lastId = null;
+        while (true) {
+            Pagination chunk = Pagination.fromOffsetAndFirst(Optional.of(String.valueOf(settings.getDefaultPageSize())),
+                    Optional.empty(), false, settings).get().evaluate(loadClass);
+            FilterExpression pageFilter = lastId == null
+                    ? chunkFilter
+                    : new AndFilterExpression(chunkFilter,
+                            new FilterPredicate(idPath, Operator.GT, Collections.singletonList(lastId)));
+
+            List<Object> loaded = new ArrayList<>();
+            for (Object object : tx.loadObjects(loadClass, Optional.of(pageFilter), Optional.of(byId),
+                    Optional.of(chunk), requestScope)) {
+                loaded.add(object);
+                lastId = getValue(object, idFieldName, requestScope);
+                PersistentResource record =
+                        new PersistentResource(object, null, requestScope.getUUIDFor(object), requestScope);
+                if (!filter(ReadPermission.class, Collections.singleton(record)).isEmpty()) {
+                    values.forEach(record::updateAttribute);
+                    if (evict) {
+                        requestScope.saveDirtyResource(record);
+                    }
+                    updated++;
+                }
+            }
+
+            if (evict && !loaded.isEmpty()) {
+                tx.evict(loaded, requestScope);
+            }
+
+            if (loaded.size() < chunk.getLimit()) {
+                return updated;
+            }
+        }
+    }
+
+    /**
+     * Compute aggregates over every record of a class matching a filter.
+     * <p>
+     * The records are aggregated by the data store, so the read permissions of the class must be checks the data
+     * store can evaluate.  The read permissions of the related entities and of the fields read by the aggregation
+     * may only depend on the user.
+     *
+     * @param loadClass the class of the records
+     * @param filter the filter requested by the client
+     * @param aggregation the aggregates and grouped fields
+     * @param requestScope the request scope
+     * @return one row per group mapping the grouped field paths and the aggregate names to their values
+     * @throws InvalidValueException if a read permission has to be checked on each record
+     */
+    public static List<Map<String, Object>> aggregateRecords(Class<?> loadClass,
+                                                             Optional<FilterExpression> filter,
+                                                             Aggregation aggregation,
+                                                             RequestScope requestScope) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        if (shouldSkipCollection(loadClass, ReadPermission.class, requestScope)) {
+            return Collections.emptyList();
+        }
+        if (!CanPaginateVisitor.canPaginate(loadClass, dictionary, requestScope)) {
+            throw new InvalidValueException("Cannot aggregate " + dictionary.getJsonAliasFor(loadClass)
+                    + " because its read permissions are checked on each record");
+        }
+
+        for (Path path : aggregation.getPaths()) {
+            for (Path.PathElement pathElement : path.getPathElements()) {
+                Class<?> type = pathElement.getType();
+                boolean visible = isVisibleToUser(dictionary.getPermissionsForField(type,
+                        pathElement.getFieldName(), ReadPermission.class), requestScope);
+                if (type != loadClass) {
+                    visible &= isVisibleToUser(dictionary.getPermissionsForClass(type, ReadPermission.class),
+                            requestScope);
+                }
+                if (!visible) {
+                    throw new InvalidValueException("Cannot aggregate " + path.getFieldPath()
+                            + " because its read permissions are checked on each record");
+                }
+            }
+        }
+
+        Optional<FilterExpression> aggregateFilter = filter;
+        Optional<FilterExpression> readFilter = getPermissionFilterExpression(loadClass, requestScope);
+        if (readFilter.isPresent()) {
+            aggregateFilter = Optional.of(filter
+                    .map(fe -> (FilterExpression) new AndFilterExpression(fe, readFilter.get()))
+                    .orElse(readFilter.get()));
+        }
+        return requestScope.getTransaction().aggregate(loadClass, aggregateFilter, aggregation, requestScope);
+    }
+
+    /**
+     * Whether a permission is absent or only made of user checks passing for the user of the request.
+     */
+    private static boolean isVisibleToUser(ParseTree permission, RequestScope requestScope) {
+        return permission == null
+                || new CanPaginateVisitor(requestScope.getDictionary(), requestScope).visit(permission)
+                == CanPaginateVisitor.PaginationStatus.USER_CHECK_TRUE;
+    }
+
+    /**
+     * Combine a filter with the read and delete permission filters of a class if its records can be deleted without
+     * loading them.
+     *
+     * @param loadClass the class of the records
+     * @param filter the filter requested by the client
+     * @param requestScope the request scope
+     * @return the combined filter or empty if each record has to be loaded and deleted
+     */
+    private static Optional<FilterExpression> getBulkDeleteFilter(Class<?> loadClass,
+                                                                  FilterExpression filter,
+                                                                  RequestScope requestScope) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+
+        boolean hasHooks = Stream.of(OnDeletePreSecurity.class, OnDeletePreCommit.class, OnDeletePostCommit.class)
+                .anyMatch(hook -> !dictionary.getTriggers(loadClass, hook, CLASS_NO_FIELD).isEmpty());
+        boolean isAudited = dictionary.getAuditTemplates(loadClass).stream()
+                .anyMatch(template -> template.getActions().contains(Audit.Action.DELETE));
+        boolean hasDependents = dictionary.getRelationships(loadClass).stream()
+                .anyMatch(relation -> dictionary.cascadeDeletes(loadClass, relation)
+                        || !"".equals(dictionary.getRelationInverse(loadClass, relation)));
+        if (hasHooks || isAudited || hasDependents) {
+            return Optional.empty();
+        }
+
+        return getBulkFilter(loadClass, filter, DeletePermission.class, requestScope);
+    }
+
+    /**
+     * Combine a filter with the read and update permission filters of a class if attributes of its records can be
+     * set without loading them.
+     *
+     * @param loadClass the class of the records
+     * @param filter the filter requested by the client
+     * @param fieldNames the attributes to set
+     * @param requestScope the request scope
+     * @return the combined filter or empty if each record has to be loaded and updated
+     */
+    private static Optional<FilterExpression> getBulkUpdateFilter(Class<?> loadClass,
+                                                                  FilterExpression filter,
+                                                                  Set<String> fieldNames,
+                                                                  RequestScope requestScope) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+
+        Set<String> hookFields = new HashSet<>(fieldNames);
+        hookFields.add(CLASS_NO_FIELD);
+        boolean hasHooks = Stream.of(OnUpdatePreSecurity.class, OnUpdatePreCommit.class, OnUpdatePostCommit.class)
+                .anyMatch(hook -> hookFields.stream()
+                        .anyMatch(field -> !dictionary.getTriggers(loadClass, hook, field).isEmpty()));
+        boolean isAudited = dictionary.getAuditTemplates(loadClass).stream()
+                .anyMatch(template -> template.getActions().contains(Audit.Action.UPDATE))
+                || fieldNames.stream().anyMatch(field -> !dictionary.getAuditTemplates(loadClass, field).isEmpty());
+        boolean isComputed = fieldNames.stream().anyMatch(field ->
+                dictionary.getAttributeOrRelationAnnotation(loadClass, ComputedAttribute.class, field) != null);
+        if (hasHooks || isAudited || isComputed) {
+            return Optional.empty();
+        }
+
+        return getBulkFilter(loadClass, filter, UpdatePermission.class, requestScope);
+    }
+
+    /**
+     * Combine a filter with the read permission filter and the filter of an operation permission if both can be
+     * evaluated by the data store.
+     *
+     * @param loadClass the class of the records
+     * @param filter the filter requested by the client
+     * @param permission the permission of the operation
+     * @param requestScope the request scope
+     * @return the combined filter or empty if the permissions have to be checked on each record
+     */
+    private static Optional<FilterExpression> getBulkFilter(Class<?> loadClass,
+                                                            FilterExpression filter,
+                                                            Class<? extends Annotation> permission,
+                                                            RequestScope requestScope) {
+        if (!CanPaginateVisitor.canPaginate(loadClass, requestScope.getDictionary(), requestScope)) {
+            return Optional.empty();
+        }
+
+        Optional<FilterExpression> permissionFilter =
+                requestScope.getPermissionExecutor().getPermissionFilter(loadClass, permission);
+        if (!permissionFilter.isPresent() || permissionFilter.get() == FALSE_USER_CHECK_EXPRESSION) {
+            return Optional.empty();
+        }
+
+        FilterExpression bulkFilter = filter;
+        Optional<FilterExpression> readFilter = getPermissionFilterExpression(loadClass, requestScope);
+        if (readFilter.isPresent()) {
+            bulkFilter = new AndFilterExpression(bulkFilter, readFilter.get());
+        }
+        if (permissionFilter.get() != TRUE_USER_CHECK_EXPRESSION) {
+            bulkFilter = new AndFilterExpression(bulkFilter, permissionFilter.get());
+        }
+        return Optional.of(bulkFilter);
+    }
+
     /**
      * Update attribute in existing resource.
      *
@@ -706,24 +1019,16 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
 
         /*
          * Search for bidirectional relationships.  For each bidirectional relationship,
-         * we need to remove ourselves from that relationship
+         * we need to remove ourselves from that relationship.  Only those relationships are loaded.
          */
-        Map<String, Relationship> relations = getRelationships();
-        for (Map.Entry<String, Relationship> entry : relations.entrySet()) {
-            String relationName = entry.getKey();
-
+        for (String relationName : filterFields(dictionary.getRelationships(obj))) {
             /* Skip updating inverse relationships for deletes which are cascaded */
-            if (dictionary.cascadeDeletes(getResourceClass(), relationName)) {
+            if (dictionary.cascadeDeletes(getResourceClass(), relationName) || !hasInverseRelation(relationName)) {
                 continue;
             }
-            String inverseRelationName = dictionary.getRelationInverse(getResourceClass(), relationName);
-            if (!"".equals(inverseRelationName)) {
-                for (PersistentResource inverseResource : getRelationCheckedUnfiltered(relationName)) {
-                    if (hasInverseRelation(relationName)) {
-                        deleteInverseRelation(relationName, inverseResource.getObject());
-                        inverseResource.markDirty();
-                    }
-                }
+            for (PersistentResource inverseResource : getRelationCheckedUnfiltered(relationName)) {
+                deleteInverseRelation(relationName, inverseResource.getObject());
+                inverseResource.markDirty();
             }
         }
 
@@ -914,6 +1219,30 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
                 getRelation(relationName, filterExpression, sorting, pagination, true));
     }
 
+    /**
+     * Start loading the collection of resources from relation field through
+     * {@link DataStoreTransaction#getRelationAsync}, so that the data store may run it along with other loads
+     * started before the result is needed.
+     * <p>
+     * Permissions on the relationship are checked right away.  Read permissions on the loaded resources are checked
+     * when the returned supplier is called, which must happen on the request thread.
+     *
+     * @param relationName field
+     * @param filterExpression An optional filter expression
+     * @param sorting the sorting clause
+     * @param pagination the pagination params
+     * @return supplier of the collection relation, waiting for the load to complete
+     */
+    public Supplier<Set<PersistentResource>> getRelationCheckedFilteredAsync(
+            String relationName,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            Optional<Pagination> pagination) {
+        Supplier<Set<PersistentResource>> relation =
+                getRelation(relationName, filterExpression, sorting, pagination, true, true);
+        return () -> filter(ReadPermission.class, relation.get());
+    }
+
     private Set<PersistentResource> getRelationUncheckedUnfiltered(String relationName) {
         return getRelation(relationName, Optional.empty(), Optional.empty(), Optional.empty(), false);
     }
@@ -927,9 +1256,18 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
                                                 Optional<Sorting> sorting,
                                                 Optional<Pagination> pagination,
                                                 boolean checked) {
+        return getRelation(relationName, filterExpression, sorting, pagination, checked, false).get();
+    }
+
+    private Supplier<Set<PersistentResource>> getRelation(String relationName,
+                                                          Optional<FilterExpression> filterExpression,
+                                                          Optional<Sorting> sorting,
+                                                          Optional<Pagination> pagination,
+                                                          boolean checked,
+                                                          boolean async) {
 
         if (checked && !checkRelation(relationName)) {
-            return Collections.emptySet();
+            return Collections::emptySet;
         }
 
         final Class<?> relationClass = dictionary.getParameterizedType(obj, relationName);
@@ -939,7 +1277,7 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
                     dictionary.getJsonAliasFor(relationClass)));
         }
 
-        return getRelationUnchecked(relationName, filterExpression, sorting, pagination);
+        return getRelationUnchecked(relationName, filterExpression, sorting, pagination, async);
     }
 
     /**
@@ -996,6 +1334,18 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
                                                          Optional<FilterExpression> filterExpression,
                                                          Optional<Sorting> sorting,
                                                          Optional<Pagination> pagination) {
+        return getRelationUnchecked(relationName, filterExpression, sorting, pagination, false).get();
+    }
+
+    /**
+     * Retrieve an uncheck set of relations, waiting for the data store when the returned supplier is called if
+     * the relationship is loaded asynchronously.
+     */
+    private Supplier<Set<PersistentResource>> getRelationUnchecked(String relationName,
+                                                                   Optional<FilterExpression> filterExpression,
+                                                                   Optional<Sorting> sorting,
+                                                                   Optional<Pagination> pagination,
+                                                                   boolean async) {
         RelationshipType type = getRelationshipType(relationName);
         final Class<?> relationClass = dictionary.getParameterizedType(obj, relationName);
         if (relationClass == null) {
@@ -1020,19 +1370,40 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         /* If we are mutating multiple entities, the data store transaction cannot perform filter & pagination directly.
          * It must be done in memory by Elide as some newly created entities have not yet been persisted.
          */
-        Object val;
-        if (requestScope.isMutatingMultipleEntities()) {
-            val = transaction.getRelation(transaction, obj, relationName,
-                    Optional.empty(), sorting, Optional.empty(), requestScope);
+        boolean inMemory = requestScope.isMutatingMultipleEntities();
+        Optional<FilterExpression> storeFilters = inMemory ? Optional.empty() : computedFilters;
+        Optional<Pagination> storePagination = inMemory ? Optional.empty() : computedPagination;
+        CompletableFuture<Object> loaded = async
+                ? transaction.getRelationAsync(transaction, obj, relationName,
+                        storeFilters, sorting, storePagination, requestScope)
+                : CompletableFuture.completedFuture(transaction.getRelation(transaction, obj, relationName,
+                        storeFilters, sorting, storePagination, requestScope));
+
+        Optional<FilterExpression> inMemoryFilters = computedFilters;
+        return () -> {
+            Object val = await(loaded);
+            if (inMemory && val instanceof Collection) {
+                val = filterInMemory((Collection) val, inMemoryFilters);
+            }
+            return toRelationResources(type, val);
+        };
+    }
 
-            if (val instanceof Collection) {
-                val = filterInMemory((Collection) val, computedFilters);
+    /**
+     * Wait for a load started through the asynchronous data store API, rethrowing its failure as is.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
-        } else {
-            val = transaction.getRelation(transaction, obj, relationName,
-                    computedFilters, sorting, computedPagination, requestScope);
+            throw e;
         }
+    }
 
+    private Set<PersistentResource> toRelationResources(RelationshipType type, Object val) {
         if (val == null) {
             return Collections.emptySet();
         }
@@ -1418,6 +1789,7 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         } else {
             if (!collection.contains(toAdd.getObject())) {
                 collection.add(toAdd.getObject());
+                requestScope.addDirtyField(this, collectionName);
                 auditField(new ChangeSpec(this, collectionName, original, collection));
                 return true;
             }
@@ -1453,16 +1825,21 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             // to apply this change to that field.
             final Object originalValue = toDelete.getValueUnchecked(inverseField);
             final Collection originalBidirectional;
+            final Collection removedBidrectional;
 
-            if (originalValue instanceof Collection) {
-                originalBidirectional = copyCollection((Collection) originalValue);
+            if (originalValue instanceof Collection && toDelete.isLazyInverse(inverseField)) {
+                originalBidirectional = (Collection) originalValue;
+                removedBidrectional = lazyView(originalBidirectional, this.getObject(), false);
             } else {
-                originalBidirectional = Collections.singleton(originalValue);
+                if (originalValue instanceof Collection) {
+                    originalBidirectional = copyCollection((Collection) originalValue);
+                } else {
+                    originalBidirectional = Collections.singleton(originalValue);
+                }
+                removedBidrectional = CollectionUtils
+                        .disjunction(Collections.singleton(this.getObject()), originalBidirectional);
             }
 
-            final Collection removedBidrectional = CollectionUtils
-                    .disjunction(Collections.singleton(this.getObject()), originalBidirectional);
-
             toDelete.checkFieldAwareDeferPermissions(
                     UpdatePermission.class,
                     inverseField,
@@ -1476,6 +1853,7 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         }
 
         collection.remove(toDelete.getObject());
+        requestScope.addDirtyField(this, collectionName);
         auditField(new ChangeSpec(this, collectionName, original, collection));
     }
 
@@ -1507,6 +1885,8 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             }
         }
 
+        requestScope.addDirtyField(this, fieldName);
+
         // Queue the @*Update triggers iff this is not a newly created object (otherwise we run @*Create)
 
         ChangeSpec changeSpec = new ChangeSpec(this, fieldName, original, value);
@@ -1670,7 +2050,11 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
                 return;
             }
 
-            if (inverseRelation instanceof Collection) {
+            if (inverseRelation instanceof Collection && inverseResource.isLazyInverse(inverseField)) {
+                // Leave the unloaded collection alone. The owning side persists the change.
+                inverseResource.checkFieldAwareDeferPermissions(UpdatePermission.class, inverseField,
+                        lazyView((Collection) inverseRelation, obj, false), inverseRelation);
+            } else if (inverseRelation instanceof Collection) {
                 inverseResource.delFromCollection((Collection) inverseRelation, inverseField, this, true);
             } else if (inverseType.isAssignableFrom(this.getResourceClass())) {
                 inverseResource.nullValue(inverseField, this);
@@ -1693,6 +2077,40 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         }
     }
 
+    /**
+     * Whether a relationship is the mapped by side of a bidirectional relationship which the data store has not
+     * loaded. Such relationships are not updated in memory (and not audited) when the owning side changes.
+     * @param relationName The name of the relationship on this object.
+     * @return true if the relationship should not be loaded to maintain it
+     */
+    private boolean isLazyInverse(String relationName) {
+        return dictionary.isRelationMappedBy(getResourceClass(), relationName)
+                && transaction.isRelationUnloaded(getObject(), relationName, requestScope);
+    }
+
+    /**
+     * A view of a collection with one element added or removed. The collection is only read if a permission check
+     * reads the view.
+     * @param collection the collection
+     * @param element the element
+     * @param add whether the element is added or removed
+     * @return the view
+     */
+    private static Collection lazyView(Collection collection, Object element, boolean add) {
+        return new AbstractCollection() {
+            @Override
+            public Iterator iterator() {
+                Iterator others = Iterators.filter(collection.iterator(), other -> !Objects.equals(other, element));
+                return add ? Iterators.concat(others, Iterators.singletonIterator(element)) : others;
+            }
+
+            @Override
+            public int size() {
+                return Iterators.size(iterator());
+            }
+        };
+    }
+
     private boolean hasInverseRelation(String relationName) {
         String inverseField = getInverseRelationField(relationName);
         return inverseField != null && !inverseField.isEmpty();
@@ -1719,7 +2137,11 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             Object inverseRelation = inverseResource.getValueUnchecked(inverseName);
 
             if (Collection.class.isAssignableFrom(inverseType)) {
-                if (inverseRelation != null) {
+                if (inverseRelation != null && inverseResource.isLazyInverse(inverseName)) {
+                    // Leave the unloaded collection alone. The owning side persists the change.
+                    inverseResource.checkFieldAwareDeferPermissions(UpdatePermission.class, inverseName,
+                            lazyView((Collection) inverseRelation, obj, true), inverseRelation);
+                } else if (inverseRelation != null) {
                     inverseResource.addToCollection((Collection) inverseRelation, inverseName, this);
                 } else {
                     inverseResource.setValueChecked(inverseName, Collections.singleton(this.getObject()));
@@ -1850,19 +2272,17 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
      */
     protected void auditField(final ChangeSpec changeSpec) {
         final String fieldName = changeSpec.getFieldName();
-        Audit[] annotations = dictionary.getAttributeOrRelationAnnotations(getResourceClass(),
-                Audit.class,
-                fieldName
-        );
+        List<AuditTemplate> templates = dictionary.getAuditTemplates(getResourceClass(), fieldName);
 
-        if (annotations == null || annotations.length == 0) {
+        if (templates.isEmpty()) {
             // Default to class-level annotation for action
             auditClass(Audit.Action.UPDATE, changeSpec);
             return;
         }
-        for (Audit annotation : annotations) {
-            if (annotation.action().length == 1 && annotation.action()[0] == Audit.Action.UPDATE) {
-                LogMessage message = new LogMessage(annotation, this, Optional.of(changeSpec));
+        for (AuditTemplate template : templates) {
+            List<Audit.Action> actions = template.getActions();
+            if (actions.size() == 1 && actions.get(0) == Audit.Action.UPDATE) {
+                LogMessage message = new LogMessage(template, this, Optional.of(changeSpec));
                 getRequestScope().getAuditLogger().log(message);
             } else {
                 throw new InvalidSyntaxException("Only Audit.Action.UPDATE is allowed on fields.");
@@ -1877,15 +2297,10 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
      * @param changeSpec the change that occurred
      */
     protected void auditClass(Audit.Action action, ChangeSpec changeSpec) {
-        Audit[] annotations = getResourceClass().getAnnotationsByType(Audit.class);
-
-        if (annotations == null) {
-            return;
-        }
-        for (Audit annotation : annotations) {
-            for (Audit.Action auditAction : annotation.action()) {
+        for (AuditTemplate template : dictionary.getAuditTemplates(getResourceClass())) {
+            for (Audit.Action auditAction : template.getActions()) {
                 if (auditAction == action) { // compare object reference
-                    LogMessage message = new LogMessage(annotation, this, Optional.ofNullable(changeSpec));
+                    LogMessage message = new LogMessage(template, this, Optional.ofNullable(changeSpec));
                     getRequestScope().getAuditLogger().log(message);
                 }
             }
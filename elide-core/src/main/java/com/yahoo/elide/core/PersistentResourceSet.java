@@ -41,6 +41,7 @@ public class PersistentResourceSet<T> extends AbstractSet<PersistentResource<T>>
 
             @Override
             public PersistentResource<T> next() {
+                requestScope.getDeadline().check();
                 T obj = iterator.next();
                 return new PersistentResource<>(obj, parent, requestScope.getUUIDFor(obj), requestScope);
             }
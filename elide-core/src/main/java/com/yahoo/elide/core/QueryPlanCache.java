@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.yahoo.elide.core.filter.dialect.JoinFilterDialect;
+import com.yahoo.elide.core.filter.dialect.ParseException;
+import com.yahoo.elide.core.filter.dialect.SubqueryFilterDialect;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.sort.Sorting;
+
+import javax.ws.rs.core.MultivaluedMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Bounded cache of the filter expressions and sorting parsed from query parameters, shared by the requests of an
+ * Elide instance so repeated parameters skip parsing and path resolution.
+ * <p>
+ * Least recently used entries are evicted once the cache is full. Global filter expressions are keyed by the
+ * request path and the filter parameters since dialects resolve their type from the path. Typed filter expressions
+ * and sorting are keyed by their parameters only. Parse failures are cached as well, so a request repeating an
+ * invalid filter fails without parsing it again. Cached filter expressions and sorting are immutable.
+ */
+public class QueryPlanCache {
+    public static final long DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private enum Kind { GLOBAL_FILTER, TYPED_FILTER, SORT }
+
+    private final Cache<List<Object>, Object> plans;
+
+    public QueryPlanCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public QueryPlanCache(long maximumSize) {
+        plans = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get the global filter expression of a request.
+     *
+     * @param path the request path
+     * @param filterParams the filter query parameters
+     * @param dialect the dialect parsing the expression on a cache miss
+     * @return the filter expression
+     * @throws ParseException if the dialect cannot parse the parameters
+     */
+    public FilterExpression getGlobalFilterExpression(String path,
+                                                      MultivaluedMap<String, String> filterParams,
+                                                      JoinFilterDialect dialect) throws ParseException {
+        Optional<FilterExpression> expression = get(
+                Arrays.asList(Kind.GLOBAL_FILTER, path, copy(filterParams)),
+                () -> Optional.ofNullable(dialect.parseGlobalExpression(path, filterParams)));
+        return expression.orElse(null);
+    }
+
+    /**
+     * Get the typed filter expressions of a request.
+     *
+     * @param path the request path
+     * @param filterParams the filter query parameters
+     * @param dialect the dialect parsing the expressions on a cache miss
+     * @return the filter expressions by type
+     * @throws ParseException if the dialect cannot parse the parameters
+     */
+    public Map<String, FilterExpression> getTypedFilterExpressions(String path,
+                                                                   MultivaluedMap<String, String> filterParams,
+                                                                   SubqueryFilterDialect dialect)
+            throws ParseException {
+        return get(Arrays.asList(Kind.TYPED_FILTER, copy(filterParams)),
+                () -> ImmutableMap.copyOf(dialect.parseTypedExpression(path, filterParams)));
+    }
+
+    /**
+     * Get the sorting of a request. The valid sorting rules of the cached sorting are computed once per type.
+     *
+     * @param queryParams the query parameters
+     * @return the sorting
+     */
+    public Sorting getSorting(MultivaluedMap<String, String> queryParams) {
+        List<String> sortParams = queryParams.get("sort");
+        if (sortParams == null || sortParams.isEmpty()) {
+            return Sorting.getDefaultEmptyInstance();
+        }
+        try {
+            return get(Arrays.asList(Kind.SORT, ImmutableList.copyOf(sortParams)),
+                    () -> Sorting.parseQueryParams(queryParams));
+        } catch (ParseException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Get the hit, miss and eviction counts of the cache.
+     *
+     * @return the statistics
+     */
+    public CacheStats getStats() {
+        return plans.stats();
+    }
+
+    private <T> T get(List<Object> key, Callable<T> parser) throws ParseException {
+        Object plan;
+        try {
+            plan = plans.get(key, () -> {
+                try {
+                    return parser.call();
+                } catch (ParseException e) {
+                    return e;
+                }
+            });
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+
+        if (plan instanceof ParseException) {
+            throw new ParseException(((ParseException) plan).getMessage());
+        }
+        return (T) plan;
+    }
+
+    private static Map<String, List<String>> copy(MultivaluedMap<String, String> params) {
+        ImmutableMap.Builder<String, List<String>> copy = ImmutableMap.builder();
+        params.forEach((name, values) -> copy.put(name, ImmutableList.copyOf(values)));
+        return copy.build();
+    }
+}
@@ -6,6 +6,7 @@
 package com.yahoo.elide.core;
 
 import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.annotation.ComputedAttribute;
 import com.yahoo.elide.annotation.OnCreatePostCommit;
 import com.yahoo.elide.annotation.OnCreatePreCommit;
 import com.yahoo.elide.annotation.OnCreatePreSecurity;
@@ -19,6 +20,7 @@ import com.yahoo.elide.annotation.OnUpdatePostCommit;
 import com.yahoo.elide.annotation.OnUpdatePreCommit;
 import com.yahoo.elide.annotation.OnUpdatePreSecurity;
 import com.yahoo.elide.audit.AuditLogger;
+import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.exceptions.InternalServerErrorException;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.core.exceptions.InvalidOperationException;
@@ -31,24 +33,34 @@ import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import com.yahoo.elide.parsers.expression.CheckedFieldsVisitor;
 import com.yahoo.elide.security.ChangeSpec;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.security.User;
 import com.yahoo.elide.security.executors.ActivePermissionExecutor;
 import lombok.Getter;
+import lombok.Setter;
 
+import javax.persistence.ElementCollection;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Request scope object for relaying request-related data to various subsystems.
@@ -69,6 +81,9 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
     @Getter private final Set<PersistentResource> newPersistentResources;
     @Getter private final LinkedHashSet<PersistentResource> dirtyResources;
     @Getter private final LinkedHashSet<PersistentResource> deletedResources;
+    private final Map<Object, Set<String>> dirtyFields;
+    private final Map<Class<?>, Set<String>> fetchPaths;
+    private final Map<Class<?>, Set<String>> projections;
     @Getter private final String path;
     @Getter private final ElideSettings elideSettings;
     @Getter private final boolean useFilterExpressions;
@@ -76,6 +91,8 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
     @Getter private final boolean mutatingMultipleEntities;
 
     @Getter private final MultipleFilterDialect filterDialect;
+    @Getter @Setter private ConditionalRequest conditionalRequest;
+    @Getter @Setter private Deadline deadline;
     private final Map<String, FilterExpression> expressionsByType;
 
     /* Used to filter across heterogeneous types during the first load */
@@ -114,6 +131,9 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         this.elideSettings = elideSettings;
         this.useFilterExpressions = elideSettings.isUseFilterExpressions();
         this.updateStatusCode = elideSettings.getUpdateStatusCode();
+        this.deadline = elideSettings.getRequestTimeout() > 0
+                ? Deadline.after(elideSettings.getRequestTimeout(), TimeUnit.MILLISECONDS)
+                : Deadline.none();
 
         this.globalFilterExpression = null;
         this.expressionsByType = new HashMap<>();
@@ -121,6 +141,9 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         this.newPersistentResources = new LinkedHashSet<>();
         this.dirtyResources = new LinkedHashSet<>();
         this.deletedResources = new LinkedHashSet<>();
+        this.dirtyFields = new IdentityHashMap<>();
+        this.fetchPaths = new HashMap<>();
+        this.projections = new HashMap<>();
         this.mutatingMultipleEntities = mutatesMultipleEntities;
         this.queuedTriggers = new HashMap<Class, LinkedHashSet<Runnable>>() {
             {
@@ -149,6 +172,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
                 : Optional.of(queryParams);
 
         if (this.queryParams.isPresent()) {
+            QueryPlanCache queryPlanCache = elideSettings.getQueryPlanCache();
 
             /* Extract any query param that starts with 'filter' */
             MultivaluedMap<String, String> filterParams = getFilterParams(queryParams);
@@ -158,14 +182,18 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
 
                 /* First check to see if there is a global, cross-type filter */
                 try {
-                    globalFilterExpression = filterDialect.parseGlobalExpression(path, filterParams);
+                    globalFilterExpression = queryPlanCache == null
+                            ? filterDialect.parseGlobalExpression(path, filterParams)
+                            : queryPlanCache.getGlobalFilterExpression(path, filterParams, filterDialect);
                 } catch (ParseException e) {
                     errorMessage = e.getMessage();
                 }
 
                 /* Next check to see if there is are type specific filters */
                 try {
-                    expressionsByType.putAll(filterDialect.parseTypedExpression(path, filterParams));
+                    expressionsByType.putAll(queryPlanCache == null
+                            ? filterDialect.parseTypedExpression(path, filterParams)
+                            : queryPlanCache.getTypedFilterExpressions(path, filterParams, filterDialect));
                 } catch (ParseException e) {
 
                     /* If neither dialect parsed, report the last error found */
@@ -185,7 +213,9 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
             }
 
             this.sparseFields = parseSparseFields(queryParams);
-            this.sorting = Sorting.parseQueryParams(queryParams);
+            this.sorting = queryPlanCache == null
+                    ? Sorting.parseQueryParams(queryParams)
+                    : queryPlanCache.getSorting(queryParams);
             this.pagination = Pagination.parseQueryParams(queryParams, this.getElideSettings());
         } else {
             this.sparseFields = Collections.emptyMap();
@@ -219,7 +249,11 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         this.permissionExecutor = outerRequestScope.getPermissionExecutor();
         this.dirtyResources = outerRequestScope.dirtyResources;
         this.deletedResources = outerRequestScope.deletedResources;
+        this.dirtyFields = outerRequestScope.dirtyFields;
+        this.fetchPaths = outerRequestScope.fetchPaths;
+        this.projections = outerRequestScope.projections;
         this.filterDialect = outerRequestScope.filterDialect;
+        this.deadline = outerRequestScope.deadline;
         this.expressionsByType = outerRequestScope.expressionsByType;
         this.elideSettings = outerRequestScope.elideSettings;
         this.useFilterExpressions = outerRequestScope.useFilterExpressions;
@@ -272,6 +306,18 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         return Optional.ofNullable(expressionsByType.get(type));
     }
 
+    /**
+     * Get the filter expression requested by the client (global or for the given type) without permission filters.
+     * @param loadClass Entity class
+     * @return The requested filter expression
+     */
+    public Optional<FilterExpression> getRequestFilterExpression(Class<?> loadClass) {
+        if (globalFilterExpression != null) {
+            return Optional.of(globalFilterExpression);
+        }
+        return getFilterExpressionByType(dictionary.getJsonAliasFor(loadClass));
+    }
+
     /**
      * Get the global/cross-type filter expression.
      * @param loadClass Entity class
@@ -280,13 +326,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
     public Optional<FilterExpression> getLoadFilterExpression(Class<?> loadClass) {
         Optional<FilterExpression> permissionFilter;
         permissionFilter = getPermissionExecutor().getReadPermissionFilter(loadClass);
-        Optional<FilterExpression> globalFilterExpressionOptional = null;
-        if (globalFilterExpression == null) {
-            String typeName = dictionary.getJsonAliasFor(loadClass);
-            globalFilterExpressionOptional =  getFilterExpressionByType(typeName);
-        } else {
-            globalFilterExpressionOptional = Optional.of(globalFilterExpression);
-        }
+        Optional<FilterExpression> globalFilterExpressionOptional = getRequestFilterExpression(loadClass);
 
         if (globalFilterExpressionOptional.isPresent() && permissionFilter.isPresent()) {
             return Optional.of(new AndFilterExpression(globalFilterExpressionOptional.get(),
@@ -454,7 +494,170 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
                 .stream()
                 .map(PersistentResource::getObject)
                 .forEach(s -> transaction.createObject(s, this));
-        dirtyResources.stream().map(PersistentResource::getObject).forEach(obj -> transaction.save(obj, this));
+        dirtyResources.forEach(resource ->
+                transaction.save(resource.getObject(), getDirtyFields(resource), this));
+    }
+
+    /**
+     * Save a modified resource now instead of when the request commits.
+     *
+     * @param resource the modified resource
+     */
+    protected void saveDirtyResource(PersistentResource<?> resource) {
+        if (dirtyResources.remove(resource)) {
+            transaction.save(resource.getObject(), getDirtyFields(resource), this);
+        }
+        dirtyFields.remove(resource.getObject());
+    }
+
+    /**
+     * Record that a field of a resource changed in this request.
+     *
+     * @param resource the modified resource
+     * @param fieldName the attribute or relationship which changed
+     */
+    protected void addDirtyField(PersistentResource<?> resource, String fieldName) {
+        dirtyFields.computeIfAbsent(resource.getObject(), obj -> new LinkedHashSet<>()).add(fieldName);
+    }
+
+    /**
+     * The fields of a resource changed in this request.
+     *
+     * @param resource the resource
+     * @return names of the changed attributes and relationships
+     */
+    public Set<String> getDirtyFields(PersistentResource<?> resource) {
+        return Collections.unmodifiableSet(dirtyFields.getOrDefault(resource.getObject(), Collections.emptySet()));
+    }
+
+    /**
+     * Record relationship paths (e.g. <em>author.publisher</em>) the request will read from every loaded object of
+     * a class, so data stores can load them together with the objects.
+     * <p>
+     * A path stops before a to-many relationship whose members are filtered by the request or by a read permission
+     * filter since those members are loaded with a separate query anyway.
+     *
+     * @param entityClass the class of the loaded objects
+     * @param paths dot separated relationship paths
+     */
+    public void addFetchPaths(Class<?> entityClass, Collection<String> paths) {
+        Set<String> fetchable = fetchPaths.computeIfAbsent(entityClass, cls -> new LinkedHashSet<>());
+        for (String path : paths) {
+            Class<?> type = entityClass;
+            String prefix = null;
+            for (String relation : path.split("\\.")) {
+                RelationshipType relationshipType = dictionary.getRelationshipType(type, relation);
+                if (relationshipType == RelationshipType.NONE) {
+                    break;
+                }
+                Class<?> relationClass = dictionary.getParameterizedType(type, relation);
+                if (relationshipType.isToMany() && isFilteredType(relationClass)) {
+                    break;
+                }
+                prefix = (prefix == null) ? relation : prefix + "." + relation;
+                fetchable.add(prefix);
+                type = relationClass;
+            }
+        }
+    }
+
+    /**
+     * Get the relationship paths recorded for a class and all their prefixes.
+     *
+     * @param entityClass the class of the loaded objects
+     * @return dot separated relationship paths, shortest first
+     */
+    public Set<String> getFetchPaths(Class<?> entityClass) {
+        return Collections.unmodifiableSet(fetchPaths.getOrDefault(entityClass, Collections.emptySet()));
+    }
+
+    /**
+     * Record that the request only reads some attributes of the loaded objects of a class (e.g. a sparse fieldset),
+     * so data stores can load only those columns into partially loaded objects.
+     * <p>
+     * Nothing is recorded unless partially loaded objects are safe: the request does not write, the fields are
+     * persistent attributes stored in a single column, the class has no subclasses and no read lifecycle hooks, and its read permission checks
+     * only read attributes. The projection also contains the id and the attributes read by permission checks.
+     *
+     * @param entityClass the class of the loaded objects
+     * @param fieldNames the attributes read by the request
+     */
+    public void setProjection(Class<?> entityClass, Collection<String> fieldNames) {
+        if (mutatingMultipleEntities
+                || !dictionary.getSubclassingEntities(entityClass).isEmpty()
+                || !fieldNames.stream().allMatch(field -> isProjectable(entityClass, field))) {
+            return;
+        }
+
+        Set<String> hookFields = new HashSet<>(fieldNames);
+        hookFields.add(PersistentResource.CLASS_NO_FIELD);
+        boolean hasHooks = Stream.of(OnReadPreSecurity.class, OnReadPreCommit.class, OnReadPostCommit.class)
+                .anyMatch(hook -> hookFields.stream()
+                        .anyMatch(field -> !dictionary.getTriggers(entityClass, hook, field).isEmpty()));
+        if (hasHooks) {
+            return;
+        }
+
+        CheckedFieldsVisitor.getCheckedFields(entityClass, fieldNames, dictionary, this)
+                .filter(checkedFields -> checkedFields.stream().allMatch(field ->
+                        isProjectable(entityClass, field)
+                                || field.equals(dictionary.getIdFieldName(entityClass))))
+                .ifPresent(checkedFields -> {
+                    Set<String> projection = new LinkedHashSet<>();
+                    projection.add(dictionary.getIdFieldName(entityClass));
+                    projection.addAll(fieldNames);
+                    projection.addAll(checkedFields);
+                    projections.put(entityClass, projection);
+                });
+    }
+
+    /**
+     * Whether an attribute is stored in a single column of the table of its class. Collections and embedded
+     * values span several rows or columns and cannot be selected on their own.
+     */
+    private boolean isProjectable(Class<?> entityClass, String fieldName) {
+        if (!dictionary.isAttribute(entityClass, fieldName)) {
+            return false;
+        }
+        Class<?> type = dictionary.getType(entityClass, fieldName);
+        return !Collection.class.isAssignableFrom(type)
+                && !Map.class.isAssignableFrom(type)
+                && !type.isArray()
+                && type.getAnnotation(Embeddable.class) == null
+                && Stream.of(ComputedAttribute.class, ElementCollection.class, Embedded.class)
+                        .allMatch(annotation -> dictionary.getAttributeOrRelationAnnotation(
+                                entityClass, annotation, fieldName) == null);
+    }
+
+    /**
+     * Get the fields to load for the objects of a class if the request only reads some of them.
+     *
+     * @param entityClass the class of the loaded objects
+     * @return the id and attributes to load or empty if whole objects must be loaded
+     */
+    public Optional<Set<String>> getProjection(Class<?> entityClass) {
+        return Optional.ofNullable(projections.get(entityClass)).map(Collections::unmodifiableSet);
+    }
+
+    /**
+     * Stop loading partial objects of a class, e.g. before the request modifies them.
+     *
+     * @param entityClass the class of the loaded objects
+     */
+    public void clearProjection(Class<?> entityClass) {
+        projections.remove(entityClass);
+    }
+
+    private boolean isFilteredType(Class<?> entityClass) {
+        if (dictionary.isMappedInterface(entityClass)
+                || expressionsByType.containsKey(dictionary.getJsonAliasFor(entityClass))) {
+            return true;
+        }
+        try {
+            return permissionExecutor.getReadPermissionFilter(entityClass).isPresent();
+        } catch (ForbiddenAccessException e) {
+            return true;
+        }
     }
 
     public String getUUIDFor(Object o) {
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Time spent in the phases of startup which derive models from the entity dictionary.
+ * <p>
+ * Each phase accumulates the time of every call timed for it.  Permission parse trees are compiled while entities
+ * are bound in parallel, so their time is summed over the binding threads and may exceed the binding time.
+ */
+@Slf4j
+public class StartupTimings {
+    public static final String DICTIONARY_BINDING = "dictionary binding";
+    public static final String PERMISSION_PARSING = "permission parse trees";
+    public static final String GRAPHQL_SCHEMA = "GraphQL schema";
+    public static final String SWAGGER = "Swagger";
+
+    private final Map<String, LongAdder> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Add time to a phase.
+     *
+     * @param phase the phase
+     * @param nanos the elapsed nanoseconds
+     */
+    public void add(String phase, long nanos) {
+        phases.computeIfAbsent(phase, unused -> new LongAdder()).add(nanos);
+    }
+
+    /**
+     * Time a phase.
+     *
+     * @param phase the phase
+     * @param supplier the work of the phase
+     * @param <T> the result type
+     * @return the result of the work
+     */
+    public <T> T time(String phase, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            add(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Get the time spent in each phase, in the order the phases were first timed.
+     *
+     * @return the timings
+     */
+    public Map<String, Duration> getTimings() {
+        synchronized (phases) {
+            return phases.entrySet().stream().collect(Collectors.toMap(
+                    Map.Entry::getKey,
+                    entry -> Duration.ofNanos(entry.getValue().sum()),
+                    (first, second) -> first,
+                    LinkedHashMap::new));
+        }
+    }
+
+    /**
+     * Log the timings.
+     */
+    public void report() {
+        log.info("Elide startup timings: {}", this);
+    }
+
+    @Override
+    public String toString() {
+        return getTimings().entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue().toMillis() + " ms")
+                .collect(Collectors.joining(", "));
+    }
+}
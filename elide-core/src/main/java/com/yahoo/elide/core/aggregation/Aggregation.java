@@ -0,0 +1,229 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.aggregation;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.ClassUtils;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Aggregates computed over the records of a collection, optionally per group
+ * (eg. /book?aggregate=count,sum(price)&amp;group=author.id).
+ * <p>
+ * Aggregated and grouped fields are attributes of the collection or of entities reached through to-one
+ * relationships.  Each result row maps the grouped field paths and the aggregate names (eg. <em>sum(price)</em>)
+ * to their values.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class Aggregation {
+
+    /**
+     * Aggregate functions.
+     */
+    public enum Function {
+        count, sum, avg, min, max;
+
+        /**
+         * Whether the function only applies to numbers.
+         *
+         * @return true for sum and avg
+         */
+        public boolean isNumeric() {
+            return this == sum || this == avg;
+        }
+    }
+
+    /**
+     * An aggregate function applied to a field, or to the records themselves for <em>count</em>.
+     */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    public static class Aggregate {
+        private final Function function;
+        private final Optional<Path> path;
+
+        public Aggregate(Function function, Optional<Path> path) {
+            this.function = function;
+            this.path = path;
+        }
+
+        /**
+         * The name of the aggregate in result rows.
+         *
+         * @return the function followed by the field path in parentheses (eg. <em>sum(price)</em>)
+         */
+        public String getName() {
+            return path.map(p -> function + "(" + p.getFieldPath() + ")").orElse(function.name());
+        }
+    }
+
+    public static final String AGGREGATE_PARAMETER = "aggregate";
+    public static final String GROUP_PARAMETER = "group";
+
+    private final Class<?> entityClass;
+    private final List<Aggregate> aggregates;
+    private final List<Path> groups;
+
+    public Aggregation(Class<?> entityClass, List<Aggregate> aggregates, List<Path> groups) {
+        this.entityClass = entityClass;
+        this.aggregates = Collections.unmodifiableList(new ArrayList<>(aggregates));
+        this.groups = Collections.unmodifiableList(new ArrayList<>(groups));
+    }
+
+    /**
+     * Get the paths of every field read by the aggregation.
+     *
+     * @return the grouped paths followed by the aggregated ones
+     */
+    public Set<Path> getPaths() {
+        Set<Path> paths = new LinkedHashSet<>(groups);
+        aggregates.forEach(aggregate -> aggregate.getPath().ifPresent(paths::add));
+        return paths;
+    }
+
+    /**
+     * Given the query params on the GET request, collect the requested aggregation.
+     *
+     * @param entityClass the class of the collection
+     * @param dictionary the entity dictionary
+     * @param queryParams the query params on the request
+     * @return the aggregation or empty if no aggregate was requested
+     * @throws InvalidValueException if the aggregates or groups are not valid for the class
+     */
+    public static Optional<Aggregation> parseQueryParams(Class<?> entityClass,
+                                                         EntityDictionary dictionary,
+                                                         MultivaluedMap<String, String> queryParams) {
+        List<String> aggregates = getValues(queryParams, AGGREGATE_PARAMETER);
+        List<String> groups = getValues(queryParams, GROUP_PARAMETER);
+        if (aggregates.isEmpty()) {
+            if (!groups.isEmpty()) {
+                throw new InvalidValueException("Cannot group without an aggregate");
+            }
+            return Optional.empty();
+        }
+        return Optional.of(parse(entityClass, dictionary, aggregates, groups));
+    }
+
+    /**
+     * Parse and validate aggregates (eg. <em>count</em>, <em>sum(price)</em>) and grouped field paths.
+     *
+     * @param entityClass the class of the collection
+     * @param dictionary the entity dictionary
+     * @param aggregates the aggregates
+     * @param groups the grouped field paths
+     * @return the aggregation
+     * @throws InvalidValueException if the aggregates or groups are not valid for the class
+     */
+    public static Aggregation parse(Class<?> entityClass,
+                                    EntityDictionary dictionary,
+                                    List<String> aggregates,
+                                    List<String> groups) {
+        List<Aggregate> parsedAggregates = new ArrayList<>();
+        for (String aggregate : aggregates) {
+            Aggregate parsed = parseAggregate(entityClass, dictionary, aggregate);
+            if (parsedAggregates.stream().noneMatch(a -> a.getName().equals(parsed.getName()))) {
+                parsedAggregates.add(parsed);
+            }
+        }
+
+        List<Path> parsedGroups = new ArrayList<>();
+        for (String group : groups) {
+            Path path = parsePath(entityClass, dictionary, group);
+            if (!parsedGroups.contains(path)) {
+                parsedGroups.add(path);
+            }
+        }
+        return new Aggregation(entityClass, parsedAggregates, parsedGroups);
+    }
+
+    private static Aggregate parseAggregate(Class<?> entityClass, EntityDictionary dictionary, String aggregate) {
+        String functionName = aggregate;
+        String field = null;
+        int open = aggregate.indexOf('(');
+        if (open >= 0) {
+            if (!aggregate.endsWith(")")) {
+                throw new InvalidValueException("Invalid aggregate: " + aggregate);
+            }
+            functionName = aggregate.substring(0, open);
+            field = aggregate.substring(open + 1, aggregate.length() - 1);
+        }
+
+        Function function;
+        try {
+            function = Function.valueOf(functionName.trim().toLowerCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidValueException("Unknown aggregate function: " + functionName, e);
+        }
+
+        if (field == null) {
+            if (function != Function.count) {
+                throw new InvalidValueException("Aggregate function " + function + " requires a field");
+            }
+            return new Aggregate(function, Optional.empty());
+        }
+
+        Path path = parsePath(entityClass, dictionary, field);
+        Class<?> fieldType = ClassUtils.primitiveToWrapper(path.lastElement().get().getFieldType());
+        if (function.isNumeric() && !Number.class.isAssignableFrom(fieldType)) {
+            throw new InvalidValueException("Cannot " + function + " the non numeric field " + path.getFieldPath());
+        }
+        if ((function == Function.min || function == Function.max) && !Comparable.class.isAssignableFrom(fieldType)) {
+            throw new InvalidValueException("Cannot " + function + " the unordered field " + path.getFieldPath());
+        }
+        return new Aggregate(function, Optional.of(path));
+    }
+
+    /**
+     * Creating a path validates that the dot separated path is valid.  It must also end with an attribute and only
+     * cross to-one relationships, so every record has at most one value.
+     */
+    private static Path parsePath(Class<?> entityClass, EntityDictionary dictionary, String dotSeparatedPath) {
+        String fieldPath = dotSeparatedPath.trim();
+        if ("id".equals(fieldPath)) {
+            fieldPath = dictionary.getIdFieldName(entityClass);
+        }
+        Path path = new Path(entityClass, dictionary, fieldPath);
+
+        for (Path.PathElement pathElement : path.getPathElements()) {
+            if (dictionary.isRelation(pathElement.getType(), pathElement.getFieldName())
+                    && dictionary.getRelationshipType(pathElement.getType(), pathElement.getFieldName()).isToMany()) {
+                throw new InvalidValueException("Cannot aggregate across a to-many relationship: " + fieldPath);
+            }
+        }
+        Path.PathElement last = path.lastElement().get();
+        if (dictionary.isRelation(last.getType(), last.getFieldName()) || last.getFieldType() == null) {
+            throw new InvalidValueException("Cannot aggregate the relationship " + fieldPath);
+        }
+        return path;
+    }
+
+    private static List<String> getValues(MultivaluedMap<String, String> queryParams, String parameter) {
+        return queryParams.getOrDefault(parameter, Collections.emptyList()).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
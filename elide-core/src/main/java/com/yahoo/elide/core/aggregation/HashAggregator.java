@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.aggregation;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates an aggregation over records in memory.  Records are hashed by their grouped values and every group
+ * keeps one running accumulator per aggregate, so only the groups are held rather than the records.
+ * <p>
+ * Like SQL, <em>count(field)</em> and the other functions ignore null values, <em>sum</em> is a long for integral
+ * fields and a double otherwise, and <em>avg</em> is a double.  Without groups there is exactly one row.
+ */
+public class HashAggregator {
+    private final Aggregation aggregation;
+    private final RequestScope requestScope;
+    private final Map<List<Object>, Accumulator[]> groups = new LinkedHashMap<>();
+
+    public HashAggregator(Aggregation aggregation, RequestScope requestScope) {
+        this.aggregation = aggregation;
+        this.requestScope = requestScope;
+    }
+
+    /**
+     * Add a record to its group.
+     *
+     * @param record the record
+     */
+    public void add(Object record) {
+        List<Object> key = aggregation.getGroups().stream()
+                .map(path -> getValue(record, path))
+                .collect(Collectors.toList());
+
+        Accumulator[] accumulators = groups.computeIfAbsent(key, unused -> newAccumulators());
+        List<Aggregation.Aggregate> aggregates = aggregation.getAggregates();
+        for (int idx = 0; idx < accumulators.length; idx++) {
+            Optional<Path> path = aggregates.get(idx).getPath();
+            accumulators[idx].add(path.isPresent() ? getValue(record, path.get()) : record);
+        }
+    }
+
+    /**
+     * Add records to their groups.
+     *
+     * @param records the records
+     * @return this aggregator
+     */
+    public HashAggregator addAll(Iterable<Object> records) {
+        records.forEach(this::add);
+        return this;
+    }
+
+    /**
+     * Get the result rows.
+     *
+     * @return one row per group mapping the grouped field paths and the aggregate names to their values
+     */
+    public List<Map<String, Object>> getRows() {
+        if (groups.isEmpty() && aggregation.getGroups().isEmpty()) {
+            groups.put(new ArrayList<>(), newAccumulators());
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        groups.forEach((key, accumulators) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int idx = 0; idx < key.size(); idx++) {
+                row.put(aggregation.getGroups().get(idx).getFieldPath(), key.get(idx));
+            }
+            for (int idx = 0; idx < accumulators.length; idx++) {
+                row.put(aggregation.getAggregates().get(idx).getName(), accumulators[idx].getValue());
+            }
+            rows.add(row);
+        });
+        return rows;
+    }
+
+    private Accumulator[] newAccumulators() {
+        return aggregation.getAggregates().stream()
+                .map(aggregate -> new Accumulator(aggregate.getFunction(),
+                        aggregate.getPath().map(path -> path.lastElement().get().getFieldType()).orElse(null)))
+                .toArray(Accumulator[]::new);
+    }
+
+    private Object getValue(Object record, Path path) {
+        Object value = record;
+        for (Path.PathElement pathElement : path.getPathElements()) {
+            if (value == null) {
+                return null;
+            }
+            value = PersistentResource.getValue(value, pathElement.getFieldName(), requestScope);
+        }
+        return value;
+    }
+
+    /**
+     * Running value of an aggregate function.
+     */
+    private static class Accumulator {
+        private final Aggregation.Function function;
+        private final boolean integral;
+        private long count;
+        private long longSum;
+        private double doubleSum;
+        private Comparable<Object> extreme;
+
+        Accumulator(Aggregation.Function function, Class<?> fieldType) {
+            this.function = function;
+            this.integral = fieldType != null && Arrays.asList(Long.class, long.class, Integer.class, int.class,
+                    Short.class, short.class, Byte.class, byte.class).contains(fieldType);
+        }
+
+        @SuppressWarnings("unchecked")
+        void add(Object value) {
+            if (value == null) {
+                return;
+            }
+            count++;
+            switch (function) {
+                case sum:
+                case avg:
+                    if (integral) {
+                        longSum += ((Number) value).longValue();
+                    } else {
+                        doubleSum += ((Number) value).doubleValue();
+                    }
+                    break;
+                case min:
+                    if (extreme == null || extreme.compareTo(value) > 0) {
+                        extreme = (Comparable<Object>) value;
+                    }
+                    break;
+                case max:
+                    if (extreme == null || extreme.compareTo(value) < 0) {
+                        extreme = (Comparable<Object>) value;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        Object getValue() {
+            switch (function) {
+                case count:
+                    return count;
+                case sum:
+                    if (count == 0) {
+                        return null;
+                    }
+                    return integral ? (Object) longSum : (Object) doubleSum;
+                case avg:
+                    if (count == 0) {
+                        return null;
+                    }
+                    return (integral ? (double) longSum : doubleSum) / count;
+                default:
+                    return extreme;
+            }
+        }
+    }
+}
@@ -19,9 +19,12 @@ import javax.persistence.Entity;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * Simple in-memory only database.
@@ -31,6 +34,7 @@ public class InMemoryDataStore implements DataStore {
     @Getter private EntityDictionary dictionary;
     @Getter private final Package beanPackage;
     @Getter private final ConcurrentHashMap<Class<?>, AtomicLong> typeIds = new ConcurrentHashMap<>();
+    private SearchIndex searchIndex;
 
     public InMemoryDataStore(Package beanPackage) {
         this.beanPackage = beanPackage;
@@ -41,19 +45,19 @@ public class InMemoryDataStore implements DataStore {
         Reflections reflections = new Reflections(new ConfigurationBuilder()
                 .addUrls(ClasspathHelper.forPackage(beanPackage.getName()))
                 .setScanners(new SubTypesScanner(), new TypeAnnotationsScanner()));
-        reflections.getTypesAnnotatedWith(Entity.class).stream()
+        Set<Class<?>> entities = reflections.getTypesAnnotatedWith(Entity.class).stream()
                 .filter(entityAnnotatedClass -> entityAnnotatedClass.getPackage().getName()
                         .startsWith(beanPackage.getName()))
-                .forEach((cls) -> {
-                    dictionary.bindEntity(cls);
-                    dataStore.put(cls, Collections.synchronizedMap(new LinkedHashMap<>()));
-                });
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        dictionary.bindEntities(entities);
+        entities.forEach((cls) -> dataStore.put(cls, Collections.synchronizedMap(new LinkedHashMap<>())));
         this.dictionary = dictionary;
+        this.searchIndex = new SearchIndex(dictionary);
     }
 
     @Override
     public DataStoreTransaction beginTransaction() {
-        return new InMemoryTransaction(dataStore, dictionary, typeIds);
+        return new InMemoryTransaction(dataStore, dictionary, typeIds, searchIndex);
     }
 
     @Override
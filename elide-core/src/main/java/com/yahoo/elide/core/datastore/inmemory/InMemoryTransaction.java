@@ -50,13 +50,28 @@ public class InMemoryTransaction implements DataStoreTransaction {
     private final List<Operation> operations;
     private final EntityDictionary dictionary;
     private final Map<Class<?>, AtomicLong> typeIds;
+    private final SearchIndex searchIndex;
 
     public InMemoryTransaction(Map<Class<?>, Map<String, Object>> dataStore,
                                EntityDictionary dictionary, Map<Class<?>, AtomicLong> typeIds) {
+        this(dataStore, dictionary, typeIds, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dataStore The objects by type and id
+     * @param dictionary The entity dictionary
+     * @param typeIds The id generators by type
+     * @param searchIndex The index shared by the transactions of the store or null to scan searched objects
+     */
+    InMemoryTransaction(Map<Class<?>, Map<String, Object>> dataStore,
+                        EntityDictionary dictionary, Map<Class<?>, AtomicLong> typeIds, SearchIndex searchIndex) {
         this.dataStore = dataStore;
         this.dictionary = dictionary;
         this.operations = new ArrayList<>();
         this.typeIds = typeIds;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -75,6 +90,13 @@ public class InMemoryTransaction implements DataStoreTransaction {
         }
         id = dictionary.getId(object);
         operations.add(new Operation(id, object, object.getClass(), false));
+
+        // Stored objects are updated in place, so their new values must be searchable before the commit
+        if (searchIndex != null) {
+            synchronized (dataStore) {
+                searchIndex.update(object.getClass(), id, object);
+            }
+        }
     }
 
     @Override
@@ -101,6 +123,9 @@ public class InMemoryTransaction implements DataStoreTransaction {
                         } else {
                             data.put(id, instance);
                         }
+                        if (searchIndex != null) {
+                            searchIndex.update(op.getType(), id, op.getDelete() ? null : instance);
+                        }
                     });
             operations.clear();
         }
@@ -211,6 +236,9 @@ public class InMemoryTransaction implements DataStoreTransaction {
                                         RequestScope scope) {
         synchronized (dataStore) {
             Map<String, Object> data = dataStore.get(entityClass);
+            if (searchIndex != null && filterExpression.isPresent()) {
+                data = searchIndex.narrow(entityClass, data, filterExpression.get());
+            }
             return processData(entityClass, data, filterExpression, sorting, pagination, scope);
         }
     }
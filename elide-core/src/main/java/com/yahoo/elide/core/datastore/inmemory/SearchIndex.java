@@ -0,0 +1,213 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.annotation.ComputedAttribute;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram index of the string attributes searched with {@link Operator#SEARCH}.
+ * <p>
+ * The index of an attribute is built the first time it is searched and is then maintained when objects are saved,
+ * since stored objects are updated in place, and when transactions commit. It only narrows the objects to filter:
+ * each object containing every trigram of the search text is still checked by the filter. Callers synchronize on
+ * the data store.
+ */
+class SearchIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final EntityDictionary dictionary;
+    private final Map<Class<?>, Map<String, FieldIndex>> indexes = new HashMap<>();
+
+    SearchIndex(EntityDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Restrict the objects of a type to the ones which may match the search predicates of a filter.
+     *
+     * @param entityClass the type of the objects
+     * @param data the objects by id
+     * @param filterExpression the filter
+     * @return the candidate objects by id or data if the filter has no indexable search predicate
+     */
+    Map<String, Object> narrow(Class<?> entityClass, Map<String, Object> data, FilterExpression filterExpression) {
+        Set<String> candidates = null;
+        for (FilterPredicate predicate : getRequiredSearchPredicates(filterExpression)) {
+            String text = String.valueOf(predicate.getValues().get(0)).toLowerCase(Locale.ENGLISH);
+            String field = predicate.getField();
+            if (text.length() < GRAM_LENGTH || !isIndexable(entityClass, field)) {
+                continue;
+            }
+
+            FieldIndex index = indexes.computeIfAbsent(entityClass, key -> new HashMap<>())
+                    .computeIfAbsent(field, key -> {
+                        FieldIndex fieldIndex = new FieldIndex();
+                        data.forEach((id, object) -> fieldIndex.add(id, getValue(object, field)));
+                        return fieldIndex;
+                    });
+
+            Set<String> matches = index.getCandidates(text);
+            if (candidates == null) {
+                candidates = matches;
+            } else {
+                candidates.retainAll(matches);
+            }
+        }
+
+        if (candidates == null) {
+            return data;
+        }
+        Map<String, Object> narrowed = new LinkedHashMap<>();
+        for (String id : candidates) {
+            Object object = data.get(id);
+            if (object != null) {
+                narrowed.put(id, object);
+            }
+        }
+        return narrowed;
+    }
+
+    /**
+     * Update the indexes of a type for a saved or committed object.
+     *
+     * @param entityClass the type of the object
+     * @param id the id of the object
+     * @param object the object or null if it was deleted
+     */
+    void update(Class<?> entityClass, String id, Object object) {
+        Map<String, FieldIndex> fieldIndexes = indexes.get(entityClass);
+        if (fieldIndexes == null) {
+            return;
+        }
+        fieldIndexes.forEach((field, index) -> {
+            index.remove(id);
+            if (object != null) {
+                index.add(id, getValue(object, field));
+            }
+        });
+    }
+
+    /**
+     * Gets the search predicates on attributes of the filtered type which every match must satisfy.
+     */
+    private static List<FilterPredicate> getRequiredSearchPredicates(FilterExpression filterExpression) {
+        List<FilterPredicate> predicates = new ArrayList<>();
+        if (filterExpression instanceof AndFilterExpression) {
+            AndFilterExpression and = (AndFilterExpression) filterExpression;
+            predicates.addAll(getRequiredSearchPredicates(and.getLeft()));
+            predicates.addAll(getRequiredSearchPredicates(and.getRight()));
+        } else if (filterExpression instanceof FilterPredicate) {
+            FilterPredicate predicate = (FilterPredicate) filterExpression;
+            List<Path.PathElement> elements = predicate.getPath().getPathElements();
+            if (predicate.getOperator() == Operator.SEARCH
+                    && elements.size() == 1
+                    && predicate.getValues().size() == 1) {
+                predicates.add(predicate);
+            }
+        }
+        return predicates;
+    }
+
+    private boolean isIndexable(Class<?> entityClass, String field) {
+        return dictionary.isAttribute(entityClass, field)
+                && String.class.equals(dictionary.getType(entityClass, field))
+                && dictionary.getAttributeOrRelationAnnotation(entityClass, ComputedAttribute.class, field) == null;
+    }
+
+    private Object getValue(Object object, String field) {
+        AccessibleObject accessor = dictionary.getAccessibleObject(object, field);
+        try {
+            if (accessor instanceof Method) {
+                return ((Method) accessor).invoke(object);
+            }
+            if (accessor instanceof Field) {
+                return ((Field) accessor).get(object);
+            }
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot index " + field, e);
+        }
+        return null;
+    }
+
+    /**
+     * Inverted index from the trigrams of the lower cased values of an attribute to object ids.
+     */
+    private static class FieldIndex {
+        private final Map<String, Set<String>> postings = new HashMap<>();
+        private final Map<String, Set<String>> gramsById = new HashMap<>();
+
+        void add(String id, Object value) {
+            if (value == null) {
+                return;
+            }
+            Set<String> grams = getGrams(value.toString().toLowerCase(Locale.ENGLISH));
+            grams.forEach(gram -> postings.computeIfAbsent(gram, key -> new LinkedHashSet<>()).add(id));
+            gramsById.put(id, grams);
+        }
+
+        void remove(String id) {
+            Set<String> grams = gramsById.remove(id);
+            if (grams == null) {
+                return;
+            }
+            for (String gram : grams) {
+                Set<String> ids = postings.get(gram);
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+
+        Set<String> getCandidates(String text) {
+            List<Set<String>> matches = new ArrayList<>();
+            for (String gram : getGrams(text)) {
+                Set<String> ids = postings.get(gram);
+                if (ids == null) {
+                    return new LinkedHashSet<>();
+                }
+                matches.add(ids);
+            }
+
+            // Intersect from the rarest trigram
+            matches.sort(Comparator.comparingInt(Collection::size));
+            Set<String> candidates = new LinkedHashSet<>(matches.get(0));
+            for (int index = 1; index < matches.size() && !candidates.isEmpty(); index++) {
+                candidates.retainAll(matches.get(index));
+            }
+            return candidates;
+        }
+
+        private static Set<String> getGrams(String value) {
+            Set<String> grams = new LinkedHashSet<>();
+            for (int index = 0; index + GRAM_LENGTH <= value.length(); index++) {
+                grams.add(value.substring(index, index + GRAM_LENGTH));
+            }
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.exceptions;
+
+import com.yahoo.elide.core.HttpStatus;
+
+/**
+ * Exception stopping a request whose deadline passed or which was cancelled.
+ *
+ * {@link com.yahoo.elide.core.HttpStatus#SC_SERVICE_UNAVAILABLE}
+ */
+public class RequestTimeoutException extends HttpStatusException {
+    private static final long serialVersionUID = 1L;
+
+    public RequestTimeoutException() {
+        super(HttpStatus.SC_SERVICE_UNAVAILABLE, "Request timed out");
+    }
+}
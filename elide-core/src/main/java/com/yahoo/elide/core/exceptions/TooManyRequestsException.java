@@ -0,0 +1,21 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.exceptions;
+
+import com.yahoo.elide.core.HttpStatus;
+
+/**
+ * Exception rejecting a request because its user is over their request allowance.
+ *
+ * {@link com.yahoo.elide.core.HttpStatus#SC_TOO_MANY_REQUESTS}
+ */
+public class TooManyRequestsException extends HttpStatusException {
+    private static final long serialVersionUID = 1L;
+
+    public TooManyRequestsException(String message) {
+        super(HttpStatus.SC_TOO_MANY_REQUESTS, message);
+    }
+}
@@ -92,6 +92,17 @@ public enum Operator {
         }
     },
 
+    /**
+     * Full-text search. In memory, it matches values containing the search text, ignoring case. Data stores may
+     * answer it with a full-text index, in which case the matching rules are the ones of the index.
+     */
+    SEARCH("search", true) {
+        @Override
+        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
+            return Operator.infix(field, values, requestScope, FOLD_CASE);
+        }
+    },
+
     ISNULL("isnull", false) {
         @Override
         public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
@@ -47,6 +47,7 @@ public class RSQLFilterDialect implements SubqueryFilterDialect, JoinFilterDiale
     private static final String INVALID_QUERY_PARAMETER = "Invalid query parameter: ";
     private static final Pattern TYPED_FILTER_PATTERN = Pattern.compile("filter\\[([^\\]]+)\\]");
     private static final ComparisonOperator ISNULL_OP = new ComparisonOperator("=isnull=", false);
+    private static final ComparisonOperator SEARCH_OP = new ComparisonOperator("=search=", false);
 
     /* Subset of operators that map directly to Elide operators */
     private static final Map<ComparisonOperator, Operator> OPERATOR_MAP =
@@ -66,10 +67,11 @@ public class RSQLFilterDialect implements SubqueryFilterDialect, JoinFilterDiale
         this. dictionary = dictionary;
     }
 
-    //add rsql isnull op to the default ops
+    //add rsql isnull and search ops to the default ops
     private static Set<ComparisonOperator> getDefaultOperatorsWithIsnull() {
         Set<ComparisonOperator> operators = RSQLOperators.defaultOperators();
         operators.add(ISNULL_OP);
+        operators.add(SEARCH_OP);
         return operators;
     }
 
@@ -272,6 +274,14 @@ public class RSQLFilterDialect implements SubqueryFilterDialect, JoinFilterDiale
                     .map(Path.PathElement::getFieldType)
                     .orElseThrow(() -> new IllegalStateException("Path must not be empty"));
 
+            //search text is not coerced
+            if (op.equals(SEARCH_OP)) {
+                if (!relationshipType.isAssignableFrom(String.class)) {
+                    throw new RSQLParseException(String.format("Cannot search non-string field %s", relationship));
+                }
+                return new FilterPredicate(path, Operator.SEARCH, Collections.singletonList(arguments.get(0)));
+            }
+
             //Coerce arguments to their correct types
             List<Object> values = arguments.stream()
                     .map((argument) -> (Object) CoerceUtil.coerce(argument, relationshipType))
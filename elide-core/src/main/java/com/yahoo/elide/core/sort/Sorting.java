@@ -9,19 +9,22 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import lombok.ToString;
+import org.apache.commons.lang3.tuple.Pair;
 
 import javax.ws.rs.core.MultivaluedMap;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Generates a simple wrapper around the sort fields from the JSON-API GET Query.
  */
-@ToString
+@ToString(exclude = "validSortingRules")
 public class Sorting {
 
     /**
@@ -30,6 +33,8 @@ public class Sorting {
     public enum SortOrder { asc, desc }
 
     private final Map<String, SortOrder> sortRules = new LinkedHashMap<>();
+    private final Map<Pair<Class<?>, EntityDictionary>, Map<Path, SortOrder>> validSortingRules =
+            new ConcurrentHashMap<>();
     private static final Sorting DEFAULT_EMPTY_INSTANCE = new Sorting(null);
     private static final String JSONAPI_ID_KEYWORD = "id";
 
@@ -54,6 +59,15 @@ public class Sorting {
     public <T> Map<Path, SortOrder> getValidSortingRules(final Class<T> entityClass,
                                                          final EntityDictionary dictionary)
             throws InvalidValueException {
+        if (sortRules.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        // Sorting parsed once may be shared by many requests, see QueryPlanCache
+        return validSortingRules.computeIfAbsent(Pair.of(entityClass, dictionary),
+                key -> Collections.unmodifiableMap(validateSortingRules(entityClass, dictionary)));
+    }
+
+    private Map<Path, SortOrder> validateSortingRules(Class<?> entityClass, EntityDictionary dictionary) {
         Map<Path, SortOrder> returnMap = new LinkedHashMap<>();
         for (Map.Entry<String, SortOrder> entry : replaceIdRule(dictionary.getIdFieldName(entityClass)).entrySet()) {
             String dotSeparatedPath = entry.getKey();
@@ -5,18 +5,25 @@
  */
 package com.yahoo.elide.jsonapi.document.processors;
 
-import com.google.common.collect.Lists;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import org.apache.commons.lang3.tuple.Pair;
 
 import javax.ws.rs.core.MultivaluedMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * A Document Processor that add requested relations to the include block of the JsonApiDocument.
@@ -34,7 +41,8 @@ public class IncludedProcessor implements DocumentProcessor {
     public void execute(JsonApiDocument jsonApiDocument, PersistentResource resource,
                         Optional<MultivaluedMap<String, String>> queryParams) {
         if (isPresent(queryParams, INCLUDE)) {
-            addIncludedResources(jsonApiDocument, resource, queryParams.get().get(INCLUDE));
+            addIncludedResources(jsonApiDocument, Collections.singletonList(resource),
+                    queryParams.get().get(INCLUDE));
         }
     }
 
@@ -47,53 +55,118 @@ public class IncludedProcessor implements DocumentProcessor {
                         Optional<MultivaluedMap<String, String>> queryParams) {
         if (isPresent(queryParams, INCLUDE)) {
 
-            // Process include for each resource
-            resources.forEach(resource ->
-                    addIncludedResources(jsonApiDocument, resource, queryParams.get().get(INCLUDE)));
+            // Process include for all resources together
+            addIncludedResources(jsonApiDocument, resources, queryParams.get().get(INCLUDE));
         }
     }
 
     /**
-     * Adds the requested relation resources to the included block of the JsonApiDocument.
+     * Get the relation paths requested by the include query param.
+     *
+     * @param queryParams the request query params
+     * @return dot separated relation paths, e.g. <em>author.publisher</em>
      */
-    private void addIncludedResources(JsonApiDocument jsonApiDocument, PersistentResource rec,
+    public static List<String> getRequestedRelationPaths(Optional<MultivaluedMap<String, String>> queryParams) {
+        List<String> relationPaths = new ArrayList<>();
+        if (isPresent(queryParams, INCLUDE)) {
+            queryParams.get().get(INCLUDE).forEach(pathParam ->
+                    relationPaths.addAll(Arrays.asList(pathParam.split(RELATION_PATH_SEPARATOR))));
+        }
+        return relationPaths;
+    }
+
+    /**
+     * Adds the requested relation resources of the records to the included block of the JsonApiDocument.
+     * <p>
+     * The relationships at the same depth of the relation paths are requested for every record before waiting on
+     * any of them, so that a data store loading relationships asynchronously can run them concurrently.  Resources
+     * are then added in the order of the records and paths, depth first.
+     */
+    private void addIncludedResources(JsonApiDocument jsonApiDocument, Collection<PersistentResource> records,
             List<String> requestedRelationPaths) {
-        // Process each include relation path
+        List<List<String>> relationPaths = new ArrayList<>();
         requestedRelationPaths.forEach(pathParam -> {
-            List<String> pathList = Arrays.asList(pathParam.split(RELATION_PATH_SEPARATOR));
-
-            pathList.forEach(requestedRelationPath -> {
-                List<String> relationPath = Lists.newArrayList(requestedRelationPath.split(RELATION_PATH_DELIMITER));
-                addResourcesForPath(jsonApiDocument, rec, relationPath);
-            });
+            for (String requestedRelationPath : pathParam.split(RELATION_PATH_SEPARATOR)) {
+                relationPaths.add(Arrays.asList(requestedRelationPath.split(RELATION_PATH_DELIMITER)));
+            }
         });
+
+        Map<PersistentResource, Map<String, Set<PersistentResource>>> relations = new IdentityHashMap<>();
+        List<Pair<PersistentResource, List<String>>> level = new ArrayList<>();
+        records.forEach(rec -> relationPaths.forEach(relationPath -> level.add(Pair.of(rec, relationPath))));
+        for (List<Pair<PersistentResource, List<String>>> next = level; !next.isEmpty();) {
+            next = loadRelations(next, relations);
+        }
+
+        records.forEach(rec -> relationPaths.forEach(relationPath ->
+                addResourcesForPath(jsonApiDocument, rec, relationPath, relations)));
     }
 
     /**
-     * Adds all the relation resources for a given relation path to the included block of the
-     * JsonApiDocument.
+     * Loads the first relation of each path for its record, unless already loaded.
+     *
+     * @return the loaded resources paired with the rest of their path
      */
-    private void addResourcesForPath(JsonApiDocument jsonApiDocument, PersistentResource<?> rec,
-                                     List<String> relationPath) {
+    private static List<Pair<PersistentResource, List<String>>> loadRelations(
+            List<Pair<PersistentResource, List<String>>> level,
+            Map<PersistentResource, Map<String, Set<PersistentResource>>> relations) {
+        Map<PersistentResource, Map<String, Supplier<Set<PersistentResource>>>> pending = new IdentityHashMap<>();
+        for (Pair<PersistentResource, List<String>> entry : level) {
+            PersistentResource<?> rec = entry.getLeft();
+            String relation = entry.getRight().get(0);
+            Map<String, Supplier<Set<PersistentResource>>> started =
+                    pending.computeIfAbsent(rec, unused -> new LinkedHashMap<>());
+            Map<String, Set<PersistentResource>> loaded = relations.getOrDefault(rec, Collections.emptyMap());
+            if (started.containsKey(relation) || loaded.containsKey(relation)) {
+                continue;
+            }
 
-        //Pop off a relation of relation path
-        String relation = relationPath.remove(0);
+            rec.getRequestScope().getDeadline().check();
+            Optional<FilterExpression> filterExpression =
+                    rec.getRequestScope().getExpressionForRelation(rec, relation);
+            try {
+                started.put(relation, rec.getRelationCheckedFilteredAsync(relation, filterExpression,
+                        Optional.empty(), Optional.empty()));
+            } catch (ForbiddenAccessException e) {
+                started.put(relation, Collections::emptySet);
+            }
+        }
 
-        Optional<FilterExpression> filterExpression = rec.getRequestScope().getExpressionForRelation(rec, relation);
-        Set<PersistentResource> collection;
-        try {
-            collection = rec.getRelationCheckedFiltered(relation, filterExpression, Optional.empty(), Optional.empty());
-        } catch (ForbiddenAccessException e) {
-            return;
+        pending.forEach((rec, started) -> started.forEach((relation, resources) -> {
+            Set<PersistentResource> collection;
+            try {
+                collection = resources.get();
+            } catch (ForbiddenAccessException e) {
+                collection = Collections.emptySet();
+            }
+            relations.computeIfAbsent(rec, unused -> new HashMap<>()).put(relation, collection);
+        }));
+
+        List<Pair<PersistentResource, List<String>>> next = new ArrayList<>();
+        for (Pair<PersistentResource, List<String>> entry : level) {
+            List<String> relationPath = entry.getRight();
+            if (relationPath.size() > 1) {
+                relations.get(entry.getLeft()).get(relationPath.get(0)).forEach(resource ->
+                        next.add(Pair.of(resource, relationPath.subList(1, relationPath.size()))));
+            }
         }
+        return next;
+    }
 
-        collection.forEach(resource -> {
+    /**
+     * Adds all the relation resources for a given relation path to the included block of the
+     * JsonApiDocument.
+     */
+    private void addResourcesForPath(JsonApiDocument jsonApiDocument, PersistentResource<?> rec,
+                                     List<String> relationPath,
+                                     Map<PersistentResource, Map<String, Set<PersistentResource>>> relations) {
+        relations.get(rec).get(relationPath.get(0)).forEach(resource -> {
             jsonApiDocument.addIncluded(resource.toResource());
 
             //If more relations left in the path, process a level deeper
-            if (!relationPath.isEmpty()) {
-                //Use a copy of the relationPath to preserve the path for remaining branches of the relationship tree
-                addResourcesForPath(jsonApiDocument, resource, new ArrayList<>(relationPath));
+            if (relationPath.size() > 1) {
+                addResourcesForPath(jsonApiDocument, resource, relationPath.subList(1, relationPath.size()),
+                        relations);
             }
         });
     }
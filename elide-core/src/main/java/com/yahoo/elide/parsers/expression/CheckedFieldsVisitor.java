@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.parsers.expression;
+
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.core.CheckInstantiator;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.generated.parsers.ExpressionBaseVisitor;
+import com.yahoo.elide.generated.parsers.ExpressionParser;
+import com.yahoo.elide.security.FilterExpressionCheck;
+import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.checks.UserCheck;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Walks a permission expression to collect the fields of an object its checks read.
+ *
+ * User checks read no field. Filter expression checks read the first field of each predicate path, as long as the
+ * path does not cross a relationship. Any other check may read anything, in which case the visitor returns null.
+ */
+public class CheckedFieldsVisitor extends ExpressionBaseVisitor<Set<String>> implements CheckInstantiator {
+    private final EntityDictionary dictionary;
+    private final Class<?> entityClass;
+    private final RequestScope scope;
+
+    public CheckedFieldsVisitor(EntityDictionary dictionary, Class<?> entityClass, RequestScope scope) {
+        this.dictionary = dictionary;
+        this.entityClass = entityClass;
+        this.scope = scope;
+    }
+
+    @Override
+    public Set<String> visitNOT(ExpressionParser.NOTContext ctx) {
+        return visit(ctx.expression());
+    }
+
+    @Override
+    public Set<String> visitOR(ExpressionParser.ORContext ctx) {
+        return union(visit(ctx.left), visit(ctx.right));
+    }
+
+    @Override
+    public Set<String> visitAND(ExpressionParser.ANDContext ctx) {
+        return union(visit(ctx.left), visit(ctx.right));
+    }
+
+    @Override
+    public Set<String> visitPAREN(ExpressionParser.PARENContext ctx) {
+        return visit(ctx.expression());
+    }
+
+    @Override
+    public Set<String> visitPermissionClass(ExpressionParser.PermissionClassContext ctx) {
+        Check check = getCheck(dictionary, ctx.getText());
+
+        if (check instanceof UserCheck) {
+            return new HashSet<>();
+        }
+        if (check instanceof FilterExpressionCheck) {
+            FilterExpression filterExpression =
+                    ((FilterExpressionCheck) check).getFilterExpression(entityClass, scope);
+            if (filterExpression == null) {
+                return null;
+            }
+
+            Set<String> fields = new HashSet<>();
+            for (FilterPredicate predicate : filterExpression.accept(new PredicateExtractionVisitor())) {
+                List<Path.PathElement> elements = predicate.getPath().getPathElements();
+                if (elements.size() != 1
+                        || dictionary.isRelation(elements.get(0).getType(), elements.get(0).getFieldName())) {
+                    return null;
+                }
+                fields.add(elements.get(0).getFieldName());
+            }
+            return fields;
+        }
+        return null;
+    }
+
+    private static Set<String> union(Set<String> lhs, Set<String> rhs) {
+        if (lhs == null || rhs == null) {
+            return null;
+        }
+        Set<String> fields = new HashSet<>(lhs);
+        fields.addAll(rhs);
+        return fields;
+    }
+
+    /**
+     * Get the fields read by the read permission checks of a class and of some of its fields.
+     * @param resourceClass The class of the resources
+     * @param fieldNames The fields which are read
+     * @param dictionary Used to look up permissions
+     * @param scope The request scope
+     * @return the fields read by the checks or empty if a check may read any field
+     */
+    public static Optional<Set<String>> getCheckedFields(Class<?> resourceClass,
+                                                         Collection<String> fieldNames,
+                                                         EntityDictionary dictionary,
+                                                         RequestScope scope) {
+        CheckedFieldsVisitor visitor = new CheckedFieldsVisitor(dictionary, resourceClass, scope);
+
+        Set<String> checkedFields = new HashSet<>();
+        ParseTree classPermissions = dictionary.getPermissionsForClass(resourceClass, ReadPermission.class);
+        if (classPermissions != null) {
+            checkedFields = union(checkedFields, visitor.visit(classPermissions));
+        }
+
+        for (String field : fieldNames) {
+            ParseTree fieldPermissions = dictionary.getPermissionsForField(resourceClass, field, ReadPermission.class);
+            if (fieldPermissions != null) {
+                checkedFields = union(checkedFields, visitor.visit(fieldPermissions));
+            }
+        }
+        return Optional.ofNullable(checkedFields);
+    }
+}
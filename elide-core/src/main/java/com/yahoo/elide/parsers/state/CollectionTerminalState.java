@@ -11,10 +11,12 @@ import com.google.common.base.Preconditions;
 import com.yahoo.elide.core.HttpStatus;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.aggregation.Aggregation;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.exceptions.InternalServerErrorException;
 import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
 import com.yahoo.elide.core.exceptions.InvalidObjectIdentifierException;
+import com.yahoo.elide.core.exceptions.InvalidOperationException;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.exceptions.UnknownEntityException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
@@ -35,6 +37,7 @@ import javax.ws.rs.core.MultivaluedMap;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -66,7 +69,31 @@ public class CollectionTerminalState extends BaseState {
         RequestScope requestScope = state.getRequestScope();
         Optional<MultivaluedMap<String, String>> queryParams = requestScope.getQueryParams();
 
-        Set<PersistentResource> collection = getResourceCollection(requestScope);
+        Optional<Aggregation> aggregation = queryParams.flatMap(params ->
+                Aggregation.parseQueryParams(entityClass, requestScope.getDictionary(), params));
+        if (aggregation.isPresent()) {
+            return handleAggregate(requestScope, aggregation.get());
+        }
+
+        if (!parent.isPresent()) {
+            // Let the data store load the included relationships together with the root collection
+            List<String> includedPaths = IncludedProcessor.getRequestedRelationPaths(queryParams);
+            requestScope.addFetchPaths(entityClass, includedPaths);
+
+            // Or only the requested attributes if nothing else is read from the records
+            Set<String> sparseFields = requestScope.getSparseFields()
+                    .get(requestScope.getDictionary().getJsonAliasFor(entityClass));
+            if (sparseFields != null && includedPaths.isEmpty()) {
+                requestScope.setProjection(entityClass, sparseFields);
+            }
+        }
+
+        Set<PersistentResource> collection;
+        try {
+            collection = getResourceCollection(requestScope);
+        } finally {
+            requestScope.clearProjection(entityClass);
+        }
         // Set data
         jsonApiDocument.setData(getData(collection));
 
@@ -102,6 +129,27 @@ public class CollectionTerminalState extends BaseState {
         return () -> Pair.of(HttpStatus.SC_OK, responseBody);
     }
 
+    /**
+     * Compute aggregates over the records of a root collection matching the request filter
+     * (e.g. <em>GET /book?aggregate=count,sum(price)&amp;group=author.id</em>). The rows are returned in the
+     * <em>aggregates</em> meta data instead of the records.
+     */
+    private Supplier<Pair<Integer, JsonNode>> handleAggregate(RequestScope requestScope, Aggregation aggregation) {
+        if (parent.isPresent()) {
+            throw new InvalidOperationException("Cannot aggregate a relationship collection.");
+        }
+
+        List<Map<String, Object>> rows = PersistentResource.aggregateRecords(entityClass,
+                requestScope.getRequestFilterExpression(entityClass), aggregation, requestScope);
+
+        JsonApiDocument jsonApiDocument = new JsonApiDocument();
+        jsonApiDocument.setData(new Data<>(Collections.<Resource>emptyList()));
+        jsonApiDocument.setMeta(new Meta(Collections.singletonMap("aggregates", rows)));
+
+        JsonNode responseBody = requestScope.getMapper().toJsonObject(jsonApiDocument);
+        return () -> Pair.of(HttpStatus.SC_OK, responseBody);
+    }
+
     @Override
     public Supplier<Pair<Integer, JsonNode>> handlePost(StateContext state) {
         RequestScope requestScope = state.getRequestScope();
@@ -117,6 +165,58 @@ public class CollectionTerminalState extends BaseState {
         };
     }
 
+    /**
+     * Delete every record of a root collection matching the request filter (e.g. <em>DELETE /book?filter=...</em>).
+     * A filter is required.
+     */
+    @Override
+    public Supplier<Pair<Integer, JsonNode>> handleDelete(StateContext state) {
+        RequestScope requestScope = state.getRequestScope();
+        if (parent.isPresent()) {
+            throw new InvalidOperationException("Cannot DELETE a relationship collection.");
+        }
+
+        FilterExpression filterExpression = requestScope.getRequestFilterExpression(entityClass)
+                .orElseThrow(() -> new InvalidOperationException("Cannot DELETE a collection without a filter."));
+
+        PersistentResource.deleteRecords(entityClass, filterExpression, requestScope);
+        return () -> Pair.of(HttpStatus.SC_NO_CONTENT, null);
+    }
+
+    /**
+     * Set attributes of every record of a root collection matching the request filter
+     * (e.g. <em>PATCH /book?filter=...</em> with a resource without id). A filter is required.
+     */
+    @Override
+    public Supplier<Pair<Integer, JsonNode>> handlePatch(StateContext state) {
+        RequestScope requestScope = state.getRequestScope();
+        if (parent.isPresent()) {
+            throw new InvalidOperationException("Cannot PATCH a relationship collection.");
+        }
+
+        FilterExpression filterExpression = requestScope.getRequestFilterExpression(entityClass)
+                .orElseThrow(() -> new InvalidOperationException("Cannot PATCH a collection without a filter."));
+
+        Data<Resource> data = requestScope.getJsonApiDocument().getData();
+        Collection<Resource> resources = data == null ? null : data.get();
+        Resource resource = (resources != null && resources.size() == 1) ? resources.iterator().next() : null;
+        if (resource == null || resource.getId() != null) {
+            throw new InvalidEntityBodyException("Expected a single resource without id");
+        }
+        if (!requestScope.getDictionary().getJsonAliasFor(entityClass).equals(resource.getType())) {
+            throw new InvalidValueException("Resource type must match the collection: " + resource.getType());
+        }
+        if (resource.getRelationships() != null && !resource.getRelationships().isEmpty()) {
+            throw new InvalidOperationException("Cannot PATCH relationships of a collection.");
+        }
+
+        Map<String, Object> attributes = resource.getAttributes() == null
+                ? Collections.emptyMap()
+                : resource.getAttributes();
+        PersistentResource.updateRecords(entityClass, filterExpression, attributes, requestScope);
+        return () -> Pair.of(HttpStatus.SC_NO_CONTENT, null);
+    }
+
     private Set<PersistentResource> getResourceCollection(RequestScope requestScope) {
         final Set<PersistentResource> collection;
         // TODO: In case of join filters, apply pagination after getting records
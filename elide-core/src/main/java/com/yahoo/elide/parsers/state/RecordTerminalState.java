@@ -6,7 +6,7 @@
 package com.yahoo.elide.parsers.state;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yahoo.elide.core.ConditionalRequest;
 import com.yahoo.elide.core.HttpStatus;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
@@ -44,8 +44,19 @@ public class RecordTerminalState extends BaseState {
 
     @Override
     public Supplier<Pair<Integer, JsonNode>> handleGet(StateContext state) {
-        ObjectMapper mapper = state.getRequestScope().getMapper().getObjectMapper();
-        return () -> Pair.of(HttpStatus.SC_OK, getResponseBody(record, state.getRequestScope()));
+        RequestScope requestScope = state.getRequestScope();
+        ConditionalRequest conditionalRequest = requestScope.getConditionalRequest();
+        if (conditionalRequest != null) {
+            Object version = requestScope.getDictionary().getVersion(record.getObject());
+            if (version != null && ConditionalRequest.isTaggedByVersion(record, requestScope)) {
+                conditionalRequest.setVersion(record, version, requestScope);
+                if (conditionalRequest.isNotModified()) {
+                    // Client is current: skip relationship and include processing altogether
+                    return () -> Pair.of(HttpStatus.SC_NOT_MODIFIED, null);
+                }
+            }
+        }
+        return () -> Pair.of(HttpStatus.SC_OK, getResponseBody(record, requestScope));
     }
 
     @Override
@@ -23,6 +23,7 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
@@ -68,6 +69,7 @@ public class JsonApiEndpoint {
      *
      * @param path request path
      * @param uriInfo URI info
+     * @param headers request headers
      * @param securityContext security context
      * @return response
      */
@@ -76,9 +78,10 @@ public class JsonApiEndpoint {
     public Response get(
         @PathParam("path") String path,
         @Context UriInfo uriInfo,
+        @Context HttpHeaders headers,
         @Context SecurityContext securityContext) {
         MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
-        return build(elide.get(path, queryParams, getUser.apply(securityContext)));
+        return build(elide.get(path, queryParams, headers.getRequestHeaders(), getUser.apply(securityContext)));
     }
 
     /**
@@ -87,6 +90,7 @@ public class JsonApiEndpoint {
      * @param contentType document MIME type
      * @param accept response MIME type
      * @param path request path
+     * @param uriInfo URI info
      * @param securityContext security context
      * @param jsonapiDocument patch data as jsonapi document
      * @return response
@@ -98,15 +102,19 @@ public class JsonApiEndpoint {
         @HeaderParam("Content-Type") String contentType,
         @HeaderParam("accept") String accept,
         @PathParam("path") String path,
+        @Context UriInfo uriInfo,
         @Context SecurityContext securityContext,
         String jsonapiDocument) {
-        return build(elide.patch(contentType, accept, path, jsonapiDocument, getUser.apply(securityContext)));
+        MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
+        return build(elide.patch(contentType, accept, path, jsonapiDocument, queryParams,
+                getUser.apply(securityContext)));
     }
 
     /**
      * Delete relationship handler (expects body with resource ids and types).
      *
      * @param path request path
+     * @param uriInfo URI info
      * @param securityContext security context
      * @param jsonApiDocument DELETE document
      * @return response
@@ -116,12 +124,21 @@ public class JsonApiEndpoint {
     @Consumes("application/vnd.api+json")
     public Response delete(
         @PathParam("path") String path,
+        @Context UriInfo uriInfo,
         @Context SecurityContext securityContext,
         String jsonApiDocument) {
-        return build(elide.delete(path, jsonApiDocument, getUser.apply(securityContext)));
+        MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
+        return build(elide.delete(path, jsonApiDocument, queryParams, getUser.apply(securityContext)));
     }
 
     private static Response build(ElideResponse response) {
-        return Response.status(response.getResponseCode()).entity(response.getBody()).build();
+        Response.ResponseBuilder builder = Response.status(response.getResponseCode()).entity(response.getBody());
+        if (response.getEntityTag() != null) {
+            builder.header(HttpHeaders.ETAG, response.getEntityTag());
+        }
+        if (response.getLastModified() != null) {
+            builder.lastModified(response.getLastModified());
+        }
+        return builder.build();
     }
 }
@@ -96,6 +96,21 @@ public interface PermissionExecutor {
      */
     Optional<FilterExpression> getReadPermissionFilter(Class<?> resourceClass);
 
+    /**
+     * Get the filter selecting exactly the objects of a class on which the user holds a permission. Only available
+     * for permissions which the data store can evaluate on its own.
+     *
+     * @param resourceClass the class to check for a filter
+     * @param annotationClass the permission
+     * @return an optional containing the filter (or TRUE_USER_CHECK_EXPRESSION / FALSE_USER_CHECK_EXPRESSION of
+     *         {@link com.yahoo.elide.parsers.expression.PermissionToFilterExpressionVisitor} when user checks decide
+     *         the permission), empty if the permission has to be checked object by object
+     */
+    default Optional<FilterExpression> getPermissionFilter(Class<?> resourceClass,
+                                                           Class<? extends Annotation> annotationClass) {
+        return Optional.empty();
+    }
+
     /**
      * Execute commit checks.
      */
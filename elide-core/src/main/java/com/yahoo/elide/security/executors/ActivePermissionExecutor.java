@@ -364,6 +364,13 @@ public class ActivePermissionExecutor implements PermissionExecutor {
         return Optional.ofNullable(filterExpression);
     }
 
+    @Override
+    public Optional<FilterExpression> getPermissionFilter(Class<?> resourceClass,
+                                                          Class<? extends Annotation> annotationClass) {
+        return Optional.ofNullable(
+                expressionBuilder.buildClassFilterExpression(resourceClass, annotationClass, requestScope));
+    }
+
     /**
      * Execute commmit checks.
      */
@@ -6,6 +6,7 @@
 package com.yahoo.elide.security.executors;
 
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.parsers.expression.PermissionToFilterExpressionVisitor;
 import com.yahoo.elide.security.ChangeSpec;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.security.PersistentResource;
@@ -54,6 +55,12 @@ public class BypassPermissionExecutor implements PermissionExecutor {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<FilterExpression> getPermissionFilter(Class<?> resourceClass,
+                                                          Class<? extends Annotation> annotationClass) {
+        return Optional.of(PermissionToFilterExpressionVisitor.TRUE_USER_CHECK_EXPRESSION);
+    }
+
     @Override
     public void executeCommitChecks() {
 
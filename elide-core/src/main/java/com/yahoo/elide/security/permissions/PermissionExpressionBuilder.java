@@ -11,6 +11,7 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.parsers.expression.CanPaginateVisitor;
 import com.yahoo.elide.parsers.expression.FilterExpressionNormalizationVisitor;
 import com.yahoo.elide.parsers.expression.PermissionExpressionVisitor;
 import com.yahoo.elide.parsers.expression.PermissionToFilterExpressionVisitor;
@@ -308,6 +309,38 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
         return new PermissionExpressionVisitor(entityDictionary, checkFn).visit(permissions);
     }
 
+    /**
+     * Build the filter expression of a class level permission which the data store can evaluate on its own, that is
+     * a permission made of filter expression and user checks only.
+     *
+     * @param forType   Resource class
+     * @param annotationClass Annotation class
+     * @param requestScope requestScope
+     * @return the filter expression, TRUE_USER_CHECK_EXPRESSION or FALSE_USER_CHECK_EXPRESSION when user checks
+     *         decide the permission, or null when the permission must be evaluated in memory
+     */
+    public FilterExpression buildClassFilterExpression(Class<?> forType,
+                                                       Class<? extends Annotation> annotationClass,
+                                                       RequestScope requestScope) {
+        boolean hasFieldPermissions = entityDictionary.getAllFields(forType).stream()
+                .anyMatch(field -> entityDictionary.getPermissionsForField(forType, field, annotationClass) != null);
+        if (hasFieldPermissions) {
+            return null;
+        }
+
+        ParseTree classPermissions = entityDictionary.getPermissionsForClass(forType, annotationClass);
+        if (classPermissions == null) {
+            return TRUE_USER_CHECK_EXPRESSION;
+        }
+
+        CanPaginateVisitor.PaginationStatus status =
+                new CanPaginateVisitor(entityDictionary, requestScope).visit(classPermissions);
+        if (status == CanPaginateVisitor.PaginationStatus.CANNOT_PAGINATE) {
+            return null;
+        }
+        return filterExpressionFromParseTree(classPermissions, forType, requestScope);
+    }
+
     private FilterExpression filterExpressionFromParseTree(ParseTree permissions, Class type, RequestScope scope) {
         if (permissions == null) {
             return null;
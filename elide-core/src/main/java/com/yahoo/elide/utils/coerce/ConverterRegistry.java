@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.utils.coerce;
+
+import com.yahoo.elide.utils.coerce.converters.EpochToDateConverter;
+import com.yahoo.elide.utils.coerce.converters.FromMapConverter;
+import com.yahoo.elide.utils.coerce.converters.ToEnumConverter;
+import com.yahoo.elide.utils.coerce.converters.ToUUIDConverter;
+import org.apache.commons.beanutils.ConvertUtilsBean;
+import org.apache.commons.beanutils.Converter;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the converters used to coerce values between types.
+ * <p>
+ * The converter of a <em>(source type, target type)</em> pair is resolved once and cached. Lookups read a
+ * {@link ClassValue} keyed by target type and a {@link ConcurrentHashMap} keyed by source type, so converting
+ * takes no lock. Unlike {@link org.apache.commons.beanutils.ConvertUtils} no context class loader lookup happens
+ * per call.
+ * <p>
+ * Resolution order:
+ * <ol>
+ *     <li>Enum targets use the {@link ToEnumConverter}</li>
+ *     <li>UUID targets use the {@link ToUUIDConverter}</li>
+ *     <li>Map sources use the {@link FromMapConverter}</li>
+ *     <li>String or Number sources with Date targets use the {@link EpochToDateConverter}</li>
+ *     <li>Anything else uses the standard commons-beanutils converter of the target type</li>
+ * </ol>
+ */
+public class ConverterRegistry {
+    private static final Converter TO_ENUM_CONVERTER = new ToEnumConverter();
+    private static final Converter TO_UUID_CONVERTER = new ToUUIDConverter();
+    private static final Converter FROM_MAP_CONVERTER = new FromMapConverter();
+    private static final Converter EPOCH_TO_DATE_CONVERTER = new EpochToDateConverter();
+
+    /* Primitive targets whose wrapper is the source type, and targets without a converter */
+    private static final Converter PASS_THROUGH = new Converter() {
+        @Override
+        public <T> T convert(Class<T> cls, Object value) {
+            return (T) value;
+        }
+    };
+
+    private final ConvertUtilsBean standardConverters;
+    private final Converter toStringConverter;
+
+    private final ClassValue<Map<Class<?>, Converter>> converters = new ClassValue<Map<Class<?>, Converter>>() {
+        @Override
+        protected Map<Class<?>, Converter> computeValue(Class<?> targetType) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public ConverterRegistry() {
+        standardConverters = new ConvertUtilsBean();
+        // https://github.com/yahoo/elide/issues/260
+        // enable throwing exceptions when conversion fails
+        standardConverters.register(true, false, 0);
+        toStringConverter = standardConverters.lookup(String.class);
+    }
+
+    /**
+     * Convert value to target class.
+     *
+     * @param <T> type
+     * @param value value to convert (not null)
+     * @param cls class to convert to
+     * @return converted value
+     * @throws org.apache.commons.beanutils.ConversionException if the conversion fails
+     */
+    public <T> T convert(Object value, Class<T> cls) {
+        T converted = lookup(value.getClass(), cls).convert(cls, value);
+
+        // Mirrors ConvertUtilsBean: converters registered for non-string targets may fall back to their input
+        if (cls == String.class && converted != null && !(converted instanceof String)) {
+            return (T) toStringConverter.convert(String.class, converted);
+        }
+        return converted;
+    }
+
+    /**
+     * Find the converter for a pair of types.
+     *
+     * @param sourceType type of the value
+     * @param targetType type to convert to
+     * @return the converter
+     */
+    public Converter lookup(Class<?> sourceType, Class<?> targetType) {
+        Map<Class<?>, Converter> bySource = converters.get(targetType);
+        Converter converter = bySource.get(sourceType);
+        if (converter == null) {
+            converter = bySource.computeIfAbsent(sourceType, source -> resolve(source, targetType));
+        }
+        return converter;
+    }
+
+    /**
+     * Resolve the converter for a pair of types. Called once per pair.
+     *
+     * @param sourceType type of the value
+     * @param targetType type to convert to
+     * @return the converter
+     */
+    protected Converter resolve(Class<?> sourceType, Class<?> targetType) {
+        if (targetType.isPrimitive() && ClassUtils.primitiveToWrapper(targetType) == sourceType) {
+            return PASS_THROUGH;
+        } else if (targetType.isEnum()) {
+            return TO_ENUM_CONVERTER;
+        } else if (targetType == UUID.class) {
+            return TO_UUID_CONVERTER;
+        } else if (Map.class.isAssignableFrom(sourceType)) {
+            return FROM_MAP_CONVERTER;
+        } else if ((String.class.isAssignableFrom(sourceType) || Number.class.isAssignableFrom(sourceType))
+                && ClassUtils.isAssignable(targetType, Date.class)) {
+            return EPOCH_TO_DATE_CONVERTER;
+        }
+
+        // Like ConvertUtilsBean, values are passed through unchanged if there is no converter for the target
+        Converter converter = standardConverters.lookup(sourceType, targetType);
+        return converter == null ? PASS_THROUGH : converter;
+    }
+}
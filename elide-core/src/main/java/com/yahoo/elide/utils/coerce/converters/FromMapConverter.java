@@ -12,6 +12,11 @@ import org.apache.commons.beanutils.Converter;
  * Uses Jackson to Convert from Map to target object.
  */
 public class FromMapConverter implements Converter {
+    /* Jackson is a provided dependency, so the mapper is only created when a Map is first converted */
+    private static final class MapperHolder {
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+    }
+
     /**
      * Convert value from map to target object.
      *
@@ -22,7 +27,6 @@ public class FromMapConverter implements Converter {
      */
     @Override
     public <T> T convert(Class<T> cls, Object value) {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.convertValue(value, cls);
+        return MapperHolder.MAPPER.convertValue(value, cls);
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import com.yahoo.elide.core.RequestScope;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class AsyncAuditLoggerTest {
+
+    private static class CapturingLogger extends AsyncAuditLogger {
+        private final List<String> written = new CopyOnWriteArrayList<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private final CountDownLatch writing = new CountDownLatch(1);
+
+        CapturingLogger(int capacity, int batchSize, BackpressurePolicy policy, CountDownLatch release) {
+            super(capacity, batchSize, policy);
+            this.release = release;
+        }
+
+        @Override
+        protected void write(List<Entry> batch) {
+            writing.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batchSizes.add(batch.size());
+            written.addAll(batch.stream().map(Entry::getMessage).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testBatchedWrites() {
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingLogger logger = new CapturingLogger(100, 4, AsyncAuditLogger.BackpressurePolicy.BLOCK, release);
+
+        // The writer blocks on the first message so the rest queue up behind it
+        for (int i = 0; i < 10; i++) {
+            logger.log(new LogMessage("message " + i, i));
+            logger.commit((RequestScope) null);
+        }
+        release.countDown();
+        logger.close();
+
+        Assert.assertEquals(logger.written.size(), 10);
+        Assert.assertEquals(logger.written.get(9), "message 9");
+        Assert.assertTrue(logger.batchSizes.stream().allMatch(size -> size <= 4));
+        Assert.assertTrue(logger.batchSizes.size() < 10, "Queued messages are written in batches");
+        Assert.assertEquals(logger.getDropped(), 0);
+    }
+
+    @Test
+    public void testDropNewest() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingLogger logger = new CapturingLogger(2, 1, AsyncAuditLogger.BackpressurePolicy.DROP_NEWEST, release);
+
+        logger.log(new LogMessage("first", 0));
+        logger.commit((RequestScope) null);
+        // Wait for the writer to pick up the first message and block
+        Assert.assertTrue(logger.writing.await(10, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 5; i++) {
+            logger.log(new LogMessage("message " + i, i));
+        }
+        logger.commit((RequestScope) null);
+        release.countDown();
+        logger.close();
+
+        Assert.assertEquals(logger.getDropped(), 3);
+        Assert.assertEquals(logger.written.size(), 3);
+        Assert.assertEquals(logger.written.get(2), "message 1");
+    }
+
+    @Test
+    public void testCallerRuns() {
+        CountDownLatch release = new CountDownLatch(0);
+        CapturingLogger logger = new CapturingLogger(1, 1, AsyncAuditLogger.BackpressurePolicy.CALLER_RUNS, release);
+
+        for (int i = 0; i < 20; i++) {
+            logger.log(new LogMessage("message " + i, i));
+        }
+        logger.commit((RequestScope) null);
+        logger.close();
+
+        Assert.assertEquals(logger.getDropped(), 0);
+        Assert.assertEquals(logger.written.size(), 20);
+    }
+
+    @Test
+    public void testCloseWhileCommitting() throws Exception {
+        CountDownLatch release = new CountDownLatch(0);
+        CapturingLogger logger = new CapturingLogger(16, 4, AsyncAuditLogger.BackpressurePolicy.BLOCK, release);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Messages committed around the close are written either by the writer or by the request thread
+        List<Future<?>> commits = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            commits.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    logger.log(new LogMessage("message " + i, i));
+                    logger.commit((RequestScope) null);
+                }
+            }));
+        }
+        logger.close();
+        for (Future<?> commit : commits) {
+            commit.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Assert.assertEquals(logger.getDropped(), 0);
+        Assert.assertEquals(logger.written.size(), 4000);
+    }
+}
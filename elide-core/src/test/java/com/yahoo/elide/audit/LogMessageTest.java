@@ -18,16 +18,18 @@ import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class LogMessageTest {
     private transient PersistentResource<Child> childRecord;
     private transient PersistentResource<Child> friendRecord;
+    private transient EntityDictionary dictionary;
 
     @BeforeTest
     public void setup() {
-        final EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary = new EntityDictionary(new HashMap<>());
         dictionary.bindEntity(Child.class);
         dictionary.bindEntity(Parent.class);
 
@@ -72,6 +74,17 @@ public class LogMessageTest {
     }
 
 
+    @Test
+    public void compiledTemplates() {
+        List<AuditTemplate> templates = dictionary.getAuditTemplates(Child.class);
+        Assert.assertEquals(templates.size(), 2);
+        Assert.assertSame(dictionary.getAuditTemplates(Child.class).get(0), templates.get(0));
+
+        final AuditTemplate template = new AuditTemplate("{0} {1}", new String[] { "${child.id}", "${parent.id}" }, 1);
+        Assert.assertEquals(new LogMessage(template, childRecord, Optional.empty()).getMessage(), "5 7");
+        Assert.assertEquals(new LogMessage(template, friendRecord, Optional.empty()).getMessage(), "9 7");
+    }
+
     @Test(expectedExceptions = InvalidSyntaxException.class)
     public void invalidExpression() {
         final String[] expressions = { "${child.id}, ${%%%}" };
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.audit.AuditLogger;
+import example.Author;
+import example.Book;
+import example.Manuscript;
+import example.TestCheckMappings;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Tests conditional GET handling.
+ */
+public class ConditionalRequestTest {
+    private static final Date LAST_UPDATED = new Date(1514764800000L);
+
+    /**
+     * Versioned entity with a field only some users may read.
+     */
+    @Entity
+    @Include(rootLevel = true, type = "draft")
+    public static class Draft {
+        @Id public long id;
+        @Version public long version;
+        public String title;
+        @ReadPermission(expression = "deny all") public String notes;
+    }
+
+    private DataStore store;
+    private DataStoreTransaction tx;
+    private Elide elide;
+
+    @BeforeMethod
+    public void setup() {
+        EntityDictionary dictionary = new EntityDictionary(TestCheckMappings.MAPPINGS);
+        dictionary.bindEntity(Manuscript.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Draft.class);
+
+        store = mock(DataStore.class);
+        tx = mock(DataStoreTransaction.class);
+        when(store.beginReadTransaction()).thenReturn(tx);
+
+        Manuscript manuscript = new Manuscript();
+        manuscript.setId(1L);
+        manuscript.setTitle("Walden");
+        manuscript.setLastUpdated(LAST_UPDATED);
+        when(tx.loadObject(eq(Manuscript.class), eq(1L), any(), any())).thenReturn(manuscript);
+
+        Book book = new Book();
+        book.setId(1L);
+        book.setTitle("Walden");
+        when(tx.loadObject(eq(Book.class), eq(1L), any(), any())).thenReturn(book);
+
+        Draft draft = new Draft();
+        draft.id = 1L;
+        draft.version = 3L;
+        draft.title = "Walden";
+        draft.notes = "Unpublished";
+        when(tx.loadObject(eq(Draft.class), eq(1L), any(), any())).thenReturn(draft);
+
+        when(tx.getRelation(any(), any(), anyString(), any(), any(), any(), any()))
+                .thenReturn(Collections.emptySet());
+        when(tx.getRelationAsync(any(), any(), anyString(), any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Collections.emptySet()));
+
+        elide = new Elide(new ElideSettingsBuilder(store)
+                .withEntityDictionary(dictionary)
+                .withAuditLogger(mock(AuditLogger.class))
+                .build());
+    }
+
+    @Test
+    public void testVersionTag() {
+        ElideResponse response = elide.get("/manuscript/1", new MultivaluedHashMap<>(),
+                new MultivaluedHashMap<>(), null);
+        assertEquals(response.getResponseCode(), HttpStatus.SC_OK);
+        assertNotNull(response.getBody());
+        assertEquals(response.getLastModified(), LAST_UPDATED);
+        String entityTag = response.getEntityTag();
+        assertNotNull(entityTag);
+        assertEquals(entityTag.substring(0, 2), "W/");
+
+        clearInvocations(tx);
+        response = elide.get("/manuscript/1", new MultivaluedHashMap<>(), headers("if-none-match", entityTag), null);
+        assertEquals(response.getResponseCode(), HttpStatus.SC_NOT_MODIFIED);
+        assertNull(response.getBody());
+        assertEquals(response.getEntityTag(), entityTag);
+
+        // Relationships are never loaded for a 304
+        verify(tx, never()).getRelation(any(), any(), eq("authors"), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testVersionTagDependsOnQuery() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("fields[manuscript]", "title");
+
+        String plain = elide.get("/manuscript/1", new MultivaluedHashMap<>(), new MultivaluedHashMap<>(), null)
+                .getEntityTag();
+        ElideResponse response = elide.get("/manuscript/1", queryParams, headers("If-None-Match", plain), null);
+        assertEquals(response.getResponseCode(), HttpStatus.SC_OK);
+        assertNotEquals(response.getEntityTag(), plain);
+    }
+
+    @Test
+    public void testIncludeIsTaggedByBody() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("include", "authors");
+
+        // Included resources may change without bumping the version of the manuscript
+        ElideResponse response = elide.get("/manuscript/1", queryParams, headers("If-None-Match", "\"x\""), null);
+        assertEquals(response.getResponseCode(), HttpStatus.SC_OK);
+        assertNull(response.getLastModified());
+        assertEquals(response.getEntityTag().charAt(0), '"');
+    }
+
+    @Test
+    public void testFieldPermissionsAreTaggedByBody() {
+        // The fields in the body depend on the user
+        ElideResponse response = elide.get("/draft/1", new MultivaluedHashMap<>(), headers("If-None-Match", "*"),
+                null);
+        assertEquals(response.getResponseCode(), HttpStatus.SC_NOT_MODIFIED);
+        assertEquals(response.getEntityTag().charAt(0), '"');
+    }
+
+    @Test
+    public void testIfModifiedSince() {
+        String since = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.ofInstant(LAST_UPDATED.toInstant(), ZoneOffset.UTC));
+        ElideResponse response = elide.get("/manuscript/1", new MultivaluedHashMap<>(),
+                headers("If-Modified-Since", since), null);
+        assertEquals(response.getResponseCode(), HttpStatus.SC_NOT_MODIFIED);
+
+        since = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.ofInstant(LAST_UPDATED.toInstant(), ZoneOffset.UTC).minusDays(1));
+        response = elide.get("/manuscript/1", new MultivaluedHashMap<>(), headers("If-Modified-Since", since), null);
+        assertEquals(response.getResponseCode(), HttpStatus.SC_OK);
+    }
+
+    @Test
+    public void testBodyHashTag() {
+        ElideResponse response = elide.get("/book/1", new MultivaluedHashMap<>(), new MultivaluedHashMap<>(), null);
+        assertEquals(response.getResponseCode(), HttpStatus.SC_OK);
+        assertNull(response.getLastModified());
+        String entityTag = response.getEntityTag();
+        assertEquals(entityTag.charAt(0), '"');
+
+        response = elide.get("/book/1", new MultivaluedHashMap<>(), headers("If-None-Match", "\"x\", " + entityTag),
+                null);
+        assertEquals(response.getResponseCode(), HttpStatus.SC_NOT_MODIFIED);
+        assertNull(response.getBody());
+
+        response = elide.get("/book/1", new MultivaluedHashMap<>(), headers("If-None-Match", "\"x\""), null);
+        assertEquals(response.getResponseCode(), HttpStatus.SC_OK);
+    }
+
+    @Test
+    public void testNoHeaders() {
+        ElideResponse response = elide.get("/book/1", new MultivaluedHashMap<>(), null);
+        assertEquals(response.getResponseCode(), HttpStatus.SC_OK);
+        assertNull(response.getEntityTag());
+    }
+
+    private static MultivaluedMap<String, String> headers(String name, String value) {
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.putSingle(name, value);
+        return headers;
+    }
+}
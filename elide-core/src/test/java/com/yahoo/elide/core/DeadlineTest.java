@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.core.exceptions.RequestTimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+public class DeadlineTest {
+    @Test
+    public void testNoDeadline() {
+        Deadline deadline = Deadline.none();
+        deadline.check();
+        Assert.assertFalse(deadline.isExpired());
+        Assert.assertEquals(deadline.getRemaining(TimeUnit.SECONDS), OptionalLong.empty());
+    }
+
+    @Test
+    public void testRemainingTimeIsRoundedUp() {
+        Deadline deadline = Deadline.after(1500, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(deadline.getRemaining(TimeUnit.SECONDS), OptionalLong.of(2));
+    }
+
+    @Test
+    public void testWithinKeepsEarlierDeadline() {
+        Deadline hour = Deadline.after(1, TimeUnit.HOURS);
+        Deadline minute = hour.within(1, TimeUnit.MINUTES);
+        Assert.assertNotSame(minute, hour);
+        Assert.assertSame(minute.within(1, TimeUnit.HOURS), minute);
+        Assert.assertEquals(Deadline.none().within(1, TimeUnit.HOURS).getRemaining(TimeUnit.HOURS),
+                OptionalLong.of(1));
+    }
+
+    @Test(expectedExceptions = RequestTimeoutException.class)
+    public void testExpiredDeadline() {
+        Deadline deadline = Deadline.after(0, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(deadline.isExpired());
+        deadline.getRemaining(TimeUnit.SECONDS);
+    }
+
+    @Test(expectedExceptions = RequestTimeoutException.class)
+    public void testCancelledDeadline() {
+        Deadline deadline = Deadline.none();
+        deadline.cancel();
+        Assert.assertSame(deadline.within(1, TimeUnit.HOURS), deadline);
+        deadline.check();
+    }
+}
@@ -20,6 +20,7 @@ import example.Parent;
 import example.Right;
 import example.StringId;
 import example.User;
+import org.reflections.Reflections;
 import org.testng.Assert;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
@@ -28,6 +29,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -257,4 +259,36 @@ public class EntityDictionaryTest extends EntityDictionary {
     public void testBadInterface() {
         getEntityBinding(BadInterface.class);
     }
+
+    @Test
+    public void testBindEntitiesInParallel() {
+        List<Class<?>> classes = new ArrayList<>(new Reflections("example").getTypesAnnotatedWith(Entity.class));
+
+        EntityDictionary serial = new EntityDictionary(Collections.emptyMap());
+        classes.forEach(serial::bindEntity);
+        EntityDictionary parallel = new EntityDictionary(Collections.emptyMap());
+        parallel.bindEntities(classes);
+
+        Assert.assertEquals(parallel.getBindings(), serial.getBindings());
+        Assert.assertEquals(parallel.bindEntityRoots, serial.bindEntityRoots);
+        for (Class<?> cls : serial.getBindings()) {
+            Assert.assertEquals(parallel.getJsonAliasFor(cls), serial.getJsonAliasFor(cls));
+            Assert.assertEquals(parallel.getAttributes(cls), serial.getAttributes(cls));
+            Assert.assertEquals(parallel.getRelationships(cls), serial.getRelationships(cls));
+        }
+
+        Set<String> phases = parallel.getStartupTimings().getTimings().keySet();
+        Assert.assertTrue(phases.contains(StartupTimings.DICTIONARY_BINDING));
+        Assert.assertTrue(phases.contains(StartupTimings.PERMISSION_PARSING));
+    }
+
+    @Test
+    public void testSetValue() {
+        Parent parent = new Parent();
+        this.setValue(parent, "id", 5L);
+        this.setValue(parent, "firstName", "Mary");
+
+        Assert.assertEquals(parent.getId(), 5L);
+        Assert.assertEquals(parent.getFirstName(), "Mary");
+    }
 }
@@ -35,6 +35,7 @@ import org.testng.annotations.Test;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
@@ -190,7 +191,7 @@ public class LifeCycleTest {
         verify(tx).accessUser(any());
         verify(tx).preCommit();
 
-        verify(tx).save(eq(book), isA(RequestScope.class));
+        verify(tx).save(eq(book), eq(Collections.singleton("title")), isA(RequestScope.class));
         verify(tx).flush(isA(RequestScope.class));
         verify(tx).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.core.aggregation.Aggregation;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.security.User;
+import example.Author;
+import example.Book;
+import example.Child;
+import example.FunWithPermissions;
+import example.Publisher;
+import org.mockito.Answers;
+import org.testng.Assert;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PersistentResourceAggregationTest extends PersistenceResourceTestSetup {
+
+    @BeforeTest
+    public void init() {
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Child.class);
+        dictionary.bindEntity(FunWithPermissions.class);
+    }
+
+    @Test
+    public void testAggregateRecordsWithHashAggregator() {
+        Publisher first = publisher(1, "First");
+        Publisher second = publisher(2, "Second");
+        List<Object> books = Arrays.asList(
+                book(1, "C", 10, first), book(2, "A", 20, first), book(3, "B", 5, second), book(4, "D", 7, null));
+
+        DataStoreTransaction tx = mock(DataStoreTransaction.class, Answers.CALLS_REAL_METHODS);
+        RequestScope scope = new RequestScope(null, null, tx, new User(1), null, elideSettings, false);
+        FilterExpression filter = new FilterPredicate(
+                new Path.PathElement(Book.class, String.class, "title"), Operator.NOTNULL, Collections.emptyList());
+        when(tx.loadObjects(eq(Book.class), eq(Optional.of(filter)), any(), any(), eq(scope))).thenReturn(books);
+
+        Aggregation aggregation = Aggregation.parse(Book.class, dictionary,
+                Arrays.asList("count", "sum(publishDate)", "avg(publishDate)", "min(title)", "count(publisher.id)"),
+                Collections.singletonList("publisher.name"));
+        List<Map<String, Object>> rows =
+                PersistentResource.aggregateRecords(Book.class, Optional.of(filter), aggregation, scope);
+
+        Assert.assertEquals(rows, Arrays.asList(
+                row("First", 2L, 30L, 15.0, "A", 2L),
+                row("Second", 1L, 5L, 5.0, "B", 1L),
+                row(null, 1L, 7L, 7.0, "D", 0L)));
+    }
+
+    @Test
+    public void testAggregateWithoutGroupsAlwaysReturnsOneRow() {
+        DataStoreTransaction tx = mock(DataStoreTransaction.class, Answers.CALLS_REAL_METHODS);
+        RequestScope scope = new RequestScope(null, null, tx, new User(1), null, elideSettings, false);
+        when(tx.loadObjects(eq(Book.class), any(), any(), any(), eq(scope))).thenReturn(Collections.emptyList());
+
+        Aggregation aggregation = Aggregation.parse(Book.class, dictionary,
+                Arrays.asList("count", "sum(publishDate)"), Collections.emptyList());
+        List<Map<String, Object>> rows =
+                PersistentResource.aggregateRecords(Book.class, Optional.empty(), aggregation, scope);
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("count", 0L);
+        expected.put("sum(publishDate)", null);
+        Assert.assertEquals(rows, Collections.singletonList(expected));
+    }
+
+    @Test
+    public void testAggregateRejectsPermissionsCheckedOnEachRecord() {
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        RequestScope scope = new RequestScope(null, null, tx, new User(1), null, elideSettings, false);
+        RequestScope negativeScope = new RequestScope(null, null, tx, new User(-1), null, elideSettings, false);
+
+        // An operation check on the class
+        Aggregation children = Aggregation.parse(Child.class, dictionary,
+                Collections.singletonList("count"), Collections.emptyList());
+        Assert.assertThrows(InvalidValueException.class, () ->
+                PersistentResource.aggregateRecords(Child.class, Optional.empty(), children, scope));
+
+        // A user check on a field which fails for this user
+        Aggregation fields = Aggregation.parse(FunWithPermissions.class, dictionary,
+                Collections.singletonList("count"), Collections.singletonList("field3"));
+        Assert.assertThrows(InvalidValueException.class, () ->
+                PersistentResource.aggregateRecords(FunWithPermissions.class, Optional.empty(), fields,
+                        negativeScope));
+
+        verify(tx, never()).aggregate(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testParseValidatesFields() {
+        List<String> count = Collections.singletonList("count");
+        Assert.assertThrows(InvalidValueException.class, () -> Aggregation.parse(Book.class, dictionary,
+                Collections.singletonList("sum(title)"), Collections.emptyList()));
+        Assert.assertThrows(InvalidValueException.class, () -> Aggregation.parse(Book.class, dictionary,
+                Collections.singletonList("median(publishDate)"), Collections.emptyList()));
+        Assert.assertThrows(InvalidValueException.class, () -> Aggregation.parse(Book.class, dictionary,
+                Collections.singletonList("max"), Collections.emptyList()));
+        Assert.assertThrows(InvalidValueException.class, () -> Aggregation.parse(Book.class, dictionary,
+                count, Collections.singletonList("authors.name")));
+        Assert.assertThrows(InvalidValueException.class, () -> Aggregation.parse(Book.class, dictionary,
+                count, Collections.singletonList("publisher")));
+        Assert.assertThrows(InvalidValueException.class, () -> Aggregation.parse(Book.class, dictionary,
+                count, Collections.singletonList("missing")));
+    }
+
+    private static Publisher publisher(long id, String name) {
+        Publisher publisher = new Publisher();
+        publisher.setId(id);
+        publisher.setName(name);
+        return publisher;
+    }
+
+    private static Book book(long id, String title, long publishDate, Publisher publisher) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle(title);
+        book.setPublishDate(publishDate);
+        book.setPublisher(publisher);
+        return book;
+    }
+
+    private static Map<String, Object> row(String publisher, long count, long sum, double avg, String min,
+                                           long publishers) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("publisher.name", publisher);
+        row.put("count", count);
+        row.put("sum(publishDate)", sum);
+        row.put("avg(publishDate)", avg);
+        row.put("min(title)", min);
+        row.put("count(publisher.id)", publishers);
+        return row;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.core.exceptions.InvalidAttributeException;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.security.User;
+import example.Author;
+import example.Book;
+import example.Child;
+import example.Parent;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PersistentResourceBulkUpdateTest extends PersistenceResourceTestSetup {
+
+    @BeforeTest
+    public void init() {
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Parent.class);
+        dictionary.bindEntity(Child.class);
+    }
+
+    @Test
+    public void testUpdateRecordsInBulk() {
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        RequestScope scope = new RequestScope(null, null, tx, new User(1), null, elideSettings, false);
+        FilterExpression filter = new FilterPredicate(
+                new Path.PathElement(Author.class, String.class, "name"), Operator.IN, Arrays.asList("Ernest"));
+
+        when(tx.supportsBulkUpdate(eq(Author.class), eq(filter), any(), eq(scope))).thenReturn(true);
+        when(tx.updateObjects(eq(Author.class), eq(filter), any(), eq(scope))).thenReturn(3L);
+
+        long updated = PersistentResource.updateRecords(Author.class, filter,
+                Collections.singletonMap("type", "FREELANCE"), scope);
+
+        Assert.assertEquals(updated, 3L);
+        // Values are coerced before they reach the store
+        verify(tx).updateObjects(Author.class, filter,
+                Collections.singletonMap("type", Author.AuthorType.FREELANCE), scope);
+        verify(tx, never()).loadObjects(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testUpdateRecordsInChunks() {
+        List<Object> parents = IntStream.rangeClosed(1, 13).mapToObj(id -> {
+            Parent parent = new Parent();
+            parent.setId(id);
+            parent.setChildren(new HashSet<>());
+            parent.setSpouses(new HashSet<>());
+            return parent;
+        }).collect(Collectors.toList());
+
+        DataStoreTransaction tx = mock(DataStoreTransaction.class, Answers.CALLS_REAL_METHODS);
+        RequestScope scope = new RequestScope(null, null, tx, new User(1), null, elideSettings, false);
+        FilterExpression filter = new FilterPredicate(
+                new Path.PathElement(Parent.class, String.class, "firstName"), Operator.NOTNULL,
+                Collections.emptyList());
+
+        ArgumentCaptor<Optional> filters = ArgumentCaptor.forClass(Optional.class);
+        when(tx.loadObjects(eq(Parent.class), filters.capture(), any(), any(), eq(scope)))
+                .thenReturn(new ArrayList<>(parents.subList(0, 10)))
+                .thenReturn(new ArrayList<>(parents.subList(10, 13)));
+
+        // A field level update permission cannot be pushed to the store
+        long updated = PersistentResource.updateRecords(Parent.class, filter,
+                Collections.singletonMap("firstName", "Updated"), scope);
+
+        Assert.assertEquals(updated, 13L);
+        parents.forEach(parent -> Assert.assertEquals(((Parent) parent).getFirstName(), "Updated"));
+        verify(tx, never()).updateObjects(any(), any(), any(), any());
+        verify(tx, times(2)).loadObjects(eq(Parent.class), any(), any(), any(), eq(scope));
+
+        // The second page starts after the last id of the first one
+        FilterExpression secondPage = (FilterExpression) filters.getAllValues().get(1).get();
+        Assert.assertTrue(secondPage instanceof AndFilterExpression);
+        Assert.assertTrue(secondPage.accept(new PredicateExtractionVisitor()).stream()
+                .anyMatch(predicate -> predicate.getOperator() == Operator.GT
+                        && predicate.getValues().equals(Collections.singletonList(10L))));
+
+        // Each page is saved and evicted once it is updated
+        Assert.assertTrue(scope.getDirtyResources().isEmpty());
+        verify(tx).save(parents.get(0), Collections.singleton("firstName"), scope);
+        verify(tx).evict(parents.subList(0, 10), scope);
+        verify(tx).evict(parents.subList(10, 13), scope);
+
+        scope.saveOrCreateObjects();
+        verify(tx).save(parents.get(0), Collections.singleton("firstName"), scope);
+    }
+
+    @Test
+    public void testUpdateRecordsChecksPerRecordReadPermissions() {
+        List<Child> children = IntStream.rangeClosed(1, 3).mapToObj(id -> {
+            Child child = new Child();
+            child.setId(id);
+            child.setName("Child " + id);
+            // The read permission of child includes an operation check on its parents
+            child.setParents(id == 2 ? null : new HashSet<>());
+            return child;
+        }).collect(Collectors.toList());
+
+        DataStoreTransaction tx = mock(DataStoreTransaction.class, Answers.CALLS_REAL_METHODS);
+        RequestScope scope = new RequestScope(null, null, tx, new User(1), null, elideSettings, false);
+        FilterExpression filter = new FilterPredicate(
+                new Path.PathElement(Child.class, String.class, "name"), Operator.NOTNULL,
+                Collections.emptyList());
+
+        when(tx.loadObjects(eq(Child.class), eq(Optional.of(filter)), any(), any(), eq(scope)))
+                .thenReturn(new ArrayList<>(children));
+
+        long updated = PersistentResource.updateRecords(Child.class, filter,
+                Collections.singletonMap("name", "Updated"), scope);
+
+        Assert.assertEquals(updated, 2L);
+        Assert.assertEquals(children.get(0).getName(), "Updated");
+        Assert.assertEquals(children.get(1).getName(), "Child 2");
+        Assert.assertEquals(children.get(2).getName(), "Updated");
+        verify(tx).evict(new ArrayList<>(children), scope);
+    }
+
+    @Test(expectedExceptions = InvalidAttributeException.class)
+    public void testUpdateRecordsRejectsRelationships() {
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        RequestScope scope = new RequestScope(null, null, tx, new User(1), null, elideSettings, false);
+        FilterExpression filter = new FilterPredicate(
+                new Path.PathElement(Author.class, String.class, "name"), Operator.IN, Arrays.asList("Ernest"));
+
+        PersistentResource.updateRecords(Author.class, filter, Collections.singletonMap("books", null), scope);
+    }
+}
@@ -22,6 +22,8 @@ import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.core.exceptions.InvalidObjectIdentifierException;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.jsonapi.models.Data;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
@@ -578,6 +580,64 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
         Assert.assertTrue(parent.getChildren().contains(child), "The many-2-many inverse relationship should have been updated");
     }
 
+    @Test
+    public void testUnloadedInverseRelationNotLoaded() {
+        Parent parent = newParent(1);
+        Child child = newChild(2);
+        Parent other = newParent(3);
+        child.setParents(Sets.newHashSet(other));
+
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        RequestScope scope = new RequestScope(null, null, tx, new User(1), null, elideSettings, false);
+        when(tx.isRelationUnloaded(eq(child), eq("parents"), any())).thenReturn(true);
+
+        PersistentResource<Parent> parentResource = new PersistentResource<>(parent, null, "1", scope);
+
+        parentResource.addInverseRelation("children", child);
+
+        Assert.assertEquals(child.getParents(), Sets.newHashSet(other), "The unloaded inverse should not be touched");
+        verify(tx, times(1)).updateToManyRelation(tx, child, "parents",
+                Sets.newHashSet(parent), new HashSet<>(), scope);
+
+        parentResource.deleteInverseRelation("children", child);
+
+        Assert.assertEquals(child.getParents(), Sets.newHashSet(other), "The unloaded inverse should not be touched");
+        verify(tx, times(1)).updateToManyRelation(tx, child, "parents",
+                new HashSet<>(), Sets.newHashSet(parent), scope);
+    }
+
+    @Test
+    public void testDeleteRecordsInBulk() {
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        RequestScope scope = new RequestScope(null, null, tx, new User(1), null, elideSettings, false);
+        FilterExpression filter = new FilterPredicate(
+                new Path.PathElement(NoShareEntity.class, long.class, "id"), Operator.IN, Arrays.asList(1L, 2L));
+
+        when(tx.supportsBulkDelete(NoShareEntity.class, filter, scope)).thenReturn(true);
+        when(tx.deleteObjects(NoShareEntity.class, filter, scope)).thenReturn(2L);
+
+        Assert.assertEquals(PersistentResource.deleteRecords(NoShareEntity.class, filter, scope), 2L);
+        verify(tx, never()).loadObjects(any(), any(), any(), any(), any());
+        verify(tx, never()).delete(any(), any());
+    }
+
+    @Test
+    public void testDeleteRecordsWithInverses() {
+        Parent parent = newParent(1);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        RequestScope scope = new RequestScope(null, null, tx, new User(1), null, elideSettings, false);
+        FilterExpression filter = new FilterPredicate(
+                new Path.PathElement(Parent.class, long.class, "id"), Operator.IN, Arrays.asList(1L));
+
+        when(tx.supportsBulkDelete(any(), any(), any())).thenReturn(true);
+        when(tx.loadObjects(eq(Parent.class), any(), any(), any(), any(RequestScope.class)))
+                .thenReturn(Collections.singletonList(parent));
+
+        Assert.assertEquals(PersistentResource.deleteRecords(Parent.class, filter, scope), 1L);
+        verify(tx, never()).deleteObjects(any(), any(), any());
+        verify(tx, times(1)).delete(parent, scope);
+    }
+
     @Test
     public void testSuccessfulOneToOneRelationshipAdd() throws Exception {
         User goodUser = new User(1);
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.core.filter.dialect.ParseException;
+import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.sort.Sorting;
+import example.Author;
+import example.Book;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class QueryPlanCacheTest {
+    private EntityDictionary dictionary;
+    private RSQLFilterDialect dialect;
+
+    @BeforeMethod
+    public void setup() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Book.class);
+        dialect = spy(new RSQLFilterDialect(dictionary));
+    }
+
+    @Test
+    public void testRepeatedFiltersAreParsedOnce() throws Exception {
+        QueryPlanCache cache = new QueryPlanCache();
+
+        FilterExpression first = cache.getGlobalFilterExpression("/book", params("filter", "title==foo"), dialect);
+        FilterExpression second = cache.getGlobalFilterExpression("/book", params("filter", "title==foo"), dialect);
+        Assert.assertSame(second, first);
+        Assert.assertEquals(first.toString(), "book.title IN_INSENSITIVE [foo]");
+
+        Map<String, FilterExpression> typed =
+                cache.getTypedFilterExpressions("/author/1/books", params("filter[book]", "title==foo"), dialect);
+        Assert.assertSame(
+                cache.getTypedFilterExpressions("/author/2/books", params("filter[book]", "title==foo"), dialect),
+                typed);
+
+        verify(dialect, times(1)).parseGlobalExpression(any(), any());
+        verify(dialect, times(1)).parseTypedExpression(any(), any());
+        Assert.assertEquals(cache.getStats().hitCount(), 2);
+        Assert.assertEquals(cache.getStats().missCount(), 2);
+    }
+
+    @Test
+    public void testParseFailuresAreCached() throws Exception {
+        QueryPlanCache cache = new QueryPlanCache();
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                cache.getGlobalFilterExpression("/book", params("filter", "title=="), dialect);
+                Assert.fail("Expected a parse failure");
+            } catch (ParseException e) {
+                Assert.assertNotNull(e.getMessage());
+            }
+        }
+        verify(dialect, times(1)).parseGlobalExpression(any(), any());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws Exception {
+        QueryPlanCache cache = new QueryPlanCache(1);
+
+        cache.getGlobalFilterExpression("/book", params("filter", "title==foo"), dialect);
+        cache.getGlobalFilterExpression("/book", params("filter", "title==bar"), dialect);
+        cache.getGlobalFilterExpression("/book", params("filter", "title==foo"), dialect);
+
+        verify(dialect, times(3)).parseGlobalExpression(any(), any());
+        Assert.assertEquals(cache.getStats().evictionCount(), 2);
+    }
+
+    @Test
+    public void testSortingIsSharedAndValidatedOnce() {
+        QueryPlanCache cache = new QueryPlanCache();
+
+        Sorting sorting = cache.getSorting(params("sort", "-title"));
+        Assert.assertSame(cache.getSorting(params("sort", "-title")), sorting);
+        Assert.assertSame(sorting.getValidSortingRules(Book.class, dictionary),
+                sorting.getValidSortingRules(Book.class, dictionary));
+        Assert.assertTrue(cache.getSorting(params("page[size]", "10")).isDefaultInstance());
+    }
+
+    private static MultivaluedMap<String, String> params(String name, String value) {
+        MultivaluedMap<String, String> params = new MultivaluedHashMap<>();
+        params.putSingle(name, value);
+        return params;
+    }
+}
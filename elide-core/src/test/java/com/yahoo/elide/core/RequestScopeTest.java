@@ -7,16 +7,31 @@ package com.yahoo.elide.core;
 
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.annotation.ReadPermission;
+import example.Author;
+import example.Book;
+import example.NegativeChildIdCheck;
+import example.Publisher;
+import org.mockito.Answers;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import javax.persistence.ElementCollection;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class RequestScopeTest {
     @Test
@@ -71,4 +86,133 @@ public class RequestScopeTest {
         requestScope.setUUIDForObject(dictionary.getJsonAliasFor(MyInheritedClass.class), myId, new MyInheritedClass());
         Assert.assertNotNull(requestScope.getObjectById(dictionary.getJsonAliasFor(MyBaseClass.class), myId));
     }
+
+    @Test
+    public void testSaveChangedFields() throws Exception {
+        @Entity
+        @Include
+        class MyClass {
+            @Id
+            public long id;
+            public String myField;
+            public String otherField;
+        }
+
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(MyClass.class);
+
+        DataStoreTransaction tx = mock(DataStoreTransaction.class, Answers.CALLS_REAL_METHODS);
+        RequestScope requestScope = new RequestScope("/", null, tx, null, null,
+                new ElideSettingsBuilder(null)
+                        .withEntityDictionary(dictionary)
+                        .build(), false);
+
+        MyClass myObject = new MyClass();
+        myObject.otherField = "unchanged";
+        PersistentResource<MyClass> resource = new PersistentResource<>(myObject, null, "1", requestScope);
+        resource.updateAttribute("myField", "changed");
+        resource.updateAttribute("otherField", "unchanged");
+
+        Assert.assertEquals(requestScope.getDirtyFields(resource), Collections.singleton("myField"));
+
+        requestScope.saveOrCreateObjects();
+        verify(tx).save(myObject, Collections.singleton("myField"), requestScope);
+        verify(tx).save(myObject, requestScope);
+    }
+
+    @Test
+    public void testFetchPaths() {
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.put("filter[author.name]", Collections.singletonList("Ernest"));
+
+        RequestScope requestScope = new RequestScope("/book", null, null, null, queryParams,
+                new ElideSettingsBuilder(null)
+                        .withEntityDictionary(dictionary)
+                        .build(), false);
+
+        requestScope.addFetchPaths(Book.class, Arrays.asList("publisher.books", "authors.books", "title"));
+
+        // Filtered authors are loaded by their own query
+        Assert.assertEquals(requestScope.getFetchPaths(Book.class),
+                new LinkedHashSet<>(Arrays.asList("publisher", "publisher.books")));
+        Assert.assertTrue(requestScope.getFetchPaths(Author.class).isEmpty());
+    }
+
+    @Test
+    public void testProjection() {
+        @Entity
+        @Include
+        class MyClass {
+            @Id
+            public long id;
+            public String title;
+            @ReadPermission(expression = "Prefab.Role.All")
+            public String body;
+            @ReadPermission(expression = "checkedByObject")
+            public String secret;
+        }
+
+        EntityDictionary dictionary = new EntityDictionary(
+                Collections.singletonMap("checkedByObject", NegativeChildIdCheck.class));
+        dictionary.bindEntity(MyClass.class);
+
+        RequestScope requestScope = new RequestScope("/", null, null, null, null,
+                new ElideSettingsBuilder(null)
+                        .withEntityDictionary(dictionary)
+                        .build(), false);
+
+        requestScope.setProjection(MyClass.class, Arrays.asList("title", "body"));
+        Assert.assertEquals(requestScope.getProjection(MyClass.class).get(),
+                new LinkedHashSet<>(Arrays.asList("id", "title", "body")));
+
+        // An operation check may read any field
+        requestScope.clearProjection(MyClass.class);
+        requestScope.setProjection(MyClass.class, Arrays.asList("title", "secret"));
+        Assert.assertFalse(requestScope.getProjection(MyClass.class).isPresent());
+    }
+
+    @Test
+    public void testNoProjectionOfCollectionOrEmbeddedAttributes() {
+        @Embeddable
+        class Address {
+            public String street;
+        }
+
+        @Entity
+        @Include
+        class MyClass {
+            @Id
+            public long id;
+            public String title;
+            @ElementCollection
+            public Set<Long> segmentIds;
+            @Embedded
+            public Address address;
+        }
+
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(MyClass.class);
+
+        RequestScope requestScope = new RequestScope("/", null, null, null, null,
+                new ElideSettingsBuilder(null)
+                        .withEntityDictionary(dictionary)
+                        .build(), false);
+
+        // Element collections are stored in their own table
+        requestScope.setProjection(MyClass.class, Arrays.asList("title", "segmentIds"));
+        Assert.assertFalse(requestScope.getProjection(MyClass.class).isPresent());
+
+        // Embedded values span several columns
+        requestScope.setProjection(MyClass.class, Arrays.asList("title", "address"));
+        Assert.assertFalse(requestScope.getProjection(MyClass.class).isPresent());
+
+        requestScope.setProjection(MyClass.class, Collections.singletonList("title"));
+        Assert.assertEquals(requestScope.getProjection(MyClass.class).get(),
+                new LinkedHashSet<>(Arrays.asList("id", "title")));
+    }
 }
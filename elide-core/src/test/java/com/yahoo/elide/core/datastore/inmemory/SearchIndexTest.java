@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import example.Book;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class SearchIndexTest {
+    private EntityDictionary dictionary;
+    private Map<String, Object> books;
+
+    @BeforeMethod
+    public void setup() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+
+        books = new LinkedHashMap<>();
+        books.put("1", book(1, "The Old Man and the Sea"));
+        books.put("2", book(2, "Old Yeller"));
+        books.put("3", book(3, "For Whom the Bell Tolls"));
+    }
+
+    @Test
+    public void testNarrow() {
+        SearchIndex index = new SearchIndex(dictionary);
+
+        Assert.assertEquals(index.narrow(Book.class, books, search("old")).keySet(),
+                new HashSet<>(Arrays.asList("1", "2")));
+        Assert.assertEquals(index.narrow(Book.class, books, search("MAN AND")).keySet(),
+                Collections.singleton("1"));
+        Assert.assertEquals(index.narrow(Book.class, books, search("missing")).keySet(),
+                Collections.emptySet());
+    }
+
+    @Test
+    public void testOnlyRequiredPredicatesNarrow() {
+        SearchIndex index = new SearchIndex(dictionary);
+
+        FilterExpression and = new AndFilterExpression(search("old"), search("sea"));
+        Assert.assertEquals(index.narrow(Book.class, books, and).keySet(), Collections.singleton("1"));
+
+        // Neither side of a disjunction is required, and short texts have no trigram
+        FilterExpression or = new OrFilterExpression(search("old"), search("bell"));
+        Assert.assertSame(index.narrow(Book.class, books, or), books);
+        Assert.assertSame(index.narrow(Book.class, books, search("ol")), books);
+    }
+
+    @Test
+    public void testUpdate() {
+        SearchIndex index = new SearchIndex(dictionary);
+        index.narrow(Book.class, books, search("old"));
+
+        Book yeller = (Book) books.get("2");
+        yeller.setTitle("Old Man Logan");
+        index.update(Book.class, "2", yeller);
+        books.remove("1");
+        index.update(Book.class, "1", null);
+
+        Assert.assertEquals(index.narrow(Book.class, books, search("old man")).keySet(),
+                Collections.singleton("2"));
+        Assert.assertEquals(index.narrow(Book.class, books, search("yeller")).keySet(),
+                Collections.emptySet());
+    }
+
+    @Test
+    public void testSavedObjectsAreSearchable() {
+        Map<Class<?>, Map<String, Object>> dataStore = new HashMap<>();
+        dataStore.put(Book.class, books);
+        SearchIndex index = new SearchIndex(dictionary);
+        RequestScope scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        InMemoryTransaction tx = new InMemoryTransaction(dataStore, dictionary, new HashMap<>(), index);
+        Assert.assertEquals(tx.loadObjects(Book.class, Optional.of(search("logan")), Optional.empty(),
+                Optional.empty(), scope), Collections.emptyList());
+
+        // The stored book changes in place and is found before the commit
+        Book yeller = (Book) books.get("2");
+        yeller.setTitle("Old Man Logan");
+        tx.save(yeller, scope);
+        Assert.assertEquals(tx.loadObjects(Book.class, Optional.of(search("logan")), Optional.empty(),
+                Optional.empty(), scope), Collections.singletonList(yeller));
+    }
+
+    private static FilterExpression search(String text) {
+        return new FilterPredicate(new Path.PathElement(Book.class, String.class, "title"),
+                Operator.SEARCH, Collections.singletonList(text));
+    }
+
+    private static Book book(long id, String title) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle(title);
+        return book;
+    }
+}
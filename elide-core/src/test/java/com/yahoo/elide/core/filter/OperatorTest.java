@@ -144,6 +144,12 @@ public class OperatorTest {
         fn = Operator.POSTFIX.contextualize("name", Collections.singletonList("error"), requestScope);
         Assert.assertFalse(fn.test(author));
 
+        // Search ignores case
+        fn = Operator.SEARCH.contextualize("name", Collections.singletonList("orfor"), requestScope);
+        Assert.assertTrue(fn.test(author));
+        fn = Operator.SEARCH.contextualize("name", Collections.singletonList("error"), requestScope);
+        Assert.assertFalse(fn.test(author));
+
         // When values is null
         author.setName(null);
         fn = Operator.PREFIX.contextualize("name", Collections.singletonList("Author"), requestScope);
@@ -246,4 +246,33 @@ public class RSQLFilterDialectTest {
                 "book.title NOTNULL []"
         );
     }
+
+    @Test
+    public void testSearchOperator() throws Exception {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+
+        queryParams.add(
+                "filter",
+                "title=search='old man*'"
+        );
+
+        FilterExpression expression = dialect.parseGlobalExpression("/book", queryParams);
+
+        // The search text is neither split nor turned into a wildcard match
+        Assert.assertEquals(expression.toString(),
+                "book.title SEARCH [old man*]"
+        );
+    }
+
+    @Test(expectedExceptions = ParseException.class)
+    public void testSearchOperatorOnNonStringField() throws Exception {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+
+        queryParams.add(
+                "filter",
+                "publishDate=search=123"
+        );
+
+        dialect.parseGlobalExpression("/book", queryParams);
+    }
 }
@@ -28,13 +28,19 @@ import org.testng.annotations.Test;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 
 
@@ -54,6 +60,8 @@ public class IncludedProcessorTest {
 
     private PersistentResource<FunWithPermissions> funWithPermissionsRecord;
 
+    private ElideSettings elideSettings;
+
     @BeforeMethod
     public void setUp() throws Exception {
         includedProcessor = new IncludedProcessor();
@@ -63,7 +71,7 @@ public class IncludedProcessorTest {
         dictionary.bindEntity(Parent.class);
         dictionary.bindEntity(FunWithPermissions.class);
 
-        ElideSettings elideSettings = new ElideSettingsBuilder(null)
+        elideSettings = new ElideSettingsBuilder(null)
                 .withAuditLogger(new TestAuditLogger())
                 .withEntityDictionary(dictionary)
                 .build();
@@ -147,6 +155,38 @@ public class IncludedProcessorTest {
                 "Included Processor added requested resource from all records");
     }
 
+    @Test
+    public void testRelationsOfAllRecordsAreRequestedBeforeWaiting() throws Exception {
+        List<String> events = new ArrayList<>();
+        DataStoreTransaction tx = mock(DataStoreTransaction.class, Answers.CALLS_REAL_METHODS);
+        doAnswer(invocation -> {
+            events.add("load " + invocation.getArgument(2));
+            CompletableFuture<Object> loaded = (CompletableFuture<Object>) invocation.callRealMethod();
+            return new CompletableFuture<Object>() {
+                @Override
+                public Object join() {
+                    events.add("wait");
+                    return loaded.join();
+                }
+            };
+        }).when(tx).getRelationAsync(any(), any(), anyString(), any(), any(), any(), any());
+        RequestScope scope = new RequestScope(null, new JsonApiDocument(), tx, new User(1), null, elideSettings, false);
+
+        Set<PersistentResource> parents = new LinkedHashSet<>();
+        parents.add(new PersistentResource<>(parentRecord1.getObject(), null, "1", scope));
+        parents.add(new PersistentResource<>(parentRecord2.getObject(), null, "2", scope));
+
+        JsonApiDocument jsonApiDocument = new JsonApiDocument();
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.put(INCLUDE, Collections.singletonList("children,spouses"));
+        includedProcessor.execute(jsonApiDocument, parents, Optional.of(queryParams));
+
+        Assert.assertEquals(events.subList(0, 5),
+                Arrays.asList("load children", "load spouses", "load children", "load spouses", "wait"));
+        Assert.assertEquals(jsonApiDocument.getIncluded(), Arrays.asList(
+                childRecord1.toResource(), parentRecord2.toResource(), childRecord2.toResource()));
+    }
+
     @Test
     public void testExecuteSingleNestedRelation() throws Exception {
         JsonApiDocument jsonApiDocument = new JsonApiDocument();
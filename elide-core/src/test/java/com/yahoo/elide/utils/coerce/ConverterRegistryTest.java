@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.utils.coerce;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import org.apache.commons.beanutils.BeanUtilsBean;
+import org.apache.commons.beanutils.ConvertUtilsBean;
+import org.testng.annotations.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+@Slf4j
+public class ConverterRegistryTest {
+    private static final int BENCHMARK_THREADS = 32;
+    private static final int BENCHMARK_ITERATIONS = 20_000;
+
+    public enum Seasons { WINTER, SPRING }
+
+    @Test
+    public void testLookupIsCached() {
+        ConverterRegistry registry = new ConverterRegistry();
+
+        assertSame(registry.lookup(String.class, Long.class), registry.lookup(String.class, Long.class));
+        assertSame(registry.lookup(Integer.class, Seasons.class), registry.lookup(String.class, Seasons.class));
+    }
+
+    @Test
+    public void testConversions() {
+        ConverterRegistry registry = new ConverterRegistry();
+
+        assertEquals((Object) registry.convert(1, int.class), 1);
+        assertEquals(registry.convert("7", Long.class), Long.valueOf(7));
+        assertEquals((Object) registry.convert("7", long.class), 7L);
+        assertEquals(registry.convert(7L, String.class), "7");
+        assertEquals(registry.convert("SPRING", Seasons.class), Seasons.SPRING);
+        String uuid = "11111111-2222-3333-4444-555555555555";
+        assertEquals(registry.convert(uuid, UUID.class), UUID.fromString(uuid));
+    }
+
+    @Test
+    public void testConcurrentConversions() throws Exception {
+        ConverterRegistry registry = new ConverterRegistry();
+
+        run(registry::convert, 4, 1_000);
+    }
+
+    /**
+     * Contention benchmark: 32 threads coercing the values of a typical filter and id lookup.
+     * Compares the registry against the synchronized ConvertUtils lookup it replaces.
+     * Disabled in the unit suite, enable it to run it manually.
+     */
+    @Test(enabled = false)
+    public void testContention() throws Exception {
+        ConverterRegistry registry = new ConverterRegistry();
+        ConvertUtilsBean convertUtils = new ConvertUtilsBean();
+        convertUtils.register(true, false, 0);
+        BeanUtilsBean original = BeanUtilsBean.getInstance();
+        BeanUtilsBean.setInstance(new BeanUtilsBean(convertUtils));
+        try {
+            BiFunction<Object, Class<?>, Object> registryCoercion = registry::convert;
+            BiFunction<Object, Class<?>, Object> convertUtilsCoercion = (value, cls) ->
+                    BeanUtilsBean.getInstance().getConvertUtils().convert(value, cls);
+
+            // Warm up
+            run(registryCoercion, BENCHMARK_THREADS, BENCHMARK_ITERATIONS);
+            run(convertUtilsCoercion, BENCHMARK_THREADS, BENCHMARK_ITERATIONS);
+
+            long registryNanos = run(registryCoercion, BENCHMARK_THREADS, BENCHMARK_ITERATIONS);
+            long convertUtilsNanos = run(convertUtilsCoercion, BENCHMARK_THREADS, BENCHMARK_ITERATIONS);
+
+            log.info("Coercion with {} threads: registry {} ms, ConvertUtils {} ms", BENCHMARK_THREADS,
+                    TimeUnit.NANOSECONDS.toMillis(registryNanos), TimeUnit.NANOSECONDS.toMillis(convertUtilsNanos));
+        } finally {
+            BeanUtilsBean.setInstance(original);
+        }
+    }
+
+    private static long run(BiFunction<Object, Class<?>, Object> coercion, int threads, int iterations)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        assertEquals(coercion.apply(String.valueOf(i), Long.class), (long) i);
+                        assertEquals(coercion.apply(i, long.class), (long) i);
+                        assertEquals(coercion.apply(i, String.class), String.valueOf(i));
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - begin;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
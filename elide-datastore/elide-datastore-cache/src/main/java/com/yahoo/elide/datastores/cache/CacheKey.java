@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.cache;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Normalized key of a cached load.
+ */
+@EqualsAndHashCode(exclude = "dependentTypes")
+@ToString
+class CacheKey {
+    private static final int UNPAGINATED = -1;
+
+    private final Class<?> entityClass;
+    private final Serializable id;
+    private final FilterExpression filterExpression;
+    private final List<Map.Entry<Path, Sorting.SortOrder>> sortRules;
+    private final int offset;
+    private final int limit;
+    private final boolean generateTotals;
+
+    // Entity types whose changes invalidate this entry
+    @Getter private final Set<Class<?>> dependentTypes;
+
+    private CacheKey(Class<?> entityClass,
+                     Serializable id,
+                     Optional<FilterExpression> filterExpression,
+                     Optional<Sorting> sorting,
+                     Optional<Pagination> pagination,
+                     EntityDictionary dictionary) {
+        this.entityClass = entityClass;
+        this.id = id;
+        this.filterExpression = filterExpression.orElse(null);
+        this.sortRules = sorting
+                .map(sort -> (List<Map.Entry<Path, Sorting.SortOrder>>)
+                        new ArrayList<>(sort.getValidSortingRules(entityClass, dictionary).entrySet()))
+                .orElse(Collections.emptyList());
+        this.offset = pagination.map(Pagination::getOffset).orElse(UNPAGINATED);
+        this.limit = pagination.map(Pagination::getLimit).orElse(UNPAGINATED);
+        this.generateTotals = pagination.map(Pagination::isGenerateTotals).orElse(false);
+
+        Set<Class<?>> types = new HashSet<>();
+        types.add(entityClass);
+        filterExpression.ifPresent(fe -> fe.accept(new PredicateExtractionVisitor())
+                .forEach(predicate -> addPathTypes(types, predicate.getPath())));
+        sortRules.forEach(rule -> addPathTypes(types, rule.getKey()));
+        this.dependentTypes = Collections.unmodifiableSet(types);
+    }
+
+    static CacheKey forObject(Class<?> entityClass,
+                              Serializable id,
+                              Optional<FilterExpression> filterExpression,
+                              EntityDictionary dictionary) {
+        return new CacheKey(entityClass, id, filterExpression, Optional.empty(), Optional.empty(), dictionary);
+    }
+
+    static CacheKey forCollection(Class<?> entityClass,
+                                  Optional<FilterExpression> filterExpression,
+                                  Optional<Sorting> sorting,
+                                  Optional<Pagination> pagination,
+                                  EntityDictionary dictionary) {
+        return new CacheKey(entityClass, null, filterExpression, sorting, pagination, dictionary);
+    }
+
+    private static void addPathTypes(Set<Class<?>> types, Path path) {
+        path.getPathElements().forEach(element -> types.add(element.getType()));
+    }
+}
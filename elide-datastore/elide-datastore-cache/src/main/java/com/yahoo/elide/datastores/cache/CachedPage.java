@@ -0,0 +1,22 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Cached result of a collection load.
+ */
+@AllArgsConstructor
+class CachedPage {
+    @Getter private final List<Object> results;
+
+    // Page totals computed by the underlying store when they were requested
+    @Getter private final long pageTotals;
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.cache;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Data store decorator which caches reads of another data store.
+ * <p>
+ * Only read transactions of the configured entity types are served from the cache.  Objects are cached by id and
+ * collections by their entity type, filter expression, sorting and pagination.  Since the filter expression handed to
+ * the data store already contains the permission filters of the current user, results are never shared between users
+ * with different filter permissions.
+ * <p>
+ * The cache is bounded by weight (one per cached object) and entries expire after a configurable time to live.
+ * Writes committed through this store invalidate every entry which depends on a written entity type.  Writes made
+ * to the underlying store by other means are only picked up once the entries expire.
+ * <p>
+ * <b>NOTE:</b> Cached objects are shared between requests.  This store is meant for entities which are read
+ * frequently, change rarely and can be safely used outside the transaction which loaded them (e.g. reference data).
+ */
+public class CachingDataStore implements DataStore {
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 100_000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final DataStore dataStore;
+    private final Set<Class<?>> cacheableTypes;
+    private final Cache<CacheKey, Object> cache;
+    private final ConcurrentHashMap<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+    @Getter private EntityDictionary dictionary;
+
+    /**
+     * Create a caching data store with the default size and time to live.
+     *
+     * @param dataStore the data store to cache
+     * @param cacheableTypes entity types whose reads are cached
+     */
+    public CachingDataStore(DataStore dataStore, Collection<Class<?>> cacheableTypes) {
+        this(dataStore, cacheableTypes, DEFAULT_MAXIMUM_WEIGHT, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Create a caching data store.
+     *
+     * @param dataStore the data store to cache
+     * @param cacheableTypes entity types whose reads are cached
+     * @param maximumWeight maximum number of cached objects (each object of a cached collection counts)
+     * @param timeToLive time after which a cached entry expires
+     */
+    public CachingDataStore(DataStore dataStore,
+                            Collection<Class<?>> cacheableTypes,
+                            long maximumWeight,
+                            Duration timeToLive) {
+        this.dataStore = dataStore;
+        this.cacheableTypes = Collections.unmodifiableSet(new HashSet<>(cacheableTypes));
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((CacheKey key, Object value) -> value instanceof CachedPage
+                        ? ((CachedPage) value).getResults().size() + 1
+                        : 1)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void populateEntityDictionary(EntityDictionary dictionary) {
+        dataStore.populateEntityDictionary(dictionary);
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return new CachingTransaction(this, dataStore.beginTransaction(), false);
+    }
+
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        return new CachingTransaction(this, dataStore.beginReadTransaction(), true);
+    }
+
+    /**
+     * Cache hit, miss, load and eviction statistics.
+     *
+     * @return the cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * Drop every cached entry.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    boolean isCacheable(Class<?> entityClass) {
+        return cacheableTypes.contains(entityClass);
+    }
+
+    /**
+     * Return the cached value for the key or load and cache it.  A loaded value is not cached if any of the types it
+     * depends on was invalidated while it was loading.
+     *
+     * @param key the cache key
+     * @param loader loads the value on a cache miss
+     * @return the cached or loaded value
+     */
+    Object get(CacheKey key, Supplier<Object> loader) {
+        Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = generation(key.getDependentTypes());
+        Object loaded = loader.get();
+        if (loaded != null && generation == generation(key.getDependentTypes())) {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Invalidate every entry which depends on any of the provided types.
+     *
+     * @param types written entity types
+     */
+    void invalidate(Set<Class<?>> types) {
+        if (types.isEmpty()) {
+            return;
+        }
+        types.forEach(type -> generations.computeIfAbsent(type, unused -> new AtomicLong()).incrementAndGet());
+        cache.asMap().keySet().removeIf(key -> !Collections.disjoint(key.getDependentTypes(), types));
+    }
+
+    private long generation(Set<Class<?>> types) {
+        long generation = 0;
+        for (Class<?> type : types) {
+            AtomicLong typeGeneration = generations.get(type);
+            generation += typeGeneration == null ? 0 : typeGeneration.get();
+        }
+        return generation;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.cache;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.aggregation.Aggregation;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.security.User;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Caching transaction handler.  Read transactions are served from the cache of the {@link CachingDataStore}.
+ * Write transactions always read through and invalidate the written entity types when they commit.  Reads of
+ * partial objects (see {@link RequestScope#getProjection}) also read through, so that they are never served to
+ * requests reading whole objects.
+ */
+public class CachingTransaction implements DataStoreTransaction {
+    private final CachingDataStore store;
+    private final DataStoreTransaction tx;
+    private final boolean readOnly;
+    private final Set<Class<?>> dirtyTypes = new HashSet<>();
+
+    public CachingTransaction(CachingDataStore store, DataStoreTransaction tx, boolean readOnly) {
+        this.store = store;
+        this.tx = tx;
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public User accessUser(Object opaqueUser) {
+        return tx.accessUser(opaqueUser);
+    }
+
+    @Override
+    public void save(Object entity, RequestScope scope) {
+        markDirty(entity.getClass());
+        tx.save(entity, scope);
+    }
+
+    @Override
+    public void save(Object entity, Set<String> changedFields, RequestScope scope) {
+        markDirty(entity.getClass());
+        tx.save(entity, changedFields, scope);
+    }
+
+    @Override
+    public void delete(Object entity, RequestScope scope) {
+        markDirty(entity.getClass());
+        tx.delete(entity, scope);
+    }
+
+    @Override
+    public boolean supportsBulkDelete(Class<?> entityClass, FilterExpression filterExpression, RequestScope scope) {
+        return tx.supportsBulkDelete(entityClass, filterExpression, scope);
+    }
+
+    @Override
+    public long deleteObjects(Class<?> entityClass, FilterExpression filterExpression, RequestScope scope) {
+        markDirty(entityClass);
+        return tx.deleteObjects(entityClass, filterExpression, scope);
+    }
+
+    @Override
+    public boolean supportsBulkUpdate(Class<?> entityClass,
+                                      FilterExpression filterExpression,
+                                      Map<String, Object> attributes,
+                                      RequestScope scope) {
+        return tx.supportsBulkUpdate(entityClass, filterExpression, attributes, scope);
+    }
+
+    @Override
+    public long updateObjects(Class<?> entityClass,
+                              FilterExpression filterExpression,
+                              Map<String, Object> attributes,
+                              RequestScope scope) {
+        markDirty(entityClass);
+        return tx.updateObjects(entityClass, filterExpression, attributes, scope);
+    }
+
+    @Override
+    public List<Map<String, Object>> aggregate(Class<?> entityClass,
+                                               Optional<FilterExpression> filterExpression,
+                                               Aggregation aggregation,
+                                               RequestScope scope) {
+        return tx.aggregate(entityClass, filterExpression, aggregation, scope);
+    }
+
+    @Override
+    public void evict(Iterable<Object> entities, RequestScope scope) {
+        tx.evict(entities, scope);
+    }
+
+    @Override
+    public void flush(RequestScope scope) {
+        tx.flush(scope);
+    }
+
+    @Override
+    public void commit(RequestScope scope) {
+        tx.commit(scope);
+        store.invalidate(dirtyTypes);
+        dirtyTypes.clear();
+    }
+
+    @Override
+    public void preCommit() {
+        tx.preCommit();
+    }
+
+    @Override
+    public void createObject(Object entity, RequestScope scope) {
+        markDirty(entity.getClass());
+        tx.createObject(entity, scope);
+    }
+
+    @Override
+    public <T> T createNewObject(Class<T> entityClass) {
+        return tx.createNewObject(entityClass);
+    }
+
+    @Override
+    public Object loadObject(Class<?> entityClass,
+                             Serializable id,
+                             Optional<FilterExpression> filterExpression,
+                             RequestScope scope) {
+        if (!isCached(entityClass, scope)) {
+            return tx.loadObject(entityClass, id, filterExpression, scope);
+        }
+
+        CacheKey key = CacheKey.forObject(entityClass, id, filterExpression, store.getDictionary());
+        return store.get(key, () -> tx.loadObject(entityClass, id, filterExpression, scope));
+    }
+
+    @Override
+    public Iterable<Object> loadObjects(Class<?> entityClass,
+                                        Optional<FilterExpression> filterExpression,
+                                        Optional<Sorting> sorting,
+                                        Optional<Pagination> pagination,
+                                        RequestScope scope) {
+        if (!isCached(entityClass, scope)) {
+            return tx.loadObjects(entityClass, filterExpression, sorting, pagination, scope);
+        }
+
+        CacheKey key = CacheKey.forCollection(entityClass, filterExpression, sorting, pagination,
+                store.getDictionary());
+        CachedPage page = (CachedPage) store.get(key, () -> {
+            List<Object> results = new ArrayList<>();
+            Iterable<Object> loaded = tx.loadObjects(entityClass, filterExpression, sorting, pagination, scope);
+            if (loaded != null) {
+                loaded.forEach(results::add);
+            }
+            long pageTotals = pagination.map(Pagination::getPageTotals).orElse(0L);
+            return new CachedPage(Collections.unmodifiableList(results), pageTotals);
+        });
+
+        pagination.filter(Pagination::isGenerateTotals).ifPresent(p -> p.setPageTotals(page.getPageTotals()));
+        return page.getResults();
+    }
+
+    @Override
+    public Object getRelation(DataStoreTransaction relationTx,
+                              Object entity,
+                              String relationName,
+                              Optional<FilterExpression> filterExpression,
+                              Optional<Sorting> sorting,
+                              Optional<Pagination> pagination,
+                              RequestScope scope) {
+        return tx.getRelation(unwrap(relationTx), entity, relationName, filterExpression, sorting, pagination, scope);
+    }
+
+    @Override
+    public CompletableFuture<Object> loadObjectAsync(Class<?> entityClass,
+                                                     Serializable id,
+                                                     Optional<FilterExpression> filterExpression,
+                                                     RequestScope scope) {
+        if (!isCached(entityClass, scope)) {
+            return tx.loadObjectAsync(entityClass, id, filterExpression, scope);
+        }
+        return CompletableFuture.completedFuture(loadObject(entityClass, id, filterExpression, scope));
+    }
+
+    @Override
+    public CompletableFuture<Iterable<Object>> loadObjectsAsync(Class<?> entityClass,
+                                                                Optional<FilterExpression> filterExpression,
+                                                                Optional<Sorting> sorting,
+                                                                Optional<Pagination> pagination,
+                                                                RequestScope scope) {
+        if (!isCached(entityClass, scope)) {
+            return tx.loadObjectsAsync(entityClass, filterExpression, sorting, pagination, scope);
+        }
+        return CompletableFuture.completedFuture(loadObjects(entityClass, filterExpression, sorting, pagination,
+                scope));
+    }
+
+    @Override
+    public CompletableFuture<Object> getRelationAsync(DataStoreTransaction relationTx,
+                                                      Object entity,
+                                                      String relationName,
+                                                      Optional<FilterExpression> filterExpression,
+                                                      Optional<Sorting> sorting,
+                                                      Optional<Pagination> pagination,
+                                                      RequestScope scope) {
+        return tx.getRelationAsync(unwrap(relationTx), entity, relationName, filterExpression, sorting, pagination,
+                scope);
+    }
+
+    @Override
+    public boolean isRelationUnloaded(Object entity, String relationName, RequestScope scope) {
+        return tx.isRelationUnloaded(entity, relationName, scope);
+    }
+
+    @Override
+    public void updateToManyRelation(DataStoreTransaction relationTx,
+                                     Object entity,
+                                     String relationName,
+                                     Set<Object> newRelationships,
+                                     Set<Object> deletedRelationships,
+                                     RequestScope scope) {
+        markDirty(entity.getClass(), relationName);
+        tx.updateToManyRelation(unwrap(relationTx), entity, relationName,
+                newRelationships, deletedRelationships, scope);
+    }
+
+    @Override
+    public void updateToOneRelation(DataStoreTransaction relationTx,
+                                    Object entity,
+                                    String relationName,
+                                    Object relationshipValue,
+                                    RequestScope scope) {
+        markDirty(entity.getClass(), relationName);
+        tx.updateToOneRelation(unwrap(relationTx), entity, relationName, relationshipValue, scope);
+    }
+
+    @Override
+    public Object getAttribute(Object entity, String attributeName, RequestScope scope) {
+        return tx.getAttribute(entity, attributeName, scope);
+    }
+
+    @Override
+    public void setAttribute(Object entity, String attributeName, Object attributeValue, RequestScope scope) {
+        markDirty(entity.getClass());
+        tx.setAttribute(entity, attributeName, attributeValue, scope);
+    }
+
+    @Override
+    public void close() throws IOException {
+        tx.close();
+    }
+
+    private boolean isCached(Class<?> entityClass, RequestScope scope) {
+        return readOnly && store.isCacheable(entityClass) && !scope.getProjection(entityClass).isPresent();
+    }
+
+    private DataStoreTransaction unwrap(DataStoreTransaction relationTx) {
+        return relationTx == this ? tx : relationTx;
+    }
+
+    private void markDirty(Class<?> cls) {
+        dirtyTypes.add(store.getDictionary().lookupEntityClass(cls));
+    }
+
+    private void markDirty(Class<?> cls, String relationName) {
+        EntityDictionary dictionary = store.getDictionary();
+        markDirty(cls);
+        dirtyTypes.add(dictionary.getParameterizedType(dictionary.lookupEntityClass(cls), relationName));
+    }
+}
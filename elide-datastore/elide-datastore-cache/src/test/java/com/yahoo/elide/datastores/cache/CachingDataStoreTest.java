@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.cache;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.ObjectEntityCache;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.aggregation.Aggregation;
+import com.yahoo.elide.core.datastore.inmemory.InMemoryDataStore;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.example.beans.Country;
+
+import com.google.common.collect.Lists;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * CachingDataStore tests.
+ */
+public class CachingDataStoreTest {
+    private CachingDataStore store;
+    private RequestScope scope;
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        store = new CachingDataStore(new InMemoryDataStore(Country.class.getPackage()),
+                Collections.singleton(Country.class), 100, Duration.ofMinutes(1));
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        store.populateEntityDictionary(dictionary);
+
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+        when(scope.getObjectEntityCache()).thenReturn(new ObjectEntityCache());
+
+        try (DataStoreTransaction tx = store.beginTransaction()) {
+            tx.createObject(country("Canada"), scope);
+            tx.createObject(country("France"), scope);
+            tx.commit(scope);
+        }
+    }
+
+    @Test
+    public void testReadsAreCached() throws Exception {
+        List<Object> first = loadAll(Optional.empty());
+        List<Object> second = loadAll(Optional.empty());
+
+        assertEquals(first.size(), 2);
+        assertEquals(second, first);
+        assertEquals(store.getStats().missCount(), 1);
+        assertEquals(store.getStats().hitCount(), 1);
+
+        Object loaded;
+        Object cached;
+        try (DataStoreTransaction tx = store.beginReadTransaction()) {
+            loaded = tx.loadObject(Country.class, 1L, Optional.empty(), scope);
+        }
+        try (DataStoreTransaction tx = store.beginReadTransaction()) {
+            cached = tx.loadObject(Country.class, 1L, Optional.empty(), scope);
+        }
+        assertSame(cached, loaded);
+        assertEquals(store.getStats().hitCount(), 2);
+    }
+
+    @Test
+    public void testFilterIsPartOfKey() throws Exception {
+        assertEquals(loadAll(Optional.of(nameFilter("Canada"))).size(), 1);
+        assertEquals(loadAll(Optional.of(nameFilter("France"))).size(), 1);
+        assertEquals(loadAll(Optional.of(nameFilter("Canada"))).size(), 1);
+
+        assertEquals(store.getStats().missCount(), 2);
+        assertEquals(store.getStats().hitCount(), 1);
+    }
+
+    @Test
+    public void testCommitInvalidates() throws Exception {
+        assertEquals(loadAll(Optional.empty()).size(), 2);
+
+        try (DataStoreTransaction tx = store.beginTransaction()) {
+            // write transactions always read through
+            assertEquals(Lists.newArrayList(tx.loadObjects(Country.class,
+                    Optional.empty(), Optional.empty(), Optional.empty(), scope)).size(), 2);
+            tx.createObject(country("Japan"), scope);
+            tx.commit(scope);
+        }
+
+        assertEquals(loadAll(Optional.empty()).size(), 3);
+        assertEquals(store.getStats().missCount(), 2);
+        assertEquals(store.getStats().hitCount(), 0);
+    }
+
+    @Test
+    public void testPartialReadsAreNotCached() throws Exception {
+        when(scope.getProjection(Country.class)).thenReturn(Optional.of(Collections.singleton("id")));
+        assertEquals(loadAll(Optional.empty()).size(), 2);
+        assertEquals(store.getStats().requestCount(), 0);
+
+        when(scope.getProjection(Country.class)).thenReturn(Optional.empty());
+        List<Object> countries = loadAll(Optional.empty());
+        assertEquals(countries.size(), 2);
+        countries.forEach(country -> assertNotNull(((Country) country).getName()));
+        assertEquals(store.getStats().missCount(), 1);
+        assertEquals(store.getStats().hitCount(), 0);
+    }
+
+    @Test
+    public void testAsyncReadsAreCached() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            try (DataStoreTransaction tx = store.beginReadTransaction()) {
+                assertEquals(Lists.newArrayList(tx.loadObjectsAsync(Country.class,
+                        Optional.empty(), Optional.empty(), Optional.empty(), scope).get()).size(), 2);
+            }
+        }
+
+        assertEquals(store.getStats().missCount(), 1);
+        assertEquals(store.getStats().hitCount(), 1);
+    }
+
+    @Test
+    public void testAggregateIsForwarded() throws Exception {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        Aggregation aggregation = new Aggregation(Country.class, Collections.emptyList(), Collections.emptyList());
+        List<Map<String, Object>> rows = Collections.singletonList(Collections.singletonMap("count", 2L));
+        when(wrapped.aggregate(Country.class, Optional.empty(), aggregation, scope)).thenReturn(rows);
+
+        try (DataStoreTransaction tx = new CachingTransaction(store, wrapped, true)) {
+            assertSame(tx.aggregate(Country.class, Optional.empty(), aggregation, scope), rows);
+        }
+        verify(wrapped).aggregate(Country.class, Optional.empty(), aggregation, scope);
+    }
+
+    private List<Object> loadAll(Optional<FilterExpression> filter) throws Exception {
+        try (DataStoreTransaction tx = store.beginReadTransaction()) {
+            return Lists.newArrayList(tx.loadObjects(Country.class, filter, Optional.empty(), Optional.empty(), scope));
+        }
+    }
+
+    private static FilterExpression nameFilter(String name) {
+        return new FilterPredicate(new Path.PathElement(Country.class, String.class, "name"),
+                Operator.IN, Collections.singletonList(name));
+    }
+
+    private static Country country(String name) {
+        Country country = new Country();
+        country.setName(name);
+        return country;
+    }
+}
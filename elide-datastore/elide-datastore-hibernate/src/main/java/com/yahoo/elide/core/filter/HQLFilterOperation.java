@@ -7,6 +7,8 @@ package com.yahoo.elide.core.filter;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.exceptions.InvalidPredicateException;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.FilterPredicate.FilterParameter;
@@ -30,6 +32,79 @@ public class HQLFilterOperation implements FilterOperation<String> {
     public static final Function<FilterParameter, String> LOWERED_PARAMETER = p ->
             String.format("lower(%s)", p.getPlaceholder());
 
+    /**
+     * How predicates on the fields of related entities are rendered.
+     */
+    public enum JoinStrategy {
+        /**
+         * The query joins every relationship of a predicate path. Predicates crossing to-many relationships
+         * return one row per matching member, so the query has to be distinct.
+         */
+        JOIN,
+
+        /**
+         * The query only joins to-one relationships. A predicate crossing a to-many relationship is rendered as a
+         * correlated EXISTS subquery, so the query returns each entity once and can be paginated without DISTINCT.
+         * Each predicate is matched by any member of the collection on its own, as done by in-memory filtering,
+         * and a null check matches entities having a member whose field is null.
+         */
+        EXISTS
+    }
+
+    /**
+     * Renders {@link Operator#SEARCH} predicates, typically with a full-text function of the database.
+     */
+    @FunctionalInterface
+    public interface SearchRenderer {
+        /**
+         * Renders a search predicate.
+         * @param fieldPath The searched field (prefixed by its alias if needed)
+         * @param parameter The placeholder of the search text
+         * @return The hql query fragment.
+         */
+        String render(String fieldPath, String parameter);
+
+        /**
+         * Renders search predicates with a function registered in the hibernate dialect, called with the field and
+         * the search text and returning a positive number for matching rows (e.g. a function rendered as
+         * {@code MATCH(?1) AGAINST(?2 IN BOOLEAN MODE)} on MySQL).
+         * @param functionName The name of the function in the dialect
+         * @return The renderer
+         */
+        static SearchRenderer dialectFunction(String functionName) {
+            return (fieldPath, parameter) -> String.format("%s(%s, %s) > 0", functionName, fieldPath, parameter);
+        }
+    }
+
+    /**
+     * Renders search predicates as a case insensitive substring match, which any database supports but cannot
+     * answer with an index.
+     */
+    public static final SearchRenderer LOCATE_SEARCH = (fieldPath, parameter) ->
+            String.format("locate(lower(%s), lower(%s)) > 0", parameter, fieldPath);
+
+    private final EntityDictionary dictionary;
+    private final JoinStrategy joinStrategy;
+    private final SearchRenderer searchRenderer;
+
+    public HQLFilterOperation() {
+        this(null, JoinStrategy.JOIN, LOCATE_SEARCH);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dictionary Used to find the to-many relationships of predicate paths
+     * @param joinStrategy How predicates on the fields of related entities are rendered
+     * @param searchRenderer How search predicates are rendered
+     */
+    public HQLFilterOperation(EntityDictionary dictionary, JoinStrategy joinStrategy, SearchRenderer searchRenderer) {
+        Preconditions.checkArgument(dictionary != null || joinStrategy == JoinStrategy.JOIN);
+        this.dictionary = dictionary;
+        this.joinStrategy = joinStrategy;
+        this.searchRenderer = searchRenderer;
+    }
+
     @Override
     public String apply(FilterPredicate filterPredicate) {
         return apply(filterPredicate, false);
@@ -100,6 +175,10 @@ public class HQLFilterOperation implements FilterOperation<String> {
                 assertValidValues(fieldPath, firstParam);
                 return String.format("lower(%s) LIKE CONCAT('%%', lower(%s), '%%')", fieldPath, firstParam);
 
+            case SEARCH:
+                assertValidValues(fieldPath, firstParam);
+                return searchRenderer.render(fieldPath, firstParam);
+
             case LT:
                 return String.format("%s < %s", fieldPath, params.size() == 1 ? firstParam : leastClause(params));
 
@@ -151,6 +230,63 @@ public class HQLFilterOperation implements FilterOperation<String> {
         }
     }
 
+    /**
+     * Gets the position of the first to-many relationship a path traverses.
+     *
+     * @param path The predicate path
+     * @param dictionary The entity dictionary
+     * @return the index of the path element or -1 if the path only traverses to-one relationships
+     */
+    public static int getToManyIndex(Path path, EntityDictionary dictionary) {
+        List<Path.PathElement> elements = path.getPathElements();
+        for (int index = 0; index < elements.size() - 1; index++) {
+            Path.PathElement element = elements.get(index);
+            if (dictionary.getRelationshipType(element.getType(), element.getFieldName()).isToMany()) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Transforms a filter predicate crossing a to-many relationship into a correlated subquery like:
+     *
+     * EXISTS (SELECT 1 FROM Author.books Author_books WHERE Author_books.title IN (:books_title_...))
+     *
+     * Relationships before the to-many one are expected to be joined by the enclosing query with the aliases
+     * used for filter joins.
+     *
+     * @param filterPredicate The predicate to transform.
+     * @param toManyIndex The position of the first to-many relationship of the predicate path
+     * @return The hql query fragment.
+     */
+    protected String applyWithSubquery(FilterPredicate filterPredicate, int toManyIndex) {
+        List<Path.PathElement> elements = filterPredicate.getPath().getPathElements();
+        StringBuilder subquery = new StringBuilder("EXISTS (SELECT 1 FROM ");
+
+        String previousAlias = toManyIndex == 0 ? null : getJoinAlias(elements.get(toManyIndex - 1));
+        for (int index = toManyIndex; index < elements.size() - 1; index++) {
+            Path.PathElement element = elements.get(index);
+            String source = previousAlias == null
+                    ? FilterPredicate.getTypeAlias(dictionary.lookupEntityClass(element.getType()))
+                    : previousAlias;
+            String alias = getJoinAlias(element);
+
+            if (index > toManyIndex) {
+                subquery.append(" LEFT JOIN ");
+            }
+            subquery.append(source).append('.').append(element.getFieldName()).append(' ').append(alias);
+            previousAlias = alias;
+        }
+
+        return subquery.append(" WHERE ").append(apply(filterPredicate, true)).append(')').toString();
+    }
+
+    private String getJoinAlias(Path.PathElement element) {
+        return FilterPredicate.getTypeAlias(dictionary.lookupEntityClass(element.getType()))
+                + "_" + element.getFieldName();
+    }
+
     public String apply(FilterExpression filterExpression, boolean prefixWithAlias) {
         HQLQueryVisitor visitor = new HQLQueryVisitor(prefixWithAlias);
         return "WHERE " + filterExpression.accept(visitor);
@@ -171,6 +307,12 @@ public class HQLFilterOperation implements FilterOperation<String> {
 
         @Override
         public String visitPredicate(FilterPredicate filterPredicate) {
+            if (prefixWithAlias && joinStrategy == JoinStrategy.EXISTS) {
+                int toManyIndex = getToManyIndex(filterPredicate.getPath(), dictionary);
+                if (toManyIndex >= 0) {
+                    return applyWithSubquery(filterPredicate, toManyIndex);
+                }
+            }
             return apply(filterPredicate, prefixWithAlias);
         }
 
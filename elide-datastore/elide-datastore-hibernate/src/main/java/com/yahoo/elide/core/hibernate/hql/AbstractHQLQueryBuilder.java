@@ -8,6 +8,9 @@ package com.yahoo.elide.core.hibernate.hql;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.HQLFilterOperation;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
+import com.yahoo.elide.core.filter.HQLFilterOperation.SearchRenderer;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
@@ -35,6 +38,8 @@ public abstract class AbstractHQLQueryBuilder {
     protected Optional<Sorting> sorting;
     protected Optional<Pagination> pagination;
     protected Optional<FilterExpression> filterExpression;
+    protected JoinStrategy joinStrategy = JoinStrategy.JOIN;
+    protected SearchRenderer searchRenderer = HQLFilterOperation.LOCATE_SEARCH;
     protected static final String SPACE = " ";
     protected static final String UNDERSCORE = "_";
     protected static final String PERIOD = ".";
@@ -42,6 +47,7 @@ public abstract class AbstractHQLQueryBuilder {
     protected static final String FROM = " FROM ";
     protected static final String JOIN = " JOIN ";
     protected static final String LEFT = " LEFT";
+    protected static final String FETCH = "FETCH ";
     protected static final String SELECT = "SELECT ";
     protected static final String AS = " AS ";
 
@@ -89,6 +95,39 @@ public abstract class AbstractHQLQueryBuilder {
         return this;
     }
 
+    /**
+     * Set how filter predicates on the fields of related entities are rendered.
+     *
+     * @param joinStrategy the strategy (joins by default)
+     * @return this builder
+     */
+    public AbstractHQLQueryBuilder withJoinStrategy(JoinStrategy joinStrategy) {
+        this.joinStrategy = joinStrategy;
+        return this;
+    }
+
+    /**
+     * Set how search filter predicates are rendered.
+     *
+     * @param searchRenderer the renderer (a case insensitive substring match by default)
+     * @return this builder
+     */
+    public AbstractHQLQueryBuilder withSearchRenderer(SearchRenderer searchRenderer) {
+        this.searchRenderer = searchRenderer;
+        return this;
+    }
+
+    /**
+     * Builds the HQL WHERE clause of a filter expression.
+     * @param filterExpression the filter expression
+     * @param prefixWithAlias whether fields are prefixed by the alias of their entity
+     * @return an HQL where clause
+     */
+    protected String getFilterClause(FilterExpression filterExpression, boolean prefixWithAlias) {
+        return new HQLFilterOperation(dictionary, joinStrategy, searchRenderer)
+                .apply(filterExpression, prefixWithAlias);
+    }
+
     /**
      * Given a collection of filter predicates and a Hibernate query, populates the named parameters in the
      * Hibernate query.
@@ -109,6 +148,7 @@ public abstract class AbstractHQLQueryBuilder {
 
     /**
      * Extracts all the HQL JOIN clauses from given filter expression.
+     * With the {@link JoinStrategy#EXISTS} strategy, paths are only joined up to their first to-many relationship.
      * @param filterExpression the filter expression to extract a join clause from
      * @return an HQL join clause
      */
@@ -116,13 +156,49 @@ public abstract class AbstractHQLQueryBuilder {
         PredicateExtractionVisitor visitor = new PredicateExtractionVisitor(new ArrayList<>());
         Collection<FilterPredicate> predicates = filterExpression.accept(visitor);
 
+        return getJoinClauseFromPaths(predicates.stream()
+                .map(FilterPredicate::getPath)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Extracts the HQL JOIN clauses reaching the last entity of each path.  Relationships shared by several paths
+     * are joined once.
+     * @param paths the paths to join
+     * @return an HQL join clause
+     */
+    protected String getJoinClauseFromPaths(Collection<Path> paths) {
         Set<String> alreadyJoined = new HashSet<>();
 
-        return predicates.stream()
-            .map(predicate -> extractJoinClause(predicate, alreadyJoined))
+        return paths.stream()
+            .map(path -> extractJoinClause(path, alreadyJoined))
             .collect(Collectors.joining(SPACE));
     }
 
+    /**
+     * Builds the HQL JOIN FETCH clauses loading relationship paths together with the selected entity.
+     * @param entityAlias the alias of the selected entity
+     * @param fetchPaths dot separated relationship paths
+     * @return an HQL join clause (empty if there are no paths)
+     */
+    protected String getFetchJoinClause(String entityAlias, Collection<String> fetchPaths) {
+        StringBuilder joinClause = new StringBuilder();
+        Set<String> alreadyJoined = new HashSet<>();
+
+        for (String fetchPath : fetchPaths) {
+            String previousAlias = entityAlias;
+            String alias = entityAlias + UNDERSCORE + "fetch";
+            for (String fieldName : fetchPath.split("\\.")) {
+                alias = alias + UNDERSCORE + fieldName;
+                if (alreadyJoined.add(alias)) {
+                    joinClause.append(LEFT + JOIN + FETCH + previousAlias + PERIOD + fieldName + SPACE + alias);
+                }
+                previousAlias = alias;
+            }
+        }
+        return joinClause.toString();
+    }
+
     /**
      * Modifies the HQL query to add OFFSET and LIMIT.
      * @param query The HQL query object
@@ -136,17 +212,26 @@ public abstract class AbstractHQLQueryBuilder {
     }
 
     /**
-     * Extracts a join clause from a filter predicate (if it exists).
-     * @param predicate The predicate to examine
+     * Extracts a join clause from a path (if it crosses relationships).
+     * @param path The path to examine
      * @param alreadyJoined A set of joins that have already been computed.
      * @return A HQL string representing the join
      */
-    private String extractJoinClause(FilterPredicate predicate, Set<String> alreadyJoined) {
+    private String extractJoinClause(Path path, Set<String> alreadyJoined) {
         StringBuilder joinClause = new StringBuilder();
 
         String previousAlias = null;
 
-        for (Path.PathElement pathElement : predicate.getPath().getPathElements()) {
+        List<Path.PathElement> pathElements = path.getPathElements();
+        if (joinStrategy == JoinStrategy.EXISTS) {
+            int toManyIndex = HQLFilterOperation.getToManyIndex(path, dictionary);
+            if (toManyIndex >= 0) {
+                //The rest of the path is joined by the subquery
+                pathElements = pathElements.subList(0, toManyIndex);
+            }
+        }
+
+        for (Path.PathElement pathElement : pathElements) {
             String fieldName = pathElement.getFieldName();
             Class<?> typeClass = dictionary.lookupEntityClass(pathElement.getType());
             String typeAlias = FilterPredicate.getTypeAlias(typeClass);
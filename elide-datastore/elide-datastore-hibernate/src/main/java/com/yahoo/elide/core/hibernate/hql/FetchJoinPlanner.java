@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.annotation.ComputedRelationship;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RelationshipType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Decides which requested relationship paths of a root collection are fetched together with it.
+ * <p>
+ * Paths made of to-one relationships are fetch joined in the root query since they add no rows.
+ * Paths crossing to-many relationships are fetched by one extra query per path for the loaded objects, so the
+ * root query can still be paginated and two collections never multiply each other's rows.
+ * A path is only fetched when its estimated row count (the loaded objects times an assumed fanout for every
+ * to-many relationship) stays under a cutoff and the number of joins is bounded.
+ */
+public class FetchJoinPlanner {
+    public static final int DEFAULT_MAX_JOINS = 4;
+    public static final int DEFAULT_TO_MANY_FANOUT = 10;
+    public static final long DEFAULT_MAX_ROWS = 10000;
+
+    private final EntityDictionary dictionary;
+    private final int maxJoins;
+    private final int toManyFanout;
+    private final long maxRows;
+
+    public FetchJoinPlanner(EntityDictionary dictionary) {
+        this(dictionary, DEFAULT_MAX_JOINS, DEFAULT_TO_MANY_FANOUT, DEFAULT_MAX_ROWS);
+    }
+
+    public FetchJoinPlanner(EntityDictionary dictionary, int maxJoins, int toManyFanout, long maxRows) {
+        this.dictionary = dictionary;
+        this.maxJoins = maxJoins;
+        this.toManyFanout = toManyFanout;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Get the paths made of to-one relationships, which can be fetch joined in the root query.
+     *
+     * @param entityClass the class of the root collection
+     * @param paths dot separated relationship paths
+     * @return the paths to join, shortest first
+     */
+    public List<String> getJoinedPaths(Class<?> entityClass, Collection<String> paths) {
+        List<String> joinedPaths = new ArrayList<>();
+        for (String path : sortByLength(paths)) {
+            String parent = getParent(path);
+            if (joinedPaths.size() < maxJoins
+                    && getLength(path) <= maxJoins
+                    && countToManyRelationships(entityClass, path) == 0
+                    && (parent == null || joinedPaths.contains(parent))) {
+                joinedPaths.add(path);
+            }
+        }
+        return joinedPaths;
+    }
+
+    /**
+     * Get the paths crossing to-many relationships which are worth fetching with one extra query per path for the
+     * loaded members of the root collection.
+     *
+     * @param entityClass the class of the root collection
+     * @param paths dot separated relationship paths
+     * @param rootRows the number of loaded members of the root collection
+     * @return the paths to fetch, excluding paths fetched as part of a longer path
+     */
+    public List<String> getCollectionPaths(Class<?> entityClass, Collection<String> paths, long rootRows) {
+        List<String> collectionPaths = new ArrayList<>();
+        for (String path : sortByLength(paths)) {
+            int toManyCount = countToManyRelationships(entityClass, path);
+            if (toManyCount > 0
+                    && getLength(path) <= maxJoins
+                    && rootRows * Math.pow(toManyFanout, toManyCount) <= maxRows) {
+                // The query fetching a path also fetches its prefixes
+                collectionPaths.removeIf(prefix -> path.startsWith(prefix + "."));
+                if (collectionPaths.size() < maxJoins) {
+                    collectionPaths.add(path);
+                }
+            }
+        }
+        return collectionPaths;
+    }
+
+    /**
+     * Counts the to-many relationships of a path.
+     *
+     * @return the count or -1 if a path element cannot be fetched by the data store
+     */
+    private int countToManyRelationships(Class<?> entityClass, String path) {
+        Class<?> type = entityClass;
+        int toManyCount = 0;
+        for (String relation : path.split("\\.")) {
+            RelationshipType relationshipType = dictionary.getRelationshipType(type, relation);
+            if (relationshipType == RelationshipType.NONE) {
+                return -1;
+            }
+            Class<?> relationClass = dictionary.getParameterizedType(type, relation);
+            if (relationClass == null
+                    || dictionary.isMappedInterface(relationClass)
+                    || dictionary.getAttributeOrRelationAnnotation(
+                            type, ComputedRelationship.class, relation) != null) {
+                return -1;
+            }
+            if (relationshipType.isToMany()) {
+                toManyCount++;
+            }
+            type = relationClass;
+        }
+        return toManyCount;
+    }
+
+    private static List<String> sortByLength(Collection<String> paths) {
+        List<String> sortedPaths = new ArrayList<>(paths);
+        sortedPaths.sort(Comparator.comparingInt(FetchJoinPlanner::getLength));
+        return sortedPaths;
+    }
+
+    private static int getLength(String path) {
+        return path.split("\\.").length;
+    }
+
+    private static String getParent(String path) {
+        int index = path.lastIndexOf('.');
+        return index < 0 ? null : path.substring(0, index);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.exceptions.InternalServerErrorException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Builds partially loaded entities from the rows of a projection query
+ * (see {@link RootCollectionFetchQueryBuilder#withProjection}).
+ * <p>
+ * The entities are not attached to the session: they are only meant to be read.
+ */
+public class ProjectionHydrator {
+    private final Class<?> entityClass;
+    private final List<String> fields;
+    private final EntityDictionary dictionary;
+
+    public ProjectionHydrator(Class<?> entityClass, Collection<String> fields, EntityDictionary dictionary) {
+        this.entityClass = dictionary.lookupEntityClass(entityClass);
+        this.fields = new ArrayList<>(fields);
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Builds an entity per row.
+     *
+     * @param rows the rows holding the projected fields in order (a single value per row if there is one field)
+     * @return the partially loaded entities
+     */
+    public List<Object> hydrate(List<?> rows) {
+        List<Object> entities = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Object[] values = (row instanceof Object[]) ? (Object[]) row : new Object[] {row};
+            Object entity;
+            try {
+                entity = entityClass.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new InternalServerErrorException(e);
+            }
+            for (int index = 0; index < fields.size(); index++) {
+                dictionary.setValue(entity, fields.get(index), values[index]);
+            }
+            entities.add(entity);
+        }
+        return entities;
+    }
+}
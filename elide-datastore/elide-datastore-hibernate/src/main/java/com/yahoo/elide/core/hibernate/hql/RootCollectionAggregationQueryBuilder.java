@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.aggregation.Aggregation;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Constructs a HQL query computing aggregates over a root collection, per group of values of the grouped fields.
+ * <p>
+ * Filters are always rendered with the {@link JoinStrategy#EXISTS} strategy: only to-one relationships are joined,
+ * so each record is aggregated once.
+ */
+public class RootCollectionAggregationQueryBuilder extends AbstractHQLQueryBuilder {
+
+    private Class<?> entityClass;
+    private Aggregation aggregation;
+
+    public RootCollectionAggregationQueryBuilder(Class<?> entityClass,
+                                                 Aggregation aggregation,
+                                                 EntityDictionary dictionary,
+                                                 Session session) {
+        super(dictionary, session);
+        this.entityClass = dictionary.lookupEntityClass(entityClass);
+        this.aggregation = aggregation;
+        this.joinStrategy = JoinStrategy.EXISTS;
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossiblePagination(Optional<Pagination> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossibleSorting(Optional<Sorting> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withJoinStrategy(JoinStrategy ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Constructs a query that returns one row per group with the grouped values followed by the aggregates.
+     *
+     * Constructs a query like:
+     *
+     * SELECT example_Book_publisher.name, COUNT(example_Book), SUM(example_Book.price)
+     * FROM example.Book AS example_Book
+     * LEFT JOIN example_Book.publisher example_Book_publisher
+     * GROUP BY example_Book_publisher.name
+     *
+     * @return the constructed query
+     */
+    @Override
+    public Query build() {
+        String entityName = entityClass.getCanonicalName();
+        String entityAlias = FilterPredicate.getTypeAlias(entityClass);
+
+        Collection<FilterPredicate> predicates;
+        List<Path> joinedPaths = new ArrayList<>();
+        String filterClause;
+
+        if (filterExpression.isPresent()) {
+            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
+            predicates = filterExpression.get().accept(extractor);
+
+            //Build the WHERE clause
+            filterClause = getFilterClause(filterExpression.get(), USE_ALIAS);
+
+            predicates.forEach(predicate -> joinedPaths.add(predicate.getPath()));
+        } else {
+            predicates = new HashSet<>();
+            filterClause = "";
+        }
+        joinedPaths.addAll(aggregation.getPaths());
+
+        //Build the JOIN clause
+        String joinClause = getJoinClauseFromPaths(joinedPaths);
+
+        List<String> groups = aggregation.getGroups().stream()
+                .map(this::getFieldReference)
+                .collect(Collectors.toList());
+
+        List<String> selections = new ArrayList<>(groups);
+        aggregation.getAggregates().forEach(aggregate -> selections.add(
+                aggregate.getFunction().name().toUpperCase(Locale.ENGLISH) + "("
+                        + aggregate.getPath().map(this::getFieldReference).orElse(entityAlias) + ")"));
+
+        String groupClause = groups.isEmpty() ? "" : " GROUP BY " + String.join(COMMA + SPACE, groups);
+
+        Query query = session.createQuery(SELECT
+                + String.join(COMMA + SPACE, selections)
+                + FROM
+                + entityName
+                + AS
+                + entityAlias
+                + SPACE
+                + joinClause
+                + SPACE
+                + filterClause
+                + groupClause
+        );
+        supplyFilterQueryParameters(query, predicates);
+        return query;
+    }
+
+    /**
+     * Convert the result of the query to rows keyed by the grouped field paths and the aggregate names.
+     *
+     * @param results the rows returned by the query
+     * @return the rows as maps
+     */
+    public List<Map<String, Object>> toRows(Iterable<?> results) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object result : results) {
+            Object[] values = result instanceof Object[] ? (Object[]) result : new Object[] {result};
+            Map<String, Object> row = new LinkedHashMap<>();
+            int idx = 0;
+            for (Path group : aggregation.getGroups()) {
+                row.put(group.getFieldPath(), values[idx++]);
+            }
+            for (Aggregation.Aggregate aggregate : aggregation.getAggregates()) {
+                row.put(aggregate.getName(), values[idx++]);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private String getFieldReference(Path path) {
+        return path.getAlias() + PERIOD + path.lastElement().get().getFieldName();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Constructs a HQL bulk statement to delete the members of a root collection matching a filter.
+ *
+ * HQL bulk statements cannot join, so the filter may only reference attributes of the root entity.
+ */
+public class RootCollectionDeleteQueryBuilder extends AbstractHQLQueryBuilder {
+    private static final String DELETE = "DELETE";
+
+    private Class<?> entityClass;
+
+    public RootCollectionDeleteQueryBuilder(Class<?> entityClass,
+                                            EntityDictionary dictionary,
+                                            Session session) {
+        super(dictionary, session);
+        this.entityClass = dictionary.lookupEntityClass(entityClass);
+    }
+
+    /**
+     * Whether a filter can be used in a bulk statement.
+     *
+     * @param filterExpression the filter
+     * @param dictionary the entity dictionary
+     * @return true if every predicate references an attribute of the root entity
+     */
+    public static boolean canBuild(FilterExpression filterExpression, EntityDictionary dictionary) {
+        Collection<FilterPredicate> predicates = filterExpression.accept(new PredicateExtractionVisitor());
+        return predicates.stream().allMatch(predicate -> {
+            List<Path.PathElement> elements = predicate.getPath().getPathElements();
+            return elements.size() == 1
+                    && !dictionary.isRelation(elements.get(0).getType(), elements.get(0).getFieldName());
+        });
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossiblePagination(Optional<Pagination> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossibleSorting(Optional<Sorting> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Constructs a statement like:
+     *
+     * DELETE FROM Book AS Book WHERE Book.title IN (:title)
+     *
+     * @return the constructed statement
+     */
+    @Override
+    public Query build() {
+        String entityName = entityClass.getCanonicalName();
+        String entityAlias = FilterPredicate.getTypeAlias(entityClass);
+
+        if (!filterExpression.isPresent()) {
+            return session.createQuery(DELETE + FROM + entityName + AS + entityAlias);
+        }
+
+        if (!canBuild(filterExpression.get(), dictionary)) {
+            throw new UnsupportedOperationException("Bulk deletes cannot filter on relationships");
+        }
+
+        Collection<FilterPredicate> predicates = filterExpression.get().accept(new PredicateExtractionVisitor());
+
+        //Build the WHERE clause
+        String filterClause = getFilterClause(filterExpression.get(), USE_ALIAS);
+
+        Query query = session.createQuery(DELETE + FROM + entityName + AS + entityAlias + SPACE + filterClause);
+
+        //Fill in the query parameters
+        supplyFilterQueryParameters(query, predicates);
+        return query;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Constructs a HQL query fetching a relationship path of already loaded members of a root collection, so the
+ * relationships are initialized in the session without one query per member.
+ */
+public class RootCollectionFetchJoinQueryBuilder extends AbstractHQLQueryBuilder {
+    private static final String SELECT_DISTINCT = "SELECT DISTINCT ";
+    private static final String OBJECTS_PARAMETER = "fetch_objects";
+
+    private Class<?> entityClass;
+    private String fetchPath;
+    private Collection<?> objects;
+
+    public RootCollectionFetchJoinQueryBuilder(Class<?> entityClass,
+                                               String fetchPath,
+                                               Collection<?> objects,
+                                               EntityDictionary dictionary,
+                                               Session session) {
+        super(dictionary, session);
+        this.entityClass = dictionary.lookupEntityClass(entityClass);
+        this.fetchPath = fetchPath;
+        this.objects = objects;
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossibleFilterExpression(Optional<FilterExpression> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossiblePagination(Optional<Pagination> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossibleSorting(Optional<Sorting> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Constructs a query like:
+     *
+     * SELECT DISTINCT Book FROM Book AS Book LEFT JOIN FETCH Book.authors Book_fetch_authors
+     * WHERE Book IN (:fetch_objects)
+     *
+     * @return the constructed query
+     */
+    @Override
+    public Query build() {
+        String entityName = entityClass.getCanonicalName();
+        String entityAlias = FilterPredicate.getTypeAlias(entityClass);
+
+        Query query = session.createQuery(SELECT_DISTINCT
+                + entityAlias
+                + FROM
+                + entityName
+                + AS
+                + entityAlias
+                + getFetchJoinClause(entityAlias, Collections.singletonList(fetchPath))
+                + " WHERE "
+                + entityAlias
+                + " IN (:" + OBJECTS_PARAMETER + ")");
+
+        query.setParameterList(OBJECTS_PARAMETER, objects);
+        return query;
+    }
+}
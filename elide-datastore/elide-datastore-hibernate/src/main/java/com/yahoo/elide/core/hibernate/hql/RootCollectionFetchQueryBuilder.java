@@ -7,12 +7,13 @@ package com.yahoo.elide.core.hibernate.hql;
 
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.FilterPredicate;
-import com.yahoo.elide.core.filter.HQLFilterOperation;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
 
 /**
  * Constructs a HQL query to fetch a root collection.
@@ -20,6 +21,8 @@ import java.util.Collection;
 public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
 
     private Class<?> entityClass;
+    private Collection<String> fetchPaths = Collections.emptyList();
+    private Collection<String> projection = Collections.emptyList();
 
     public RootCollectionFetchQueryBuilder(Class<?> entityClass,
                                            EntityDictionary dictionary,
@@ -28,6 +31,29 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         this.entityClass = dictionary.lookupEntityClass(entityClass);
     }
 
+    /**
+     * Fetch to-one relationship paths together with the root collection.
+     *
+     * @param paths dot separated paths of to-one relationships (see {@link FetchJoinPlanner})
+     * @return this builder
+     */
+    public RootCollectionFetchQueryBuilder withFetchJoins(Collection<String> paths) {
+        this.fetchPaths = paths;
+        return this;
+    }
+
+    /**
+     * Only select some fields of the root collection instead of whole entities. The query then returns rows of field
+     * values (see {@link ProjectionHydrator}) and fetch joins are ignored.
+     *
+     * @param fields the id and attribute names to select
+     * @return this builder
+     */
+    public RootCollectionFetchQueryBuilder withProjection(Collection<String> fields) {
+        this.projection = fields;
+        return this;
+    }
+
     /**
      * Constructs a query that fetches a root collection.
      *
@@ -37,6 +63,10 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
     public Query build() {
         String entityName = entityClass.getCanonicalName();
         String entityAlias = FilterPredicate.getTypeAlias(entityClass);
+        String fetchJoinClause = projection.isEmpty() ? getFetchJoinClause(entityAlias, fetchPaths) : "";
+        String selectClause = projection.isEmpty()
+                ? entityAlias
+                : projection.stream().map(field -> entityAlias + PERIOD + field).collect(Collectors.joining(COMMA));
 
         Query query;
         if (filterExpression.isPresent()) {
@@ -44,18 +74,19 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
             Collection<FilterPredicate> predicates = filterExpression.get().accept(extractor);
 
             //Build the WHERE clause
-            String filterClause = new HQLFilterOperation().apply(filterExpression.get(), USE_ALIAS);
+            String filterClause = getFilterClause(filterExpression.get(), USE_ALIAS);
 
             //Build the JOIN clause
             String joinClause =  getJoinClauseFromFilters(filterExpression.get());
 
             query = session.createQuery(
                     SELECT
-                        + entityAlias
+                        + selectClause
                         + FROM
                         + entityName
                         + AS
                         + entityAlias
+                        + fetchJoinClause
                         + SPACE
                         + joinClause
                         + SPACE
@@ -68,11 +99,12 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
             supplyFilterQueryParameters(query, predicates);
         } else {
             query = session.createQuery(SELECT
-                    + entityAlias
+                    + selectClause
                     + FROM
                     + entityName
                     + AS
                     + entityAlias
+                    + fetchJoinClause
                     + SPACE
                     + getSortClause(sorting, entityClass, USE_ALIAS));
         }
@@ -7,7 +7,7 @@ package com.yahoo.elide.core.hibernate.hql;
 
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.FilterPredicate;
-import com.yahoo.elide.core.filter.HQLFilterOperation;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
@@ -50,6 +50,9 @@ public class RootCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilde
      * SELECT COUNT(DISTINCT Author)
      * FROM Author AS Author
      *
+     * The count is not distinct with the {@link JoinStrategy#EXISTS} strategy since only to-one relationships are
+     * joined.
+     *
      * @return the constructed query
      */
     @Override
@@ -67,7 +70,7 @@ public class RootCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilde
             predicates = filterExpression.get().accept(extractor);
 
             //Build the WHERE clause
-            filterClause = new HQLFilterOperation().apply(filterExpression.get(), USE_ALIAS);
+            filterClause = getFilterClause(filterExpression.get(), USE_ALIAS);
 
             //Build the JOIN clause
             joinClause =  getJoinClauseFromFilters(filterExpression.get());
@@ -78,7 +81,9 @@ public class RootCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilde
             joinClause = "";
         }
 
-        Query query = session.createQuery("SELECT COUNT(DISTINCT "
+        String count = joinStrategy == JoinStrategy.EXISTS ? "SELECT COUNT(" : "SELECT COUNT(DISTINCT ";
+
+        Query query = session.createQuery(count
                 + entityAlias
                 + ") "
                 + FROM
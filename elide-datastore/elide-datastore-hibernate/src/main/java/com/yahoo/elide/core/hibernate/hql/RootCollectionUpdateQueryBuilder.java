@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.annotation.ComputedAttribute;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import javax.persistence.Version;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Constructs a HQL bulk statement to set attributes of the members of a root collection matching a filter.
+ *
+ * HQL bulk statements cannot join, so the filter may only reference attributes of the root entity.
+ * Statements on entities with a {@link Version} attribute are versioned so the version of every updated row
+ * is incremented.
+ */
+public class RootCollectionUpdateQueryBuilder extends AbstractHQLQueryBuilder {
+    private static final String UPDATE = "UPDATE ";
+    private static final String UPDATE_VERSIONED = "UPDATE VERSIONED ";
+    private static final String SET = " SET ";
+    private static final String PARAMETER_PREFIX = "set_";
+
+    private Class<?> entityClass;
+    private Map<String, Object> attributes;
+
+    public RootCollectionUpdateQueryBuilder(Class<?> entityClass,
+                                            Map<String, Object> attributes,
+                                            EntityDictionary dictionary,
+                                            Session session) {
+        super(dictionary, session);
+        this.entityClass = dictionary.lookupEntityClass(entityClass);
+        this.attributes = attributes;
+    }
+
+    /**
+     * Whether a filter and attributes can be used in a bulk statement.
+     *
+     * @param entityClass the class of the updated entities
+     * @param filterExpression the filter
+     * @param attributes the attributes to set
+     * @param dictionary the entity dictionary
+     * @return true if every predicate references an attribute of the root entity and every attribute is persistent
+     * and not the version
+     */
+    public static boolean canBuild(Class<?> entityClass,
+                                   FilterExpression filterExpression,
+                                   Map<String, Object> attributes,
+                                   EntityDictionary dictionary) {
+        return RootCollectionDeleteQueryBuilder.canBuild(filterExpression, dictionary)
+                && attributes.keySet().stream().allMatch(attribute ->
+                        dictionary.isAttribute(entityClass, attribute)
+                                && dictionary.getAttributeOrRelationAnnotation(
+                                        entityClass, ComputedAttribute.class, attribute) == null
+                                && dictionary.getAttributeOrRelationAnnotation(
+                                        entityClass, Version.class, attribute) == null);
+    }
+
+    private static boolean isVersioned(Class<?> entityClass, EntityDictionary dictionary) {
+        return dictionary.getAttributes(entityClass).stream().anyMatch(attribute ->
+                dictionary.getAttributeOrRelationAnnotation(entityClass, Version.class, attribute) != null);
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossiblePagination(Optional<Pagination> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossibleSorting(Optional<Sorting> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Constructs a statement like:
+     *
+     * UPDATE Book AS Book SET Book.genre = :set_genre WHERE Book.title IN (:title)
+     *
+     * or UPDATE VERSIONED for versioned entities.
+     *
+     * @return the constructed statement
+     */
+    @Override
+    public Query build() {
+        String entityName = entityClass.getCanonicalName();
+        String entityAlias = FilterPredicate.getTypeAlias(entityClass);
+
+        String setClause = attributes.keySet().stream()
+                .map(attribute -> entityAlias + PERIOD + attribute + " = :" + PARAMETER_PREFIX + attribute)
+                .collect(Collectors.joining(COMMA + SPACE));
+
+        String update = isVersioned(entityClass, dictionary) ? UPDATE_VERSIONED : UPDATE;
+        String statement = update + entityName + AS + entityAlias + SET + setClause;
+
+        if (!filterExpression.isPresent()) {
+            return supplyAttributeParameters(session.createQuery(statement));
+        }
+
+        if (!RootCollectionDeleteQueryBuilder.canBuild(filterExpression.get(), dictionary)) {
+            throw new UnsupportedOperationException("Bulk updates cannot filter on relationships");
+        }
+
+        Collection<FilterPredicate> predicates = filterExpression.get().accept(new PredicateExtractionVisitor());
+
+        //Build the WHERE clause
+        String filterClause = getFilterClause(filterExpression.get(), USE_ALIAS);
+
+        Query query = session.createQuery(statement + SPACE + filterClause);
+
+        //Fill in the query parameters
+        supplyFilterQueryParameters(query, predicates);
+        return supplyAttributeParameters(query);
+    }
+
+    private Query supplyAttributeParameters(Query query) {
+        attributes.forEach((attribute, value) -> query.setParameter(PARAMETER_PREFIX + attribute, value));
+        return query;
+    }
+}
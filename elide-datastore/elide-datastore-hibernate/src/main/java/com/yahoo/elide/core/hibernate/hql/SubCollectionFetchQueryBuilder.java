@@ -7,7 +7,6 @@ package com.yahoo.elide.core.hibernate.hql;
 
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.FilterPredicate;
-import com.yahoo.elide.core.filter.HQLFilterOperation;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
@@ -45,7 +44,7 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         Query query = filterExpression.map(fe -> {
             PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
             Collection<FilterPredicate> predicates = fe.accept(extractor);
-            String filterClause = new HQLFilterOperation().apply(fe, NO_ALIAS);
+            String filterClause = getFilterClause(fe, NO_ALIAS);
             Query q = session.createFilter(
                     relationship.getChildren(),
                     // We don't prefix with aliases because we are not joining across toMany relationships.
@@ -92,4 +92,18 @@ public class HQLFilterOperationTest {
         HQLFilterOperation filterOp = new HQLFilterOperation();
         filterOp.apply(pred);
     }
+
+    @Test
+    public void testSearch() throws Exception {
+        FilterPredicate pred = new FilterPredicate(new Path.PathElement(Book.class, String.class, "name"),
+                Operator.SEARCH, Arrays.asList("old man"));
+        String param = pred.getParameters().get(0).getPlaceholder();
+
+        Assert.assertEquals(new HQLFilterOperation().apply(pred),
+                "locate(lower(" + param + "), lower(name)) > 0");
+
+        HQLFilterOperation fullText = new HQLFilterOperation(null, HQLFilterOperation.JoinStrategy.JOIN,
+                HQLFilterOperation.SearchRenderer.dialectFunction("fts"));
+        Assert.assertEquals(fullText.apply(pred), "fts(name, " + param + ") > 0");
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.hibernate.hql.FetchJoinPlanner;
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+public class FetchJoinPlannerTest {
+    private EntityDictionary dictionary;
+
+    private final List<String> paths = Arrays.asList("authors.books", "publisher", "authors", "chapters", "title");
+
+    @BeforeClass
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+    }
+
+    @Test
+    public void testJoinedPaths() {
+        FetchJoinPlanner planner = new FetchJoinPlanner(dictionary);
+
+        Assert.assertEquals(planner.getJoinedPaths(Book.class, paths), Collections.singletonList("publisher"));
+    }
+
+    @Test
+    public void testCollectionPaths() {
+        FetchJoinPlanner planner = new FetchJoinPlanner(dictionary);
+
+        // authors is fetched as part of authors.books
+        Assert.assertEquals(planner.getCollectionPaths(Book.class, paths, 10),
+                Arrays.asList("chapters", "authors.books"));
+    }
+
+    @Test
+    public void testCollectionPathsCostCutoff() {
+        FetchJoinPlanner planner = new FetchJoinPlanner(dictionary);
+
+        // 500 books * 10 authors * 10 books per author exceeds the cutoff
+        Assert.assertEquals(planner.getCollectionPaths(Book.class, paths, 500),
+                Arrays.asList("authors", "chapters"));
+
+        Assert.assertEquals(planner.getCollectionPaths(Book.class, paths, 5000), Collections.emptyList());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.hibernate.hql.ProjectionHydrator;
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+public class ProjectionHydratorTest {
+    private EntityDictionary dictionary;
+
+    @BeforeClass
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+    }
+
+    @Test
+    public void testHydrate() {
+        ProjectionHydrator hydrator = new ProjectionHydrator(Book.class, Arrays.asList("id", "title"), dictionary);
+
+        List<Object> books = hydrator.hydrate(Arrays.asList(
+                new Object[] {1L, "Foundation"},
+                new Object[] {2L, "Dune"}));
+
+        Assert.assertEquals(books.size(), 2);
+        Assert.assertEquals(((Book) books.get(1)).getId(), 2L);
+        Assert.assertEquals(((Book) books.get(1)).getTitle(), "Dune");
+        Assert.assertNull(((Book) books.get(1)).getGenre());
+    }
+
+    @Test
+    public void testHydrateIdOnly() {
+        ProjectionHydrator hydrator = new ProjectionHydrator(Book.class, Collections.singletonList("id"), dictionary);
+
+        List<Object> books = hydrator.hydrate(Collections.singletonList(3L));
+
+        Assert.assertEquals(((Book) books.get(0)).getId(), 3L);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.aggregation.Aggregation;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionAggregationQueryBuilder;
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class RootCollectionAggregationQueryBuilderTest {
+    private EntityDictionary dictionary;
+
+    @BeforeClass
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+    }
+
+    @Test
+    public void testAggregateWithoutGroups() {
+        Aggregation aggregation = Aggregation.parse(Book.class, dictionary,
+                Arrays.asList("count", "max(publishDate)"), Collections.emptyList());
+        RootCollectionAggregationQueryBuilder builder = new RootCollectionAggregationQueryBuilder(
+                Book.class, aggregation, dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        Assert.assertEquals(query.getQueryText(),
+                "SELECT COUNT(example_Book), MAX(example_Book.publishDate) FROM example.Book AS example_Book  ");
+    }
+
+    @Test
+    public void testAggregatePerGroupWithFilter() {
+        Aggregation aggregation = Aggregation.parse(Book.class, dictionary,
+                Arrays.asList("count", "sum(publishDate)", "count(publisher.id)"),
+                Arrays.asList("publisher.name", "genre"));
+
+        FilterPredicate publisherPredicate = new FilterPredicate(new Path(Arrays.asList(
+                new Path.PathElement(Book.class, Publisher.class, "publisher"),
+                new Path.PathElement(Publisher.class, String.class, "name"))),
+                Operator.PREFIX, Arrays.asList("Pub"));
+        FilterPredicate chapterPredicate = new FilterPredicate(new Path(Arrays.asList(
+                new Path.PathElement(Book.class, Chapter.class, "chapters"),
+                new Path.PathElement(Chapter.class, String.class, "title"))),
+                Operator.IN, Arrays.asList("ABC"));
+
+        RootCollectionAggregationQueryBuilder builder = new RootCollectionAggregationQueryBuilder(
+                Book.class, aggregation, dictionary, new TestSessionWrapper());
+        TestQueryWrapper query = (TestQueryWrapper) builder
+                .withPossibleFilterExpression(Optional.of(
+                        new AndFilterExpression(publisherPredicate, chapterPredicate)))
+                .build();
+
+        // The to-many filter is an EXISTS sub query and the publisher is joined once
+        String expected = "SELECT example_Book_publisher.name, example_Book.genre, COUNT(example_Book), "
+                + "SUM(example_Book.publishDate), COUNT(example_Book_publisher.id) "
+                + "FROM example.Book AS example_Book "
+                + "LEFT JOIN example_Book.publisher example_Book_publisher "
+                + "WHERE (example_Book_publisher.name LIKE CONCAT(:publisher_name_XXX, '%') "
+                + "AND EXISTS (SELECT 1 FROM example_Book.chapters example_Book_chapters "
+                + "WHERE example_Book_chapters.title IN (:chapters_title_XXX))) "
+                + "GROUP BY example_Book_publisher.name, example_Book.genre";
+
+        // The order of the extracted predicates, and so of the empty join fragments, is not defined
+        String actual = query.getQueryText().replaceAll("\\s+", " ");
+        actual = actual.replaceFirst(":publisher_name_\\w+", ":publisher_name_XXX");
+        actual = actual.replaceFirst(":chapters_title_\\w+", ":chapters_title_XXX");
+
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testToRows() {
+        Aggregation aggregation = Aggregation.parse(Book.class, dictionary,
+                Arrays.asList("count"), Arrays.asList("genre"));
+        RootCollectionAggregationQueryBuilder builder = new RootCollectionAggregationQueryBuilder(
+                Book.class, aggregation, dictionary, new TestSessionWrapper());
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("genre", "Literary Fiction");
+        row.put("count", 3L);
+        Assert.assertEquals(builder.toRows(Collections.singletonList(new Object[] {"Literary Fiction", 3L})),
+                Collections.singletonList(row));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testJoinStrategyIsFixed() {
+        Aggregation aggregation = Aggregation.parse(Book.class, dictionary,
+                Arrays.asList("count"), Collections.emptyList());
+        new RootCollectionAggregationQueryBuilder(Book.class, aggregation, dictionary, new TestSessionWrapper())
+                .withJoinStrategy(JoinStrategy.JOIN);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionDeleteQueryBuilder;
+import com.yahoo.elide.core.sort.Sorting;
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+
+public class RootCollectionDeleteQueryBuilderTest {
+    private EntityDictionary dictionary;
+
+    @BeforeClass
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+    }
+
+    @Test
+    public void testDeleteWithFilter() {
+        FilterPredicate titlePredicate = new FilterPredicate(
+                new Path.PathElement(Book.class, String.class, "title"),
+                Operator.IN, Arrays.asList("ABC", "DEF"));
+        FilterPredicate genrePredicate = new FilterPredicate(
+                new Path.PathElement(Book.class, String.class, "genre"),
+                Operator.NOTNULL, Arrays.asList());
+        AndFilterExpression expression = new AndFilterExpression(titlePredicate, genrePredicate);
+
+        Assert.assertTrue(RootCollectionDeleteQueryBuilder.canBuild(expression, dictionary));
+
+        TestQueryWrapper query = (TestQueryWrapper) new RootCollectionDeleteQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(expression))
+                .build();
+
+        String expected = "DELETE FROM example.Book AS example_Book "
+                + "WHERE (example_Book.title IN (:title_XXX, :title_XXX) AND example_Book.genre IS NOT NULL)";
+
+        String actual = query.getQueryText().replaceAll(":title_\\w+", ":title_XXX");
+
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testRelationshipFilterNotSupported() {
+        FilterPredicate publisherPredicate = new FilterPredicate(
+                new Path(Arrays.asList(
+                        new Path.PathElement(Book.class, Publisher.class, "publisher"),
+                        new Path.PathElement(Publisher.class, String.class, "name"))),
+                Operator.IN, Arrays.asList("Pub1"));
+
+        Assert.assertFalse(RootCollectionDeleteQueryBuilder.canBuild(publisherPredicate, dictionary));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testDeleteWithSorting() {
+        new RootCollectionDeleteQueryBuilder(Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleSorting(Optional.of(mock(Sorting.class)));
+    }
+}
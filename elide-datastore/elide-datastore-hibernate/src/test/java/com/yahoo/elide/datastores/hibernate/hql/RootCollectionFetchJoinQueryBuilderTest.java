@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchJoinQueryBuilder;
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class RootCollectionFetchJoinQueryBuilderTest {
+    private EntityDictionary dictionary;
+
+    @BeforeClass
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+    }
+
+    @Test
+    public void testFetchJoinPath() {
+        RootCollectionFetchJoinQueryBuilder builder = new RootCollectionFetchJoinQueryBuilder(
+                Book.class, "authors.books", Arrays.asList(new Book(), new Book()), dictionary,
+                new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT DISTINCT example_Book FROM example.Book AS example_Book "
+                + "LEFT JOIN FETCH example_Book.authors example_Book_fetch_authors "
+                + "LEFT JOIN FETCH example_Book_fetch_authors.books example_Book_fetch_authors_books "
+                + "WHERE example_Book IN (:fetch_objects)";
+
+        Assert.assertEquals(query.getQueryText(), expected);
+    }
+}
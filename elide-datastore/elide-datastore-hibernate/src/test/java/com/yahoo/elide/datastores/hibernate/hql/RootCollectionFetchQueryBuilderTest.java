@@ -8,7 +8,9 @@ package com.yahoo.elide.datastores.hibernate.hql;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
 import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.sort.Sorting;
@@ -151,4 +153,75 @@ public class RootCollectionFetchQueryBuilderTest {
 
         Assert.assertEquals(actual, expected);
     }
+
+    @Test
+    public void testRootFetchWithFetchJoins() {
+        RootCollectionFetchQueryBuilder builder = new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper());
+
+        Map<String, Sorting.SortOrder> sorting = new HashMap<>();
+        sorting.put(TITLE, Sorting.SortOrder.asc);
+
+        TestQueryWrapper query = (TestQueryWrapper) builder
+                .withFetchJoins(Arrays.asList(PUBLISHER))
+                .withPossibleSorting(Optional.of(new Sorting(sorting)))
+                .build();
+
+        String expected = "SELECT example_Book FROM example.Book AS example_Book "
+                + "LEFT JOIN FETCH example_Book.publisher example_Book_fetch_publisher  order by example_Book.title asc";
+
+        Assert.assertEquals(query.getQueryText(), expected);
+    }
+
+    @Test
+    public void testRootFetchWithProjection() {
+        RootCollectionFetchQueryBuilder builder = new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder
+                .withFetchJoins(Arrays.asList(PUBLISHER))
+                .withProjection(Arrays.asList("id", TITLE))
+                .build();
+
+        // Fetch joins need the entity in the select clause
+        String expected = "SELECT example_Book.id,example_Book.title FROM example.Book AS example_Book ";
+
+        Assert.assertEquals(query.getQueryText(), expected);
+    }
+
+    @Test
+    public void testRootFetchWithExistsJoinStrategy() {
+        FilterPredicate publisherNamePredicate = new FilterPredicate(new Path(Arrays.asList(
+                new Path.PathElement(Book.class, Publisher.class, PUBLISHER),
+                new Path.PathElement(Publisher.class, String.class, "name"))),
+                Operator.IN, Arrays.asList("Pub1"));
+
+        FilterPredicate authorNamePredicate = new FilterPredicate(new Path(Arrays.asList(
+                new Path.PathElement(Book.class, Author.class, "authors"),
+                new Path.PathElement(Author.class, String.class, "name"))),
+                Operator.IN, Arrays.asList("Ernest"));
+
+        RootCollectionFetchQueryBuilder builder = new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder
+                .withJoinStrategy(JoinStrategy.EXISTS)
+                .withPossibleFilterExpression(Optional.of(
+                        new AndFilterExpression(publisherNamePredicate, authorNamePredicate)))
+                .build();
+
+        // The to-many relationship does not multiply the rows of the paginated query
+        String expected =
+                "SELECT example_Book FROM example.Book AS example_Book  "
+                + "LEFT JOIN example_Book.publisher example_Book_publisher   "
+                + "WHERE (example_Book_publisher.name IN (:publisher_name_XXX) "
+                + "AND EXISTS (SELECT 1 FROM example_Book.authors example_Book_authors "
+                + "WHERE example_Book_authors.name IN (:authors_name_XXX))) ";
+
+        String actual = query.getQueryText();
+        actual = actual.replaceFirst(":publisher_name_\\w+", ":publisher_name_XXX");
+        actual = actual.replaceFirst(":authors_name_\\w+", ":authors_name_XXX");
+
+        Assert.assertEquals(actual, expected);
+    }
 }
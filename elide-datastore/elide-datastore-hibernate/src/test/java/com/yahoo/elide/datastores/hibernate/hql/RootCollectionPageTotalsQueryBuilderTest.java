@@ -8,6 +8,7 @@ package com.yahoo.elide.datastores.hibernate.hql;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
 import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionPageTotalsQueryBuilder;
@@ -128,4 +129,43 @@ public class RootCollectionPageTotalsQueryBuilderTest {
 
         Assert.assertEquals(actual, expected);
     }
+
+    @Test
+    public void testRootFetchWithExistsJoinStrategy() {
+        FilterPredicate titlePredicate = new FilterPredicate(new Path(Arrays.asList(
+                new Path.PathElement(Author.class, Book.class, BOOKS),
+                new Path.PathElement(Book.class, Chapter.class, "chapters"),
+                new Path.PathElement(Chapter.class, String.class, TITLE))),
+                Operator.IN, Arrays.asList("ABC"));
+
+        FilterPredicate publisherNamePredicate = new FilterPredicate(new Path(Arrays.asList(
+                new Path.PathElement(Author.class, Book.class, BOOKS),
+                new Path.PathElement(Book.class, Publisher.class, PUBLISHER),
+                new Path.PathElement(Publisher.class, String.class, "name"))),
+                Operator.IN, Arrays.asList("Pub1"));
+
+        RootCollectionPageTotalsQueryBuilder builder = new RootCollectionPageTotalsQueryBuilder(
+                Author.class, dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder
+                .withJoinStrategy(JoinStrategy.EXISTS)
+                .withPossibleFilterExpression(Optional.of(
+                        new OrFilterExpression(titlePredicate, publisherNamePredicate)))
+                .build();
+
+        String expected =
+                "SELECT COUNT(example_Author)  FROM example.Author AS example_Author   "
+                + "WHERE (EXISTS (SELECT 1 FROM example_Author.books example_Author_books "
+                + "LEFT JOIN example_Author_books.chapters example_Book_chapters "
+                + "WHERE example_Book_chapters.title IN (:books_chapters_title_XXX)) "
+                + "OR EXISTS (SELECT 1 FROM example_Author.books example_Author_books "
+                + "LEFT JOIN example_Author_books.publisher example_Book_publisher "
+                + "WHERE example_Book_publisher.name IN (:books_publisher_name_XXX)))";
+
+        String actual = query.getQueryText();
+        actual = actual.replaceFirst(":books_chapters_title_\\w+", ":books_chapters_title_XXX");
+        actual = actual.replaceFirst(":books_publisher_name_\\w+", ":books_publisher_name_XXX");
+
+        Assert.assertEquals(actual, expected);
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionUpdateQueryBuilder;
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Manuscript;
+import example.Publisher;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class RootCollectionUpdateQueryBuilderTest {
+    private EntityDictionary dictionary;
+
+    @BeforeClass
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+        dictionary.bindEntity(Manuscript.class);
+    }
+
+    @Test
+    public void testUpdateWithFilter() {
+        FilterPredicate titlePredicate = new FilterPredicate(
+                new Path.PathElement(Book.class, String.class, "title"),
+                Operator.IN, Arrays.asList("ABC", "DEF"));
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("genre", "Literary Fiction");
+        attributes.put("language", "English");
+
+        Assert.assertTrue(RootCollectionUpdateQueryBuilder.canBuild(Book.class, titlePredicate, attributes,
+                dictionary));
+
+        TestQueryWrapper query = (TestQueryWrapper) new RootCollectionUpdateQueryBuilder(
+                Book.class, attributes, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(titlePredicate))
+                .build();
+
+        String expected = "UPDATE example.Book AS example_Book "
+                + "SET example_Book.genre = :set_genre, example_Book.language = :set_language "
+                + "WHERE example_Book.title IN (:title_XXX, :title_XXX)";
+
+        String actual = query.getQueryText().replaceAll(":title_\\w+", ":title_XXX");
+
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testRelationshipNotSupported() {
+        FilterPredicate titlePredicate = new FilterPredicate(
+                new Path.PathElement(Book.class, String.class, "title"),
+                Operator.IN, Arrays.asList("ABC"));
+
+        Assert.assertFalse(RootCollectionUpdateQueryBuilder.canBuild(Book.class, titlePredicate,
+                Collections.singletonMap("publisher", null), dictionary));
+    }
+
+    @Test
+    public void testUpdateVersioned() {
+        FilterPredicate titlePredicate = new FilterPredicate(
+                new Path.PathElement(Manuscript.class, String.class, "title"),
+                Operator.IN, Arrays.asList("ABC"));
+
+        Map<String, Object> attributes = Collections.singletonMap("title", "DEF");
+
+        Assert.assertTrue(RootCollectionUpdateQueryBuilder.canBuild(Manuscript.class, titlePredicate, attributes,
+                dictionary));
+
+        TestQueryWrapper query = (TestQueryWrapper) new RootCollectionUpdateQueryBuilder(
+                Manuscript.class, attributes, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(titlePredicate))
+                .build();
+
+        String expected = "UPDATE VERSIONED example.Manuscript AS example_Manuscript "
+                + "SET example_Manuscript.title = :set_title "
+                + "WHERE example_Manuscript.title IN (:title_XXX)";
+
+        String actual = query.getQueryText().replaceAll(":title_\\w+", ":title_XXX");
+
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testVersionNotSupported() {
+        FilterPredicate titlePredicate = new FilterPredicate(
+                new Path.PathElement(Manuscript.class, String.class, "title"),
+                Operator.IN, Arrays.asList("ABC"));
+
+        Assert.assertFalse(RootCollectionUpdateQueryBuilder.canBuild(Manuscript.class, titlePredicate,
+                Collections.singletonMap("lastUpdated", new Date()), dictionary));
+    }
+}
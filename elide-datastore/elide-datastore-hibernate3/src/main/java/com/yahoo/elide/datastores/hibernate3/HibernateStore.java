@@ -10,6 +10,9 @@ import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.HQLFilterOperation;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
+import com.yahoo.elide.core.filter.HQLFilterOperation.SearchRenderer;
 import org.hibernate.EntityMode;
 import org.hibernate.HibernateException;
 import org.hibernate.ScrollMode;
@@ -17,6 +20,9 @@ import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.metadata.ClassMetadata;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Hibernate interface library.
  */
@@ -25,6 +31,8 @@ public class HibernateStore implements DataStore {
     private final boolean isScrollEnabled;
     private final ScrollMode scrollMode;
     private final HibernateTransactionSupplier transactionSupplier;
+    private final JoinStrategy filterJoinStrategy;
+    private final SearchRenderer searchRenderer;
 
     /**
      * Constructor.
@@ -52,9 +60,31 @@ public class HibernateStore implements DataStore {
                              boolean isScrollEnabled,
                              ScrollMode scrollMode,
                              HibernateTransactionSupplier transactionSupplier) {
+        this(aSessionFactory, isScrollEnabled, scrollMode, JoinStrategy.JOIN, HQLFilterOperation.LOCATE_SEARCH,
+                transactionSupplier);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aSessionFactory Session factory
+     * @param isScrollEnabled Whether or not scrolling is enabled on driver
+     * @param scrollMode Scroll mode to use for scrolling driver
+     * @param filterJoinStrategy How collection queries filter on the fields of related entities
+     * @param searchRenderer How collection queries render search filters
+     * @param transactionSupplier Supplier for transaction
+     */
+    protected HibernateStore(SessionFactory aSessionFactory,
+                             boolean isScrollEnabled,
+                             ScrollMode scrollMode,
+                             JoinStrategy filterJoinStrategy,
+                             SearchRenderer searchRenderer,
+                             HibernateTransactionSupplier transactionSupplier) {
         this.sessionFactory = aSessionFactory;
         this.isScrollEnabled = isScrollEnabled;
         this.scrollMode = scrollMode;
+        this.filterJoinStrategy = filterJoinStrategy;
+        this.searchRenderer = searchRenderer;
         this.transactionSupplier = transactionSupplier;
     }
 
@@ -65,11 +95,15 @@ public class HibernateStore implements DataStore {
         private final SessionFactory sessionFactory;
         private boolean isScrollEnabled;
         private ScrollMode scrollMode;
+        private JoinStrategy filterJoinStrategy;
+        private SearchRenderer searchRenderer;
 
         public Builder(final SessionFactory sessionFactory) {
             this.sessionFactory = sessionFactory;
             this.isScrollEnabled = true;
             this.scrollMode = ScrollMode.FORWARD_ONLY;
+            this.filterJoinStrategy = JoinStrategy.JOIN;
+            this.searchRenderer = HQLFilterOperation.LOCATE_SEARCH;
         }
 
         public Builder withScrollEnabled(final boolean isScrollEnabled) {
@@ -82,17 +116,45 @@ public class HibernateStore implements DataStore {
             return this;
         }
 
+        /**
+         * Set how collection queries filter on the fields of related entities. With {@link JoinStrategy#EXISTS},
+         * filters crossing to-many relationships become correlated subqueries instead of joins multiplying the
+         * rows of paginated queries.
+         *
+         * @param filterJoinStrategy the strategy ({@link JoinStrategy#JOIN} by default)
+         * @return the builder
+         */
+        public Builder withFilterJoinStrategy(final JoinStrategy filterJoinStrategy) {
+            this.filterJoinStrategy = filterJoinStrategy;
+            return this;
+        }
+
+        /**
+         * Set how collection queries render search filters (e.g. {@code filter=title=search=foo}), typically with a
+         * full-text function registered in the hibernate dialect (see {@link SearchRenderer#dialectFunction}).
+         *
+         * @param searchRenderer the renderer (a case insensitive substring match by default)
+         * @return the builder
+         */
+        public Builder withSearchRenderer(final SearchRenderer searchRenderer) {
+            this.searchRenderer = searchRenderer;
+            return this;
+        }
+
         public HibernateStore build() {
-            return new HibernateStore(sessionFactory, isScrollEnabled, scrollMode);
+            return new HibernateStore(sessionFactory, isScrollEnabled, scrollMode, filterJoinStrategy,
+                    searchRenderer, HibernateTransaction::new);
         }
     }
 
     @Override
     public void populateEntityDictionary(EntityDictionary dictionary) {
         /* bind all entities */
+        List<Class<?>> mappedClasses = new ArrayList<>();
         for (ClassMetadata meta : sessionFactory.getAllClassMetadata().values()) {
-            dictionary.bindEntity(meta.getMappedClass(EntityMode.POJO));
+            mappedClasses.add(meta.getMappedClass(EntityMode.POJO));
         }
+        dictionary.bindEntities(mappedClasses);
     }
 
     /**
@@ -121,7 +183,7 @@ public class HibernateStore implements DataStore {
         Session session = sessionFactory.getCurrentSession();
         Preconditions.checkNotNull(session);
         session.beginTransaction();
-        return transactionSupplier.get(session, isScrollEnabled, scrollMode);
+        return newTransaction(session);
     }
 
     @Override
@@ -130,7 +192,20 @@ public class HibernateStore implements DataStore {
         Preconditions.checkNotNull(session);
         session.beginTransaction();
         session.setDefaultReadOnly(true);
-        return transactionSupplier.get(session, isScrollEnabled, scrollMode);
+        return newTransaction(session);
+    }
+
+    /**
+     * Create the transaction handler for a session with an open transaction.
+     *
+     * @param session Hibernate session
+     * @return transaction
+     */
+    protected DataStoreTransaction newTransaction(Session session) {
+        HibernateTransaction transaction = transactionSupplier.get(session, isScrollEnabled, scrollMode);
+        transaction.setFilterJoinStrategy(filterJoinStrategy);
+        transaction.setSearchRenderer(searchRenderer);
+        return transaction;
     }
 
     /**
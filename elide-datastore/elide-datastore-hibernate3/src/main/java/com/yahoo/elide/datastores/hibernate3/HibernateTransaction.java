@@ -9,13 +9,21 @@ import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.aggregation.Aggregation;
 import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.HQLFilterOperation;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
+import com.yahoo.elide.core.filter.HQLFilterOperation.SearchRenderer;
 import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.FetchJoinPlanner;
+import com.yahoo.elide.core.hibernate.hql.ProjectionHydrator;
 import com.yahoo.elide.core.hibernate.hql.RelationshipImpl;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionAggregationQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchJoinQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionPageTotalsQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionFetchQueryBuilder;
@@ -27,6 +35,7 @@ import com.yahoo.elide.datastores.hibernate3.porting.SessionWrapper;
 import com.yahoo.elide.security.User;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
 import org.hibernate.ObjectNotFoundException;
 import org.hibernate.ScrollMode;
@@ -38,7 +47,11 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ThreadLocalRandom;
 
 
@@ -53,6 +66,8 @@ public class HibernateTransaction implements DataStoreTransaction {
     private final LinkedHashSet<Runnable> deferredTasks = new LinkedHashSet<>();
     private final boolean isScrollEnabled;
     private final ScrollMode scrollMode;
+    private JoinStrategy filterJoinStrategy = JoinStrategy.JOIN;
+    private SearchRenderer searchRenderer = HQLFilterOperation.LOCATE_SEARCH;
 
     /**
      * Constructor.
@@ -68,16 +83,68 @@ public class HibernateTransaction implements DataStoreTransaction {
         this.scrollMode = scrollMode;
     }
 
+    /**
+     * Set how collection queries filter on the fields of related entities.
+     *
+     * @param filterJoinStrategy the strategy
+     */
+    public void setFilterJoinStrategy(JoinStrategy filterJoinStrategy) {
+        this.filterJoinStrategy = filterJoinStrategy;
+    }
+
+    /**
+     * Set how queries render search filter predicates.
+     *
+     * @param searchRenderer the renderer
+     */
+    public void setSearchRenderer(SearchRenderer searchRenderer) {
+        this.searchRenderer = searchRenderer;
+    }
+
     @Override
     public void delete(Object object, RequestScope scope) {
         deferredTasks.add(() -> session.delete(object));
     }
 
+    @Override
+    public List<Map<String, Object>> aggregate(Class<?> entityClass,
+                                               Optional<FilterExpression> filterExpression,
+                                               Aggregation aggregation,
+                                               RequestScope scope) {
+        RootCollectionAggregationQueryBuilder builder = new RootCollectionAggregationQueryBuilder(
+                entityClass, aggregation, scope.getDictionary(), sessionWrapper);
+        QueryWrapper query = (QueryWrapper) builder
+                .withSearchRenderer(searchRenderer)
+                .withPossibleFilterExpression(filterExpression)
+                .build();
+
+        return builder.toRows(timed(query, scope).list());
+    }
+
     @Override
     public void save(Object object, RequestScope scope) {
         deferredTasks.add(() -> session.saveOrUpdate(object));
     }
 
+    /**
+     * Skip the save when no field changed, and leave attached entities to dirty checking at flush.
+     *
+     * @param object the object to save
+     * @param changedFields the fields changed in the request
+     * @param scope the request scope
+     */
+    @Override
+    public void save(Object object, Set<String> changedFields, RequestScope scope) {
+        if (changedFields.isEmpty()) {
+            return;
+        }
+        deferredTasks.add(() -> {
+            if (!session.contains(object)) {
+                session.saveOrUpdate(object);
+            }
+        });
+    }
+
     @Override
     public void flush(RequestScope requestScope) {
         try {
@@ -93,6 +160,23 @@ public class HibernateTransaction implements DataStoreTransaction {
         }
     }
 
+    @Override
+    public void evict(Iterable<Object> entities, RequestScope scope) {
+        try {
+            deferredTasks.forEach(Runnable::run);
+            deferredTasks.clear();
+            if (session.getFlushMode() == FlushMode.MANUAL || session.getFlushMode() == FlushMode.NEVER) {
+                // Evicting would drop the changes pending in a session which is not flushed
+                return;
+            }
+            session.flush();
+            entities.forEach(session::evict);
+        } catch (HibernateException e) {
+            log.error("Caught hibernate exception during evict", e);
+            throw new TransactionException(e);
+        }
+    }
+
     @Override
     public void commit(RequestScope scope) {
         try {
@@ -142,10 +226,12 @@ public class HibernateTransaction implements DataStoreTransaction {
 
             QueryWrapper query =
                     (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, dictionary, sessionWrapper)
+                    .withJoinStrategy(filterJoinStrategy)
+                    .withSearchRenderer(searchRenderer)
                     .withPossibleFilterExpression(Optional.of(joinedExpression))
                     .build();
 
-            return query.getQuery().uniqueResult();
+            return timed(query, scope).uniqueResult();
         } catch (ObjectNotFoundException e) {
             return null;
         }
@@ -161,21 +247,49 @@ public class HibernateTransaction implements DataStoreTransaction {
 
         pagination.ifPresent(p -> {
             if (p.isGenerateTotals()) {
-                p.setPageTotals(getTotalRecords(entityClass, filterExpression, scope.getDictionary()));
+                p.setPageTotals(getTotalRecords(entityClass, filterExpression, scope));
             }
         });
 
+        FetchJoinPlanner fetchJoinPlanner = new FetchJoinPlanner(scope.getDictionary());
+        Set<String> fetchPaths = scope.getFetchPaths(entityClass);
+        Optional<Set<String>> projection = isScrollEnabled ? Optional.empty() : scope.getProjection(entityClass);
+
         final QueryWrapper query =
                 (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, scope.getDictionary(), sessionWrapper)
+                        .withFetchJoins(fetchJoinPlanner.getJoinedPaths(entityClass, fetchPaths))
+                        .withProjection(projection.orElse(Collections.emptySet()))
+                                .withJoinStrategy(filterJoinStrategy)
+                        .withSearchRenderer(searchRenderer)
                         .withPossibleFilterExpression(filterExpression)
                         .withPossibleSorting(sorting)
                         .withPossiblePagination(pagination)
                         .build();
 
         if (isScrollEnabled) {
-            return new ScrollableIterator<>(query.getQuery().scroll());
+            return new ScrollableIterator<>(timed(query, scope).scroll());
         }
-        return query.getQuery().list();
+
+        if (projection.isPresent()) {
+            return new ProjectionHydrator(entityClass, projection.get(), scope.getDictionary())
+                    .hydrate(timed(query, scope).list());
+        }
+
+        List<Object> results = timed(query, scope).list();
+        if (!results.isEmpty()) {
+            // Initialize the requested collections of the whole page instead of one query per object
+            fetchJoinPlanner.getCollectionPaths(entityClass, fetchPaths, results.size()).forEach(path ->
+                    timed((QueryWrapper) new RootCollectionFetchJoinQueryBuilder(
+                            entityClass, path, results, scope.getDictionary(), sessionWrapper).build(), scope)
+                            .list());
+        }
+        return results;
+    }
+
+    @Override
+    public boolean isRelationUnloaded(Object entity, String relationName, RequestScope scope) {
+        return !Hibernate.isInitialized(
+                com.yahoo.elide.core.PersistentResource.getValue(entity, relationName, scope));
     }
 
     @Override
@@ -204,19 +318,20 @@ public class HibernateTransaction implements DataStoreTransaction {
 
                 pagination.ifPresent(p -> {
                     if (p.isGenerateTotals()) {
-                        p.setPageTotals(getTotalRecords(relationship, filterExpression, dictionary));
+                        p.setPageTotals(getTotalRecords(relationship, filterExpression, scope));
                     }
                 });
 
                 final QueryWrapper query =
                     (QueryWrapper) new SubCollectionFetchQueryBuilder(relationship, dictionary, sessionWrapper)
+                                .withSearchRenderer(searchRenderer)
                                 .withPossibleFilterExpression(filterExpression)
                                 .withPossibleSorting(sorting)
                                 .withPossiblePagination(pagination)
                                 .build();
 
                 if (query != null) {
-                    return query.getQuery().list();
+                    return timed(query, scope).list();
                 }
             }
         }
@@ -232,14 +347,17 @@ public class HibernateTransaction implements DataStoreTransaction {
      */
     private <T> Long getTotalRecords(Class<T> entityClass,
                                      Optional<FilterExpression> filterExpression,
-                                     EntityDictionary dictionary) {
+                                     RequestScope scope) {
 
         QueryWrapper query =
-                (QueryWrapper) new RootCollectionPageTotalsQueryBuilder(entityClass, dictionary, sessionWrapper)
+                (QueryWrapper) new RootCollectionPageTotalsQueryBuilder(
+                        entityClass, scope.getDictionary(), sessionWrapper)
+                        .withJoinStrategy(filterJoinStrategy)
+                        .withSearchRenderer(searchRenderer)
                         .withPossibleFilterExpression(filterExpression)
                         .build();
 
-        return (Long) query.getQuery().uniqueResult();
+        return (Long) timed(query, scope).uniqueResult();
     }
 
     /**
@@ -251,14 +369,28 @@ public class HibernateTransaction implements DataStoreTransaction {
      */
     private <T> Long getTotalRecords(AbstractHQLQueryBuilder.Relationship relationship,
                                      Optional<FilterExpression> filterExpression,
-                                     EntityDictionary dictionary) {
+                                     RequestScope scope) {
 
         QueryWrapper query =
-                (QueryWrapper) new SubCollectionPageTotalsQueryBuilder(relationship, dictionary, sessionWrapper)
+                (QueryWrapper) new SubCollectionPageTotalsQueryBuilder(
+                        relationship, scope.getDictionary(), sessionWrapper)
+                        .withSearchRenderer(searchRenderer)
                         .withPossibleFilterExpression(filterExpression)
                         .build();
 
-        return (Long) query.getQuery().uniqueResult();
+        return (Long) timed(query, scope).uniqueResult();
+    }
+
+    /**
+     * Get a query limited to the time left before the request deadline.
+     * @param query the query
+     * @param scope the request scope
+     * @return the query to run
+     */
+    private static org.hibernate.Query timed(QueryWrapper query, RequestScope scope) {
+        scope.getDeadline().getRemaining(TimeUnit.SECONDS)
+                .ifPresent(seconds -> query.getQuery().setTimeout((int) Math.min(seconds, Integer.MAX_VALUE)));
+        return query.getQuery();
     }
 
     @Override
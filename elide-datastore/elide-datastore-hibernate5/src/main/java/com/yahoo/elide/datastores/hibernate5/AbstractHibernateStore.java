@@ -8,12 +8,17 @@ package com.yahoo.elide.datastores.hibernate5;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.HQLFilterOperation;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
+import com.yahoo.elide.core.filter.HQLFilterOperation.SearchRenderer;
 import org.hibernate.ScrollMode;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.jpa.HibernateEntityManager;
 
 import javax.persistence.metamodel.EntityType;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Hibernate interface library.
@@ -23,6 +28,10 @@ public abstract class AbstractHibernateStore implements DataStore {
     protected final boolean isScrollEnabled;
     protected final ScrollMode scrollMode;
     protected final HibernateTransactionSupplier transactionSupplier;
+    protected final Integer fetchSize;
+    protected final boolean isReadOnlyReads;
+    protected final JoinStrategy filterJoinStrategy;
+    protected final SearchRenderer searchRenderer;
 
     /**
      * Constructor.
@@ -50,9 +59,56 @@ public abstract class AbstractHibernateStore implements DataStore {
                                      boolean isScrollEnabled,
                                      ScrollMode scrollMode,
                                      HibernateTransactionSupplier transactionSupplier) {
+        this(aSessionFactory, isScrollEnabled, scrollMode, null, false, transactionSupplier);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aSessionFactory Session factory
+     * @param isScrollEnabled Whether or not scrolling is enabled on driver
+     * @param scrollMode Scroll mode to use for scrolling driver
+     * @param fetchSize JDBC fetch size of collection queries or null for the driver default
+     * @param isReadOnlyReads Whether read transactions use a read-only session
+     * @param transactionSupplier Supplier for transaction
+     */
+    protected AbstractHibernateStore(SessionFactory aSessionFactory,
+                                     boolean isScrollEnabled,
+                                     ScrollMode scrollMode,
+                                     Integer fetchSize,
+                                     boolean isReadOnlyReads,
+                                     HibernateTransactionSupplier transactionSupplier) {
+        this(aSessionFactory, isScrollEnabled, scrollMode, fetchSize, isReadOnlyReads, JoinStrategy.JOIN,
+                HQLFilterOperation.LOCATE_SEARCH, transactionSupplier);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aSessionFactory Session factory
+     * @param isScrollEnabled Whether or not scrolling is enabled on driver
+     * @param scrollMode Scroll mode to use for scrolling driver
+     * @param fetchSize JDBC fetch size of collection queries or null for the driver default
+     * @param isReadOnlyReads Whether read transactions use a read-only session
+     * @param filterJoinStrategy How collection queries filter on the fields of related entities
+     * @param searchRenderer How collection queries render search filters
+     * @param transactionSupplier Supplier for transaction
+     */
+    protected AbstractHibernateStore(SessionFactory aSessionFactory,
+                                     boolean isScrollEnabled,
+                                     ScrollMode scrollMode,
+                                     Integer fetchSize,
+                                     boolean isReadOnlyReads,
+                                     JoinStrategy filterJoinStrategy,
+                                     SearchRenderer searchRenderer,
+                                     HibernateTransactionSupplier transactionSupplier) {
         this.sessionFactory = aSessionFactory;
         this.isScrollEnabled = isScrollEnabled;
         this.scrollMode = scrollMode;
+        this.fetchSize = fetchSize;
+        this.isReadOnlyReads = isReadOnlyReads;
+        this.filterJoinStrategy = filterJoinStrategy;
+        this.searchRenderer = searchRenderer;
         this.transactionSupplier = transactionSupplier;
     }
 
@@ -64,11 +120,17 @@ public abstract class AbstractHibernateStore implements DataStore {
         private final HibernateEntityManager entityManager;
         private boolean isScrollEnabled;
         private ScrollMode scrollMode;
+        private Integer fetchSize;
+        private boolean isReadOnlyReads;
+        private JoinStrategy filterJoinStrategy;
+        private SearchRenderer searchRenderer;
 
         public Builder(final SessionFactory sessionFactory) {
             this.sessionFactory = sessionFactory;
             this.isScrollEnabled = true;
             this.scrollMode = ScrollMode.FORWARD_ONLY;
+            this.filterJoinStrategy = JoinStrategy.JOIN;
+            this.searchRenderer = HQLFilterOperation.LOCATE_SEARCH;
             this.entityManager = null;
         }
 
@@ -76,6 +138,8 @@ public abstract class AbstractHibernateStore implements DataStore {
             this.sessionFactory = null;
             this.isScrollEnabled = true;
             this.scrollMode = ScrollMode.FORWARD_ONLY;
+            this.filterJoinStrategy = JoinStrategy.JOIN;
+            this.searchRenderer = HQLFilterOperation.LOCATE_SEARCH;
             this.entityManager = entityManager;
         }
 
@@ -89,11 +153,62 @@ public abstract class AbstractHibernateStore implements DataStore {
             return this;
         }
 
+        /**
+         * Set the JDBC fetch size of collection queries.
+         *
+         * @param fetchSize rows fetched per round trip
+         * @return the builder
+         */
+        public Builder withFetchSize(final int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Run read transactions in a read-only session: loaded entities keep no snapshot for dirty checking,
+         * scrolling is {@link ScrollMode#FORWARD_ONLY} and the persistence context is cleared once the request
+         * is done. Changes made to entities in a read transaction (e.g. by read triggers) are not persisted.
+         *
+         * @param isReadOnlyReads Whether read transactions use a read-only session
+         * @return the builder
+         */
+        public Builder withReadOnlyReads(final boolean isReadOnlyReads) {
+            this.isReadOnlyReads = isReadOnlyReads;
+            return this;
+        }
+
+        /**
+         * Set how collection queries filter on the fields of related entities. With {@link JoinStrategy#EXISTS},
+         * filters crossing to-many relationships become correlated subqueries instead of joins multiplying the
+         * rows of paginated queries.
+         *
+         * @param filterJoinStrategy the strategy ({@link JoinStrategy#JOIN} by default)
+         * @return the builder
+         */
+        public Builder withFilterJoinStrategy(final JoinStrategy filterJoinStrategy) {
+            this.filterJoinStrategy = filterJoinStrategy;
+            return this;
+        }
+
+        /**
+         * Set how collection queries render search filters (e.g. {@code filter=title=search=foo}), typically with a
+         * full-text function registered in the hibernate dialect (see {@link SearchRenderer#dialectFunction}).
+         *
+         * @param searchRenderer the renderer (a case insensitive substring match by default)
+         * @return the builder
+         */
+        public Builder withSearchRenderer(final SearchRenderer searchRenderer) {
+            this.searchRenderer = searchRenderer;
+            return this;
+        }
+
         public AbstractHibernateStore build() {
             if (sessionFactory != null) {
-                return new HibernateSessionFactoryStore(sessionFactory, isScrollEnabled, scrollMode);
+                return new HibernateSessionFactoryStore(sessionFactory, isScrollEnabled, scrollMode,
+                        fetchSize, isReadOnlyReads, filterJoinStrategy, searchRenderer);
             } else if (entityManager != null) {
-                return new HibernateEntityManagerStore(entityManager, isScrollEnabled, scrollMode);
+                return new HibernateEntityManagerStore(entityManager, isScrollEnabled, scrollMode,
+                        fetchSize, isReadOnlyReads, filterJoinStrategy, searchRenderer);
             }
             throw new IllegalStateException("Either an EntityManager or SessionFactory is required!");
         }
@@ -102,6 +217,7 @@ public abstract class AbstractHibernateStore implements DataStore {
     @Override
     public void populateEntityDictionary(EntityDictionary dictionary) {
         /* bind all entities */
+        List<Class<?>> mappedClasses = new ArrayList<>();
         for (EntityType type : sessionFactory.getMetamodel().getEntities()) {
             try {
                 Class mappedClass = type.getJavaType();
@@ -110,7 +226,7 @@ public abstract class AbstractHibernateStore implements DataStore {
                 dictionary.lookupEntityClass(mappedClass);
 
                 // Bind if successful
-                dictionary.bindEntity(mappedClass);
+                mappedClasses.add(mappedClass);
             } catch (IllegalArgumentException e)  {
                 // Ignore this entity
                 // Turns out that hibernate may include non-entity types in this list when using things
@@ -118,6 +234,7 @@ public abstract class AbstractHibernateStore implements DataStore {
                 // dictionary
             }
         }
+        dictionary.bindEntities(mappedClasses);
     }
 
     /**
@@ -135,6 +252,35 @@ public abstract class AbstractHibernateStore implements DataStore {
     @Override
     abstract public DataStoreTransaction beginTransaction();
 
+    /**
+     * Start Hibernate transaction for a read only request.
+     *
+     * @return transaction
+     */
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        if (!isReadOnlyReads) {
+            return beginTransaction();
+        }
+        Session session = getSession();
+        session.setDefaultReadOnly(true);
+        return beginTransaction();
+    }
+
+    /**
+     * Create the transaction handler for a session with an open transaction.
+     *
+     * @param session Hibernate session
+     * @return transaction
+     */
+    protected DataStoreTransaction newTransaction(Session session) {
+        HibernateTransaction transaction = transactionSupplier.get(session, isScrollEnabled, scrollMode);
+        transaction.setFetchSize(fetchSize);
+        transaction.setFilterJoinStrategy(filterJoinStrategy);
+        transaction.setSearchRenderer(searchRenderer);
+        return transaction;
+    }
+
     /**
      * Functional interface for describing a method to supply a custom Hibernate transaction.
      */
@@ -7,11 +7,17 @@ package com.yahoo.elide.datastores.hibernate5;
 
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.HQLFilterOperation;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
+import com.yahoo.elide.core.filter.HQLFilterOperation.SearchRenderer;
 import org.hibernate.ScrollMode;
 import org.hibernate.Session;
 import org.hibernate.jpa.HibernateEntityManager;
 import org.hibernate.metadata.ClassMetadata;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Hibernate5 store supporting the EntityManager.
  */
@@ -21,7 +27,27 @@ public class HibernateEntityManagerStore extends AbstractHibernateStore {
     public HibernateEntityManagerStore(HibernateEntityManager entityManager,
                                        boolean isScrollEnabled,
                                        ScrollMode scrollMode) {
-        super(null, isScrollEnabled, scrollMode);
+        this(entityManager, isScrollEnabled, scrollMode, null, false);
+    }
+
+    public HibernateEntityManagerStore(HibernateEntityManager entityManager,
+                                       boolean isScrollEnabled,
+                                       ScrollMode scrollMode,
+                                       Integer fetchSize,
+                                       boolean isReadOnlyReads) {
+        this(entityManager, isScrollEnabled, scrollMode, fetchSize, isReadOnlyReads, JoinStrategy.JOIN,
+                HQLFilterOperation.LOCATE_SEARCH);
+    }
+
+    public HibernateEntityManagerStore(HibernateEntityManager entityManager,
+                                       boolean isScrollEnabled,
+                                       ScrollMode scrollMode,
+                                       Integer fetchSize,
+                                       boolean isReadOnlyReads,
+                                       JoinStrategy filterJoinStrategy,
+                                       SearchRenderer searchRenderer) {
+        super(null, isScrollEnabled, scrollMode, fetchSize, isReadOnlyReads, filterJoinStrategy,
+                searchRenderer, HibernateTransaction::new);
         this.entityManager = entityManager;
     }
 
@@ -46,7 +72,7 @@ public class HibernateEntityManagerStore extends AbstractHibernateStore {
         Session session = getSession();
         session.beginTransaction();
         session.clear();
-        return transactionSupplier.get(session, isScrollEnabled, scrollMode);
+        return newTransaction(session);
     }
 
     /**
@@ -57,8 +83,10 @@ public class HibernateEntityManagerStore extends AbstractHibernateStore {
     @Override
     public void populateEntityDictionary(EntityDictionary dictionary) {
         /* bind all entities */
+        List<Class<?>> mappedClasses = new ArrayList<>();
         for (ClassMetadata meta : getSession().getSessionFactory().getAllClassMetadata().values()) {
-            dictionary.bindEntity(meta.getMappedClass());
+            mappedClasses.add(meta.getMappedClass());
         }
+        dictionary.bindEntities(mappedClasses);
     }
 }
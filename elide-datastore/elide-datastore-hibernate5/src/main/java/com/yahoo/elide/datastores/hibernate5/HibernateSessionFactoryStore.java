@@ -8,6 +8,9 @@ package com.yahoo.elide.datastores.hibernate5;
 import com.google.common.base.Preconditions;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.HQLFilterOperation;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
+import com.yahoo.elide.core.filter.HQLFilterOperation.SearchRenderer;
 import org.hibernate.HibernateException;
 import org.hibernate.ScrollMode;
 import org.hibernate.Session;
@@ -24,6 +27,26 @@ public class HibernateSessionFactoryStore extends AbstractHibernateStore {
         super(aSessionFactory, isScrollEnabled, scrollMode);
     }
 
+    protected HibernateSessionFactoryStore(SessionFactory aSessionFactory,
+                                           boolean isScrollEnabled,
+                                           ScrollMode scrollMode,
+                                           Integer fetchSize,
+                                           boolean isReadOnlyReads) {
+        this(aSessionFactory, isScrollEnabled, scrollMode, fetchSize, isReadOnlyReads, JoinStrategy.JOIN,
+                HQLFilterOperation.LOCATE_SEARCH);
+    }
+
+    public HibernateSessionFactoryStore(SessionFactory aSessionFactory,
+                                        boolean isScrollEnabled,
+                                        ScrollMode scrollMode,
+                                        Integer fetchSize,
+                                        boolean isReadOnlyReads,
+                                        JoinStrategy filterJoinStrategy,
+                                        SearchRenderer searchRenderer) {
+        super(aSessionFactory, isScrollEnabled, scrollMode, fetchSize, isReadOnlyReads, filterJoinStrategy,
+                searchRenderer, HibernateTransaction::new);
+    }
+
     /**
      * Get current Hibernate session.
      *
@@ -51,6 +74,6 @@ public class HibernateSessionFactoryStore extends AbstractHibernateStore {
         Session session = sessionFactory.getCurrentSession();
         Preconditions.checkNotNull(session);
         session.beginTransaction();
-        return transactionSupplier.get(session, isScrollEnabled, scrollMode);
+        return newTransaction(session);
     }
 }
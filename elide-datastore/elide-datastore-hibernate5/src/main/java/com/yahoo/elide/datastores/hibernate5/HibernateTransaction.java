@@ -9,15 +9,25 @@ import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.aggregation.Aggregation;
 import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.HQLFilterOperation;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
+import com.yahoo.elide.core.filter.HQLFilterOperation.SearchRenderer;
 import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.FetchJoinPlanner;
+import com.yahoo.elide.core.hibernate.hql.ProjectionHydrator;
 import com.yahoo.elide.core.hibernate.hql.RelationshipImpl;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionAggregationQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionDeleteQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchJoinQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionUpdateQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionPageTotalsQueryBuilder;
 import com.yahoo.elide.core.pagination.Pagination;
@@ -27,6 +37,7 @@ import com.yahoo.elide.datastores.hibernate5.porting.SessionWrapper;
 import com.yahoo.elide.security.User;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
 import org.hibernate.ObjectNotFoundException;
 import org.hibernate.ScrollMode;
@@ -39,7 +50,11 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Hibernate Transaction implementation.
@@ -52,10 +67,18 @@ public class HibernateTransaction implements DataStoreTransaction {
     private final LinkedHashSet<Runnable> deferredTasks = new LinkedHashSet<>();
     private final boolean isScrollEnabled;
     private final ScrollMode scrollMode;
+    private JoinStrategy filterJoinStrategy = JoinStrategy.JOIN;
+    private SearchRenderer searchRenderer = HQLFilterOperation.LOCATE_SEARCH;
+    private final boolean isReadOnly;
+    private Integer fetchSize;
 
     /**
      * Constructor.
      *
+     * A session which is {@link Session#isDefaultReadOnly() read-only by default} makes this a read-only transaction:
+     * loaded entities keep no snapshot for dirty checking and the persistence context is cleared when the
+     * transaction is closed.
+     *
      * @param session Hibernate session
      * @param isScrollEnabled Whether or not scrolling is enabled
      * @param scrollMode Scroll mode to use if scrolling enabled
@@ -65,6 +88,34 @@ public class HibernateTransaction implements DataStoreTransaction {
         this.sessionWrapper = new SessionWrapper(session);
         this.isScrollEnabled = isScrollEnabled;
         this.scrollMode = scrollMode;
+        this.isReadOnly = session.isDefaultReadOnly();
+    }
+
+    /**
+     * Set the JDBC fetch size of collection queries.
+     *
+     * @param fetchSize rows fetched per round trip or null for the driver default
+     */
+    public void setFetchSize(Integer fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Set how collection queries filter on the fields of related entities.
+     *
+     * @param filterJoinStrategy the strategy
+     */
+    public void setFilterJoinStrategy(JoinStrategy filterJoinStrategy) {
+        this.filterJoinStrategy = filterJoinStrategy;
+    }
+
+    /**
+     * Set how queries render search filter predicates.
+     *
+     * @param searchRenderer the renderer
+     */
+    public void setSearchRenderer(SearchRenderer searchRenderer) {
+        this.searchRenderer = searchRenderer;
     }
 
     @Override
@@ -72,11 +123,98 @@ public class HibernateTransaction implements DataStoreTransaction {
         deferredTasks.add(() -> session.delete(object));
     }
 
+    @Override
+    public boolean supportsBulkDelete(Class<?> entityClass, FilterExpression filterExpression, RequestScope scope) {
+        return RootCollectionDeleteQueryBuilder.canBuild(filterExpression, scope.getDictionary());
+    }
+
+    @Override
+    public long deleteObjects(Class<?> entityClass, FilterExpression filterExpression, RequestScope scope) {
+        // Write what the request queued so far, the statement bypasses the session
+        flush(scope);
+
+        QueryWrapper query = (QueryWrapper)
+                new RootCollectionDeleteQueryBuilder(entityClass, scope.getDictionary(), sessionWrapper)
+                        .withSearchRenderer(searchRenderer)
+                        .withPossibleFilterExpression(Optional.of(filterExpression))
+                        .build();
+        try {
+            return query.getQuery().executeUpdate();
+        } catch (HibernateException e) {
+            throw new TransactionException(e);
+        }
+    }
+
+    @Override
+    public boolean supportsBulkUpdate(Class<?> entityClass,
+                                      FilterExpression filterExpression,
+                                      Map<String, Object> attributes,
+                                      RequestScope scope) {
+        return RootCollectionUpdateQueryBuilder.canBuild(entityClass, filterExpression, attributes,
+                scope.getDictionary());
+    }
+
+    @Override
+    public long updateObjects(Class<?> entityClass,
+                              FilterExpression filterExpression,
+                              Map<String, Object> attributes,
+                              RequestScope scope) {
+        // Write what the request queued so far, the statement bypasses the session
+        flush(scope);
+
+        QueryWrapper query = (QueryWrapper)
+                new RootCollectionUpdateQueryBuilder(entityClass, attributes, scope.getDictionary(), sessionWrapper)
+                        .withSearchRenderer(searchRenderer)
+                        .withPossibleFilterExpression(Optional.of(filterExpression))
+                        .build();
+        try {
+            return query.getQuery().executeUpdate();
+        } catch (HibernateException e) {
+            throw new TransactionException(e);
+        }
+    }
+
+    @Override
+    public List<Map<String, Object>> aggregate(Class<?> entityClass,
+                                               Optional<FilterExpression> filterExpression,
+                                               Aggregation aggregation,
+                                               RequestScope scope) {
+        RootCollectionAggregationQueryBuilder builder = new RootCollectionAggregationQueryBuilder(
+                entityClass, aggregation, scope.getDictionary(), sessionWrapper);
+        QueryWrapper query = (QueryWrapper) builder
+                .withSearchRenderer(searchRenderer)
+                .withPossibleFilterExpression(filterExpression)
+                .build();
+
+        return builder.toRows(timed(query, scope).list());
+    }
+
     @Override
     public void save(Object object, RequestScope scope) {
         deferredTasks.add(() -> session.saveOrUpdate(object));
     }
 
+    /**
+     * Skip the save when no field changed. Attached entities are written by dirty checking at flush and detached
+     * ones are reattached with saveOrUpdate, which checks their version. Entities mapped with
+     * {@code @DynamicUpdate} (and {@code @SelectBeforeUpdate} when detached) only update the modified columns.
+     *
+     * @param object the object to save
+     * @param changedFields the fields changed in the request
+     * @param scope the request scope
+     */
+    @Override
+    public void save(Object object, Set<String> changedFields, RequestScope scope) {
+        if (changedFields.isEmpty()) {
+            return;
+        }
+        deferredTasks.add(() -> {
+            if (!session.contains(object)) {
+                session.saveOrUpdate(object);
+            }
+        });
+    }
+
     @Override
     public void flush(RequestScope requestScope) {
         try {
@@ -92,6 +230,23 @@ public class HibernateTransaction implements DataStoreTransaction {
         }
     }
 
+    @Override
+    public void evict(Iterable<Object> entities, RequestScope scope) {
+        try {
+            deferredTasks.forEach(Runnable::run);
+            deferredTasks.clear();
+            if (session.getHibernateFlushMode() == FlushMode.MANUAL) {
+                // Evicting would drop the changes pending in a session which is not flushed
+                return;
+            }
+            session.flush();
+            entities.forEach(session::evict);
+        } catch (HibernateException e) {
+            log.error("Caught hibernate exception during evict", e);
+            throw new TransactionException(e);
+        }
+    }
+
     @Override
     public void commit(RequestScope scope) {
         try {
@@ -141,10 +296,12 @@ public class HibernateTransaction implements DataStoreTransaction {
 
             QueryWrapper query =
                     (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, dictionary, sessionWrapper)
+                    .withJoinStrategy(filterJoinStrategy)
+                    .withSearchRenderer(searchRenderer)
                     .withPossibleFilterExpression(Optional.of(joinedExpression))
                     .build();
 
-            return query.getQuery().uniqueResult();
+            return timed(query, scope).uniqueResult();
         } catch (ObjectNotFoundException e) {
             return null;
         }
@@ -160,22 +317,56 @@ public class HibernateTransaction implements DataStoreTransaction {
 
         pagination.ifPresent(p -> {
             if (p.isGenerateTotals()) {
-                p.setPageTotals(getTotalRecords(entityClass, filterExpression, scope.getDictionary()));
+                p.setPageTotals(getTotalRecords(entityClass, filterExpression, scope));
             }
         });
 
+        FetchJoinPlanner fetchJoinPlanner = new FetchJoinPlanner(scope.getDictionary());
+        Set<String> fetchPaths = scope.getFetchPaths(entityClass);
+        Optional<Set<String>> projection = isScrollEnabled ? Optional.empty() : scope.getProjection(entityClass);
+
         final QueryWrapper query =
                 (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, scope.getDictionary(), sessionWrapper)
+                        .withFetchJoins(fetchJoinPlanner.getJoinedPaths(entityClass, fetchPaths))
+                        .withProjection(projection.orElse(Collections.emptySet()))
+                        .withJoinStrategy(filterJoinStrategy)
+                        .withSearchRenderer(searchRenderer)
                         .withPossibleFilterExpression(filterExpression)
                         .withPossibleSorting(sorting)
                         .withPossiblePagination(pagination)
                         .build();
 
 
+        if (fetchSize != null) {
+            query.getQuery().setFetchSize(fetchSize);
+        }
+        if (isScrollEnabled && isReadOnly) {
+            return new ScrollableIterator<>(timed(query, scope).scroll(ScrollMode.FORWARD_ONLY));
+        }
         if (isScrollEnabled) {
-            return new ScrollableIterator<>(query.getQuery().scroll());
+            return new ScrollableIterator<>(timed(query, scope).scroll());
+        }
+
+        if (projection.isPresent()) {
+            return new ProjectionHydrator(entityClass, projection.get(), scope.getDictionary())
+                    .hydrate(timed(query, scope).list());
         }
-        return query.getQuery().list();
+
+        List<Object> results = timed(query, scope).list();
+        if (!results.isEmpty()) {
+            // Initialize the requested collections of the whole page instead of one query per object
+            fetchJoinPlanner.getCollectionPaths(entityClass, fetchPaths, results.size()).forEach(path ->
+                    timed((QueryWrapper) new RootCollectionFetchJoinQueryBuilder(
+                            entityClass, path, results, scope.getDictionary(), sessionWrapper).build(), scope)
+                            .list());
+        }
+        return results;
+    }
+
+    @Override
+    public boolean isRelationUnloaded(Object entity, String relationName, RequestScope scope) {
+        return !Hibernate.isInitialized(
+                com.yahoo.elide.core.PersistentResource.getValue(entity, relationName, scope));
     }
 
     @Override
@@ -204,19 +395,20 @@ public class HibernateTransaction implements DataStoreTransaction {
 
                 pagination.ifPresent(p -> {
                     if (p.isGenerateTotals()) {
-                        p.setPageTotals(getTotalRecords(relationship, filterExpression, dictionary));
+                        p.setPageTotals(getTotalRecords(relationship, filterExpression, scope));
                     }
                 });
 
                 final QueryWrapper query = (QueryWrapper)
                         new SubCollectionFetchQueryBuilder(relationship, dictionary, sessionWrapper)
+                                .withSearchRenderer(searchRenderer)
                                 .withPossibleFilterExpression(filterExpression)
                                 .withPossibleSorting(sorting)
                                 .withPossiblePagination(pagination)
                                 .build();
 
                 if (query != null) {
-                    return query.getQuery().list();
+                    return timed(query, scope).list();
                 }
             }
         }
@@ -227,45 +419,65 @@ public class HibernateTransaction implements DataStoreTransaction {
      * Returns the total record count for a root entity and an optional filter expression.
      * @param entityClass The entity type to count
      * @param filterExpression optional security and request filters
-     * @param dictionary the entity dictionary
+     * @param scope the request scope
      * @param <T> The type of entity
      * @return The total row count.
      */
     private <T> Long getTotalRecords(Class<T> entityClass,
                                      Optional<FilterExpression> filterExpression,
-                                     EntityDictionary dictionary) {
+                                     RequestScope scope) {
 
 
         QueryWrapper query = (QueryWrapper)
-                new RootCollectionPageTotalsQueryBuilder(entityClass, dictionary, sessionWrapper)
+                new RootCollectionPageTotalsQueryBuilder(entityClass, scope.getDictionary(), sessionWrapper)
+                .withJoinStrategy(filterJoinStrategy)
+                .withSearchRenderer(searchRenderer)
                 .withPossibleFilterExpression(filterExpression)
                 .build();
 
-        return (Long) query.getQuery().uniqueResult();
+        return (Long) timed(query, scope).uniqueResult();
     }
 
     /**
      * Returns the total record count for a entity relationship
      * @param relationship The relationship
      * @param filterExpression optional security and request filters
-     * @param dictionary the entity dictionary
+     * @param scope the request scope
      * @param <T> The type of entity
      * @return The total row count.
      */
     private <T> Long getTotalRecords(AbstractHQLQueryBuilder.Relationship relationship,
                                      Optional<FilterExpression> filterExpression,
-                                     EntityDictionary dictionary) {
+                                     RequestScope scope) {
 
         QueryWrapper query = (QueryWrapper)
-                new SubCollectionPageTotalsQueryBuilder(relationship, dictionary, sessionWrapper)
+                new SubCollectionPageTotalsQueryBuilder(relationship, scope.getDictionary(), sessionWrapper)
+                .withSearchRenderer(searchRenderer)
                 .withPossibleFilterExpression(filterExpression)
                 .build();
 
-        return (Long) query.getQuery().uniqueResult();
+        return (Long) timed(query, scope).uniqueResult();
+    }
+
+    /**
+     * Get a query limited to the time left before the request deadline.
+     * @param query the query
+     * @param scope the request scope
+     * @return the query to run
+     */
+    private static org.hibernate.Query timed(QueryWrapper query, RequestScope scope) {
+        scope.getDeadline().getRemaining(TimeUnit.SECONDS)
+                .ifPresent(seconds -> query.getQuery().setTimeout((int) Math.min(seconds, Integer.MAX_VALUE)));
+        return query.getQuery();
     }
 
     @Override
     public void close() throws IOException {
+        if (isReadOnly && session.isOpen()) {
+            // The response is serialized by now: release the entities of this request
+            session.clear();
+            session.setDefaultReadOnly(false);
+        }
         if (session.isOpen() && session.getTransaction().getStatus() == TransactionStatus.ACTIVE) {
             session.getTransaction().rollback();
             throw new IOException("Transaction not closed");
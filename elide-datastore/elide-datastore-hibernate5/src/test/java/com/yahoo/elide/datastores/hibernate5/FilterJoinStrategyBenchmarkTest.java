@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate5;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.Deadline;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.HQLFilterOperation;
+import com.yahoo.elide.core.filter.HQLFilterOperation.JoinStrategy;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.utils.ClassScanner;
+
+import com.google.common.collect.Lists;
+import example.Author;
+import example.Book;
+import example.Parent;
+import example.TestCheckMappings;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.H2Dialect;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+
+/**
+ * Compares the filter join strategies on an in-memory H2 database.
+ */
+@Slf4j
+public class FilterJoinStrategyBenchmarkTest {
+    private static final int AUTHORS = 2_000;
+    private static final int BOOKS_PER_AUTHOR = 20;
+    private static final int ITERATIONS = 200;
+
+    /**
+     * Benchmark of a paginated root collection with page totals: the authors of books matching a title filter,
+     * joined to their books (the default) or matched with an EXISTS subquery.
+     * Disabled in the unit suite, enable it to run it manually.
+     */
+    @Test(enabled = false)
+    public void testJoinAgainstExists() throws Exception {
+        MetadataSources metadataSources = new MetadataSources(new StandardServiceRegistryBuilder()
+                .applySetting(Environment.DRIVER, "org.h2.Driver")
+                .applySetting(Environment.URL, "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1")
+                .applySetting(Environment.DIALECT, H2Dialect.class.getName())
+                .applySetting(Environment.HBM2DDL_AUTO, "create-drop")
+                .applySetting(Environment.CURRENT_SESSION_CONTEXT_CLASS, "thread")
+                .build());
+        ClassScanner.getAnnotatedClasses(Parent.class.getPackage(), Entity.class)
+                .forEach(metadataSources::addAnnotatedClass);
+
+        try (SessionFactory sessionFactory = metadataSources.buildMetadata().buildSessionFactory()) {
+            populate(sessionFactory);
+
+            // Every author has a book whose title matches
+            FilterExpression filter = new FilterPredicate(new Path(Arrays.asList(
+                    new Path.PathElement(Author.class, Book.class, "books"),
+                    new Path.PathElement(Book.class, String.class, "title"))),
+                    Operator.PREFIX, Collections.singletonList("Title 1"));
+
+            Map<JoinStrategy, Long> nanos = new EnumMap<>(JoinStrategy.class);
+            for (JoinStrategy strategy : JoinStrategy.values()) {
+                HibernateSessionFactoryStore store = new HibernateSessionFactoryStore(sessionFactory, false,
+                        ScrollMode.FORWARD_ONLY, null, true, strategy, HQLFilterOperation.LOCATE_SEARCH);
+                EntityDictionary dictionary = new EntityDictionary(TestCheckMappings.MAPPINGS);
+                store.populateEntityDictionary(dictionary);
+                RequestScope scope = mock(RequestScope.class);
+                when(scope.getDictionary()).thenReturn(dictionary);
+                when(scope.getDeadline()).thenReturn(Deadline.none());
+
+                // Warm up
+                run(store, filter, scope, ITERATIONS);
+                nanos.put(strategy, run(store, filter, scope, ITERATIONS));
+            }
+
+            log.info("{} pages of authors filtered on their books: JOIN {} ms, EXISTS {} ms", ITERATIONS,
+                    TimeUnit.NANOSECONDS.toMillis(nanos.get(JoinStrategy.JOIN)),
+                    TimeUnit.NANOSECONDS.toMillis(nanos.get(JoinStrategy.EXISTS)));
+        }
+    }
+
+    private static void populate(SessionFactory sessionFactory) {
+        Session session = sessionFactory.getCurrentSession();
+        session.beginTransaction();
+        for (int i = 0; i < AUTHORS; i++) {
+            Author author = new Author();
+            author.setName("Author " + i);
+            session.save(author);
+            for (int j = 0; j < BOOKS_PER_AUTHOR; j++) {
+                Book book = new Book();
+                book.setTitle("Title " + j);
+                book.getAuthors().add(author);
+                session.save(book);
+            }
+            if (i % 100 == 0) {
+                session.flush();
+                session.clear();
+            }
+        }
+        session.getTransaction().commit();
+    }
+
+    private static long run(HibernateSessionFactoryStore store, FilterExpression filter, RequestScope scope,
+                            int iterations) throws Exception {
+        long begin = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            Pagination pagination = Pagination.fromOffsetAndFirst(Optional.of("10"),
+                    Optional.of(String.valueOf(i * 10 % AUTHORS)), true, new ElideSettingsBuilder(null).build())
+                    .get().evaluate(Author.class);
+            try (DataStoreTransaction tx = store.beginReadTransaction()) {
+                assertEquals(Lists.newArrayList(tx.loadObjects(Author.class, Optional.of(filter), Optional.empty(),
+                        Optional.of(pagination), scope)).size(), 10);
+                assertEquals(pagination.getPageTotals(), AUTHORS);
+                tx.commit(scope);
+            }
+        }
+        return System.nanoTime() - begin;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jdbc;
+
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+
+import lombok.Getter;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Column holding an attribute or the id of an entity.
+ */
+public class ColumnMapping {
+    @Getter private final String column;
+    @Getter private final PropertyAccessor accessor;
+    private final boolean enumByName;
+
+    /**
+     * Constructor.
+     *
+     * @param column the column name
+     * @param accessor accesses the mapped property
+     * @param enumByName whether an enum property is stored by name rather than by ordinal
+     */
+    public ColumnMapping(String column, PropertyAccessor accessor, boolean enumByName) {
+        this.column = column;
+        this.accessor = accessor;
+        this.enumByName = enumByName;
+    }
+
+    public String getProperty() {
+        return accessor.getName();
+    }
+
+    /**
+     * Convert a property value to a JDBC parameter.
+     *
+     * @param value the property value
+     * @return the parameter
+     */
+    public Object toJdbc(Object value) {
+        if (value instanceof Enum) {
+            return enumByName ? ((Enum<?>) value).name() : ((Enum<?>) value).ordinal();
+        }
+        if (value instanceof Date && !(value instanceof java.sql.Date || value instanceof Timestamp)) {
+            return new Timestamp(((Date) value).getTime());
+        }
+        return value;
+    }
+
+    /**
+     * Convert a column value to a property value.
+     *
+     * @param value the column value
+     * @return the property value
+     */
+    public Object fromJdbc(Object value) {
+        Class<?> type = ClassUtils.primitiveToWrapper(accessor.getType());
+        if (value == null || type.isInstance(value)) {
+            return value;
+        }
+        if (type.isEnum() && value instanceof Number) {
+            return type.getEnumConstants()[((Number) value).intValue()];
+        }
+        return CoerceUtil.coerce(value, type);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jdbc;
+
+import com.yahoo.elide.annotation.ComputedAttribute;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RelationshipType;
+
+import lombok.Getter;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.JoinColumn;
+import javax.persistence.JoinTable;
+import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OneToOne;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+/**
+ * Table of an entity, derived from its JPA annotations with the JPA naming defaults.
+ * <p>
+ * Attributes of simple types (numbers, strings, booleans, characters, dates, enums and UUIDs) are stored in
+ * columns.  Relationships annotated with {@link ManyToOne}, {@link OneToOne}, {@link OneToMany} or
+ * {@link ManyToMany} to another entity of the store are stored in foreign key columns or join tables.  Computed
+ * attributes and relationships are not persisted.  Any other attribute or relationship (eg. embedded values, element
+ * collections or relationships to entities of other stores) is rejected when the entity is mapped.
+ */
+public class EntityMapping {
+    @Getter private final Class<?> entityClass;
+    @Getter private final String table;
+    @Getter private final ColumnMapping id;
+    @Getter private final boolean generatedId;
+    private final Map<String, ColumnMapping> columns = new LinkedHashMap<>();
+    private final Map<String, RelationMapping> relations = new LinkedHashMap<>();
+    private final EntityDictionary dictionary;
+
+    public EntityMapping(Class<?> entityClass, EntityDictionary dictionary) {
+        this.entityClass = entityClass;
+        this.dictionary = dictionary;
+        this.table = getTableName(entityClass);
+
+        String idName = dictionary.getIdFieldName(entityClass);
+        this.id = new ColumnMapping(getColumnName(idName),
+                PropertyAccessor.of(entityClass, idName, dictionary.getAccessibleObject(entityClass, idName)),
+                false);
+        this.generatedId = getAnnotation(GeneratedValue.class, idName) != null;
+
+        for (String attribute : dictionary.getAttributes(entityClass)) {
+            Class<?> type = dictionary.getType(entityClass, attribute);
+            if (getAnnotation(Transient.class, attribute) != null
+                    || getAnnotation(ComputedAttribute.class, attribute) != null) {
+                continue;
+            }
+            if (!isSimple(type)) {
+                throw new IllegalArgumentException("Attribute " + entityClass.getSimpleName() + "." + attribute
+                        + " of type " + type.getName() + " cannot be stored by the JDBC data store");
+            }
+            Enumerated enumerated = getAnnotation(Enumerated.class, attribute);
+            columns.put(attribute, new ColumnMapping(getColumnName(attribute),
+                    PropertyAccessor.of(entityClass, attribute, dictionary.getAccessibleObject(entityClass, attribute)),
+                    enumerated != null && enumerated.value() == EnumType.STRING));
+        }
+    }
+
+    /**
+     * Map the relationships which are written from this entity, once the tables of every entity are known.
+     *
+     * @param mappings the mappings of the entities of the store
+     */
+    void bindOwningRelations(Map<Class<?>, EntityMapping> mappings) {
+        for (String relation : dictionary.getRelationships(entityClass)) {
+            EntityMapping target = getTarget(relation, mappings);
+            if (target == null || !getMappedBy(relation).isEmpty()) {
+                continue;
+            }
+
+            RelationshipType type = dictionary.getRelationshipType(entityClass, relation);
+            if (type.isToOne()) {
+                JoinColumn joinColumn = getAnnotation(JoinColumn.class, relation);
+                String foreignKey = joinColumn != null && !joinColumn.name().isEmpty()
+                        ? joinColumn.name()
+                        : relation + "_" + target.getId().getColumn();
+                relations.put(relation, new RelationMapping(getAccessor(relation), target.getEntityClass(),
+                        RelationMapping.Kind.FOREIGN_KEY, false, foreignKey, null, null, null, true));
+                continue;
+            }
+
+            JoinTable joinTable = getAnnotation(JoinTable.class, relation);
+            String inverse = dictionary.getRelationInverse(entityClass, relation);
+            String joinTableName = joinTable != null && !joinTable.name().isEmpty()
+                    ? joinTable.name()
+                    : table + "_" + target.getTable();
+            String joinColumn = joinTable != null && joinTable.joinColumns().length > 0
+                    ? joinTable.joinColumns()[0].name()
+                    : (inverse.isEmpty() ? table : inverse) + "_" + id.getColumn();
+            String inverseJoinColumn = joinTable != null && joinTable.inverseJoinColumns().length > 0
+                    ? joinTable.inverseJoinColumns()[0].name()
+                    : relation + "_" + target.getId().getColumn();
+            relations.put(relation, new RelationMapping(getAccessor(relation), target.getEntityClass(),
+                    RelationMapping.Kind.JOIN_TABLE, true, null, joinTableName, joinColumn, inverseJoinColumn, true));
+        }
+    }
+
+    /**
+     * Map the relationships which are the inverse of a relationship of the related entity, once the owning
+     * relationships of every entity are mapped.
+     *
+     * @param mappings the mappings of the entities of the store
+     */
+    void bindInverseRelations(Map<Class<?>, EntityMapping> mappings) {
+        for (String relation : dictionary.getRelationships(entityClass)) {
+            EntityMapping target = getTarget(relation, mappings);
+            String mappedBy = getMappedBy(relation);
+            if (target == null || mappedBy.isEmpty()) {
+                continue;
+            }
+
+            RelationMapping owner = target.getRelation(mappedBy);
+            boolean toMany = dictionary.getRelationshipType(entityClass, relation).isToMany();
+            if (owner == null) {
+                throw new IllegalArgumentException("Relationship " + entityClass.getSimpleName() + "." + relation
+                        + " is mapped by " + mappedBy + " which is not stored by the JDBC data store");
+            } else if (owner.getKind() == RelationMapping.Kind.FOREIGN_KEY) {
+                relations.put(relation, new RelationMapping(getAccessor(relation), target.getEntityClass(),
+                        RelationMapping.Kind.INVERSE_FOREIGN_KEY, toMany, owner.getForeignKey(),
+                        null, null, null, false));
+            } else {
+                relations.put(relation, new RelationMapping(getAccessor(relation), target.getEntityClass(),
+                        RelationMapping.Kind.JOIN_TABLE, toMany, null, owner.getJoinTable(),
+                        owner.getInverseJoinColumn(), owner.getJoinColumn(), false));
+            }
+        }
+    }
+
+    /**
+     * Get the column of an attribute or of the id.
+     *
+     * @param name the attribute name
+     * @return the column or null if the attribute is not stored
+     */
+    public ColumnMapping getColumn(String name) {
+        return id.getProperty().equals(name) ? id : columns.get(name);
+    }
+
+    public Collection<ColumnMapping> getColumns() {
+        return Collections.unmodifiableCollection(columns.values());
+    }
+
+    /**
+     * Get how a relationship is stored.
+     *
+     * @param name the relationship name
+     * @return the relationship or null if it is not stored
+     */
+    public RelationMapping getRelation(String name) {
+        return relations.get(name);
+    }
+
+    public Collection<RelationMapping> getRelations() {
+        return Collections.unmodifiableCollection(relations.values());
+    }
+
+    /**
+     * Get the relationships stored in foreign key columns of the entity table.
+     *
+     * @return the relationships in column order
+     */
+    public List<RelationMapping> getForeignKeys() {
+        return relations.values().stream()
+                .filter(relation -> relation.getKind() == RelationMapping.Kind.FOREIGN_KEY)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the selected columns: the id, the attributes and the foreign keys.
+     *
+     * @return the qualified column names
+     */
+    public List<String> getSelectColumns() {
+        List<String> selected = new ArrayList<>();
+        selected.add(qualify(id.getColumn()));
+        columns.values().forEach(column -> selected.add(qualify(column.getColumn())));
+        getForeignKeys().forEach(relation -> selected.add(qualify(relation.getForeignKey())));
+        return selected;
+    }
+
+    /**
+     * Qualify a column with the table name.
+     *
+     * @param column the column name
+     * @return the qualified column name
+     */
+    public String qualify(String column) {
+        return table + "." + column;
+    }
+
+    /**
+     * Get the mapping of the entity of a relationship.
+     *
+     * @return the mapping or null if the relationship is computed
+     * @throws IllegalArgumentException if the related entity is not stored
+     */
+    private EntityMapping getTarget(String relation, Map<Class<?>, EntityMapping> mappings) {
+        if (dictionary.getRelationshipType(entityClass, relation).isComputed()
+                || getAnnotation(Transient.class, relation) != null) {
+            return null;
+        }
+        Class<?> targetClass = dictionary.getParameterizedType(entityClass, relation);
+        EntityMapping target = mappings.get(targetClass);
+        if (target == null) {
+            throw new IllegalArgumentException("Relationship " + entityClass.getSimpleName() + "." + relation
+                    + " to " + targetClass.getName() + " cannot be stored by the JDBC data store");
+        }
+        return target;
+    }
+
+    private String getMappedBy(String relation) {
+        OneToMany oneToMany = getAnnotation(OneToMany.class, relation);
+        ManyToMany manyToMany = getAnnotation(ManyToMany.class, relation);
+        OneToOne oneToOne = getAnnotation(OneToOne.class, relation);
+        if (oneToMany != null) {
+            return oneToMany.mappedBy();
+        }
+        if (manyToMany != null) {
+            return manyToMany.mappedBy();
+        }
+        return oneToOne != null ? oneToOne.mappedBy() : "";
+    }
+
+    private PropertyAccessor getAccessor(String name) {
+        return PropertyAccessor.of(entityClass, name, dictionary.getAccessibleObject(entityClass, name));
+    }
+
+    private String getColumnName(String name) {
+        Column column = getAnnotation(Column.class, name);
+        return column != null && !column.name().isEmpty() ? column.name() : name;
+    }
+
+    private <A extends java.lang.annotation.Annotation> A getAnnotation(Class<A> annotationClass, String name) {
+        return dictionary.getAttributeOrRelationAnnotation(entityClass, annotationClass, name);
+    }
+
+    private static String getTableName(Class<?> entityClass) {
+        Table tableAnnotation = entityClass.getAnnotation(Table.class);
+        if (tableAnnotation != null && !tableAnnotation.name().isEmpty()) {
+            return tableAnnotation.name();
+        }
+        Entity entity = entityClass.getAnnotation(Entity.class);
+        return entity != null && !entity.name().isEmpty() ? entity.name() : entityClass.getSimpleName();
+    }
+
+    private static boolean isSimple(Class<?> type) {
+        return ClassUtils.isPrimitiveOrWrapper(type)
+                || CharSequence.class.isAssignableFrom(type)
+                || Number.class.isAssignableFrom(type)
+                || Date.class.isAssignableFrom(type)
+                || UUID.class.equals(type)
+                || type.isEnum();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jdbc;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.exceptions.TransactionException;
+
+import lombok.Getter;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * Data store running SQL directly over JDBC, without an ORM.
+ * <p>
+ * Entities are mapped to tables from their JPA annotations (see {@link EntityMapping}).  Filters, sorting and
+ * pagination are compiled into parameterized SQL, rows are copied into entities through accessors resolved once,
+ * and relationships are loaded for every entity of a page at once.  Each transaction holds a connection of the
+ * data source and reuses its prepared statements until it closes them.  Reusing them across transactions is left to
+ * the statement cache of the pool or the driver (e.g. {@code cachePrepStmts} for MySQL Connector/J), keyed on the
+ * physical connection; {@code IN} lists are padded to a few sizes so that their SQL strings stay cacheable.
+ * <p>
+ * Writes are queued and run in order when the transaction flushes or commits.  Relationships must be loaded through
+ * the transaction; the relationship fields of loaded entities are only set once they are.
+ */
+public class JdbcDataStore implements DataStore {
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+
+    private final DataSource dataSource;
+    private final List<Class<?>> entityClasses;
+    @Getter private final int statementCacheSize;
+    private final Map<Class<?>, EntityMapping> mappings = new HashMap<>();
+    @Getter private EntityDictionary dictionary;
+
+    /**
+     * Create a data store with the default statement cache size.
+     *
+     * @param dataSource provides the connections of the transactions
+     * @param entityClasses the entities stored
+     */
+    public JdbcDataStore(DataSource dataSource, Collection<Class<?>> entityClasses) {
+        this(dataSource, entityClasses, DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    /**
+     * Create a data store.
+     *
+     * @param dataSource provides the connections of the transactions
+     * @param entityClasses the entities stored
+     * @param statementCacheSize the maximum number of prepared statements open on the connection of a transaction
+     */
+    public JdbcDataStore(DataSource dataSource, Collection<Class<?>> entityClasses, int statementCacheSize) {
+        this.dataSource = dataSource;
+        this.entityClasses = new ArrayList<>(entityClasses);
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    @Override
+    public void populateEntityDictionary(EntityDictionary dictionary) {
+        dictionary.bindEntities(entityClasses);
+        entityClasses.forEach(cls -> mappings.put(cls, new EntityMapping(cls, dictionary)));
+        mappings.values().forEach(mapping -> mapping.bindOwningRelations(mappings));
+        mappings.values().forEach(mapping -> mapping.bindInverseRelations(mappings));
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return new JdbcTransaction(this, getConnection(false), false);
+    }
+
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        return new JdbcTransaction(this, getConnection(true), true);
+    }
+
+    /**
+     * Get the mapping of an entity type.
+     *
+     * @param entityClass the entity type
+     * @return the mapping or null if the type is not stored
+     */
+    public EntityMapping getMapping(Class<?> entityClass) {
+        return mappings.get(entityClass);
+    }
+
+    private Connection getConnection(boolean readOnly) {
+        try {
+            Connection connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+            connection.setReadOnly(readOnly);
+            return connection;
+        } catch (SQLException e) {
+            throw new TransactionException(e);
+        }
+    }
+}
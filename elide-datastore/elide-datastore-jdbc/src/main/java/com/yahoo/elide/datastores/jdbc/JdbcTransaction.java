@@ -0,0 +1,677 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jdbc;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.InternalServerErrorException;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import com.google.common.collect.Lists;
+import lombok.AllArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC transaction handler.
+ * <p>
+ * Loaded entities are kept by id for the whole transaction.  The relationships of an entity are loaded together with
+ * those of the entities loaded along with it (the rest of its page or relationship batch), in batches of
+ * {@link #BATCH_SIZE} entities.  Writes are queued and run on flush: inserts in creation order, then updates,
+ * join table changes and deletes.
+ */
+public class JdbcTransaction implements DataStoreTransaction {
+    public static final int BATCH_SIZE = 100;
+
+    private final JdbcDataStore store;
+    private final Connection connection;
+    private final StatementCache statements;
+    private final boolean readOnly;
+
+    private final Map<Class<?>, Map<Object, Object>> loaded = new HashMap<>();
+    private final Map<Object, Map<String, Object>> foreignKeys = new IdentityHashMap<>();
+    private final Map<Object, List<Object>> siblings = new IdentityHashMap<>();
+    private final Map<Object, Set<String>> loadedRelations = new IdentityHashMap<>();
+    private final Map<Object, Map<Pair<String, FilterExpression>, Object>> filteredRelations = new IdentityHashMap<>();
+
+    private final Map<Object, Boolean> created = new IdentityHashMap<>();
+    private final List<Object> creationOrder = new ArrayList<>();
+    private final Map<Object, Set<String>> updated = new IdentityHashMap<>();
+    private final List<Object> updateOrder = new ArrayList<>();
+    private final List<JoinTableChange> joinTableChanges = new ArrayList<>();
+    private final List<Object> deleted = new ArrayList<>();
+    private boolean committed;
+
+    public JdbcTransaction(JdbcDataStore store, Connection connection, boolean readOnly) {
+        this.store = store;
+        this.connection = connection;
+        this.statements = new StatementCache(connection, store.getStatementCacheSize());
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public void save(Object entity, RequestScope scope) {
+        markUpdated(entity, null);
+    }
+
+    @Override
+    public void save(Object entity, Set<String> changedFields, RequestScope scope) {
+        if (changedFields.isEmpty()) {
+            return;
+        }
+        changedFields.forEach(field -> markUpdated(entity, field));
+    }
+
+    @Override
+    public void delete(Object entity, RequestScope scope) {
+        if (created.remove(entity) != null) {
+            creationOrder.removeIf(candidate -> candidate == entity);
+            return;
+        }
+        if (updated.remove(entity) != null) {
+            updateOrder.removeIf(candidate -> candidate == entity);
+        }
+        deleted.add(entity);
+    }
+
+    @Override
+    public void createObject(Object entity, RequestScope scope) {
+        if (created.put(entity, Boolean.TRUE) == null) {
+            creationOrder.add(entity);
+        }
+    }
+
+    @Override
+    public void flush(RequestScope scope) {
+        try {
+            for (Object entity : creationOrder) {
+                insert(getMapping(entity.getClass()), entity, scope);
+            }
+            created.clear();
+            creationOrder.clear();
+
+            for (Object entity : updateOrder) {
+                update(getMapping(entity.getClass()), entity, updated.get(entity), scope);
+            }
+            updated.clear();
+            updateOrder.clear();
+
+            for (JoinTableChange change : joinTableChanges) {
+                change.run(scope);
+            }
+            joinTableChanges.clear();
+
+            for (Object entity : deleted) {
+                delete(getMapping(entity.getClass()), entity, scope);
+            }
+            deleted.clear();
+        } catch (SQLException e) {
+            throw new TransactionException(e);
+        }
+    }
+
+    @Override
+    public void commit(RequestScope scope) {
+        flush(scope);
+        try {
+            connection.commit();
+            committed = true;
+        } catch (SQLException e) {
+            throw new TransactionException(e);
+        }
+    }
+
+    @Override
+    public Object loadObject(Class<?> entityClass,
+                             Serializable id,
+                             Optional<FilterExpression> filterExpression,
+                             RequestScope scope) {
+        EntityMapping mapping = getMapping(entityClass);
+        Object idValue = mapping.getId().fromJdbc(id);
+        if (!filterExpression.isPresent()) {
+            Object cached = loaded.getOrDefault(mapping.getEntityClass(), Collections.emptyMap()).get(idValue);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(mapping.getId().toJdbc(idValue));
+        String where = mapping.qualify(mapping.getId().getColumn()) + " = ?"
+                + filterExpression.map(fe -> " AND " + filter(fe, parameters)).orElse("");
+        List<Object> results = select(mapping, where, parameters, null, scope);
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    @Override
+    public Iterable<Object> loadObjects(Class<?> entityClass,
+                                        Optional<FilterExpression> filterExpression,
+                                        Optional<Sorting> sorting,
+                                        Optional<Pagination> pagination,
+                                        RequestScope scope) {
+        EntityMapping mapping = getMapping(entityClass);
+        List<Object> parameters = new ArrayList<>();
+        String where = filterExpression.map(fe -> filter(fe, parameters)).orElse(null);
+
+        pagination.filter(Pagination::isGenerateTotals).ifPresent(p ->
+                p.setPageTotals(count(mapping.getTable(), where, parameters, scope)));
+
+        String suffix = orderBy(mapping, sorting) + limit(pagination, parameters);
+        List<Object> results = select(mapping, where, parameters, suffix, scope);
+        results.forEach(entity -> siblings.put(entity, results));
+        return results;
+    }
+
+    @Override
+    public Object getRelation(DataStoreTransaction relationTx,
+                              Object entity,
+                              String relationName,
+                              Optional<FilterExpression> filterExpression,
+                              Optional<Sorting> sorting,
+                              Optional<Pagination> pagination,
+                              RequestScope scope) {
+        EntityMapping mapping = store.getMapping(entity.getClass());
+        RelationMapping relation = mapping == null ? null : mapping.getRelation(relationName);
+        if (relation == null || !foreignKeys.containsKey(entity)
+                || isLoaded(entity, relationName) && !filterExpression.isPresent()) {
+            return DataStoreTransaction.super.getRelation(relationTx, entity, relationName,
+                    filterExpression, sorting, pagination, scope);
+        }
+
+        if (relation.isToMany() && (isSorted(sorting) || pagination.isPresent())) {
+            return loadRelation(mapping, relation, Collections.singletonList(entity),
+                    filterExpression, sorting, pagination, scope).get(entity);
+        }
+
+        Pair<String, FilterExpression> key = Pair.of(relationName, filterExpression.orElse(null));
+        Map<Pair<String, FilterExpression>, Object> filtered = filteredRelations.get(entity);
+        if (filterExpression.isPresent() && filtered != null && filtered.containsKey(key)) {
+            return filtered.get(key);
+        }
+
+        // Load the relationship of every entity loaded along with this one which did not load it yet
+        List<Object> owners = siblings.getOrDefault(entity, Collections.singletonList(entity)).stream()
+                .filter(owner -> owner == entity || foreignKeys.containsKey(owner) && (filterExpression.isPresent()
+                        ? !filteredRelations.getOrDefault(owner, Collections.emptyMap()).containsKey(key)
+                        : !isLoaded(owner, relationName)))
+                .collect(Collectors.toList());
+        for (List<Object> batch : Lists.partition(owners, BATCH_SIZE)) {
+            Map<Object, Object> values = loadRelation(mapping, relation, batch,
+                    filterExpression, Optional.empty(), Optional.empty(), scope);
+            for (Object owner : batch) {
+                if (filterExpression.isPresent()) {
+                    filteredRelations.computeIfAbsent(owner, unused -> new HashMap<>()).put(key, values.get(owner));
+                } else {
+                    relation.getAccessor().set(owner, values.get(owner));
+                    markLoaded(owner, relationName);
+                }
+            }
+        }
+        return filterExpression.isPresent()
+                ? filteredRelations.get(entity).get(key)
+                : relation.getAccessor().get(entity);
+    }
+
+    @Override
+    public boolean isRelationUnloaded(Object entity, String relationName, RequestScope scope) {
+        EntityMapping mapping = store.getMapping(entity.getClass());
+        return mapping != null && mapping.getRelation(relationName) != null
+                && foreignKeys.containsKey(entity) && !isLoaded(entity, relationName);
+    }
+
+    @Override
+    public void updateToManyRelation(DataStoreTransaction relationTx,
+                                     Object entity,
+                                     String relationName,
+                                     Set<Object> newRelationships,
+                                     Set<Object> deletedRelationships,
+                                     RequestScope scope) {
+        RelationMapping relation = getMapping(entity.getClass()).getRelation(relationName);
+        if (relation == null || relation.getKind() != RelationMapping.Kind.JOIN_TABLE || !relation.isOwning()) {
+            // Stored by the owning side of the relationship, which Elide updates as well
+            return;
+        }
+        deletedRelationships.forEach(target -> joinTableChanges.add(new JoinTableChange(relation, entity, target,
+                false)));
+        newRelationships.forEach(target -> joinTableChanges.add(new JoinTableChange(relation, entity, target,
+                true)));
+    }
+
+    @Override
+    public void updateToOneRelation(DataStoreTransaction relationTx,
+                                    Object entity,
+                                    String relationName,
+                                    Object relationshipValue,
+                                    RequestScope scope) {
+        RelationMapping relation = getMapping(entity.getClass()).getRelation(relationName);
+        if (relation == null) {
+            return;
+        }
+        markLoaded(entity, relationName);
+        if (relation.getKind() == RelationMapping.Kind.FOREIGN_KEY) {
+            markUpdated(entity, relationName);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!committed) {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        } finally {
+            statements.close();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * Get the statement cache of the connection of this transaction.
+     *
+     * @return the statement cache
+     */
+    public StatementCache getStatements() {
+        return statements;
+    }
+
+    private EntityMapping getMapping(Class<?> entityClass) {
+        EntityMapping mapping = store.getMapping(entityClass);
+        if (mapping == null) {
+            throw new InvalidValueException(entityClass.getSimpleName(), "Not stored by the JDBC data store");
+        }
+        return mapping;
+    }
+
+    private boolean isLoaded(Object entity, String relationName) {
+        return !foreignKeys.containsKey(entity)
+                || loadedRelations.getOrDefault(entity, Collections.emptySet()).contains(relationName);
+    }
+
+    private void markLoaded(Object entity, String relationName) {
+        loadedRelations.computeIfAbsent(entity, unused -> new HashSet<>()).add(relationName);
+    }
+
+    private void markUpdated(Object entity, String field) {
+        if (readOnly || created.containsKey(entity) || deleted.stream().anyMatch(candidate -> candidate == entity)) {
+            return;
+        }
+        if (!updated.containsKey(entity)) {
+            updated.put(entity, field == null ? null : new HashSet<>());
+            updateOrder.add(entity);
+        }
+        Set<String> fields = updated.get(entity);
+        if (field == null) {
+            updated.put(entity, null);
+        } else if (fields != null) {
+            fields.add(field);
+        }
+    }
+
+    private String filter(FilterExpression filterExpression, List<Object> parameters) {
+        return new SQLFilterOperation(store::getMapping, parameters).apply(filterExpression);
+    }
+
+    private static boolean isSorted(Optional<Sorting> sorting) {
+        return sorting.isPresent() && !sorting.get().isDefaultInstance();
+    }
+
+    private String orderBy(EntityMapping mapping, Optional<Sorting> sorting) {
+        if (!isSorted(sorting)) {
+            return "";
+        }
+        Map<Path, Sorting.SortOrder> rules = sorting.get()
+                .getValidSortingRules(mapping.getEntityClass(), store.getDictionary());
+        if (rules.isEmpty()) {
+            return "";
+        }
+
+        List<String> orders = new ArrayList<>();
+        for (Map.Entry<Path, Sorting.SortOrder> rule : rules.entrySet()) {
+            List<Path.PathElement> elements = rule.getKey().getPathElements();
+            ColumnMapping column = elements.size() == 1 ? mapping.getColumn(elements.get(0).getFieldName()) : null;
+            if (column == null) {
+                throw new InvalidValueException(rule.getKey().getFieldPath(), "Cannot sort on this field");
+            }
+            orders.add(mapping.qualify(column.getColumn()) + " " + rule.getValue().name().toUpperCase(Locale.ENGLISH));
+        }
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    private static String limit(Optional<Pagination> pagination, List<Object> parameters) {
+        if (!pagination.isPresent()) {
+            return "";
+        }
+        parameters.add(pagination.get().getLimit());
+        parameters.add(pagination.get().getOffset());
+        return " LIMIT ? OFFSET ?";
+    }
+
+    /**
+     * Load a relationship of several entities of the same type.
+     *
+     * @return the relationship value of each entity, by identity
+     */
+    private Map<Object, Object> loadRelation(EntityMapping mapping,
+                                             RelationMapping relation,
+                                             List<Object> owners,
+                                             Optional<FilterExpression> filterExpression,
+                                             Optional<Sorting> sorting,
+                                             Optional<Pagination> pagination,
+                                             RequestScope scope) {
+        EntityMapping target = getMapping(relation.getTargetClass());
+        Map<Object, Object> values = new IdentityHashMap<>();
+        List<Object> parameters = new ArrayList<>();
+
+        if (relation.getKind() == RelationMapping.Kind.FOREIGN_KEY) {
+            // The owners hold the ids of the related entities
+            Map<Object, Object> targetIds = new IdentityHashMap<>();
+            owners.forEach(owner -> targetIds.put(owner, foreignKeys.get(owner).get(relation.getName())));
+            Set<Object> ids = targetIds.values().stream()
+                    .filter(id -> id != null)
+                    .map(id -> target.getId().fromJdbc(id))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Map<Object, Object> byId = new HashMap<>();
+            if (!ids.isEmpty()) {
+                String where = inClause(target.qualify(target.getId().getColumn()), ids, target.getId(), parameters)
+                        + filterExpression.map(fe -> " AND " + filter(fe, parameters)).orElse("");
+                List<Object> results = select(target, where, parameters, null, scope);
+                results.forEach(result -> siblings.put(result, results));
+                results.forEach(result -> byId.put(target.getId().getAccessor().get(result), result));
+            }
+            targetIds.forEach((owner, id) -> values.put(owner,
+                    id == null ? null : byId.get(target.getId().fromJdbc(id))));
+            return values;
+        }
+
+        // The related rows hold the ids of the owners, selected as an extra column
+        Map<Object, Object> ownersById = new LinkedHashMap<>();
+        owners.forEach(owner -> ownersById.put(mapping.getId().getAccessor().get(owner), owner));
+        String from;
+        String ownerColumn;
+        if (relation.getKind() == RelationMapping.Kind.INVERSE_FOREIGN_KEY) {
+            from = target.getTable();
+            ownerColumn = target.qualify(relation.getForeignKey());
+        } else {
+            from = target.getTable() + " JOIN " + relation.getJoinTable() + " ON " + relation.getJoinTable() + "."
+                    + relation.getInverseJoinColumn() + " = " + target.qualify(target.getId().getColumn());
+            ownerColumn = relation.getJoinTable() + "." + relation.getJoinColumn();
+        }
+        String where = inClause(ownerColumn, ownersById.keySet(), mapping.getId(), parameters)
+                + filterExpression.map(fe -> " AND " + filter(fe, parameters)).orElse("");
+
+        pagination.filter(Pagination::isGenerateTotals).ifPresent(p ->
+                p.setPageTotals(count(from, where, parameters, scope)));
+
+        String sql = "SELECT " + String.join(", ", target.getSelectColumns()) + ", " + ownerColumn
+                + " FROM " + from + " WHERE " + where + orderBy(target, sorting) + limit(pagination, parameters);
+        int ownerIndex = target.getSelectColumns().size() + 1;
+        List<Pair<Object, Object>> rows = query(sql, parameters, scope, resultSet -> Pair.of(
+                mapping.getId().fromJdbc(resultSet.getObject(ownerIndex)), hydrate(target, resultSet)));
+
+        List<Object> results = rows.stream().map(Pair::getRight).collect(Collectors.toList());
+        results.forEach(result -> siblings.put(result, results));
+        Map<Object, Collection<Object>> grouped = new HashMap<>();
+        rows.forEach(row -> grouped.computeIfAbsent(row.getLeft(), unused -> new ArrayList<>()).add(row.getRight()));
+        ownersById.forEach((id, owner) -> {
+            Collection<Object> related = grouped.getOrDefault(id, Collections.emptyList());
+            values.put(owner, relation.isToMany()
+                    ? newCollection(relation, related)
+                    : related.stream().findFirst().orElse(null));
+        });
+        return values;
+    }
+
+    private static Collection<Object> newCollection(RelationMapping relation, Collection<Object> values) {
+        return Set.class.isAssignableFrom(relation.getAccessor().getType())
+                ? new LinkedHashSet<>(values)
+                : new ArrayList<>(values);
+    }
+
+    private static String inClause(String column, Collection<Object> ids, ColumnMapping id, List<Object> parameters) {
+        return column + " IN (" + SQLFilterOperation.inList(ids, id, "?", parameters) + ")";
+    }
+
+    private List<Object> select(EntityMapping mapping,
+                                String where,
+                                List<Object> parameters,
+                                String suffix,
+                                RequestScope scope) {
+        String sql = "SELECT " + String.join(", ", mapping.getSelectColumns()) + " FROM " + mapping.getTable()
+                + (where == null ? "" : " WHERE " + where)
+                + (suffix == null ? "" : suffix);
+        return query(sql, parameters, scope, resultSet -> hydrate(mapping, resultSet));
+    }
+
+    private long count(String from, String where, List<Object> parameters, RequestScope scope) {
+        String sql = "SELECT COUNT(*) FROM " + from + (where == null ? "" : " WHERE " + where);
+        List<Long> counts = query(sql, new ArrayList<>(parameters), scope, resultSet -> resultSet.getLong(1));
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    /**
+     * Copy a row into an entity, unless the entity was already loaded by this transaction.
+     */
+    private Object hydrate(EntityMapping mapping, ResultSet resultSet) throws SQLException {
+        Object id = mapping.getId().fromJdbc(resultSet.getObject(1));
+        Map<Object, Object> byId = loaded.computeIfAbsent(mapping.getEntityClass(), unused -> new HashMap<>());
+        Object entity = byId.get(id);
+        if (entity != null) {
+            return entity;
+        }
+
+        entity = createNewObject(mapping.getEntityClass());
+        if (entity == null) {
+            throw new InternalServerErrorException("Cannot create " + mapping.getEntityClass().getName());
+        }
+        mapping.getId().getAccessor().set(entity, id);
+        int index = 2;
+        for (ColumnMapping column : mapping.getColumns()) {
+            Object value = column.fromJdbc(resultSet.getObject(index++));
+            if (value != null || !column.getAccessor().getType().isPrimitive()) {
+                column.getAccessor().set(entity, value);
+            }
+        }
+        Map<String, Object> keys = new HashMap<>();
+        for (RelationMapping relation : mapping.getForeignKeys()) {
+            keys.put(relation.getName(), resultSet.getObject(index++));
+        }
+        foreignKeys.put(entity, keys);
+        byId.put(id, entity);
+        return entity;
+    }
+
+    private void insert(EntityMapping mapping, Object entity, RequestScope scope) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        Object id = mapping.getId().getAccessor().get(entity);
+        boolean generated = mapping.isGeneratedId() && id == null;
+        if (!generated) {
+            columns.add(mapping.getId().getColumn());
+            parameters.add(mapping.getId().toJdbc(id));
+        }
+        for (ColumnMapping column : mapping.getColumns()) {
+            columns.add(column.getColumn());
+            parameters.add(column.toJdbc(column.getAccessor().get(entity)));
+        }
+        for (RelationMapping relation : mapping.getForeignKeys()) {
+            columns.add(relation.getForeignKey());
+            parameters.add(getForeignKey(entity, relation));
+        }
+
+        String sql = "INSERT INTO " + mapping.getTable() + " (" + String.join(", ", columns) + ") VALUES ("
+                + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        PreparedStatement statement = generated ? statements.prepareInsert(sql) : statements.prepare(sql);
+        bind(statement, parameters, scope);
+        statement.executeUpdate();
+        if (generated) {
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                if (keys.next()) {
+                    mapping.getId().getAccessor().set(entity, mapping.getId().fromJdbc(keys.getObject(1)));
+                }
+            }
+        }
+
+        // The fields of a new entity hold all its relationships
+        foreignKeys.put(entity, new HashMap<>());
+        mapping.getRelations().forEach(relation -> markLoaded(entity, relation.getName()));
+        loaded.computeIfAbsent(mapping.getEntityClass(), unused -> new HashMap<>())
+                .put(mapping.getId().getAccessor().get(entity), entity);
+    }
+
+    private void update(EntityMapping mapping, Object entity, Set<String> fields, RequestScope scope)
+            throws SQLException {
+        List<String> assignments = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        for (ColumnMapping column : mapping.getColumns()) {
+            if (fields == null || fields.contains(column.getProperty())) {
+                assignments.add(column.getColumn() + " = ?");
+                parameters.add(column.toJdbc(column.getAccessor().get(entity)));
+            }
+        }
+        for (RelationMapping relation : mapping.getForeignKeys()) {
+            if ((fields == null || fields.contains(relation.getName())) && isLoaded(entity, relation.getName())) {
+                assignments.add(relation.getForeignKey() + " = ?");
+                parameters.add(getForeignKey(entity, relation));
+            }
+        }
+        if (assignments.isEmpty()) {
+            return;
+        }
+
+        parameters.add(mapping.getId().toJdbc(mapping.getId().getAccessor().get(entity)));
+        execute("UPDATE " + mapping.getTable() + " SET " + String.join(", ", assignments)
+                + " WHERE " + mapping.getId().getColumn() + " = ?", parameters, scope);
+    }
+
+    private void delete(EntityMapping mapping, Object entity, RequestScope scope) throws SQLException {
+        Object id = mapping.getId().getAccessor().get(entity);
+        List<Object> parameters = Collections.singletonList(mapping.getId().toJdbc(id));
+        for (RelationMapping relation : mapping.getRelations()) {
+            if (relation.getKind() == RelationMapping.Kind.JOIN_TABLE) {
+                execute("DELETE FROM " + relation.getJoinTable() + " WHERE " + relation.getJoinColumn() + " = ?",
+                        parameters, scope);
+            }
+        }
+        execute("DELETE FROM " + mapping.getTable() + " WHERE " + mapping.getId().getColumn() + " = ?",
+                parameters, scope);
+        loaded.getOrDefault(mapping.getEntityClass(), Collections.emptyMap()).remove(id);
+    }
+
+    private Object getForeignKey(Object entity, RelationMapping relation) {
+        Object related = relation.getAccessor().get(entity);
+        if (related == null) {
+            return null;
+        }
+        ColumnMapping targetId = getMapping(relation.getTargetClass()).getId();
+        return targetId.toJdbc(targetId.getAccessor().get(related));
+    }
+
+    private void execute(String sql, List<Object> parameters, RequestScope scope) throws SQLException {
+        PreparedStatement statement = statements.prepare(sql);
+        bind(statement, parameters, scope);
+        statement.executeUpdate();
+    }
+
+    private <T> List<T> query(String sql, List<Object> parameters, RequestScope scope, RowReader<T> reader) {
+        try {
+            PreparedStatement statement = statements.prepare(sql);
+            bind(statement, parameters, scope);
+            List<T> rows = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows.add(reader.read(resultSet));
+                }
+            }
+            return rows;
+        } catch (SQLException e) {
+            throw new TransactionException(e);
+        }
+    }
+
+    private static void bind(PreparedStatement statement, List<Object> parameters, RequestScope scope)
+            throws SQLException {
+        long timeout = scope == null
+                ? 0
+                : scope.getDeadline().getRemaining(TimeUnit.SECONDS).orElse(0);
+        statement.setQueryTimeout((int) Math.min(timeout, Integer.MAX_VALUE));
+        for (int index = 0; index < parameters.size(); index++) {
+            Object parameter = parameters.get(index);
+            if (parameter == null) {
+                statement.setNull(index + 1, Types.NULL);
+            } else {
+                statement.setObject(index + 1, parameter);
+            }
+        }
+    }
+
+    /**
+     * Reads a row of a result set.
+     *
+     * @param <T> the type of the read value
+     */
+    @FunctionalInterface
+    private interface RowReader<T> {
+        T read(ResultSet resultSet) throws SQLException;
+    }
+
+    /**
+     * Row added to or removed from a join table.
+     */
+    @AllArgsConstructor
+    private class JoinTableChange {
+        private final RelationMapping relation;
+        private final Object owner;
+        private final Object target;
+        private final boolean add;
+
+        void run(RequestScope scope) throws SQLException {
+            ColumnMapping ownerId = getMapping(owner.getClass()).getId();
+            ColumnMapping targetId = getMapping(target.getClass()).getId();
+            List<Object> parameters = new ArrayList<>();
+            parameters.add(ownerId.toJdbc(ownerId.getAccessor().get(owner)));
+            parameters.add(targetId.toJdbc(targetId.getAccessor().get(target)));
+            execute(add
+                    ? "INSERT INTO " + relation.getJoinTable() + " (" + relation.getJoinColumn() + ", "
+                            + relation.getInverseJoinColumn() + ") VALUES (?, ?)"
+                    : "DELETE FROM " + relation.getJoinTable() + " WHERE " + relation.getJoinColumn() + " = ? AND "
+                            + relation.getInverseJoinColumn() + " = ?",
+                    parameters, scope);
+        }
+    }
+}
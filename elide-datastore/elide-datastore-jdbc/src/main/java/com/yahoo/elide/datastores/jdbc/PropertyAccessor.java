@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jdbc;
+
+import com.yahoo.elide.core.exceptions.InternalServerErrorException;
+
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Reads and writes a property of an entity through method handles resolved once, when the data store is set up,
+ * instead of looking up fields and accessors by reflection for every row.
+ */
+public class PropertyAccessor {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    @Getter private final String name;
+    @Getter private final Class<?> type;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private PropertyAccessor(String name, Class<?> type, MethodHandle getter, MethodHandle setter) {
+        this.name = name;
+        this.type = type;
+        this.getter = getter.asType(GETTER_TYPE);
+        this.setter = setter.asType(SETTER_TYPE);
+    }
+
+    /**
+     * Create an accessor for a field or a getter and its setter.
+     *
+     * @param entityClass the entity class
+     * @param name the property name
+     * @param fieldOrMethod the field or getter bound to the property
+     * @return the accessor
+     */
+    public static PropertyAccessor of(Class<?> entityClass, String name, AccessibleObject fieldOrMethod) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            if (fieldOrMethod instanceof Field) {
+                Field field = (Field) fieldOrMethod;
+                field.setAccessible(true);
+                return new PropertyAccessor(name, field.getType(),
+                        lookup.unreflectGetter(field), lookup.unreflectSetter(field));
+            }
+
+            Method getter = (Method) fieldOrMethod;
+            Method setter = findSetter(entityClass, "set" + StringUtils.capitalize(name), getter.getReturnType());
+            getter.setAccessible(true);
+            setter.setAccessible(true);
+            return new PropertyAccessor(name, getter.getReturnType(),
+                    lookup.unreflect(getter), lookup.unreflect(setter));
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            throw new IllegalStateException("Cannot access " + entityClass.getName() + "." + name, e);
+        }
+    }
+
+    private static Method findSetter(Class<?> cls, String setterName, Class<?> type) throws NoSuchMethodException {
+        for (Class<?> current = cls; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredMethod(setterName, type);
+            } catch (NoSuchMethodException e) {
+                // look in the superclass
+            }
+        }
+        throw new NoSuchMethodException(cls.getName() + "." + setterName);
+    }
+
+    public Object get(Object entity) {
+        try {
+            return getter.invokeExact(entity);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InternalServerErrorException("Cannot read " + name, e);
+        }
+    }
+
+    public void set(Object entity, Object value) {
+        try {
+            setter.invokeExact(entity, value);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InternalServerErrorException("Cannot write " + name, e);
+        }
+    }
+}
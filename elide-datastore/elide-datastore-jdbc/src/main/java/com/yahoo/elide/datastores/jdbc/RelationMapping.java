@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jdbc;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * How a relationship of an entity is stored.
+ */
+@AllArgsConstructor
+@Getter
+public class RelationMapping {
+
+    /**
+     * Where the relationship is stored.
+     */
+    public enum Kind {
+        /**
+         * A foreign key column of the entity table references the related entity.
+         */
+        FOREIGN_KEY,
+
+        /**
+         * A foreign key column of the related entity table references the entity (the inverse of a relationship
+         * stored as a foreign key).
+         */
+        INVERSE_FOREIGN_KEY,
+
+        /**
+         * Rows of a join table reference both entities.
+         */
+        JOIN_TABLE
+    }
+
+    private final PropertyAccessor accessor;
+    private final Class<?> targetClass;
+    private final Kind kind;
+    private final boolean toMany;
+
+    /**
+     * The foreign key column: of the entity table for {@link Kind#FOREIGN_KEY}, of the related entity table for
+     * {@link Kind#INVERSE_FOREIGN_KEY}.
+     */
+    private final String foreignKey;
+
+    private final String joinTable;
+    private final String joinColumn;
+    private final String inverseJoinColumn;
+
+    /**
+     * Whether updates of the relationship are written from this side.  Relationships stored in the related
+     * entity table or in a join table owned by the inverse relationship are written from the other side.
+     */
+    private final boolean owning;
+
+    public String getName() {
+        return accessor.getName();
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jdbc;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.exceptions.InvalidPredicateException;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.FilterOperation;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * FilterOperation that creates parameterized SQL conditions.  Parameter values are appended, in order, to the
+ * parameter list of the query being built.
+ * <p>
+ * Predicates on the fields of related entities are rendered as uncorrelated {@code IN} subqueries, one per
+ * relationship of the predicate path, so the enclosing query never needs joins or DISTINCT.  A predicate crossing a
+ * to-many relationship is matched by any member of the collection on its own.
+ */
+public class SQLFilterOperation implements FilterOperation<String> {
+    private static final String PARAM_JOIN = ", ";
+
+    private final Function<Class<?>, EntityMapping> mappings;
+    private final List<Object> parameters;
+
+    /**
+     * Constructor.
+     *
+     * @param mappings finds the mapping of an entity type
+     * @param parameters the parameters of the query being built
+     */
+    public SQLFilterOperation(Function<Class<?>, EntityMapping> mappings, List<Object> parameters) {
+        this.mappings = mappings;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Transforms a filter expression into a SQL condition.
+     *
+     * @param filterExpression the filter expression
+     * @return the SQL condition
+     */
+    public String apply(FilterExpression filterExpression) {
+        return filterExpression.accept(new SQLQueryVisitor());
+    }
+
+    @Override
+    public String apply(FilterPredicate filterPredicate) {
+        return apply(filterPredicate, filterPredicate.getPath().getPathElements(), 0);
+    }
+
+    private String apply(FilterPredicate filterPredicate, List<Path.PathElement> elements, int index) {
+        Path.PathElement element = elements.get(index);
+        EntityMapping mapping = getMapping(element.getType());
+        if (index == elements.size() - 1) {
+            ColumnMapping column = mapping.getColumn(element.getFieldName());
+            if (column == null) {
+                throw new InvalidPredicateException("Cannot filter on " + filterPredicate.getFieldPath());
+            }
+            return apply(filterPredicate, mapping.qualify(column.getColumn()), column);
+        }
+
+        RelationMapping relation = mapping.getRelation(element.getFieldName());
+        if (relation == null) {
+            throw new InvalidPredicateException("Cannot filter on " + filterPredicate.getFieldPath());
+        }
+        EntityMapping target = getMapping(relation.getTargetClass());
+        String targetId = target.qualify(target.getId().getColumn());
+        String condition = apply(filterPredicate, elements, index + 1);
+
+        switch (relation.getKind()) {
+            case FOREIGN_KEY:
+                return String.format("%s IN (SELECT %s FROM %s WHERE %s)",
+                        mapping.qualify(relation.getForeignKey()), targetId, target.getTable(), condition);
+
+            case INVERSE_FOREIGN_KEY:
+                String foreignKey = target.qualify(relation.getForeignKey());
+                return String.format("%s IN (SELECT %s FROM %s WHERE %s IS NOT NULL AND %s)",
+                        mapping.qualify(mapping.getId().getColumn()), foreignKey, target.getTable(),
+                        foreignKey, condition);
+
+            default:
+                String joinTable = relation.getJoinTable();
+                return String.format("%s IN (SELECT %s.%s FROM %s JOIN %s ON %s.%s = %s WHERE %s)",
+                        mapping.qualify(mapping.getId().getColumn()), joinTable, relation.getJoinColumn(),
+                        joinTable, target.getTable(), joinTable, relation.getInverseJoinColumn(), targetId,
+                        condition);
+        }
+    }
+
+    private String apply(FilterPredicate filterPredicate, String column, ColumnMapping mapping) {
+        List<Object> values = filterPredicate.getValues() == null
+                ? Collections.emptyList()
+                : filterPredicate.getValues();
+        switch (filterPredicate.getOperator()) {
+            case IN:
+                Preconditions.checkState(!values.isEmpty());
+                return String.format("%s IN (%s)", column, inList(values, mapping, "?"));
+
+            case IN_INSENSITIVE:
+                Preconditions.checkState(!values.isEmpty());
+                return String.format("LOWER(%s) IN (%s)", column, inList(values, mapping, "LOWER(?)"));
+
+            case NOT:
+                Preconditions.checkState(!values.isEmpty());
+                return String.format("%s NOT IN (%s)", column, inList(values, mapping, "?"));
+
+            case NOT_INSENSITIVE:
+                Preconditions.checkState(!values.isEmpty());
+                return String.format("LOWER(%s) NOT IN (%s)", column, inList(values, mapping, "LOWER(?)"));
+
+            case PREFIX:
+                return String.format("%s LIKE CONCAT(%s, '%%')", column, placeholder(values, mapping));
+
+            case PREFIX_CASE_INSENSITIVE:
+                return String.format("LOWER(%s) LIKE CONCAT(LOWER(%s), '%%')", column, placeholder(values, mapping));
+
+            case POSTFIX:
+                return String.format("%s LIKE CONCAT('%%', %s)", column, placeholder(values, mapping));
+
+            case POSTFIX_CASE_INSENSITIVE:
+                return String.format("LOWER(%s) LIKE CONCAT('%%', LOWER(%s))", column, placeholder(values, mapping));
+
+            case INFIX:
+                return String.format("%s LIKE CONCAT('%%', %s, '%%')", column, placeholder(values, mapping));
+
+            case INFIX_CASE_INSENSITIVE:
+            case SEARCH:
+                return String.format("LOWER(%s) LIKE CONCAT('%%', LOWER(%s), '%%')",
+                        column, placeholder(values, mapping));
+
+            case LT:
+                return String.format("%s < %s", column, bound(values, mapping, "LEAST"));
+
+            case LE:
+                return String.format("%s <= %s", column, bound(values, mapping, "LEAST"));
+
+            case GT:
+                return String.format("%s > %s", column, bound(values, mapping, "GREATEST"));
+
+            case GE:
+                return String.format("%s >= %s", column, bound(values, mapping, "GREATEST"));
+
+            // Not parametric checks
+            case ISNULL:
+                return String.format("%s IS NULL", column);
+
+            case NOTNULL:
+                return String.format("%s IS NOT NULL", column);
+
+            case TRUE:
+                return "(1 = 1)";
+
+            case FALSE:
+                return "(1 = 0)";
+
+            default:
+                throw new InvalidPredicateException("Operator not implemented: " + filterPredicate.getOperator());
+        }
+    }
+
+    private String placeholders(List<Object> values, ColumnMapping mapping, String placeholder) {
+        values.forEach(value -> parameters.add(mapping.toJdbc(value)));
+        return values.stream().map(value -> placeholder).collect(Collectors.joining(PARAM_JOIN));
+    }
+
+    private String inList(List<Object> values, ColumnMapping mapping, String placeholder) {
+        return inList(values, mapping, placeholder, parameters);
+    }
+
+    /**
+     * Append the values of an {@code IN} list to the parameters, padded to the next power of two by repeating the
+     * last value.  Lists of any size then only produce a few SQL strings, which the statement caches of the
+     * transaction and of the driver or pool can reuse.
+     *
+     * @param values the values, at least one
+     * @param mapping the column compared to the values
+     * @param placeholder the placeholder of a value
+     * @param parameters the parameters of the query being built
+     * @return the placeholders
+     */
+    static String inList(Collection<Object> values, ColumnMapping mapping, String placeholder,
+                         List<Object> parameters) {
+        int size = values.size() == 1 ? 1 : Integer.highestOneBit(values.size() - 1) << 1;
+        Object last = null;
+        for (Object value : values) {
+            last = mapping.toJdbc(value);
+            parameters.add(last);
+        }
+        for (int i = values.size(); i < size; i++) {
+            parameters.add(last);
+        }
+        return String.join(PARAM_JOIN, Collections.nCopies(size, placeholder));
+    }
+
+    private String placeholder(List<Object> values, ColumnMapping mapping) {
+        if (values.isEmpty()) {
+            throw new InvalidValueException("Filtering value cannot be empty.");
+        }
+        parameters.add(mapping.toJdbc(values.get(0)));
+        return "?";
+    }
+
+    private String bound(List<Object> values, ColumnMapping mapping, String function) {
+        return values.size() == 1
+                ? placeholder(values, mapping)
+                : String.format("%s(%s)", function, placeholders(values, mapping, "?"));
+    }
+
+    private EntityMapping getMapping(Class<?> entityClass) {
+        EntityMapping mapping = mappings.apply(entityClass);
+        if (mapping == null) {
+            throw new InvalidPredicateException("Cannot filter on " + entityClass.getSimpleName());
+        }
+        return mapping;
+    }
+
+    /**
+     * Filter expression visitor which builds a SQL condition.
+     */
+    public class SQLQueryVisitor implements FilterExpressionVisitor<String> {
+        @Override
+        public String visitPredicate(FilterPredicate filterPredicate) {
+            return apply(filterPredicate);
+        }
+
+        @Override
+        public String visitAndExpression(AndFilterExpression expression) {
+            FilterExpression left = expression.getLeft();
+            FilterExpression right = expression.getRight();
+            return "(" + left.accept(this) + " AND " + right.accept(this) + ")";
+        }
+
+        @Override
+        public String visitOrExpression(OrFilterExpression expression) {
+            FilterExpression left = expression.getLeft();
+            FilterExpression right = expression.getRight();
+            return "(" + left.accept(this) + " OR " + right.accept(this) + ")";
+        }
+
+        @Override
+        public String visitNotExpression(NotFilterExpression expression) {
+            String negated = expression.getNegated().accept(this);
+            return "NOT (" + negated + ")";
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jdbc;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prepared statements of a connection, reused while the same SQL is run again.  The least recently used statement
+ * is closed once the cache is full.
+ * <p>
+ * The cache lives as long as the transaction holding the connection: a pooled connection hands out a new handle on
+ * each checkout and closes the statements of the handle when it is returned.  Across transactions, statements are
+ * kept by the statement cache of the pool or driver: closing a statement here returns it to that cache.
+ */
+@Slf4j
+public class StatementCache implements Closeable {
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements;
+    @Getter private long hits;
+    @Getter private long misses;
+
+    /**
+     * Constructor.
+     *
+     * @param connection the connection preparing the statements
+     * @param maximumSize the maximum number of open statements
+     */
+    public StatementCache(Connection connection, int maximumSize) {
+        this.connection = connection;
+        this.statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() <= maximumSize) {
+                    return false;
+                }
+                closeQuietly(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Get a statement running a query or an update.
+     *
+     * @param sql the SQL
+     * @return the statement with its parameters cleared
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        return prepare(sql, false);
+    }
+
+    /**
+     * Get a statement running an insert returning the generated keys.
+     *
+     * @param sql the SQL
+     * @return the statement with its parameters cleared
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepareInsert(String sql) throws SQLException {
+        return prepare(sql, true);
+    }
+
+    private PreparedStatement prepare(String sql, boolean generatedKeys) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement != null) {
+            hits++;
+            statement.clearParameters();
+            return statement;
+        }
+
+        misses++;
+        statement = generatedKeys
+                ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql);
+        statements.put(sql, statement);
+        return statement;
+    }
+
+    @Override
+    public void close() {
+        statements.values().forEach(StatementCache::closeQuietly);
+        statements.clear();
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close statement", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jdbc;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.example.beans.Author;
+import com.yahoo.elide.example.beans.Book;
+import com.yahoo.elide.example.beans.Shelf;
+import com.yahoo.elide.example.beans.Tag;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import javax.sql.DataSource;
+
+/**
+ * EntityMapping tests.
+ */
+public class EntityMappingTest {
+    @Test
+    public void testMapping() {
+        JdbcDataStore store = populate(Author.class, Book.class, Tag.class);
+
+        EntityMapping book = store.getMapping(Book.class);
+        assertEquals(book.getTable(), "Book");
+        assertEquals(book.getColumn("title").getColumn(), "title");
+        assertEquals(book.getRelation("author").getForeignKey(), "author_id");
+        assertEquals(book.getRelation("tags").getJoinTable(), "book_tags");
+        assertEquals(store.getMapping(Tag.class).getRelation("books").getJoinColumn(), "tag_id");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Attribute Shelf.labels .* cannot be stored by the JDBC data store")
+    public void testCollectionAttributeRejected() {
+        populate(Shelf.class);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Relationship Book.tags .* cannot be stored by the JDBC data store")
+    public void testRelationshipToUnstoredEntityRejected() {
+        populate(Author.class, Book.class);
+    }
+
+    private static JdbcDataStore populate(Class<?>... entityClasses) {
+        JdbcDataStore store = new JdbcDataStore(mock(DataSource.class), Arrays.asList(entityClasses));
+        store.populateEntityDictionary(new EntityDictionary(new HashMap<>()));
+        return store;
+    }
+}
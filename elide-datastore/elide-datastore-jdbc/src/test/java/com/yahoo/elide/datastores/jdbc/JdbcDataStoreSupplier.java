@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jdbc;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.EntityDictionary;
+
+import com.yahoo.elide.utils.ClassScanner;
+
+import example.Parent;
+import example.TestCheckMappings;
+import org.apache.commons.lang3.ClassUtils;
+import org.h2.jdbcx.JdbcDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.persistence.Entity;
+import javax.sql.DataSource;
+
+/**
+ * Supplier of a JDBC Data Store over an in-memory H2 database, whose tables are created from the entity mappings.
+ * It stores every example entity the store can map: entities with attributes it cannot persist, and the entities
+ * related to those, are left out along with the integration tests using them (see testng-jdbc.xml).
+ */
+public class JdbcDataStoreSupplier implements Supplier<DataStore> {
+    private static final String URL = "jdbc:h2:mem:elide;DB_CLOSE_DELAY=-1";
+
+    @Override
+    public DataStore get() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(URL);
+        execute(dataSource, Arrays.asList("DROP ALL OBJECTS"));
+
+        return new JdbcDataStore(dataSource, getStorableEntities()) {
+            @Override
+            public void populateEntityDictionary(EntityDictionary dictionary) {
+                super.populateEntityDictionary(dictionary);
+                execute(dataSource, createTables(this, dictionary));
+            }
+        };
+    }
+
+    private static Set<Class<?>> getStorableEntities() {
+        Set<Class<?>> entities = new LinkedHashSet<>(
+                ClassScanner.getAnnotatedClasses(Parent.class.getPackage(), Entity.class));
+        EntityDictionary dictionary = new EntityDictionary(TestCheckMappings.MAPPINGS);
+        dictionary.bindEntities(entities);
+
+        entities.removeIf(entityClass -> {
+            try {
+                new EntityMapping(entityClass, dictionary);
+                return false;
+            } catch (IllegalArgumentException e) {
+                return true;
+            }
+        });
+        // Relationships must target stored entities
+        boolean removed = true;
+        while (removed) {
+            removed = entities.removeIf(entityClass -> dictionary.getRelationships(entityClass).stream()
+                    .filter(relation -> !dictionary.getRelationshipType(entityClass, relation).isComputed())
+                    .anyMatch(relation -> !entities.contains(dictionary.getParameterizedType(entityClass, relation))));
+        }
+        return entities;
+    }
+
+    private static List<String> createTables(JdbcDataStore store, EntityDictionary dictionary) {
+        List<String> statements = new ArrayList<>();
+        for (Class<?> entityClass : dictionary.getBindings()) {
+            EntityMapping mapping = store.getMapping(entityClass);
+            if (mapping == null) {
+                continue;
+            }
+
+            List<String> columns = new ArrayList<>();
+            columns.add(mapping.getId().getColumn() + " " + getType(mapping.getId().getAccessor().getType())
+                    + (mapping.isGeneratedId() ? " AUTO_INCREMENT" : "") + " PRIMARY KEY");
+            mapping.getColumns().forEach(column ->
+                    columns.add(column.getColumn() + " " + getType(column.getAccessor().getType())));
+            mapping.getForeignKeys().forEach(relation -> columns.add(relation.getForeignKey() + " BIGINT"));
+            statements.add("CREATE TABLE IF NOT EXISTS " + mapping.getTable()
+                    + " (" + String.join(", ", columns) + ")");
+
+            mapping.getRelations().stream()
+                    .filter(relation -> relation.getKind() == RelationMapping.Kind.JOIN_TABLE && relation.isOwning())
+                    .forEach(relation -> statements.add("CREATE TABLE IF NOT EXISTS " + relation.getJoinTable()
+                            + " (" + relation.getJoinColumn() + " BIGINT, " + relation.getInverseJoinColumn()
+                            + " BIGINT)"));
+        }
+        return statements;
+    }
+
+    private static String getType(Class<?> type) {
+        Class<?> wrapper = ClassUtils.primitiveToWrapper(type);
+        if (Long.class.equals(wrapper)) {
+            return "BIGINT";
+        }
+        if (Integer.class.equals(wrapper) || Short.class.equals(wrapper) || Byte.class.equals(wrapper)) {
+            return "INT";
+        }
+        if (Double.class.equals(wrapper) || Float.class.equals(wrapper)) {
+            return "DOUBLE";
+        }
+        if (Boolean.class.equals(wrapper)) {
+            return "BOOLEAN";
+        }
+        if (Date.class.isAssignableFrom(wrapper)) {
+            return "TIMESTAMP";
+        }
+        return "VARCHAR(255)";
+    }
+
+    private static void execute(DataSource dataSource, List<String> statements) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
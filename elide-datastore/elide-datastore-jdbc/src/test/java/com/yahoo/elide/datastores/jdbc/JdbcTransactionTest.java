@@ -0,0 +1,223 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jdbc;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.Deadline;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.example.beans.Author;
+import com.yahoo.elide.example.beans.Book;
+import com.yahoo.elide.example.beans.Tag;
+
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.tuple.Pair;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * JdbcTransaction tests against a mocked connection answering queries with canned rows.
+ */
+public class JdbcTransactionTest {
+    private JdbcDataStore store;
+    private Connection connection;
+    private RequestScope scope;
+    private Map<String, List<Object[]>> rows;
+    private List<String> prepared;
+    private List<Pair<String, List<Object>>> executed;
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        rows = new HashMap<>();
+        prepared = new ArrayList<>();
+        executed = new ArrayList<>();
+
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation ->
+                statement(invocation.getArgument(0)));
+        when(connection.prepareStatement(anyString(), anyInt())).thenAnswer(invocation ->
+                statement(invocation.getArgument(0)));
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        store = new JdbcDataStore(dataSource, Arrays.asList(Author.class, Book.class, Tag.class));
+        store.populateEntityDictionary(dictionary);
+
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+        when(scope.getDeadline()).thenReturn(Deadline.none());
+    }
+
+    @Test
+    public void testRelationshipsOfAPageAreLoadedTogether() throws Exception {
+        rows.put("SELECT Book.id, Book.genre, Book.title, Book.author_id FROM Book ORDER BY Book.title DESC "
+                + "LIMIT ? OFFSET ?", Arrays.asList(
+                        new Object[] {1L, "FICTION", "C", 10L},
+                        new Object[] {2L, "HISTORY", "B", 10L},
+                        new Object[] {3L, null, "A", 11L}));
+        rows.put("SELECT COUNT(*) FROM Book", Collections.singletonList(new Object[] {3L}));
+        rows.put("SELECT authors.id, authors.name FROM authors WHERE authors.id IN (?, ?)", Arrays.asList(
+                new Object[] {10L, "Ann"},
+                new Object[] {11L, "Bob"}));
+
+        Pagination pagination = Pagination.fromOffsetAndFirst(Optional.of("3"), Optional.of("0"), true,
+                new ElideSettingsBuilder(null).withEntityDictionary(store.getDictionary()).build())
+                .get().evaluate(Book.class);
+        try (DataStoreTransaction tx = store.beginReadTransaction()) {
+            List<Object> books = Lists.newArrayList(tx.loadObjects(Book.class, Optional.empty(),
+                    Optional.of(new Sorting(Collections.singletonMap("title", Sorting.SortOrder.desc))),
+                    Optional.of(pagination), scope));
+            assertEquals(books.size(), 3);
+            assertEquals(pagination.getPageTotals(), 3);
+            assertEquals(((Book) books.get(1)).getGenre(), Book.Genre.HISTORY);
+            assertTrue(tx.isRelationUnloaded(books.get(0), "author", scope));
+
+            List<String> names = new ArrayList<>();
+            for (Object book : books) {
+                names.add(((Author) tx.getRelation(tx, book, "author",
+                        Optional.empty(), Optional.empty(), Optional.empty(), scope)).getName());
+            }
+            assertEquals(names, Arrays.asList("Ann", "Ann", "Bob"));
+            assertSame(((Book) books.get(0)).getAuthor(), ((Book) books.get(1)).getAuthor());
+        }
+
+        assertEquals(executed.size(), 3);
+        assertEquals(executed.get(2).getRight(), Arrays.asList(10L, 11L));
+    }
+
+    @Test
+    public void testToManyRelationshipsAreGroupedByOwner() throws Exception {
+        rows.put("SELECT authors.id, authors.name FROM authors", Arrays.asList(
+                new Object[] {10L, "Ann"},
+                new Object[] {11L, "Bob"}));
+        rows.put("SELECT Book.id, Book.genre, Book.title, Book.author_id, Book.author_id FROM Book "
+                + "WHERE Book.author_id IN (?, ?)", Arrays.asList(
+                        new Object[] {1L, null, "C", 10L, 10L},
+                        new Object[] {2L, null, "B", 10L, 10L}));
+
+        try (DataStoreTransaction tx = store.beginReadTransaction()) {
+            List<Object> authors = Lists.newArrayList(tx.loadObjects(Author.class,
+                    Optional.empty(), Optional.empty(), Optional.empty(), scope));
+            assertEquals(((Iterable<?>) tx.getRelation(tx, authors.get(1), "books",
+                    Optional.empty(), Optional.empty(), Optional.empty(), scope)), Collections.emptySet());
+            assertEquals(((Author) authors.get(0)).getBooks().size(), 2);
+        }
+        assertEquals(executed.size(), 2);
+    }
+
+    @Test
+    public void testStatementsAreReused() throws Exception {
+        rows.put("SELECT Tag.id, Tag.name FROM Tag WHERE Tag.id = ?",
+                Collections.singletonList(new Object[] {1L, "war"}));
+
+        try (DataStoreTransaction tx = store.beginReadTransaction()) {
+            Tag first = (Tag) tx.loadObject(Tag.class, 1L, Optional.empty(), scope);
+            assertEquals(first.getName(), "war");
+            assertSame(tx.loadObject(Tag.class, "1", Optional.empty(), scope), first);
+            tx.loadObject(Tag.class, 2L, Optional.empty(), scope);
+
+            StatementCache statements = ((JdbcTransaction) tx).getStatements();
+            assertEquals(statements.getMisses(), 1);
+            assertEquals(statements.getHits(), 1);
+        }
+        assertEquals(prepared.size(), 1);
+        verify(connection).rollback();
+    }
+
+    @Test
+    public void testWritesRunInOrderOnCommit() throws Exception {
+        try (DataStoreTransaction tx = store.beginTransaction()) {
+            Author author = new Author();
+            author.setName("Ann");
+            Book book = new Book();
+            book.setId(1L);
+            book.setTitle("A");
+            book.setGenre(Book.Genre.FICTION);
+            book.setAuthor(author);
+            Tag tag = new Tag();
+            tag.setId(5L);
+
+            tx.createObject(author, scope);
+            tx.createObject(book, scope);
+            tx.updateToManyRelation(tx, book, "tags", Collections.singleton(tag), Collections.emptySet(), scope);
+            tx.updateToManyRelation(tx, tag, "books", Collections.singleton(book), Collections.emptySet(), scope);
+            tx.commit(scope);
+            assertEquals(author.getId(), Long.valueOf(7L));
+        }
+
+        assertEquals(executed.size(), 3);
+        assertEquals(executed.get(0), Pair.of("INSERT INTO authors (name) VALUES (?)",
+                Collections.singletonList("Ann")));
+        assertEquals(executed.get(1), Pair.of("INSERT INTO Book (id, genre, title, author_id) VALUES (?, ?, ?, ?)",
+                Arrays.asList(1L, "FICTION", "A", 7L)));
+        assertEquals(executed.get(2), Pair.of("INSERT INTO book_tags (book_id, tag_id) VALUES (?, ?)",
+                Arrays.asList(1L, 5L)));
+        verify(connection).commit();
+    }
+
+    private PreparedStatement statement(String sql) throws SQLException {
+        prepared.add(sql);
+        List<Object> parameters = new ArrayList<>();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        doAnswer(invocation -> parameters.add(invocation.getArgument(1)))
+                .when(statement).setObject(anyInt(), org.mockito.ArgumentMatchers.any());
+        doAnswer(invocation -> parameters.add(null)).when(statement).setNull(anyInt(), anyInt());
+        doAnswer(invocation -> {
+            parameters.clear();
+            return null;
+        }).when(statement).clearParameters();
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            executed.add(Pair.of(sql, new ArrayList<>(parameters)));
+            return resultSet(rows.getOrDefault(sql, Collections.emptyList()));
+        });
+        when(statement.executeUpdate()).thenAnswer(invocation -> {
+            executed.add(Pair.of(sql, new ArrayList<>(parameters)));
+            return 1;
+        });
+        when(statement.getGeneratedKeys()).thenAnswer(invocation ->
+                resultSet(Collections.singletonList(new Object[] {7L})));
+        return statement;
+    }
+
+    private static ResultSet resultSet(List<Object[]> values) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        AtomicInteger row = new AtomicInteger(-1);
+        when(resultSet.next()).thenAnswer(invocation -> row.incrementAndGet() < values.size());
+        when(resultSet.getObject(anyInt())).thenAnswer(invocation ->
+                values.get(row.get())[(int) invocation.getArgument(0) - 1]);
+        when(resultSet.getLong(anyInt())).thenAnswer(invocation ->
+                ((Number) values.get(row.get())[(int) invocation.getArgument(0) - 1]).longValue());
+        return resultSet;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jdbc;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.exceptions.InvalidPredicateException;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.example.beans.Author;
+import com.yahoo.elide.example.beans.Book;
+import com.yahoo.elide.example.beans.Tag;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * SQLFilterOperation tests.
+ */
+public class SQLFilterOperationTest {
+    private EntityDictionary dictionary;
+    private JdbcDataStore store;
+    private List<Object> parameters;
+
+    @BeforeMethod
+    public void setup() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        store = new JdbcDataStore(mock(DataSource.class), Arrays.asList(Author.class, Book.class, Tag.class));
+        store.populateEntityDictionary(dictionary);
+        parameters = new ArrayList<>();
+    }
+
+    @Test
+    public void testAttributePredicates() {
+        FilterPredicate titles = predicate(Book.class, "title", Operator.IN, "A", "B");
+        FilterPredicate genre = predicate(Book.class, "genre", Operator.NOT, Book.Genre.HISTORY);
+        FilterPredicate prefix = predicate(Book.class, "title", Operator.PREFIX_CASE_INSENSITIVE, "the");
+
+        String sql = operation().apply(new OrFilterExpression(new AndFilterExpression(titles, genre),
+                new NotFilterExpression(prefix)));
+
+        assertEquals(sql, "((Book.title IN (?, ?) AND Book.genre NOT IN (?)) "
+                + "OR NOT (LOWER(Book.title) LIKE CONCAT(LOWER(?), '%')))");
+        assertEquals(parameters, Arrays.asList("A", "B", "HISTORY", "the"));
+    }
+
+    @Test
+    public void testInListsArePadded() {
+        String three = operation().apply(predicate(Book.class, "title", Operator.IN, "A", "B", "C"));
+        String four = operation().apply(predicate(Book.class, "title", Operator.IN_INSENSITIVE, "A", "B", "C", "D"));
+
+        assertEquals(three, "Book.title IN (?, ?, ?, ?)");
+        assertEquals(four, "LOWER(Book.title) IN (LOWER(?), LOWER(?), LOWER(?), LOWER(?))");
+        assertEquals(parameters, Arrays.asList("A", "B", "C", "C", "A", "B", "C", "D"));
+    }
+
+    @Test
+    public void testForeignKeyPath() {
+        String sql = operation().apply(predicate(Book.class, "author.name", Operator.IN, "Ann"));
+
+        assertEquals(sql, "Book.author_id IN (SELECT authors.id FROM authors WHERE authors.name IN (?))");
+        assertEquals(parameters, Collections.singletonList("Ann"));
+    }
+
+    @Test
+    public void testInverseForeignKeyPath() {
+        String sql = operation().apply(predicate(Author.class, "books.title", Operator.ISNULL));
+
+        assertEquals(sql, "authors.id IN (SELECT Book.author_id FROM Book "
+                + "WHERE Book.author_id IS NOT NULL AND Book.title IS NULL)");
+        assertEquals(parameters, Collections.emptyList());
+    }
+
+    @Test
+    public void testJoinTablePaths() {
+        assertEquals(operation().apply(predicate(Book.class, "tags.name", Operator.IN, "war")),
+                "Book.id IN (SELECT book_tags.book_id FROM book_tags JOIN Tag ON book_tags.tag_id = Tag.id "
+                        + "WHERE Tag.name IN (?))");
+        assertEquals(operation().apply(predicate(Tag.class, "books.author.id", Operator.GE, 1L, 2L)),
+                "Tag.id IN (SELECT book_tags.tag_id FROM book_tags JOIN Book ON book_tags.book_id = Book.id "
+                        + "WHERE Book.author_id IN "
+                        + "(SELECT authors.id FROM authors WHERE authors.id >= GREATEST(?, ?)))");
+        assertEquals(parameters, Arrays.asList("war", 1L, 2L));
+    }
+
+    @Test(expectedExceptions = InvalidPredicateException.class)
+    public void testUnmappedType() {
+        operation().apply(new FilterPredicate(new Path.PathElement(Object.class, String.class, "name"),
+                Operator.IN, Collections.singletonList("x")));
+    }
+
+    private SQLFilterOperation operation() {
+        return new SQLFilterOperation(store::getMapping, parameters);
+    }
+
+    private FilterPredicate predicate(Class<?> entityClass, String path, Operator operator, Object... values) {
+        return new FilterPredicate(new Path(entityClass, dictionary, path), operator, Arrays.asList(values));
+    }
+}
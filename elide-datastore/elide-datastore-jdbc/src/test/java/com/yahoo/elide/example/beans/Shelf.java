@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.example.beans;
+
+import com.yahoo.elide.annotation.Include;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * Shelf bean with a collection of values, which cannot be stored in a column.
+ */
+@Entity
+@Include(rootLevel = true)
+public class Shelf {
+    private Long id;
+    private List<String> labels;
+
+    @Id
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(List<String> labels) {
+        this.labels = labels;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.multiplex;
+
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link BridgeableTransaction} which can resolve a cross-store relationship for many parents at once.
+ *
+ * When a collection (or an include set) is loaded through the {@link MultiplexTransaction}, the multiplex layer
+ * remembers the parents that were loaded together. The first time a bridged relationship is requested for one of
+ * them, the relationship is resolved for every parent of that page in a single call and the result is reused for
+ * the remaining parents. A page of 500 parents therefore costs one lookup in the bridged store instead of 500.
+ *
+ * <strong>N.B.</strong> Bridged lookups which carry an explicit id (e.g. <em>/user/1/redisActions/2</em>) are still
+ *           resolved through the single-parent {@link BridgeableTransaction} methods.
+ */
+public interface BatchedBridgeableTransaction extends BridgeableTransaction {
+
+    /**
+     * Load a to-one relationship for a batch of parents from a bridgeable store.
+     *
+     * @param muxTx  Multiplex transaction
+     * @param parents  Parent objects loaded together
+     * @param relationName  Relation name on the parents to expected entity
+     * @param filterExpression  Filter expression to apply to query
+     * @param scope  Request scope
+     * @return Mapping from each parent to its related object. Parents without a related object may be omitted.
+     */
+    Map<Object, Object> bridgeableLoadObjectBatch(MultiplexTransaction muxTx,
+                                                  Collection<Object> parents,
+                                                  String relationName,
+                                                  Optional<FilterExpression> filterExpression,
+                                                  RequestScope scope);
+
+    /**
+     * Load a to-many relationship for a batch of parents from a bridgeable store.
+     *
+     * <em>NOTE:</em> Sorting and pagination apply to the collection of each individual parent.
+     *
+     * @param muxTx  Multiplex transaction
+     * @param parents  Parent objects loaded together
+     * @param relationName  Relation name on the parents to expected entity
+     * @param filterExpression  Filter expression to apply to query
+     * @param sorting  Sorting method for each collection
+     * @param pagination  Pagination for each collection
+     * @param scope  Request scope
+     * @return Mapping from each parent to its related objects. Parents without related objects may be omitted.
+     */
+    Map<Object, Iterable<Object>> bridgeableLoadObjectsBatch(MultiplexTransaction muxTx,
+                                                             Collection<Object> parents,
+                                                             String relationName,
+                                                             Optional<FilterExpression> filterExpression,
+                                                             Optional<Sorting> sorting,
+                                                             Optional<Pagination> pagination,
+                                                             RequestScope scope);
+
+    @Override
+    default Iterable<Object> bridgeableLoadObjects(MultiplexTransaction muxTx,
+                                                   Object parent,
+                                                   String relationName,
+                                                   Optional<FilterExpression> filterExpression,
+                                                   Optional<Sorting> sorting,
+                                                   Optional<Pagination> pagination,
+                                                   RequestScope scope) {
+        Iterable<Object> children = bridgeableLoadObjectsBatch(muxTx, Collections.singletonList(parent),
+                relationName, filterExpression, sorting, pagination, scope).get(parent);
+        return children == null ? Collections.emptyList() : children;
+    }
+}
@@ -12,6 +12,7 @@ import com.yahoo.elide.core.EntityDictionary;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Allows multiple database handlers to each process their own beans while keeping the main
@@ -27,11 +28,16 @@ import java.util.concurrent.ConcurrentHashMap;
  * <li>Commit DB2 fails
  * <li>Attempt to reverse DB1 commit fails
  * </ul>
+ * <p>
+ * When constructed with an {@link Executor}, the subordinate flushes run concurrently and, once all of them
+ * succeed, the subordinate commits run concurrently as well.  Commit latency is then the slowest store rather
+ * than the sum of all stores.  Any commits which succeeded are still reversed if another commit fails.
  */
 public class MultiplexManager implements DataStore {
 
     protected final List<DataStore> dataStores;
     protected final ConcurrentHashMap<Class<?>, DataStore> dataStoreMap = new ConcurrentHashMap<>();
+    protected final Executor executor;
     private EntityDictionary dictionary;
 
     /**
@@ -39,6 +45,17 @@ public class MultiplexManager implements DataStore {
      * @param dataStores list of sub-managers
      */
     public MultiplexManager(DataStore... dataStores) {
+        this(null, dataStores);
+    }
+
+    /**
+     * Create a single DataStore to handle provided managers within a single transaction.
+     * Flushes and commits of the sub-managers are run concurrently on the provided executor.
+     * @param executor executor for subordinate flushes and commits (null to run them serially)
+     * @param dataStores list of sub-managers
+     */
+    public MultiplexManager(Executor executor, DataStore... dataStores) {
+        this.executor = executor;
         this.dataStores = Arrays.asList(dataStores);
     }
 
@@ -50,11 +67,11 @@ public class MultiplexManager implements DataStore {
             EntityDictionary subordinateDictionary = new EntityDictionary(dictionary.getCheckMappings());
 
             dataStore.populateEntityDictionary(subordinateDictionary);
+            // bind to multiplex dictionary
+            dictionary.bindEntities(subordinateDictionary.getBindings());
             for (Class<?> cls : subordinateDictionary.getBindings()) {
                 // route class to this database manager
                 this.dataStoreMap.put(cls, dataStore);
-                // bind to multiplex dictionary
-                dictionary.bindEntity(cls);
                 dictionary.bindInitializer(subordinateDictionary::initializeEntity, cls);
             }
         }
@@ -74,6 +91,14 @@ public class MultiplexManager implements DataStore {
         return dictionary;
     }
 
+    /**
+     * Whether subordinate flushes and commits are run concurrently.
+     * @return true if an executor was provided
+     */
+    public boolean isParallel() {
+        return executor != null;
+    }
+
     /**
      * Lookup subordinate database manager for provided entity class.
      * @param <T> type
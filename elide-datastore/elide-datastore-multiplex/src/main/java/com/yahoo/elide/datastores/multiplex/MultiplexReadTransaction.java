@@ -8,9 +8,19 @@ package com.yahoo.elide.datastores.multiplex;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import java.io.Serializable;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Multiplex transaction handler.
+ * <p>
+ * Asynchronous loads are started by the transaction of the data store of the type, so loads from different data
+ * stores can run concurrently.
  */
 public class MultiplexReadTransaction extends MultiplexTransaction {
 
@@ -33,4 +43,46 @@ public class MultiplexReadTransaction extends MultiplexTransaction {
     public void delete(Object entity, RequestScope scope) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public CompletableFuture<Object> loadObjectAsync(Class<?> entityClass,
+                                                     Serializable id,
+                                                     Optional<FilterExpression> filterExpression,
+                                                     RequestScope scope) {
+        return getTransaction(entityClass).loadObjectAsync(entityClass, id, filterExpression, scope);
+    }
+
+    @Override
+    public CompletableFuture<Iterable<Object>> loadObjectsAsync(Class<?> entityClass,
+                                                                Optional<FilterExpression> filterExpression,
+                                                                Optional<Sorting> sorting,
+                                                                Optional<Pagination> pagination,
+                                                                RequestScope scope) {
+        if (hasBatchedBridge(entityClass)) {
+            // Bridge batches are collected on the request thread
+            return super.loadObjectsAsync(entityClass, filterExpression, sorting, pagination, scope);
+        }
+        return getTransaction(entityClass).loadObjectsAsync(entityClass, filterExpression, sorting, pagination,
+                scope);
+    }
+
+    @Override
+    public CompletableFuture<Object> getRelationAsync(DataStoreTransaction relationTx,
+                                                      Object entity,
+                                                      String relationName,
+                                                      Optional<FilterExpression> filter,
+                                                      Optional<Sorting> sorting,
+                                                      Optional<Pagination> pagination,
+                                                      RequestScope scope) {
+        DataStoreTransaction entityTransaction = getTransaction(entity.getClass());
+        DataStoreTransaction targetTransaction = getRelationTransaction(entity, relationName);
+        Class<?> relationClass = scope.getDictionary().getParameterizedType(entity, relationName);
+        if (entityTransaction != targetTransaction && targetTransaction instanceof BridgeableTransaction
+                || hasBatchedBridge(relationClass)) {
+            // Bridged relationships and bridge batches are resolved on the request thread
+            return super.getRelationAsync(relationTx, entity, relationName, filter, sorting, pagination, scope);
+        }
+        return entityTransaction.getRelationAsync(targetTransaction, entity, relationName,
+                filter, sorting, pagination, scope);
+    }
 }
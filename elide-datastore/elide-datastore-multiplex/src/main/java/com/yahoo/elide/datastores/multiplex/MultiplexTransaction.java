@@ -10,6 +10,7 @@ import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.RelationshipType;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.aggregation.Aggregation;
 import com.yahoo.elide.core.exceptions.InvalidCollectionException;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.Operator;
@@ -21,8 +22,15 @@ import com.yahoo.elide.security.User;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -35,6 +43,11 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
     protected final MultiplexManager multiplexManager;
     protected final DataStoreTransaction lastDataStoreTransaction;
 
+    // Parents loaded together which may be bridged in a single batch
+    private final IdentityHashMap<Object, BridgeBatch> bridgeBatches = new IdentityHashMap<>();
+    private final HashMap<List<Object>, Map<Object, ?>> bridgedRelations = new HashMap<>();
+    private final HashMap<Class<?>, Boolean> batchedBridgeTypes = new HashMap<>();
+
     /**
      * Multiplex transaction handler.
      * @param multiplexManager associated manager
@@ -66,6 +79,7 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
 
     @Override
     public void createObject(Object entity, RequestScope scope) {
+        clearBridgedRelations();
         getTransaction(entity).createObject(entity, scope);
     }
 
@@ -85,11 +99,11 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
             Optional<Sorting> sorting,
             Optional<Pagination> pagination,
             RequestScope scope) {
-        return getTransaction(entityClass).loadObjects(entityClass,
+        return collectBridgeBatch(entityClass, getTransaction(entityClass).loadObjects(entityClass,
                 filterExpression,
                 sorting,
                 pagination,
-                scope);
+                scope));
     }
 
     @Override
@@ -161,29 +175,146 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
                               RequestScope scope) {
         relationTx = getRelationTransaction(entity, relationName);
         DataStoreTransaction entityTransaction = getTransaction(entity.getClass());
+        Class<?> relationClass = scope.getDictionary().getParameterizedType(entity, relationName);
 
+        Object relation;
+        // If different transactions, check if bridgeable and try to bridge
+        if (entityTransaction != relationTx && relationTx instanceof BridgeableTransaction) {
+            relation = bridgeRelation((BridgeableTransaction) relationTx, entity, relationName,
+                    filter, sorting, pagination, scope);
+        } else {
+            // Otherwise, rely on existing underlying transaction to call correctly into relationTx
+            relation = entityTransaction.getRelation(relationTx, entity, relationName,
+                    filter, sorting, pagination, scope);
+        }
+
+        if (relation instanceof Iterable) {
+            return collectBridgeBatch(relationClass, (Iterable<Object>) relation);
+        }
+        return relation;
+    }
+
+    private Object bridgeRelation(BridgeableTransaction bridgeableTx,
+                                  Object entity,
+                                  String relationName,
+                                  Optional<FilterExpression> filter,
+                                  Optional<Sorting> sorting,
+                                  Optional<Pagination> pagination,
+                                  RequestScope scope) {
         EntityDictionary dictionary = scope.getDictionary();
         Class<?> relationClass = dictionary.getParameterizedType(entity, relationName);
         String idFieldName = dictionary.getIdFieldName(relationClass);
+        RelationshipType relationType = dictionary.getRelationshipType(entity.getClass(), relationName);
+        Serializable id = filter.map(fe -> extractId(fe, idFieldName, relationClass)).orElse(null);
 
-        // If different transactions, check if bridgeable and try to bridge
-        if (entityTransaction != relationTx && relationTx instanceof BridgeableTransaction) {
-            BridgeableTransaction bridgeableTx = (BridgeableTransaction) relationTx;
-            RelationshipType relationType = dictionary.getRelationshipType(entity.getClass(), relationName);
-            Serializable id = filter.map(fe -> extractId(fe, idFieldName, relationClass)).orElse(null);
-
-            if (relationType.isToMany()) {
-                return id == null ? bridgeableTx.bridgeableLoadObjects(
-                                this, entity, relationName, filter, sorting, pagination, scope)
-                        : bridgeableTx.bridgeableLoadObject(this, entity, relationName, id, filter, scope);
-            }
+        BridgeBatch batch = bridgeBatches.get(entity);
+        if (id == null && batch != null && bridgeableTx instanceof BatchedBridgeableTransaction) {
+            BatchedBridgeableTransaction batchedTx = (BatchedBridgeableTransaction) bridgeableTx;
+            List<Object> key = Arrays.asList(batch, relationName, filter, sorting, pagination);
+            Map<Object, ?> bridged = bridgedRelations.computeIfAbsent(key, unused -> relationType.isToMany()
+                    ? batchedTx.bridgeableLoadObjectsBatch(
+                            this, batch.parents, relationName, filter, sorting, pagination, scope)
+                    : batchedTx.bridgeableLoadObjectBatch(this, batch.parents, relationName, filter, scope));
+            Object relation = bridged.get(entity);
+            return relation == null && relationType.isToMany() ? Collections.emptyList() : relation;
+        }
+
+        if (relationType.isToMany()) {
+            return id == null ? bridgeableTx.bridgeableLoadObjects(
+                            this, entity, relationName, filter, sorting, pagination, scope)
+                    : bridgeableTx.bridgeableLoadObject(this, entity, relationName, id, filter, scope);
+        }
+
+        return bridgeableTx.bridgeableLoadObject(this, entity, relationName, id, filter, scope);
+    }
+
+    /**
+     * Remember objects loaded together so that relationships bridged from them can be resolved in one batch.
+     * Results are only materialized when the type has a relationship into a {@link BatchedBridgeableTransaction}.
+     *
+     * @param entityClass type of the loaded objects
+     * @param objects loaded objects
+     * @return the loaded objects
+     */
+    protected Iterable<Object> collectBridgeBatch(Class<?> entityClass, Iterable<Object> objects) {
+        if (objects == null || !hasBatchedBridge(entityClass)) {
+            return objects;
+        }
+
+        List<Object> parents = new ArrayList<>();
+        objects.forEach(parents::add);
+        BridgeBatch batch = new BridgeBatch(parents);
+        for (Object parent : parents) {
+            bridgeBatches.put(parent, batch);
+        }
+        return parents;
+    }
+
+    /**
+     * Drop bridged relationships resolved so far since a write may have changed them.
+     */
+    protected void clearBridgedRelations() {
+        bridgedRelations.clear();
+    }
 
-            return bridgeableTx.bridgeableLoadObject(this, entity, relationName, id, filter, scope);
+    protected boolean hasBatchedBridge(Class<?> cls) {
+        return batchedBridgeTypes.computeIfAbsent(cls, unused -> {
+            EntityDictionary dictionary = multiplexManager.getDictionary();
+            Class<?> entityClass = dictionary.lookupEntityClass(cls);
+            DataStoreTransaction entityTransaction = getTransaction(entityClass);
+            return dictionary.getRelationships(entityClass).stream()
+                    .map(relation -> transactions.get(multiplexManager.getSubManager(
+                            dictionary.getParameterizedType(entityClass, relation))))
+                    .anyMatch(relationTx -> relationTx != entityTransaction
+                            && relationTx instanceof BatchedBridgeableTransaction);
+        });
+    }
 
+    @Override
+    public boolean supportsBulkDelete(Class<?> entityClass, FilterExpression filterExpression, RequestScope scope) {
+        return getTransaction(entityClass).supportsBulkDelete(entityClass, filterExpression, scope);
+    }
+
+    @Override
+    public long deleteObjects(Class<?> entityClass, FilterExpression filterExpression, RequestScope scope) {
+        return getTransaction(entityClass).deleteObjects(entityClass, filterExpression, scope);
+    }
+
+    @Override
+    public boolean supportsBulkUpdate(Class<?> entityClass,
+                                      FilterExpression filterExpression,
+                                      Map<String, Object> attributes,
+                                      RequestScope scope) {
+        return getTransaction(entityClass).supportsBulkUpdate(entityClass, filterExpression, attributes, scope);
+    }
+
+    @Override
+    public long updateObjects(Class<?> entityClass,
+                              FilterExpression filterExpression,
+                              Map<String, Object> attributes,
+                              RequestScope scope) {
+        return getTransaction(entityClass).updateObjects(entityClass, filterExpression, attributes, scope);
+    }
+
+    @Override
+    public List<Map<String, Object>> aggregate(Class<?> entityClass,
+                                               Optional<FilterExpression> filterExpression,
+                                               Aggregation aggregation,
+                                               RequestScope scope) {
+        // The store of the collection can only group and aggregate the fields of its own entities
+        DataStore dataStore = multiplexManager.getSubManager(entityClass);
+        boolean sameStore = aggregation.getPaths().stream()
+                .flatMap(path -> path.getPathElements().stream())
+                .allMatch(pathElement -> multiplexManager.getSubManager(pathElement.getType()) == dataStore);
+        if (!sameStore) {
+            return DataStoreTransaction.super.aggregate(entityClass, filterExpression, aggregation, scope);
         }
+        return getTransaction(entityClass).aggregate(entityClass, filterExpression, aggregation, scope);
+    }
 
-        // Otherwise, rely on existing underlying transaction to call correctly into relationTx
-        return entityTransaction.getRelation(relationTx, entity, relationName, filter, sorting, pagination, scope);
+    @Override
+    public boolean isRelationUnloaded(Object entity, String relationName, RequestScope scope) {
+        return getTransaction(entity.getClass()).isRelationUnloaded(entity, relationName, scope);
     }
 
     @Override
@@ -192,6 +323,7 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
                                      Set<Object> newRelationships,
                                      Set<Object> deletedRelationships,
                                      RequestScope scope) {
+        clearBridgedRelations();
         relationTx = getRelationTransaction(entity, relationName);
         DataStoreTransaction entityTransaction = getTransaction(entity.getClass());
         entityTransaction.updateToManyRelation(relationTx, entity, relationName,
@@ -201,6 +333,7 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
     @Override
     public void updateToOneRelation(DataStoreTransaction relationTx, Object entity,
                                     String relationName, Object relationshipValue, RequestScope scope) {
+        clearBridgedRelations();
         relationTx = getRelationTransaction(entity, relationName);
         DataStoreTransaction entityTransaction = getTransaction(entity.getClass());
         entityTransaction.updateToOneRelation(relationTx, entity, relationName, relationshipValue, scope);
@@ -231,4 +364,15 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
                 .map(p -> (Serializable) p.getValues().get(0))
                 .orElse(null);
     }
+
+    /**
+     * Parents loaded together.  Compared by identity.
+     */
+    private static final class BridgeBatch {
+        private final List<Object> parents;
+
+        private BridgeBatch(List<Object> parents) {
+            this.parents = parents;
+        }
+    }
 }
@@ -21,9 +21,15 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MultivaluedHashMap;
@@ -48,21 +54,70 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
 
     @Override
     public void save(Object entity, RequestScope requestScope) {
+        clearBridgedRelations();
         getTransaction(entity).save(entity, requestScope);
         dirtyObjects.add(this.multiplexManager.getSubManager(entity.getClass()), entity);
     }
 
+    @Override
+    public void save(Object entity, Set<String> changedFields, RequestScope requestScope) {
+        clearBridgedRelations();
+        getTransaction(entity).save(entity, changedFields, requestScope);
+        dirtyObjects.add(this.multiplexManager.getSubManager(entity.getClass()), entity);
+    }
+
     @Override
     public void delete(Object entity, RequestScope requestScope) {
+        clearBridgedRelations();
         getTransaction(entity).delete(entity, requestScope);
         dirtyObjects.add(this.multiplexManager.getSubManager(entity.getClass()), entity);
     }
 
+    @Override
+    public boolean supportsBulkDelete(Class<?> entityClass, FilterExpression filterExpression, RequestScope scope) {
+        return !hasSeveralStores() && super.supportsBulkDelete(entityClass, filterExpression, scope);
+    }
+
+    @Override
+    public boolean supportsBulkUpdate(Class<?> entityClass,
+                                      FilterExpression filterExpression,
+                                      Map<String, Object> attributes,
+                                      RequestScope scope) {
+        return !hasSeveralStores() && super.supportsBulkUpdate(entityClass, filterExpression, attributes, scope);
+    }
+
+    @Override
+    public void evict(Iterable<Object> entities, RequestScope scope) {
+        Map<DataStoreTransaction, List<Object>> entitiesByTransaction = new LinkedHashMap<>();
+        entities.forEach(entity ->
+                entitiesByTransaction.computeIfAbsent(getTransaction(entity), tx -> new ArrayList<>()).add(entity));
+        entitiesByTransaction.forEach((tx, txEntities) -> tx.evict(txEntities, scope));
+    }
+
+    @Override
+    public void flush(RequestScope scope) {
+        if (!multiplexManager.isParallel()) {
+            super.flush(scope);
+            return;
+        }
+
+        Map<DataStore, Throwable> failures = runConcurrently(tx -> tx.flush(scope));
+        if (!failures.isEmpty()) {
+            // nothing has been committed yet so there is nothing to reverse
+            throw toCommitException(failures.values().iterator().next());
+        }
+    }
+
     @Override
     public void commit(RequestScope scope) {
         // flush all before commits
         flush(scope);
 
+        if (multiplexManager.isParallel()) {
+            commitConcurrently(scope);
+            return;
+        }
+
         ArrayList<DataStore> commitList = new ArrayList<>();
         for (Entry<DataStore, DataStoreTransaction> entry : transactions.entrySet()) {
             try {
@@ -79,6 +134,70 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         }
     }
 
+    /**
+     * Commit all sub-transactions at once and reverse those which succeeded if any of them failed.
+     * @param scope the request scope for the current request
+     */
+    private void commitConcurrently(RequestScope scope) {
+        Map<DataStore, Throwable> failures = runConcurrently(tx -> tx.commit(scope));
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        ArrayList<DataStore> commitList = new ArrayList<>(transactions.keySet());
+        commitList.removeAll(failures.keySet());
+
+        RuntimeException exception = toCommitException(failures.values().iterator().next());
+        failures.values().stream()
+                .skip(1)
+                .forEach(exception::addSuppressed);
+        reverseTransactions(commitList, exception, scope);
+        throw exception;
+    }
+
+    /**
+     * Run an operation against every sub-transaction on the manager's executor and wait for all of them.
+     * @param operation operation to run against each sub-transaction
+     * @return failures keyed by data store, in transaction order
+     */
+    private Map<DataStore, Throwable> runConcurrently(Consumer<DataStoreTransaction> operation) {
+        LinkedHashMap<DataStore, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        for (Entry<DataStore, DataStoreTransaction> entry : transactions.entrySet()) {
+            DataStoreTransaction transaction = entry.getValue();
+            futures.put(entry.getKey(),
+                    CompletableFuture.runAsync(() -> operation.accept(transaction), multiplexManager.executor));
+        }
+
+        LinkedHashMap<DataStore, Throwable> failures = new LinkedHashMap<>();
+        for (Entry<DataStore, CompletableFuture<Void>> entry : futures.entrySet()) {
+            try {
+                entry.getValue().join();
+            } catch (CompletionException e) {
+                failures.put(entry.getKey(), e.getCause() == null ? e : e.getCause());
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Bulk writes do not record the objects they change, so they could not be reversed if the commit of another
+     * sub-store failed.  Elide falls back to writing each object when several sub-stores take part in the commit.
+     * @return whether more than one sub-transaction is committed
+     */
+    private boolean hasSeveralStores() {
+        return transactions.size() > 1;
+    }
+
+    private static RuntimeException toCommitException(Throwable e) {
+        if (e instanceof HttpStatusException) {
+            return (HttpStatusException) e;
+        }
+        if (e instanceof WebApplicationException) {
+            return (WebApplicationException) e;
+        }
+        return new TransactionException(e);
+    }
+
     /**
      * Attempt to reverse changes of last commit since not all transactions successfully committed.
      * @param restoreList List of database managers to reverse the last commit
@@ -106,6 +225,7 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
     @SuppressWarnings("resource")
     @Override
     public void createObject(Object entity, RequestScope scope) {
+        clearBridgedRelations();
         DataStoreTransaction transaction = getTransaction(entity.getClass());
         transaction.createObject(entity, scope);
         // mark this object as newly created to be deleted on reverse transaction
@@ -113,7 +233,7 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
     }
 
     private <T> Iterable<T> hold(DataStoreTransaction transaction, Iterable<T> list) {
-        if (transaction != lastDataStoreTransaction) {
+        if (isReversible(transaction)) {
             ArrayList<T> newList = new ArrayList<>();
             list.forEach(newList::add);
             for (T object : newList) {
@@ -131,12 +251,20 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
      * @return original object
      */
     private <T> T hold(DataStoreTransaction subTransaction, T object) {
-        if (subTransaction != lastDataStoreTransaction) {
+        if (isReversible(subTransaction)) {
             clonedObjects.put(object, cloneObject(object));
         }
         return object;
     }
 
+    /**
+     * The last transaction is committed last when running serially so it never needs reversing.
+     * When commits run concurrently, any of them may need to be reversed.
+     */
+    private boolean isReversible(DataStoreTransaction subTransaction) {
+        return multiplexManager.isParallel() || subTransaction != lastDataStoreTransaction;
+    }
+
     /**
      *  Clone contents of object for possible reverse transaction.
      */
@@ -186,7 +314,8 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
             Optional<Pagination> pagination,
             RequestScope scope) {
         DataStoreTransaction transaction = getTransaction(entityClass);
-        return hold(transaction, transaction.loadObjects(entityClass, filterExpression, sorting, pagination, scope));
+        return hold(transaction, collectBridgeBatch(entityClass,
+                transaction.loadObjects(entityClass, filterExpression, sorting, pagination, scope)));
     }
 
     @Override
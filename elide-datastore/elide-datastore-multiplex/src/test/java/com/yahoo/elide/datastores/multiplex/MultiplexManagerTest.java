@@ -27,6 +27,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * MultiplexManager tests.
@@ -121,4 +123,43 @@ public class MultiplexManagerTest {
             assertEquals(((FirstBean) list.get(0)).name, "name");
         }
     }
+
+    @Test(priority = 4)
+    public void parallelPartialCommitFailure() throws IOException {
+        final EntityDictionary entityDictionary = new EntityDictionary(new HashMap<>());
+        final InMemoryDataStore ds1 = new InMemoryDataStore(FirstBean.class.getPackage());
+        final DataStore ds2 = new TestDataStore(OtherBean.class.getPackage());
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final MultiplexManager multiplexManager = new MultiplexManager(executor, ds1, ds2);
+        multiplexManager.populateEntityDictionary(entityDictionary);
+        assertTrue(multiplexManager.isParallel());
+
+        try (DataStoreTransaction t = ds1.beginTransaction()) {
+            FirstBean firstBean = new FirstBean();
+            firstBean.name = "name";
+            t.createObject(firstBean, null);
+            t.commit(null);
+        }
+        try (DataStoreTransaction t = multiplexManager.beginTransaction()) {
+            FirstBean firstBean = (FirstBean) t.loadObjects(FirstBean.class, Optional.empty(), Optional.empty(), Optional.empty(), null).iterator().next();
+            firstBean.name = "update";
+            t.save(firstBean, null);
+            t.createObject(new OtherBean(), null);
+            try {
+                t.commit(null);
+                fail("TransactionException expected");
+            } catch (TransactionException expected) {
+                // expected
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // the successful commit of ds1 was reversed
+        try (DataStoreTransaction t = ds1.beginTransaction()) {
+            Iterable<Object> beans = t.loadObjects(FirstBean.class, Optional.empty(), Optional.empty(), Optional.empty(), null);
+            ArrayList<Object> list = Lists.newArrayList(beans.iterator());
+            assertEquals(list.size(), 1);
+            assertEquals(((FirstBean) list.get(0)).name, "name");
+        }
+    }
 }
@@ -5,15 +5,39 @@
  */
 package com.yahoo.elide.datastores.multiplex;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
+import com.google.common.collect.Lists;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.aggregation.Aggregation;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.datastores.inmemory.InMemoryDataStore;
+import com.yahoo.elide.example.beans.HibernateUser;
+import com.yahoo.elide.example.hbase.beans.RedisActions;
 
 import org.testng.annotations.Test;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Tests MultiplexTransaction.
  */
@@ -37,4 +61,172 @@ public class MultiplexTransactionTest {
         verify(tx1).preCommit();
         verify(tx2).preCommit();
     }
+
+    @Test
+    public void testAsyncLoadsAreStartedByTheStoreOfTheType() throws Exception {
+        InMemoryDataStore userStore = new InMemoryDataStore(HibernateUser.class.getPackage());
+        DataStore actionStore = mock(DataStore.class);
+        DataStoreTransaction actionTx = mock(DataStoreTransaction.class);
+        doAnswer(invocation -> {
+            ((EntityDictionary) invocation.getArgument(0)).bindEntity(RedisActions.class);
+            return null;
+        }).when(actionStore).populateEntityDictionary(any());
+        when(actionStore.beginReadTransaction()).thenReturn(actionTx);
+
+        CompletableFuture<Iterable<Object>> pending = new CompletableFuture<>();
+        when(actionTx.loadObjectsAsync(eq(RedisActions.class), any(), any(), any(), any())).thenReturn(pending);
+
+        MultiplexManager store = new MultiplexManager(userStore, actionStore);
+        store.populateEntityDictionary(new EntityDictionary(new HashMap<>()));
+
+        try (DataStoreTransaction multiplexTx = store.beginReadTransaction()) {
+            CompletableFuture<Iterable<Object>> actions = multiplexTx.loadObjectsAsync(RedisActions.class,
+                    Optional.empty(), Optional.empty(), Optional.empty(), mock(RequestScope.class));
+            assertFalse(actions.isDone());
+
+            pending.complete(Collections.singletonList(new RedisActions()));
+            assertEquals(Lists.newArrayList(actions.get()).size(), 1);
+        }
+    }
+
+    @Test
+    public void testAggregatesAreComputedByTheStoreOfTheType() throws Exception {
+        InMemoryDataStore userStore = new InMemoryDataStore(HibernateUser.class.getPackage());
+        DataStore actionStore = mock(DataStore.class);
+        DataStoreTransaction actionTx = mock(DataStoreTransaction.class);
+        doAnswer(invocation -> {
+            ((EntityDictionary) invocation.getArgument(0)).bindEntity(RedisActions.class);
+            return null;
+        }).when(actionStore).populateEntityDictionary(any());
+        when(actionStore.beginReadTransaction()).thenReturn(actionTx);
+
+        MultiplexManager store = new MultiplexManager(userStore, actionStore);
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        store.populateEntityDictionary(dictionary);
+
+        Aggregation aggregation = Aggregation.parse(RedisActions.class, dictionary,
+                Collections.singletonList("count"), Collections.singletonList("description"));
+        List<Map<String, Object>> rows = Collections.singletonList(Collections.singletonMap("count", 2L));
+        when(actionTx.aggregate(eq(RedisActions.class), any(), eq(aggregation), any())).thenReturn(rows);
+
+        try (DataStoreTransaction multiplexTx = store.beginReadTransaction()) {
+            assertEquals(multiplexTx.aggregate(RedisActions.class, Optional.empty(), aggregation,
+                    mock(RequestScope.class)), rows);
+        }
+        verify(actionTx, times(0)).loadObjects(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testBulkDeleteOnlyWithASingleStore() throws Exception {
+        DataStore actionStore = mockActionStore();
+        DataStoreTransaction actionTx = actionStore.beginTransaction();
+        when(actionTx.supportsBulkDelete(eq(RedisActions.class), any(), any())).thenReturn(true);
+        FilterExpression filter = mock(FilterExpression.class);
+        RequestScope scope = mock(RequestScope.class);
+
+        MultiplexManager single = new MultiplexManager(actionStore);
+        single.populateEntityDictionary(new EntityDictionary(new HashMap<>()));
+        try (DataStoreTransaction multiplexTx = single.beginTransaction()) {
+            assertTrue(multiplexTx.supportsBulkDelete(RedisActions.class, filter, scope));
+        }
+
+        // the other store could fail to commit after the rows were deleted, which could not be reversed
+        MultiplexManager several = new MultiplexManager(
+                new InMemoryDataStore(HibernateUser.class.getPackage()), actionStore);
+        several.populateEntityDictionary(new EntityDictionary(new HashMap<>()));
+        try (DataStoreTransaction multiplexTx = several.beginTransaction()) {
+            assertFalse(multiplexTx.supportsBulkDelete(RedisActions.class, filter, scope));
+        }
+    }
+
+    @Test
+    public void testBulkUpdateOnlyWithASingleStore() throws Exception {
+        DataStore actionStore = mockActionStore();
+        DataStoreTransaction actionTx = actionStore.beginTransaction();
+        when(actionTx.supportsBulkUpdate(eq(RedisActions.class), any(), any(), any())).thenReturn(true);
+        FilterExpression filter = mock(FilterExpression.class);
+        Map<String, Object> attributes = Collections.singletonMap("description", "done");
+        RequestScope scope = mock(RequestScope.class);
+
+        MultiplexManager single = new MultiplexManager(actionStore);
+        single.populateEntityDictionary(new EntityDictionary(new HashMap<>()));
+        try (DataStoreTransaction multiplexTx = single.beginTransaction()) {
+            assertTrue(multiplexTx.supportsBulkUpdate(RedisActions.class, filter, attributes, scope));
+        }
+
+        MultiplexManager several = new MultiplexManager(
+                new InMemoryDataStore(HibernateUser.class.getPackage()), actionStore);
+        several.populateEntityDictionary(new EntityDictionary(new HashMap<>()));
+        try (DataStoreTransaction multiplexTx = several.beginTransaction()) {
+            assertFalse(multiplexTx.supportsBulkUpdate(RedisActions.class, filter, attributes, scope));
+        }
+    }
+
+    @Test
+    public void testBatchedBridge() throws Exception {
+        InMemoryDataStore userStore = new InMemoryDataStore(HibernateUser.class.getPackage());
+        DataStore actionStore = mock(DataStore.class);
+        DataStoreTransaction actionTx = mock(DataStoreTransaction.class,
+                withSettings().extraInterfaces(BatchedBridgeableTransaction.class));
+        BatchedBridgeableTransaction batchedTx = (BatchedBridgeableTransaction) actionTx;
+
+        doAnswer(invocation -> {
+            ((EntityDictionary) invocation.getArgument(0)).bindEntity(RedisActions.class);
+            return null;
+        }).when(actionStore).populateEntityDictionary(any());
+        when(actionStore.beginReadTransaction()).thenReturn(actionTx);
+        when(actionStore.beginTransaction()).thenReturn(actionTx);
+
+        MultiplexManager store = new MultiplexManager(userStore, actionStore);
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        store.populateEntityDictionary(dictionary);
+
+        try (DataStoreTransaction tx = userStore.beginTransaction()) {
+            for (long id = 1; id <= 3; id++) {
+                HibernateUser user = new HibernateUser();
+                user.setId(id);
+                tx.createObject(user, null);
+            }
+            tx.commit(null);
+        }
+
+        RequestScope scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        RedisActions action = new RedisActions();
+        when(batchedTx.bridgeableLoadObjectsBatch(any(), any(), eq("redisActions"), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    Collection<Object> parents = invocation.getArgument(1);
+                    Map<Object, Iterable<Object>> result = new HashMap<>();
+                    result.put(parents.iterator().next(), Collections.singletonList(action));
+                    return result;
+                });
+
+        try (DataStoreTransaction multiplexTx = store.beginReadTransaction()) {
+            List<Object> users = Lists.newArrayList(multiplexTx.loadObjects(HibernateUser.class,
+                    Optional.empty(), Optional.empty(), Optional.empty(), scope));
+            assertEquals(users.size(), 3);
+
+            for (Object user : users) {
+                Iterable<Object> actions = (Iterable<Object>) multiplexTx.getRelation(multiplexTx, user,
+                        "redisActions", Optional.empty(), Optional.empty(), Optional.empty(), scope);
+                assertEquals(Lists.newArrayList(actions).size(), user == users.get(0) ? 1 : 0);
+            }
+        }
+
+        // a single round trip for the whole page of parents
+        verify(batchedTx, times(1)).bridgeableLoadObjectsBatch(any(), any(), eq("redisActions"),
+                any(), any(), any(), any());
+    }
+
+    private static DataStore mockActionStore() {
+        DataStore actionStore = mock(DataStore.class);
+        DataStoreTransaction actionTx = mock(DataStoreTransaction.class);
+        doAnswer(invocation -> {
+            ((EntityDictionary) invocation.getArgument(0)).bindEntity(RedisActions.class);
+            return null;
+        }).when(actionStore).populateEntityDictionary(any());
+        when(actionStore.beginTransaction()).thenReturn(actionTx);
+        return actionStore;
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.noop;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A data store which generates its entities from the entity dictionary instead of reading them, so that benchmarks
+ * and load tests measure the cost of Elide without the cost of a database.
+ * <p>
+ * Each entity type has a number of rows, with ids 1 to the row count.  The attributes and relationships of a row are
+ * derived from the seed, the type and the id only, so every transaction (and every run with the same seed) sees the
+ * same data.  To-many relationships hold a configurable number of rows of the related type.  Nothing is stored:
+ * writes are accepted and discarded.
+ */
+public class SyntheticDataStore implements DataStore {
+    public static final long DEFAULT_ROW_COUNT = 1000;
+    public static final int DEFAULT_FAN_OUT = 3;
+
+    protected final List<Class<?>> entityClasses;
+    protected final long seed;
+    protected long defaultRowCount = DEFAULT_ROW_COUNT;
+    protected int defaultFanOut = DEFAULT_FAN_OUT;
+    protected final Map<Class<?>, Long> rowCounts = new HashMap<>();
+    protected final Map<Class<?>, Map<String, Integer>> fanOuts = new HashMap<>();
+
+    /**
+     * Create a new synthetic data store.
+     *
+     * @param entityClasses Entity classes generated by this datastore.
+     * @param seed Seed from which all the data is derived.
+     */
+    public SyntheticDataStore(Collection<Class<?>> entityClasses, long seed) {
+        this.entityClasses = new ArrayList<>(entityClasses);
+        this.seed = seed;
+    }
+
+    /**
+     * Set the number of rows of the types without a row count of their own.
+     *
+     * @param rowCount the number of rows
+     * @return this store
+     */
+    public SyntheticDataStore withDefaultRowCount(long rowCount) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("Row counts must not be negative");
+        }
+        defaultRowCount = rowCount;
+        return this;
+    }
+
+    /**
+     * Set the number of rows of a type.
+     *
+     * @param entityClass the entity type
+     * @param rowCount the number of rows
+     * @return this store
+     */
+    public SyntheticDataStore withRowCount(Class<?> entityClass, long rowCount) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("Row counts must not be negative");
+        }
+        rowCounts.put(entityClass, rowCount);
+        return this;
+    }
+
+    /**
+     * Set the number of related rows of the to-many relationships without a fan-out of their own.
+     *
+     * @param fanOut the number of related rows
+     * @return this store
+     */
+    public SyntheticDataStore withDefaultFanOut(int fanOut) {
+        if (fanOut < 0) {
+            throw new IllegalArgumentException("Fan-outs must not be negative");
+        }
+        defaultFanOut = fanOut;
+        return this;
+    }
+
+    /**
+     * Set the number of related rows of a to-many relationship.
+     *
+     * @param entityClass the entity type
+     * @param relationship the to-many relationship
+     * @param fanOut the number of related rows
+     * @return this store
+     */
+    public SyntheticDataStore withFanOut(Class<?> entityClass, String relationship, int fanOut) {
+        if (fanOut < 0) {
+            throw new IllegalArgumentException("Fan-outs must not be negative");
+        }
+        fanOuts.computeIfAbsent(entityClass, unused -> new HashMap<>()).put(relationship, fanOut);
+        return this;
+    }
+
+    /**
+     * Get the number of rows of a type.
+     *
+     * @param entityClass the entity type
+     * @return the number of rows
+     */
+    public long getRowCount(Class<?> entityClass) {
+        return rowCounts.getOrDefault(entityClass, defaultRowCount);
+    }
+
+    /**
+     * Get the number of related rows of a to-many relationship, at most the number of rows of the related type.
+     *
+     * @param entityClass the entity type
+     * @param relationship the to-many relationship
+     * @param relationshipClass the related type
+     * @return the number of related rows
+     */
+    public long getFanOut(Class<?> entityClass, String relationship, Class<?> relationshipClass) {
+        int fanOut = fanOuts.getOrDefault(entityClass, new HashMap<>()).getOrDefault(relationship, defaultFanOut);
+        return Math.min(fanOut, getRowCount(relationshipClass));
+    }
+
+    @Override
+    public void populateEntityDictionary(EntityDictionary dictionary) {
+        dictionary.bindEntities(entityClasses);
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return new SyntheticTransaction(this);
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.noop;
+
+import com.yahoo.elide.annotation.ComputedAttribute;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.InMemoryFilterVisitor;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Transaction of a {@link SyntheticDataStore}.  Rows are generated when they are loaded and are not cached, so the
+ * same row loaded twice is two equal but distinct objects.  Writes are discarded as by a {@link NoopTransaction}.
+ * <p>
+ * Filters, sorting and pagination are evaluated in memory.  Without a filter or sorting only the rows of the page
+ * are generated.  Relationships are only reachable through {@link #getRelation}: they are not set on the generated
+ * objects, so filters and sorting across relationships see empty relationships.  Relationships are not consistent
+ * with their inverses.
+ */
+@Slf4j
+public class SyntheticTransaction extends NoopTransaction {
+    /**
+     * Generated numbers, and the suffixes of generated strings, are below this bound.
+     */
+    private static final int VALUES = 100;
+
+    /**
+     * Generated dates are days in the ten years from 2018-01-01.
+     */
+    private static final long EPOCH_MILLIS = 1514764800000L;
+    private static final long MILLIS_PER_DAY = 86400000L;
+    private static final int DAYS = 3650;
+
+    private final SyntheticDataStore store;
+
+    public SyntheticTransaction(SyntheticDataStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Object loadObject(Class<?> entityClass,
+                             Serializable id,
+                             Optional<FilterExpression> filterExpression,
+                             RequestScope scope) {
+        long row = toRow(id);
+        if (row < 1 || row > store.getRowCount(entityClass)) {
+            return null;
+        }
+
+        Object entity = generate(entityClass, row, scope);
+        if (filterExpression.isPresent() && !toPredicate(filterExpression.get(), scope).test(entity)) {
+            return null;
+        }
+        return entity;
+    }
+
+    @Override
+    public Iterable<Object> loadObjects(Class<?> entityClass,
+                                        Optional<FilterExpression> filterExpression,
+                                        Optional<Sorting> sorting,
+                                        Optional<Pagination> pagination,
+                                        RequestScope scope) {
+        return processRows(entityClass, store.getRowCount(entityClass), index -> index + 1,
+                filterExpression, sorting, pagination, scope);
+    }
+
+    @Override
+    public Object getRelation(DataStoreTransaction relationTx,
+                              Object entity,
+                              String relationName,
+                              Optional<FilterExpression> filterExpression,
+                              Optional<Sorting> sorting,
+                              Optional<Pagination> pagination,
+                              RequestScope scope) {
+        EntityDictionary dictionary = scope.getDictionary();
+        Class<?> entityClass = entity.getClass();
+        Class<?> relationClass = dictionary.getParameterizedType(entityClass, relationName);
+        boolean toOne = dictionary.getRelationshipType(entityClass, relationName).isToOne();
+
+        long row = toRow(dictionary.getId(entity));
+        long relationRowCount = store.getRowCount(relationClass);
+        if (row < 1 || relationRowCount == 0) {
+            // Not a generated row, or nothing to relate it to
+            return toOne ? null : Collections.emptyList();
+        }
+
+        long first = Math.floorMod(hash(entityClass, row, relationName), relationRowCount);
+        if (toOne) {
+            Object relation = generate(relationClass, first + 1, scope);
+            if (filterExpression.isPresent() && !toPredicate(filterExpression.get(), scope).test(relation)) {
+                return null;
+            }
+            return relation;
+        }
+
+        long fanOut = store.getFanOut(entityClass, relationName, relationClass);
+        return processRows(relationClass, fanOut, index -> (first + index) % relationRowCount + 1,
+                filterExpression, sorting, pagination, scope);
+    }
+
+    /**
+     * Generate, filter, sort and paginate rows.
+     *
+     * @param entityClass Entity type of the rows
+     * @param size Number of candidate rows
+     * @param rowAt Row number of each candidate, by index
+     * @param filterExpression Filter expression for filtering data
+     * @param sorting Sorting object for sorting
+     * @param pagination Pagination object for type
+     * @param scope Request scope
+     * @return The rows of the page
+     */
+    private List<Object> processRows(Class<?> entityClass,
+                                     long size,
+                                     LongUnaryOperator rowAt,
+                                     Optional<FilterExpression> filterExpression,
+                                     Optional<Sorting> sorting,
+                                     Optional<Pagination> pagination,
+                                     RequestScope scope) {
+        Map<Path, Sorting.SortOrder> sortRules = sorting
+                .map(sort -> sort.getValidSortingRules(entityClass, scope.getDictionary()))
+                .orElse(Collections.emptyMap());
+        long offset = pagination.map(Pagination::getOffset).orElse(0);
+        long limit = pagination.map(p -> (long) p.getLimit()).orElse(Long.MAX_VALUE);
+        boolean generateTotals = pagination.map(Pagination::isGenerateTotals).orElse(false);
+
+        if (!filterExpression.isPresent() && sortRules.isEmpty()) {
+            // Only the rows of the page are generated
+            if (generateTotals) {
+                pagination.get().setPageTotals(size);
+            }
+            return LongStream.range(Math.min(offset, size), Math.min(size, offset + Math.min(limit, size)))
+                    .mapToObj(index -> generate(entityClass, rowAt.applyAsLong(index), scope))
+                    .collect(Collectors.toList());
+        }
+
+        Stream<Object> rows = LongStream.range(0, size)
+                .mapToObj(index -> generate(entityClass, rowAt.applyAsLong(index), scope));
+        if (filterExpression.isPresent()) {
+            rows = rows.filter(toPredicate(filterExpression.get(), scope));
+        }
+
+        if (sortRules.isEmpty() && !generateTotals) {
+            // Stop generating once the page is full
+            return rows.skip(offset).limit(limit).collect(Collectors.toList());
+        }
+
+        List<Object> results = rows.collect(Collectors.toList());
+        if (!sortRules.isEmpty()) {
+            results.sort(sortRules.entrySet().stream()
+                    .map(entry -> getComparator(entry.getKey(), entry.getValue(), scope))
+                    .reduce((first, second) -> first.thenComparing(second))
+                    .get());
+        }
+        if (generateTotals) {
+            pagination.get().setPageTotals(results.size());
+        }
+        if (offset >= results.size()) {
+            return Collections.emptyList();
+        }
+        return results.subList((int) offset, (int) Math.min(results.size(), offset + limit));
+    }
+
+    /**
+     * Generate a row.  Its attributes are derived from the seed of the store, the type and the row number.
+     *
+     * @param entityClass Entity type of the row
+     * @param row Row number, which is also the id
+     * @param scope Request scope
+     * @return The entity
+     */
+    private Object generate(Class<?> entityClass, long row, RequestScope scope) {
+        EntityDictionary dictionary = scope.getDictionary();
+        Object entity;
+        try {
+            entity = entityClass.newInstance();
+        } catch (IllegalAccessException | InstantiationException e) {
+            log.error("Could not generate object {} through SyntheticStore", entityClass, e);
+            throw new RuntimeException(e);
+        }
+
+        dictionary.setValue(entity, dictionary.getIdFieldName(entityClass),
+                CoerceUtil.coerce(row, dictionary.getIdType(entityClass)));
+        for (String attribute : dictionary.getAttributes(entityClass)) {
+            if (dictionary.getAttributeOrRelationAnnotation(entityClass, ComputedAttribute.class, attribute) != null) {
+                continue;
+            }
+            Random random = new Random(hash(entityClass, row, attribute));
+            Object value = generateValue(dictionary.getType(entityClass, attribute), attribute, random);
+            if (value != null) {
+                dictionary.setValue(entity, attribute, value);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Generate the value of an attribute.
+     *
+     * @param type Type of the attribute
+     * @param attribute Name of the attribute
+     * @param random Source of the value
+     * @return The value or null if values of the type are not generated
+     */
+    private static Object generateValue(Class<?> type, String attribute, Random random) {
+        Class<?> boxedType = ClassUtils.primitiveToWrapper(type);
+        if (boxedType == String.class) {
+            return attribute + " " + random.nextInt(VALUES);
+        } else if (boxedType == Integer.class) {
+            return random.nextInt(VALUES);
+        } else if (boxedType == Long.class) {
+            return (long) random.nextInt(VALUES);
+        } else if (boxedType == Short.class) {
+            return (short) random.nextInt(VALUES);
+        } else if (boxedType == Byte.class) {
+            return (byte) random.nextInt(VALUES);
+        } else if (boxedType == Double.class) {
+            return random.nextDouble() * VALUES;
+        } else if (boxedType == Float.class) {
+            return random.nextFloat() * VALUES;
+        } else if (boxedType == BigDecimal.class) {
+            return BigDecimal.valueOf(random.nextInt(VALUES * 100), 2);
+        } else if (boxedType == Boolean.class) {
+            return random.nextBoolean();
+        } else if (boxedType == Date.class) {
+            return new Date(EPOCH_MILLIS + random.nextInt(DAYS) * MILLIS_PER_DAY);
+        } else if (boxedType.isEnum()) {
+            Object[] constants = boxedType.getEnumConstants();
+            return constants[random.nextInt(constants.length)];
+        }
+        return null;
+    }
+
+    /**
+     * Get the comparator for sorting.  Missing values sort first.
+     *
+     * @param path Path to field for sorting
+     * @param order Order to sort
+     * @param scope Request scope
+     * @return Comparator for sorting
+     */
+    private static Comparator<Object> getComparator(Path path, Sorting.SortOrder order, RequestScope scope) {
+        Comparator<Object> comparator = Comparator.comparing(entity -> {
+            Object value = entity;
+            for (Path.PathElement pathElement : path.getPathElements()) {
+                if (value == null) {
+                    break;
+                }
+                value = PersistentResource.getValue(value, pathElement.getFieldName(), scope);
+            }
+            return (Comparable<Object>) value;
+        }, Comparator.nullsFirst(Comparator.naturalOrder()));
+        return order == Sorting.SortOrder.asc ? comparator : comparator.reversed();
+    }
+
+    private static Predicate<Object> toPredicate(FilterExpression filterExpression, RequestScope scope) {
+        return filterExpression.accept(new InMemoryFilterVisitor(scope));
+    }
+
+    /**
+     * Get the row number of an id.
+     *
+     * @param id The id
+     * @return The row number or 0 if the id is not a number
+     */
+    private static long toRow(Object id) {
+        try {
+            return Long.parseLong(String.valueOf(id));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Derive a well mixed seed from the seed of the store, a type, a row and a field.
+     */
+    private long hash(Class<?> entityClass, long row, String field) {
+        long hash = store.seed;
+        hash = hash * 31 + entityClass.getName().hashCode();
+        hash = hash * 31 + row;
+        hash = hash * 31 + field.hashCode();
+
+        // The finalizer of MurmurHash3, so that neighbouring rows do not get correlated values
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.beans;
+
+import com.yahoo.elide.annotation.Include;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+import java.util.Set;
+
+/**
+ * Author generated by the synthetic store.
+ */
+@Entity
+@Include(rootLevel = true, type = "syntheticAuthor")
+public class SyntheticAuthor {
+    private Long id;
+    private String name;
+    private Set<SyntheticBook> books;
+
+    @Id
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @OneToMany(mappedBy = "author")
+    public Set<SyntheticBook> getBooks() {
+        return books;
+    }
+
+    public void setBooks(Set<SyntheticBook> books) {
+        this.books = books;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.beans;
+
+import com.yahoo.elide.annotation.Include;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import java.util.Date;
+
+/**
+ * Book generated by the synthetic store.
+ */
+@Entity
+@Include(rootLevel = true, type = "syntheticBook")
+public class SyntheticBook {
+    public enum Genre { FICTION, POETRY, HISTORY }
+
+    private long id;
+    private String title;
+    private int pages;
+    private boolean available;
+    private Genre genre;
+    private Date published;
+    private SyntheticAuthor author;
+
+    @Id
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public int getPages() {
+        return pages;
+    }
+
+    public void setPages(int pages) {
+        this.pages = pages;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    public Genre getGenre() {
+        return genre;
+    }
+
+    public void setGenre(Genre genre) {
+        this.genre = genre;
+    }
+
+    public Date getPublished() {
+        return published;
+    }
+
+    public void setPublished(Date published) {
+        this.published = published;
+    }
+
+    @ManyToOne
+    public SyntheticAuthor getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(SyntheticAuthor author) {
+        this.author = author;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.noop;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.beans.SyntheticAuthor;
+import com.yahoo.elide.beans.SyntheticBook;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.ObjectEntityCache;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+public class SyntheticDataStoreTest {
+    private final SyntheticDataStore store = new SyntheticDataStore(
+            Arrays.asList(SyntheticAuthor.class, SyntheticBook.class), 42L)
+            .withRowCount(SyntheticAuthor.class, 10)
+            .withRowCount(SyntheticBook.class, 500)
+            .withFanOut(SyntheticAuthor.class, "books", 7);
+    private RequestScope requestScope;
+
+    @BeforeClass
+    public void setup() {
+        EntityDictionary dictionary = new EntityDictionary(Collections.emptyMap());
+        store.populateEntityDictionary(dictionary);
+        requestScope = mock(RequestScope.class);
+        when(requestScope.getDictionary()).thenReturn(dictionary);
+        when(requestScope.getObjectEntityCache()).thenReturn(new ObjectEntityCache());
+    }
+
+    @Test
+    public void testPopulateEntityDictionary() {
+        assertEquals(requestScope.getDictionary().getEntityClass("syntheticBook"), SyntheticBook.class);
+        assertEquals(requestScope.getDictionary().getEntityClass("syntheticAuthor"), SyntheticAuthor.class);
+    }
+
+    @Test
+    public void testLoadObject() {
+        DataStoreTransaction tx = store.beginReadTransaction();
+        SyntheticBook book = (SyntheticBook) tx.loadObject(SyntheticBook.class, 17L, Optional.empty(), requestScope);
+
+        assertEquals(book.getId(), 17L);
+        assertTrue(book.getTitle().startsWith("title "));
+        assertNotNull(book.getGenre());
+        assertNotNull(book.getPublished());
+        assertNull(tx.loadObject(SyntheticBook.class, 0L, Optional.empty(), requestScope));
+        assertNull(tx.loadObject(SyntheticBook.class, 501L, Optional.empty(), requestScope));
+    }
+
+    @Test
+    public void testGenerationIsSeeded() {
+        List<String> titles = getTitles(store);
+        assertEquals(getTitles(new SyntheticDataStore(Collections.singletonList(SyntheticBook.class), 42L)), titles);
+        assertNotEquals(getTitles(new SyntheticDataStore(Collections.singletonList(SyntheticBook.class), 43L)),
+                titles);
+    }
+
+    @Test
+    public void testOnlyThePageIsGenerated() {
+        Pagination pagination = getPagination(10, 5);
+        Iterable<Object> books = store.beginReadTransaction().loadObjects(SyntheticBook.class,
+                Optional.empty(), Optional.empty(), Optional.of(pagination), requestScope);
+
+        assertEquals(getIds(books), Arrays.asList(11L, 12L, 13L, 14L, 15L));
+        assertEquals(pagination.getPageTotals(), 500);
+    }
+
+    @Test
+    public void testFilterSortAndPaginate() {
+        FilterPredicate poetry = new FilterPredicate(
+                new Path.PathElement(SyntheticBook.class, SyntheticBook.Genre.class, "genre"),
+                Operator.IN, Collections.singletonList(SyntheticBook.Genre.POETRY));
+        Sorting byPages = new Sorting(Collections.singletonMap("pages", Sorting.SortOrder.desc));
+        DataStoreTransaction tx = store.beginReadTransaction();
+
+        List<SyntheticBook> all = toBooks(tx.loadObjects(SyntheticBook.class,
+                Optional.empty(), Optional.empty(), Optional.empty(), requestScope));
+        List<SyntheticBook> expected = all.stream()
+                .filter(book -> book.getGenre() == SyntheticBook.Genre.POETRY)
+                .collect(Collectors.toList());
+        assertEquals(all.size(), 500);
+        assertTrue(!expected.isEmpty() && expected.size() < all.size());
+
+        Pagination pagination = getPagination(0, 1000);
+        List<SyntheticBook> poems = toBooks(tx.loadObjects(SyntheticBook.class,
+                Optional.of(poetry), Optional.of(byPages), Optional.of(pagination), requestScope));
+        assertEquals(poems.size(), expected.size());
+        assertEquals(pagination.getPageTotals(), expected.size());
+        assertTrue(poems.stream().allMatch(book -> book.getGenre() == SyntheticBook.Genre.POETRY));
+        for (int i = 1; i < poems.size(); i++) {
+            assertTrue(poems.get(i - 1).getPages() >= poems.get(i).getPages());
+        }
+
+        List<SyntheticBook> firstPoems = toBooks(tx.loadObjects(SyntheticBook.class,
+                Optional.of(poetry), Optional.empty(), Optional.of(getPagination(0, 3)), requestScope));
+        assertEquals(getIds(firstPoems), getIds(expected.subList(0, 3)));
+    }
+
+    @Test
+    public void testRelationships() {
+        DataStoreTransaction tx = store.beginReadTransaction();
+        Object author = tx.loadObject(SyntheticAuthor.class, 3L, Optional.empty(), requestScope);
+        Object book = tx.loadObject(SyntheticBook.class, 3L, Optional.empty(), requestScope);
+
+        Collection<Object> books = (Collection<Object>) tx.getRelation(tx, author, "books",
+                Optional.empty(), Optional.empty(), Optional.empty(), requestScope);
+        assertEquals(books.size(), 7);
+        assertEquals(getIds(books).stream().distinct().count(), 7);
+        assertEquals(getIds(books), getIds((Collection<Object>) store.beginReadTransaction().getRelation(tx, author,
+                "books", Optional.empty(), Optional.empty(), Optional.empty(), requestScope)));
+
+        SyntheticAuthor bookAuthor = (SyntheticAuthor) tx.getRelation(tx, book, "author",
+                Optional.empty(), Optional.empty(), Optional.empty(), requestScope);
+        assertTrue(bookAuthor.getId() >= 1 && bookAuthor.getId() <= 10);
+    }
+
+    private List<String> getTitles(SyntheticDataStore synthetic) {
+        return toBooks(synthetic.beginReadTransaction().loadObjects(SyntheticBook.class,
+                Optional.empty(), Optional.empty(), Optional.of(getPagination(0, 20)), requestScope)).stream()
+                .map(SyntheticBook::getTitle)
+                .collect(Collectors.toList());
+    }
+
+    private static Pagination getPagination(int offset, int limit) {
+        return Pagination.fromOffsetAndFirst(Optional.of(String.valueOf(limit)), Optional.of(String.valueOf(offset)),
+                true, new ElideSettingsBuilder(null).build()).get().evaluate(SyntheticBook.class);
+    }
+
+    private static List<SyntheticBook> toBooks(Iterable<Object> objects) {
+        return StreamSupport.stream(objects.spliterator(), false)
+                .map(SyntheticBook.class::cast)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> getIds(Iterable<?> objects) {
+        return StreamSupport.stream(objects.spliterator(), false)
+                .map(object -> Long.valueOf(requestScope.getDictionary().getId(object)))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.routing;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A replica data store along with its health and the number of read transactions open on it.
+ */
+public class Replica {
+    @Getter private final DataStore dataStore;
+    private final AtomicInteger openTransactions = new AtomicInteger();
+    @Getter private volatile boolean healthy = true;
+
+    public Replica(DataStore dataStore) {
+        this.dataStore = dataStore;
+    }
+
+    public int getOpenTransactions() {
+        return openTransactions.get();
+    }
+
+    void setHealthy(boolean healthy) {
+        this.healthy = healthy;
+    }
+
+    /**
+     * Begin a read transaction on the replica.  A replica failing to begin a transaction is marked unhealthy.
+     *
+     * @return the transaction, which must be released once closed
+     */
+    DataStoreTransaction beginReadTransaction() {
+        openTransactions.incrementAndGet();
+        try {
+            return dataStore.beginReadTransaction();
+        } catch (RuntimeException e) {
+            openTransactions.decrementAndGet();
+            healthy = false;
+            throw e;
+        }
+    }
+
+    void release() {
+        openTransactions.decrementAndGet();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.routing;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Data store sending write transactions to a primary data store and read transactions to its replicas.
+ * <p>
+ * Each read transaction is served by a healthy replica chosen by a {@link ReplicaSelector}, or by the primary when no
+ * replica is healthy.  A replica failing to begin a transaction is marked unhealthy until {@link #checkHealth()}
+ * finds it healthy again; applications should call it periodically.
+ * <p>
+ * Since replicas lag behind the primary, the reads of a user who committed a write within the sticky window are
+ * served by the primary so that they see their own writes.  The user is identified by {@link #getUserKey(Object)}.
+ */
+@Slf4j
+public class ReplicaRoutingDataStore implements DataStore {
+    public static final Duration DEFAULT_STICKY_WINDOW = Duration.ofSeconds(5);
+
+    @Getter private final DataStore primary;
+    @Getter private final List<Replica> replicas;
+    private final ReplicaSelector selector;
+    private final Predicate<DataStore> healthCheck;
+    private final Cache<Object, Boolean> recentWriters;
+
+    /**
+     * Create a routing data store selecting replicas round robin with the default sticky window.
+     *
+     * @param primary the data store receiving writes
+     * @param replicas the data stores serving reads
+     */
+    public ReplicaRoutingDataStore(DataStore primary, Collection<DataStore> replicas) {
+        this(primary, replicas, ReplicaSelector.roundRobin(), DEFAULT_STICKY_WINDOW, replica -> true);
+    }
+
+    /**
+     * Create a routing data store.
+     *
+     * @param primary the data store receiving writes
+     * @param replicas the data stores serving reads
+     * @param selector chooses the replica of each read transaction
+     * @param stickyWindow time after a write during which the reads of its user are served by the primary
+     * @param healthCheck tells whether a replica can serve reads
+     */
+    public ReplicaRoutingDataStore(DataStore primary,
+                                   Collection<DataStore> replicas,
+                                   ReplicaSelector selector,
+                                   Duration stickyWindow,
+                                   Predicate<DataStore> healthCheck) {
+        this(primary, replicas, selector, stickyWindow, healthCheck, Ticker.systemTicker());
+    }
+
+    ReplicaRoutingDataStore(DataStore primary,
+                            Collection<DataStore> replicas,
+                            ReplicaSelector selector,
+                            Duration stickyWindow,
+                            Predicate<DataStore> healthCheck,
+                            Ticker ticker) {
+        this.primary = primary;
+        this.replicas = Collections.unmodifiableList(replicas.stream()
+                .map(Replica::new)
+                .collect(Collectors.toList()));
+        this.selector = selector;
+        this.healthCheck = healthCheck;
+        this.recentWriters = CacheBuilder.newBuilder()
+                .expireAfterWrite(stickyWindow.toNanos(), TimeUnit.NANOSECONDS)
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public void populateEntityDictionary(EntityDictionary dictionary) {
+        primary.populateEntityDictionary(dictionary);
+        replicas.forEach(replica -> replica.getDataStore().populateEntityDictionary(dictionary));
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return new RoutingTransaction(this, primary.beginTransaction());
+    }
+
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        return new RoutingTransaction(this, null);
+    }
+
+    /**
+     * Run the health check on every replica.
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try {
+                healthy = healthCheck.test(replica.getDataStore());
+            } catch (RuntimeException e) {
+                log.debug("Health check of replica {} failed", replica.getDataStore(), e);
+                healthy = false;
+            }
+            replica.setHealthy(healthy);
+        }
+    }
+
+    /**
+     * Identify the user of a request for read-your-writes stickiness.
+     *
+     * @param opaqueUser the user given to the transaction
+     * @return the principal name, the user itself or an empty string for unknown users
+     */
+    protected Object getUserKey(Object opaqueUser) {
+        if (opaqueUser instanceof Principal) {
+            return ((Principal) opaqueUser).getName();
+        }
+        return opaqueUser == null ? "" : opaqueUser;
+    }
+
+    /**
+     * Choose the replica serving the reads of a user.
+     *
+     * @param userKey the user or null if unknown
+     * @return the replica or null if the primary must serve the reads
+     */
+    Replica selectReplica(Object userKey) {
+        if (userKey != null && recentWriters.getIfPresent(userKey) != null) {
+            return null;
+        }
+        List<Replica> healthy = replicas.stream()
+                .filter(Replica::isHealthy)
+                .collect(Collectors.toList());
+        return healthy.isEmpty() ? null : selector.select(healthy);
+    }
+
+    void recordWrite(Object userKey) {
+        recentWriters.put(userKey, Boolean.TRUE);
+    }
+}
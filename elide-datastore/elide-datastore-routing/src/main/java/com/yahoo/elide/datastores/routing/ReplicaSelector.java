@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.routing;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chooses the replica serving a read transaction.
+ */
+@FunctionalInterface
+public interface ReplicaSelector {
+
+    /**
+     * Choose a replica.
+     *
+     * @param replicas the healthy replicas, never empty
+     * @return the chosen replica
+     */
+    Replica select(List<Replica> replicas);
+
+    /**
+     * Get a selector cycling through the replicas.
+     *
+     * @return the selector
+     */
+    static ReplicaSelector roundRobin() {
+        AtomicInteger next = new AtomicInteger();
+        return replicas -> replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+
+    /**
+     * Get a selector choosing the replica with the fewest open read transactions.
+     *
+     * @return the selector
+     */
+    static ReplicaSelector leastLoaded() {
+        return replicas -> replicas.stream()
+                .min(Comparator.comparingInt(Replica::getOpenTransactions))
+                .get();
+    }
+}
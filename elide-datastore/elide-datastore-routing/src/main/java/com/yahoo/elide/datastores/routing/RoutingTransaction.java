@@ -0,0 +1,276 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.routing;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.aggregation.Aggregation;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.security.User;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Routing transaction handler.  Write transactions run on the primary and remember their user once they commit a
+ * write.  Read transactions choose their data store when the user is known, that is on
+ * {@link #accessUser(Object)} or else on first use.
+ */
+@Slf4j
+public class RoutingTransaction implements DataStoreTransaction {
+    private final ReplicaRoutingDataStore store;
+    private DataStoreTransaction tx;
+    private Replica replica;
+    private Object userKey;
+    private boolean dirty;
+
+    /**
+     * Constructor.
+     *
+     * @param store the routing data store
+     * @param tx the primary transaction or null to route a read transaction
+     */
+    public RoutingTransaction(ReplicaRoutingDataStore store, DataStoreTransaction tx) {
+        this.store = store;
+        this.tx = tx;
+    }
+
+    private DataStoreTransaction getTransaction() {
+        if (tx != null) {
+            return tx;
+        }
+        for (Replica selected = store.selectReplica(userKey); selected != null;
+                selected = store.selectReplica(userKey)) {
+            try {
+                tx = selected.beginReadTransaction();
+                replica = selected;
+                return tx;
+            } catch (RuntimeException e) {
+                log.warn("Replica {} failed to begin a transaction", selected.getDataStore(), e);
+            }
+        }
+        tx = store.getPrimary().beginReadTransaction();
+        return tx;
+    }
+
+    @Override
+    public User accessUser(Object opaqueUser) {
+        userKey = store.getUserKey(opaqueUser);
+        return getTransaction().accessUser(opaqueUser);
+    }
+
+    @Override
+    public void save(Object entity, RequestScope scope) {
+        dirty = true;
+        getTransaction().save(entity, scope);
+    }
+
+    @Override
+    public void save(Object entity, Set<String> changedFields, RequestScope scope) {
+        dirty = true;
+        getTransaction().save(entity, changedFields, scope);
+    }
+
+    @Override
+    public void delete(Object entity, RequestScope scope) {
+        dirty = true;
+        getTransaction().delete(entity, scope);
+    }
+
+    @Override
+    public boolean supportsBulkDelete(Class<?> entityClass, FilterExpression filterExpression, RequestScope scope) {
+        return getTransaction().supportsBulkDelete(entityClass, filterExpression, scope);
+    }
+
+    @Override
+    public long deleteObjects(Class<?> entityClass, FilterExpression filterExpression, RequestScope scope) {
+        dirty = true;
+        return getTransaction().deleteObjects(entityClass, filterExpression, scope);
+    }
+
+    @Override
+    public boolean supportsBulkUpdate(Class<?> entityClass,
+                                      FilterExpression filterExpression,
+                                      Map<String, Object> attributes,
+                                      RequestScope scope) {
+        return getTransaction().supportsBulkUpdate(entityClass, filterExpression, attributes, scope);
+    }
+
+    @Override
+    public long updateObjects(Class<?> entityClass,
+                              FilterExpression filterExpression,
+                              Map<String, Object> attributes,
+                              RequestScope scope) {
+        dirty = true;
+        return getTransaction().updateObjects(entityClass, filterExpression, attributes, scope);
+    }
+
+    @Override
+    public List<Map<String, Object>> aggregate(Class<?> entityClass,
+                                               Optional<FilterExpression> filterExpression,
+                                               Aggregation aggregation,
+                                               RequestScope scope) {
+        return getTransaction().aggregate(entityClass, filterExpression, aggregation, scope);
+    }
+
+    @Override
+    public void evict(Iterable<Object> entities, RequestScope scope) {
+        getTransaction().evict(entities, scope);
+    }
+
+    @Override
+    public void flush(RequestScope scope) {
+        getTransaction().flush(scope);
+    }
+
+    @Override
+    public void commit(RequestScope scope) {
+        getTransaction().commit(scope);
+        if (dirty && userKey != null) {
+            store.recordWrite(userKey);
+        }
+        dirty = false;
+    }
+
+    @Override
+    public void preCommit() {
+        getTransaction().preCommit();
+    }
+
+    @Override
+    public void createObject(Object entity, RequestScope scope) {
+        dirty = true;
+        getTransaction().createObject(entity, scope);
+    }
+
+    @Override
+    public <T> T createNewObject(Class<T> entityClass) {
+        return getTransaction().createNewObject(entityClass);
+    }
+
+    @Override
+    public Object loadObject(Class<?> entityClass,
+                             Serializable id,
+                             Optional<FilterExpression> filterExpression,
+                             RequestScope scope) {
+        return getTransaction().loadObject(entityClass, id, filterExpression, scope);
+    }
+
+    @Override
+    public Iterable<Object> loadObjects(Class<?> entityClass,
+                                        Optional<FilterExpression> filterExpression,
+                                        Optional<Sorting> sorting,
+                                        Optional<Pagination> pagination,
+                                        RequestScope scope) {
+        return getTransaction().loadObjects(entityClass, filterExpression, sorting, pagination, scope);
+    }
+
+    @Override
+    public Object getRelation(DataStoreTransaction relationTx,
+                              Object entity,
+                              String relationName,
+                              Optional<FilterExpression> filterExpression,
+                              Optional<Sorting> sorting,
+                              Optional<Pagination> pagination,
+                              RequestScope scope) {
+        return getTransaction().getRelation(unwrap(relationTx), entity, relationName,
+                filterExpression, sorting, pagination, scope);
+    }
+
+    @Override
+    public CompletableFuture<Object> loadObjectAsync(Class<?> entityClass,
+                                                     Serializable id,
+                                                     Optional<FilterExpression> filterExpression,
+                                                     RequestScope scope) {
+        return getTransaction().loadObjectAsync(entityClass, id, filterExpression, scope);
+    }
+
+    @Override
+    public CompletableFuture<Iterable<Object>> loadObjectsAsync(Class<?> entityClass,
+                                                                Optional<FilterExpression> filterExpression,
+                                                                Optional<Sorting> sorting,
+                                                                Optional<Pagination> pagination,
+                                                                RequestScope scope) {
+        return getTransaction().loadObjectsAsync(entityClass, filterExpression, sorting, pagination, scope);
+    }
+
+    @Override
+    public CompletableFuture<Object> getRelationAsync(DataStoreTransaction relationTx,
+                                                      Object entity,
+                                                      String relationName,
+                                                      Optional<FilterExpression> filterExpression,
+                                                      Optional<Sorting> sorting,
+                                                      Optional<Pagination> pagination,
+                                                      RequestScope scope) {
+        return getTransaction().getRelationAsync(unwrap(relationTx), entity, relationName,
+                filterExpression, sorting, pagination, scope);
+    }
+
+    @Override
+    public boolean isRelationUnloaded(Object entity, String relationName, RequestScope scope) {
+        return getTransaction().isRelationUnloaded(entity, relationName, scope);
+    }
+
+    @Override
+    public void updateToManyRelation(DataStoreTransaction relationTx,
+                                     Object entity,
+                                     String relationName,
+                                     Set<Object> newRelationships,
+                                     Set<Object> deletedRelationships,
+                                     RequestScope scope) {
+        dirty = true;
+        getTransaction().updateToManyRelation(unwrap(relationTx), entity, relationName,
+                newRelationships, deletedRelationships, scope);
+    }
+
+    @Override
+    public void updateToOneRelation(DataStoreTransaction relationTx,
+                                    Object entity,
+                                    String relationName,
+                                    Object relationshipValue,
+                                    RequestScope scope) {
+        dirty = true;
+        getTransaction().updateToOneRelation(unwrap(relationTx), entity, relationName, relationshipValue, scope);
+    }
+
+    @Override
+    public Object getAttribute(Object entity, String attributeName, RequestScope scope) {
+        return getTransaction().getAttribute(entity, attributeName, scope);
+    }
+
+    @Override
+    public void setAttribute(Object entity, String attributeName, Object attributeValue, RequestScope scope) {
+        dirty = true;
+        getTransaction().setAttribute(entity, attributeName, attributeValue, scope);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (tx == null) {
+            return;
+        }
+        try {
+            tx.close();
+        } finally {
+            if (replica != null) {
+                replica.release();
+            }
+        }
+    }
+
+    private DataStoreTransaction unwrap(DataStoreTransaction relationTx) {
+        return relationTx == this ? getTransaction() : relationTx;
+    }
+}
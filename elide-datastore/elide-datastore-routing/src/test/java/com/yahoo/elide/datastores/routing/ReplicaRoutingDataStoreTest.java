@@ -0,0 +1,217 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.routing;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.ObjectEntityCache;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.aggregation.Aggregation;
+import com.yahoo.elide.core.datastore.inmemory.InMemoryDataStore;
+import com.yahoo.elide.example.beans.Country;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.Lists;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ReplicaRoutingDataStore tests.  Writes only reach the primary, so the replicas stand for replicas lagging behind.
+ */
+public class ReplicaRoutingDataStoreTest {
+    private final AtomicLong now = new AtomicLong();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return now.get();
+        }
+    };
+
+    private InMemoryDataStore primary;
+    private InMemoryDataStore replica;
+    private InMemoryDataStore otherReplica;
+    private RequestScope scope;
+
+    @BeforeMethod
+    public void setup() {
+        primary = new InMemoryDataStore(Country.class.getPackage());
+        replica = new InMemoryDataStore(Country.class.getPackage());
+        otherReplica = new InMemoryDataStore(Country.class.getPackage());
+    }
+
+    @Test
+    public void testReadYourWrites() throws Exception {
+        ReplicaRoutingDataStore store = new ReplicaRoutingDataStore(primary, Collections.singletonList(replica),
+                ReplicaSelector.roundRobin(), Duration.ofSeconds(5), unused -> true, ticker);
+        populate(store);
+
+        try (DataStoreTransaction tx = store.beginTransaction()) {
+            tx.accessUser("alice");
+            tx.createObject(country("Japan"), scope);
+            tx.commit(scope);
+        }
+
+        assertEquals(loadAll(store, "bob").size(), 0);
+        assertEquals(loadAll(store, "alice").size(), 1);
+
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertEquals(loadAll(store, "alice").size(), 0);
+    }
+
+    @Test
+    public void testReadOnlyWriteTransactionsAreNotSticky() throws Exception {
+        ReplicaRoutingDataStore store = new ReplicaRoutingDataStore(primary, Collections.singletonList(replica));
+        populate(store);
+
+        try (DataStoreTransaction tx = primary.beginTransaction()) {
+            tx.createObject(country("Japan"), scope);
+            tx.commit(scope);
+        }
+        try (DataStoreTransaction tx = store.beginTransaction()) {
+            tx.accessUser("alice");
+            assertEquals(Lists.newArrayList(tx.loadObjects(Country.class,
+                    Optional.empty(), Optional.empty(), Optional.empty(), scope)).size(), 1);
+            tx.commit(scope);
+        }
+
+        assertEquals(loadAll(store, "alice").size(), 0);
+    }
+
+    @Test
+    public void testUnhealthyReplicasAreSkipped() throws Exception {
+        DataStore failing = mock(DataStore.class);
+        when(failing.beginReadTransaction()).thenThrow(new IllegalStateException("Connection refused"));
+        AtomicBoolean failingIsUp = new AtomicBoolean(false);
+
+        ReplicaRoutingDataStore store = new ReplicaRoutingDataStore(primary, Arrays.asList(failing, replica),
+                ReplicaSelector.roundRobin(), Duration.ofSeconds(5),
+                candidate -> candidate != failing || failingIsUp.get());
+        populate(store);
+        seed(replica, "Canada");
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(loadAll(store, "bob").size(), 1);
+        }
+        assertFalse(store.getReplicas().get(0).isHealthy());
+
+        store.checkHealth();
+        assertFalse(store.getReplicas().get(0).isHealthy());
+        failingIsUp.set(true);
+        store.checkHealth();
+        assertTrue(store.getReplicas().get(0).isHealthy());
+    }
+
+    @Test
+    public void testPrimaryServesReadsWithoutHealthyReplicas() throws Exception {
+        ReplicaRoutingDataStore store = new ReplicaRoutingDataStore(primary, Collections.singletonList(replica),
+                ReplicaSelector.roundRobin(), Duration.ofSeconds(5), unused -> false);
+        populate(store);
+        seed(primary, "Canada");
+
+        assertEquals(loadAll(store, "bob").size(), 0);
+        store.checkHealth();
+        assertEquals(loadAll(store, "bob").size(), 1);
+    }
+
+    @Test
+    public void testLeastLoaded() throws Exception {
+        ReplicaRoutingDataStore store = new ReplicaRoutingDataStore(primary, Arrays.asList(replica, otherReplica),
+                ReplicaSelector.leastLoaded(), Duration.ofSeconds(5), unused -> true);
+        populate(store);
+
+        Replica first = store.getReplicas().get(0);
+        Replica second = store.getReplicas().get(1);
+        try (DataStoreTransaction tx = store.beginReadTransaction()) {
+            tx.accessUser("alice");
+            assertEquals(first.getOpenTransactions(), 1);
+
+            try (DataStoreTransaction other = store.beginReadTransaction()) {
+                other.accessUser("bob");
+                assertEquals(second.getOpenTransactions(), 1);
+            }
+            assertEquals(second.getOpenTransactions(), 0);
+        }
+        assertEquals(first.getOpenTransactions(), 0);
+    }
+
+    @Test
+    public void testAsyncReadsAreRouted() throws Exception {
+        ReplicaRoutingDataStore store = new ReplicaRoutingDataStore(primary, Collections.singletonList(replica));
+        populate(store);
+        seed(replica, "Canada");
+
+        try (DataStoreTransaction tx = store.beginReadTransaction()) {
+            tx.accessUser("bob");
+            assertEquals(Lists.newArrayList(tx.loadObjectsAsync(Country.class,
+                    Optional.empty(), Optional.empty(), Optional.empty(), scope).get()).size(), 1);
+            assertEquals(store.getReplicas().get(0).getOpenTransactions(), 1);
+        }
+    }
+
+    @Test
+    public void testAggregateIsForwarded() throws Exception {
+        ReplicaRoutingDataStore store = new ReplicaRoutingDataStore(primary, Collections.singletonList(replica));
+        populate(store);
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        Aggregation aggregation = new Aggregation(Country.class, Collections.emptyList(), Collections.emptyList());
+        List<Map<String, Object>> rows = Collections.singletonList(Collections.singletonMap("count", 2L));
+        when(wrapped.aggregate(Country.class, Optional.empty(), aggregation, scope)).thenReturn(rows);
+
+        try (DataStoreTransaction tx = new RoutingTransaction(store, wrapped)) {
+            assertSame(tx.aggregate(Country.class, Optional.empty(), aggregation, scope), rows);
+        }
+        verify(wrapped).aggregate(Country.class, Optional.empty(), aggregation, scope);
+    }
+
+    private void populate(ReplicaRoutingDataStore store) {
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        store.populateEntityDictionary(dictionary);
+
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+        when(scope.getObjectEntityCache()).thenReturn(new ObjectEntityCache());
+    }
+
+    private void seed(DataStore dataStore, String name) throws Exception {
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            tx.createObject(country(name), scope);
+            tx.commit(scope);
+        }
+    }
+
+    private List<Object> loadAll(ReplicaRoutingDataStore store, String user) throws Exception {
+        try (DataStoreTransaction tx = store.beginReadTransaction()) {
+            tx.accessUser(user);
+            return Lists.newArrayList(tx.loadObjects(Country.class,
+                    Optional.empty(), Optional.empty(), Optional.empty(), scope));
+        }
+    }
+
+    private static Country country(String name) {
+        Country country = new Country();
+        country.setName(name);
+        return country;
+    }
+}
@@ -13,8 +13,10 @@ import com.yahoo.elide.graphql.containers.RootContainer;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLType;
 import graphql.language.Field;
+import graphql.language.FragmentDefinition;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,6 +39,7 @@ public class Environment {
     public final GraphQLType parentType;
     public final GraphQLType outputType;
     public final Field field;
+    public final Map<String, FragmentDefinition> fragments;
 
     public Environment(DataFetchingEnvironment environment) {
         Map<String, Object> args = environment.getArguments();
@@ -57,9 +60,8 @@ public class Environment {
 
         if (isRoot()) {
             // Flush (but don't commit) between root queries
-            requestScope.getDirtyResources().forEach(
-                    resource -> requestScope.getTransaction().save(resource.getObject(), requestScope)
-            );
+            requestScope.getDirtyResources().forEach(resource -> requestScope.getTransaction()
+                    .save(resource.getObject(), requestScope.getDirtyFields(resource), requestScope));
             requestScope.getTransaction().flush(requestScope);
         }
 
@@ -70,6 +72,9 @@ public class Environment {
         }
 
         field = environment.getFields().get(0);
+        fragments = environment.getFragmentsByName() == null
+                ? Collections.emptyMap()
+                : environment.getFragmentsByName();
 
         this.ids = Optional.ofNullable((List<String>) args.get(ModelBuilder.ARGUMENT_IDS));
 
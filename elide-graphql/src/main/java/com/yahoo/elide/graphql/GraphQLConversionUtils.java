@@ -22,8 +22,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static graphql.schema.GraphQLEnumType.newEnum;
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
@@ -43,10 +43,14 @@ public class GraphQLConversionUtils {
     protected NonEntityDictionary nonEntityDictionary = new NonEntityDictionary();
     protected EntityDictionary entityDictionary;
 
-    private final Map<Class, GraphQLObjectType> outputConversions = new HashMap<>();
-    private final Map<Class, GraphQLInputObjectType> inputConversions = new HashMap<>();
-    private final Map<Class, GraphQLEnumType> enumConversions = new HashMap<>();
-    private final Map<String, GraphQLList> mapConversions = new HashMap<>();
+    /*
+     * Query types of entities are built in parallel: conversions are looked up concurrently, and created under the
+     * lock of this object so each type is created once.
+     */
+    private final Map<Class, GraphQLObjectType> outputConversions = new ConcurrentHashMap<>();
+    private final Map<Class, GraphQLInputObjectType> inputConversions = new ConcurrentHashMap<>();
+    private final Map<Class, GraphQLEnumType> enumConversions = new ConcurrentHashMap<>();
+    private final Map<String, GraphQLList> mapConversions = new ConcurrentHashMap<>();
 
     public GraphQLConversionUtils(EntityDictionary dictionary) {
         this.entityDictionary = dictionary;
@@ -84,7 +88,7 @@ public class GraphQLConversionUtils {
      * @param enumClazz the Enum to convert
      * @return A GraphQLEnum type for class.
      */
-    public GraphQLEnumType classToEnumType(Class<?> enumClazz) {
+    public synchronized GraphQLEnumType classToEnumType(Class<?> enumClazz) {
         if (enumConversions.containsKey(enumClazz)) {
             return enumConversions.get(enumClazz);
         }
@@ -112,7 +116,7 @@ public class GraphQLConversionUtils {
      * @param fetcher The Datafetcher to assign to the created GraphQL object.
      * @return The created type.
      */
-    public GraphQLList classToQueryMap(Class<?> keyClazz, Class<?> valueClazz, DataFetcher fetcher) {
+    public synchronized GraphQLList classToQueryMap(Class<?> keyClazz, Class<?> valueClazz, DataFetcher fetcher) {
         String mapName = toValidNameName(keyClazz.getName() + valueClazz.getCanonicalName() + MAP);
 
         if (mapConversions.containsKey(mapName)) {
@@ -148,7 +152,7 @@ public class GraphQLConversionUtils {
      * @param valueClazz The map value class
      * @return The created type.
      */
-    public GraphQLList classToInputMap(Class<?> keyClazz,
+    public synchronized GraphQLList classToInputMap(Class<?> keyClazz,
                                        Class<?> valueClazz) {
         String mapName = toValidNameName("__input__" + keyClazz.getName() + valueClazz.getCanonicalName() + MAP);
 
@@ -331,7 +335,7 @@ public class GraphQLConversionUtils {
      * @param fetcher The data fetcher to assign the newly created GraphQL object
      * @return A newly created GraphQL object.
      */
-    public GraphQLObjectType classToQueryObject(
+    public synchronized GraphQLObjectType classToQueryObject(
             Class<?> clazz,
             DataFetcher fetcher) {
         log.info("Building query object for type: {}", clazz.getName());
@@ -379,7 +383,7 @@ public class GraphQLConversionUtils {
      * @param clazz The non Elide object class
      * @return A newly created GraphQL object.
      */
-    public GraphQLInputObjectType classToInputObject(Class<?> clazz) {
+    public synchronized GraphQLInputObjectType classToInputObject(Class<?> clazz) {
         log.info("Building input object for type: {}", clazz.getName());
 
         if (!nonEntityDictionary.hasBinding(clazz)) {
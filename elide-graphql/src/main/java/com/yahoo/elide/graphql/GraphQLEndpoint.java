@@ -14,12 +14,15 @@ import com.yahoo.elide.Elide;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.exceptions.TooManyRequestsException;
 import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.resources.DefaultOpaqueUserFunction;
 import com.yahoo.elide.security.User;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -37,6 +40,7 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 
 import java.io.IOException;
+import java.security.Principal;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -55,6 +59,8 @@ public class GraphQLEndpoint {
 
     private Elide elide;
     private GraphQL api;
+    private QueryCostEstimator costEstimator;
+    private QueryCostLimiter costLimiter;
     protected final Function<SecurityContext, Object> getUser;
 
     private static final String QUERY = "query";
@@ -66,12 +72,26 @@ public class GraphQLEndpoint {
     public GraphQLEndpoint(
             @Named("elide") Elide elide,
             @Named("elideUserExtractionFunction") DefaultOpaqueUserFunction getUser) {
+        this(elide, getUser, null);
+    }
+
+    /**
+     * Constructor rejecting queries whose estimated cost exceeds the limits of a cost limiter.
+     *
+     * @param elide the elide instance
+     * @param getUser extracts the user of a request
+     * @param costLimiter the cost limiter or null to run every query
+     */
+    public GraphQLEndpoint(Elide elide, DefaultOpaqueUserFunction getUser, QueryCostLimiter costLimiter) {
         log.error("Started ~~");
         this.elide = elide;
         this.getUser = getUser;
         PersistentResourceFetcher fetcher = new PersistentResourceFetcher(elide.getElideSettings());
         ModelBuilder builder = new ModelBuilder(elide.getElideSettings().getDictionary(), fetcher);
-        this.api = new GraphQL(builder.build());
+        GraphQLSchema schema = builder.build();
+        this.api = new GraphQL(schema);
+        this.costLimiter = costLimiter;
+        this.costEstimator = costLimiter == null ? null : new QueryCostEstimator(schema, elide.getElideSettings());
     }
 
     /**
@@ -138,6 +158,11 @@ public class GraphQLEndpoint {
             SecurityContext securityContext,
             String graphQLDocument,
             JsonNode jsonDocument) {
+        Response rejection = checkQueryCost(mapper, securityContext, jsonDocument);
+        if (rejection != null) {
+            return rejection;
+        }
+
         boolean isVerbose = false;
         try (DataStoreTransaction tx = elide.getDataStore().beginTransaction()) {
             final User user = tx.accessUser(getUser.apply(securityContext));
@@ -169,6 +194,8 @@ public class GraphQLEndpoint {
 
             ExecutionResult result = api.execute(executionInput);
 
+            // Fetchers stopped by the deadline only report errors, the transaction must not commit
+            requestScope.getDeadline().check();
             tx.preCommit();
             requestScope.runQueuedPreSecurityTriggers();
             requestScope.getPermissionExecutor().executeCommitChecks();
@@ -238,6 +265,54 @@ public class GraphQLEndpoint {
         }
     }
 
+    /**
+     * Check the estimated cost of a query against the cost limiter before a transaction is opened for it.
+     *
+     * @return the rejection response or null if the query may run
+     */
+    private Response checkQueryCost(ObjectMapper mapper, SecurityContext securityContext, JsonNode jsonDocument) {
+        if (costLimiter == null || !jsonDocument.has(QUERY)) {
+            return null;
+        }
+
+        String operationName = null;
+        if (jsonDocument.has(OPERATION_NAME) && !jsonDocument.get(OPERATION_NAME).isNull()) {
+            operationName = jsonDocument.get(OPERATION_NAME).asText();
+        }
+        Map<String, Object> variables = null;
+        if (jsonDocument.has(VARIABLES) && !jsonDocument.get(VARIABLES).isNull()) {
+            variables = mapper.convertValue(jsonDocument.get(VARIABLES), Map.class);
+        }
+
+        long cost;
+        try {
+            cost = costEstimator.estimate(jsonDocument.get(QUERY).asText(), operationName, variables);
+        } catch (RuntimeException e) {
+            log.debug("Cannot estimate the cost of a GraphQL query", e);
+            return buildErrorResponse(new InvalidValueException("Cannot estimate the cost of the query", e), false);
+        }
+
+        if (cost > costLimiter.getMaxQueryCost()) {
+            return buildErrorResponse(new InvalidValueException(
+                    "Query cost " + cost + " exceeds the limit of " + costLimiter.getMaxQueryCost(), null), false);
+        }
+        if (!costLimiter.tryAcquire(getCostLimiterKey(getUser.apply(securityContext)), cost)) {
+            return buildErrorResponse(new TooManyRequestsException("Query cost limit exceeded, retry later"), false);
+        }
+        return null;
+    }
+
+    /**
+     * Get the key of the token bucket charged for the queries of a user.
+     *
+     * @param opaqueUser the user extracted from the request
+     * @return the principal name for principals, the user itself otherwise
+     */
+    protected Object getCostLimiterKey(Object opaqueUser) {
+        Object key = opaqueUser instanceof Principal ? ((Principal) opaqueUser).getName() : opaqueUser;
+        return key == null ? "" : key;
+    }
+
     private Response buildErrorResponse(HttpStatusException error, boolean isVerbose) {
         ObjectMapper mapper = elide.getMapper().getObjectMapper();
         JsonNode errorNode = isVerbose
@@ -7,13 +7,18 @@ package com.yahoo.elide.graphql;
 
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.graphql.containers.ConnectionContainer;
 import com.yahoo.elide.security.User;
+import graphql.language.Field;
 import lombok.Getter;
 
 import javax.ws.rs.core.MultivaluedHashMap;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Persistent state across GraphQL requests. This object is stored in the environment context.
@@ -21,6 +26,10 @@ import java.util.Map;
 public class GraphQLRequestScope extends RequestScope {
     @Getter private final Map<String, Long> totalRecordCounts = new HashMap<>();
 
+    // Relationships started before their field is fetched, by parent resource and field
+    private final Map<PersistentResource, Map<Field, Supplier<ConnectionContainer>>> pendingRelationships =
+            new IdentityHashMap<>();
+
     public GraphQLRequestScope(DataStoreTransaction transaction,
                                User user,
                                ElideSettings elideSettings) {
@@ -30,4 +39,36 @@ public class GraphQLRequestScope extends RequestScope {
         // Namely, we don't filter or paginate in the data store.
         super("/", null, transaction, user, new MultivaluedHashMap<>(), elideSettings, false);
     }
+
+    /**
+     * Remember a relationship whose load was started before its field is fetched.
+     *
+     * @param parentResource the resource owning the relationship
+     * @param field the relationship field of the request
+     * @param relationship waits for the load and returns the relationship connection
+     */
+    public void addPendingRelationship(PersistentResource parentResource, Field field,
+                                       Supplier<ConnectionContainer> relationship) {
+        pendingRelationships.computeIfAbsent(parentResource, unused -> new IdentityHashMap<>())
+                .put(field, relationship);
+    }
+
+    /**
+     * Take the relationship started for a field, if any.
+     *
+     * @param parentResource the resource owning the relationship
+     * @param field the relationship field of the request
+     * @return the pending relationship or null if it was not started
+     */
+    public Supplier<ConnectionContainer> removePendingRelationship(PersistentResource parentResource, Field field) {
+        Map<Field, Supplier<ConnectionContainer>> fields = pendingRelationships.get(parentResource);
+        if (fields == null) {
+            return null;
+        }
+        Supplier<ConnectionContainer> relationship = fields.remove(field);
+        if (fields.isEmpty()) {
+            pendingRelationships.remove(parentResource);
+        }
+        return relationship;
+    }
 }
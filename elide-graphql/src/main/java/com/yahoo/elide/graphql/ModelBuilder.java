@@ -8,6 +8,7 @@ package com.yahoo.elide.graphql;
 
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.RelationshipType;
+import com.yahoo.elide.core.StartupTimings;
 import graphql.Scalars;
 import graphql.schema.DataFetcher;
 import graphql.schema.GraphQLArgument;
@@ -20,12 +21,16 @@ import graphql.schema.GraphQLSchema;
 import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLTypeReference;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections.CollectionUtils;
 
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static graphql.schema.GraphQLArgument.newArgument;
@@ -127,8 +132,8 @@ public class ModelBuilder {
                 .build();
 
         inputObjectRegistry = new HashMap<>();
-        queryObjectRegistry = new HashMap<>();
-        connectionObjectRegistry = new HashMap<>();
+        queryObjectRegistry = new ConcurrentHashMap<>();
+        connectionObjectRegistry = new ConcurrentHashMap<>();
         excludedEntities = new HashSet<>();
     }
 
@@ -141,13 +146,23 @@ public class ModelBuilder {
      * @return The built schema.
      */
     public GraphQLSchema build() {
+        GraphQLSchema schema = dictionary.getStartupTimings().time(StartupTimings.GRAPHQL_SCHEMA, this::buildSchema);
+        dictionary.getStartupTimings().report();
+        return schema;
+    }
+
+    private GraphQLSchema buildSchema() {
         Set<Class<?>> allClasses = dictionary.getBindings();
 
         if (allClasses.isEmpty()) {
             throw new IllegalArgumentException("None of the provided classes are exported by Elide");
         }
 
-        Set<Class<?>> rootClasses =  allClasses.stream().filter(dictionary::isRoot).collect(Collectors.toSet());
+        /* Visit the entities in a stable order, so the schema is the same from one start to the next */
+        Set<Class<?>> rootClasses = allClasses.stream()
+                .filter(dictionary::isRoot)
+                .sorted(Comparator.comparing(dictionary::getJsonAliasFor))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
         /*
          * Walk the object graph (avoiding cycles) and construct the GraphQL input object types.
@@ -155,6 +170,16 @@ public class ModelBuilder {
         dictionary.walkEntityGraph(rootClasses, this::buildInputObjectStub);
         resolveInputObjectRelationships();
 
+        /*
+         * Walk the object graph (avoiding cycles) and construct the GraphQL output object types.  The output object
+         * of an entity only refers to other entities by name, so each entity is constructed in parallel.
+         */
+        dictionary.walkEntityGraph(rootClasses, Function.identity()).stream()
+                .distinct()
+                .collect(Collectors.toList())
+                .parallelStream()
+                .forEach(this::buildConnectionObject);
+
         /* Construct root object */
         GraphQLObjectType.Builder root = newObject().name("__root");
         for (Class<?> clazz : rootClasses) {
@@ -175,21 +200,15 @@ public class ModelBuilder {
         GraphQLObjectType queryRoot = root.build();
         GraphQLObjectType mutationRoot = root.name("__mutation_root").build();
 
-        /*
-         * Walk the object graph (avoiding cycles) and construct the GraphQL output object types.
-         */
-        dictionary.walkEntityGraph(rootClasses, this::buildConnectionObject);
-
         /* Construct the schema */
-        GraphQLSchema schema = GraphQLSchema.newSchema()
+        Set<GraphQLType> additionalTypes = new TreeSet<>(Comparator.comparing(GraphQLType::getName));
+        additionalTypes.addAll(connectionObjectRegistry.values());
+        additionalTypes.addAll(inputObjectRegistry.values());
+
+        return GraphQLSchema.newSchema()
                 .query(queryRoot)
                 .mutation(mutationRoot)
-                .build(new HashSet<>(CollectionUtils.union(
-                        connectionObjectRegistry.values(),
-                        inputObjectRegistry.values()
-                )));
-
-        return schema;
+                .build(additionalTypes);
     }
 
     /**
@@ -19,6 +19,7 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.graphql.containers.ConnectionContainer;
+import com.yahoo.elide.graphql.containers.RootContainer;
 import graphql.language.Field;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
@@ -32,6 +33,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +41,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.yahoo.elide.graphql.ModelBuilder.ARGUMENT_OPERATION;
@@ -70,6 +73,7 @@ public class PersistentResourceFetcher implements DataFetcher {
 
         /* build environment object, extracts required fields */
         Environment context = new Environment(environment);
+        context.requestScope.getDeadline().check();
 
         /* safe enable debugging */
         if (log.isDebugEnabled()) {
@@ -212,6 +216,12 @@ public class PersistentResourceFetcher implements DataFetcher {
                                      Optional<String> sort,
                                      Optional<String> filters,
                                      boolean generateTotals) {
+        Supplier<ConnectionContainer> pending =
+                context.requestScope.removePendingRelationship(parentResource, context.field);
+        if (pending != null) {
+            return pending.get();
+        }
+
         EntityDictionary dictionary = parentResource.getRequestScope().getDictionary();
         Class entityClass = dictionary.getParameterizedType(parentResource.getObject(), fieldName);
         String typeName = dictionary.getJsonAliasFor(entityClass);
@@ -231,6 +241,65 @@ public class PersistentResourceFetcher implements DataFetcher {
         return new ConnectionContainer(relations, pagination, typeName);
     }
 
+    /**
+     * Starts loading the relationships selected on the nodes of a connection for all of its nodes, before
+     * graphql-java fetches them one node and one field at a time.  A data store loading relationships
+     * asynchronously can then run them concurrently.
+     * <p>
+     * Only relationships selected without arguments or directives are started.  Nothing is started when a node
+     * field mutates data, since the relationships could change before they are fetched.
+     *
+     * @param context Request context
+     * @param resources Nodes of the connection
+     * @param nodeFields Fields selected on the nodes
+     */
+    public void startRelationships(Environment context, Set<PersistentResource> resources, List<Field> nodeFields) {
+        if (nodeFields.stream().anyMatch(field -> field.getArguments().stream()
+                .anyMatch(argument -> ARGUMENT_OPERATION.equals(argument.getName())))) {
+            return;
+        }
+
+        EntityDictionary dictionary = context.requestScope.getDictionary();
+        Set<String> resultNames = new HashSet<>();
+        for (Field field : nodeFields) {
+            String resultName = field.getAlias() == null ? field.getName() : field.getAlias();
+            if (!field.getArguments().isEmpty() || !field.getDirectives().isEmpty()
+                    || field.getSelectionSet() == null || !resultNames.add(resultName)) {
+                continue;
+            }
+            boolean generateTotals = RootContainer.requestContainsPageInfo(field);
+            for (PersistentResource resource : resources) {
+                if (!dictionary.isRelation(resource.getResourceClass(), field.getName())) {
+                    continue;
+                }
+                Supplier<ConnectionContainer> relationship;
+                try {
+                    relationship = startRelationship(resource, field.getName(), generateTotals);
+                } catch (RuntimeException e) {
+                    // Reported when the field is fetched
+                    relationship = () -> {
+                        throw e;
+                    };
+                }
+                context.requestScope.addPendingRelationship(resource, field, relationship);
+            }
+        }
+    }
+
+    private Supplier<ConnectionContainer> startRelationship(PersistentResource parentResource,
+                                                            String fieldName,
+                                                            boolean generateTotals) {
+        EntityDictionary dictionary = parentResource.getRequestScope().getDictionary();
+        Class entityClass = dictionary.getParameterizedType(parentResource.getObject(), fieldName);
+        String typeName = dictionary.getJsonAliasFor(entityClass);
+
+        Optional<Pagination> pagination = buildPagination(Optional.empty(), Optional.empty(), generateTotals);
+        Supplier<Set<PersistentResource>> relations = parentResource.getRelationCheckedFilteredAsync(fieldName,
+                Optional.empty(), Optional.empty(), pagination);
+
+        return () -> new ConnectionContainer(relations.get(), pagination, typeName);
+    }
+
     private ConnectionContainer upsertObjects(Environment context) {
         return upsertOrUpdateObjects(
                 context,
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.annotation.Paginate;
+import com.yahoo.elide.core.EntityDictionary;
+import graphql.analysis.QueryTraversal;
+import graphql.analysis.QueryVisitorEnvironment;
+import graphql.language.Document;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLModifiedType;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Estimates the number of entities a GraphQL query may load before it runs.
+ * <p>
+ * Every connection field loads as many entities as it requests ids or data, or else its {@code first} argument,
+ * or else the default page size of its type, bounded by the maximum page size. To-one relationships load a single
+ * entity. The entities selected below a connection field are loaded once per entity of the connection, so nested
+ * to-many relationships multiply each other.
+ */
+public class QueryCostEstimator {
+    private static final String EDGES = "edges";
+
+    private final GraphQLSchema schema;
+    private final EntityDictionary dictionary;
+    private final int defaultPageSize;
+    private final int defaultMaxPageSize;
+
+    public QueryCostEstimator(GraphQLSchema schema, ElideSettings settings) {
+        this.schema = schema;
+        this.dictionary = settings.getDictionary();
+        this.defaultPageSize = settings.getDefaultPageSize();
+        this.defaultMaxPageSize = settings.getDefaultMaxPageSize();
+    }
+
+    /**
+     * Estimate the cost of a query.
+     *
+     * @param query the query text
+     * @param operationName the operation to run or null
+     * @param variables the query variables or null
+     * @return the estimated number of loaded entities
+     */
+    public long estimate(String query, String operationName, Map<String, Object> variables) {
+        Document document = new Parser().parseDocument(query);
+        QueryTraversal traversal = new QueryTraversal(schema, document, operationName,
+                variables == null ? Collections.emptyMap() : variables);
+
+        // Fields are visited after the fields they select, which add their cost to their parent
+        Map<QueryVisitorEnvironment, Long> selectedCosts = new HashMap<>();
+        traversal.visitPostOrder(environment -> {
+            Long selectedCost = selectedCosts.remove(environment);
+            long cost = selectedCost == null ? 0 : selectedCost;
+            long rows = getRows(environment);
+            if (rows > 0) {
+                cost = multiply(rows, add(1, cost));
+            }
+            selectedCosts.merge(environment.getParentEnvironment(), cost, QueryCostEstimator::add);
+        });
+        return selectedCosts.getOrDefault(null, 0L);
+    }
+
+    /**
+     * Get the number of entities a field loads each time it is resolved.
+     *
+     * @return the row count or 0 if the field is not a connection
+     */
+    private long getRows(QueryVisitorEnvironment environment) {
+        GraphQLFieldDefinition definition = environment.getFieldDefinition();
+        if (definition == null) {
+            return 0;
+        }
+        GraphQLType type = definition.getType();
+        while (type instanceof GraphQLModifiedType) {
+            type = ((GraphQLModifiedType) type).getWrappedType();
+        }
+        if (!(type instanceof GraphQLObjectType) || ((GraphQLObjectType) type).getFieldDefinition(EDGES) == null) {
+            return 0;
+        }
+        Class<?> entityClass = dictionary.getEntityClass(type.getName());
+        if (entityClass == null) {
+            return 0;
+        }
+
+        Map<String, Object> arguments = environment.getArguments();
+        Object data = arguments.get(ModelBuilder.ARGUMENT_DATA);
+        if (definition.getArgument(ModelBuilder.ARGUMENT_FIRST) == null) {
+            return data instanceof Collection ? Math.max(1, ((Collection<?>) data).size()) : 1;
+        }
+
+        Object ids = arguments.get(ModelBuilder.ARGUMENT_IDS);
+        if (ids instanceof Collection && !((Collection<?>) ids).isEmpty()) {
+            return ((Collection<?>) ids).size();
+        }
+        if (data instanceof Collection && !((Collection<?>) data).isEmpty()) {
+            return ((Collection<?>) data).size();
+        }
+
+        Paginate paginate = entityClass.getAnnotation(Paginate.class);
+        int maxLimit = paginate != null ? paginate.maxLimit() : defaultMaxPageSize;
+        int limit = paginate != null ? paginate.defaultLimit() : defaultPageSize;
+        Object first = arguments.get(ModelBuilder.ARGUMENT_FIRST);
+        if (first != null) {
+            try {
+                limit = Integer.parseInt(first.toString());
+            } catch (NumberFormatException e) {
+                // The fetcher rejects the query
+                return 0;
+            }
+        }
+        return Math.max(0, Math.min(limit, maxLimit));
+    }
+
+    private static long add(long left, long right) {
+        long sum = left + right;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long multiply(long left, long right) {
+        return right != 0 && left > Long.MAX_VALUE / right ? Long.MAX_VALUE : left * right;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Admission control for GraphQL queries based on their estimated cost (see {@link QueryCostEstimator}).
+ * <p>
+ * A query costing more than the maximum query cost is always rejected. Otherwise its cost is taken from the token
+ * bucket of its user, which holds up to a capacity of tokens and is refilled at a constant rate.  A bucket left
+ * unused for as long as it takes to refill it completely is dropped, since a new bucket would be just as full.
+ */
+public class QueryCostLimiter {
+    @Getter private final long maxQueryCost;
+    private final long capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoTime;
+    private final Cache<Object, TokenBucket> buckets;
+
+    /**
+     * Constructor.
+     *
+     * @param maxQueryCost the maximum cost of a single query
+     * @param capacity the maximum number of tokens of a user
+     * @param tokensPerSecond the number of tokens given back to a user every second, greater than zero
+     */
+    public QueryCostLimiter(long maxQueryCost, long capacity, long tokensPerSecond) {
+        this(maxQueryCost, capacity, tokensPerSecond, System::nanoTime);
+    }
+
+    QueryCostLimiter(long maxQueryCost, long capacity, long tokensPerSecond, LongSupplier nanoTime) {
+        if (tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("Token buckets must be refilled at a positive rate");
+        }
+        this.maxQueryCost = maxQueryCost;
+        this.capacity = capacity;
+        this.tokensPerNano = (double) tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoTime = nanoTime;
+        this.buckets = CacheBuilder.newBuilder()
+                .expireAfterAccess((long) Math.ceil(capacity / tokensPerNano), TimeUnit.NANOSECONDS)
+                .ticker(new Ticker() {
+                    @Override
+                    public long read() {
+                        return nanoTime.getAsLong();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Take the cost of a query from the tokens of a user.
+     *
+     * @param userKey identifies the user
+     * @param cost the estimated cost of the query
+     * @return whether the user had enough tokens, in which case they were taken
+     */
+    public boolean tryAcquire(Object userKey, long cost) {
+        long now = nanoTime.getAsLong();
+        return buckets.asMap().computeIfAbsent(userKey, key -> new TokenBucket(capacity, now)).tryAcquire(cost, now);
+    }
+
+    /**
+     * Tokens of a user.
+     */
+    private class TokenBucket {
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        synchronized boolean tryAcquire(long cost, long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            if (tokens < cost) {
+                return false;
+            }
+            tokens -= cost;
+            return true;
+        }
+    }
+}
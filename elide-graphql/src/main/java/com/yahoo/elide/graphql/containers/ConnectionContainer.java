@@ -9,10 +9,13 @@ import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.graphql.Environment;
 import com.yahoo.elide.graphql.PersistentResourceFetcher;
+import graphql.language.Field;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import javax.ws.rs.BadRequestException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -27,7 +30,7 @@ public class ConnectionContainer implements GraphQLContainer {
     // Refers to the type of persistentResources
     @Getter private final String typeName;
 
-    private static final String EDGES_KEYWORD = "edges";
+    public static final String EDGES_KEYWORD = "edges";
     public static final String PAGE_INFO_KEYWORD = "pageInfo";
 
     @Override
@@ -36,6 +39,14 @@ public class ConnectionContainer implements GraphQLContainer {
 
         switch (fieldName) {
             case EDGES_KEYWORD:
+                // Let the data store load the relationships selected on every node together
+                List<Field> nodeFields = new ArrayList<>();
+                for (Field node : RootContainer.getSelectedFields(context.field.getSelectionSet(),
+                        EdgesContainer.NODE_KEYWORD, context)) {
+                    nodeFields.addAll(RootContainer.getSelectedFields(node.getSelectionSet(), null, context));
+                }
+                fetcher.startRelationships(context, getPersistentResources(), nodeFields);
+
                 return getPersistentResources().stream()
                         .map(EdgesContainer::new)
                         .collect(Collectors.toList());
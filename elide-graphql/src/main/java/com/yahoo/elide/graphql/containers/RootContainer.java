@@ -9,6 +9,17 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.graphql.Environment;
 import com.yahoo.elide.graphql.PersistentResourceFetcher;
 import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Root container for GraphQL requests.
@@ -19,8 +30,92 @@ public class RootContainer implements GraphQLContainer {
         EntityDictionary dictionary = context.requestScope.getDictionary();
         Class<?> entityClass = dictionary.getEntityClass(context.field.getName());
         boolean generateTotals = requestContainsPageInfo(context.field);
-        return fetcher.fetchObject(context, context.requestScope, entityClass, context.ids,
-                context.sort, context.offset, context.first, context.filters, generateTotals);
+
+        // Let the data store load the selected relationships together with the root collection
+        List<String> relationPaths = new ArrayList<>();
+        addSelectedRelationPaths(context.field.getSelectionSet(), entityClass, null, context, relationPaths);
+        context.requestScope.addFetchPaths(entityClass, relationPaths);
+
+        // Or only the selected attributes if no relationship is selected
+        Set<String> fieldNames = getSelectedNodeFields(context.field.getSelectionSet(), context).stream()
+                .map(Field::getName)
+                .filter(name -> !name.startsWith("__") && !name.equals(dictionary.getIdFieldName(entityClass)))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        boolean selectsRelationships = fieldNames.stream().anyMatch(name -> dictionary.isRelation(entityClass, name));
+        if (!selectsRelationships) {
+            context.requestScope.setProjection(entityClass, fieldNames);
+        }
+
+        try {
+            return fetcher.fetchObject(context, context.requestScope, entityClass, context.ids,
+                    context.sort, context.offset, context.first, context.filters, generateTotals);
+        } finally {
+            // Later root fields of the request may modify the records
+            context.requestScope.clearProjection(entityClass);
+        }
+    }
+
+    /**
+     * Collects the relationships selected below the edges and nodes of a connection, e.g. <em>authors</em> for
+     * <em>book { edges { node { title authors { edges { node { name } } } } } }</em>.
+     * Relationships with arguments are skipped since they are filtered, sorted or paginated by their own query.
+     */
+    private static void addSelectedRelationPaths(SelectionSet connection, Class<?> entityClass, String prefix,
+                                                 Environment context, List<String> relationPaths) {
+        EntityDictionary dictionary = context.requestScope.getDictionary();
+        for (Field relation : getSelectedNodeFields(connection, context)) {
+            String name = relation.getName();
+            if (!dictionary.isRelation(entityClass, name) || !relation.getArguments().isEmpty()) {
+                continue;
+            }
+            String path = (prefix == null) ? name : prefix + "." + name;
+            relationPaths.add(path);
+            addSelectedRelationPaths(relation.getSelectionSet(),
+                    dictionary.getParameterizedType(entityClass, name), path, context, relationPaths);
+        }
+    }
+
+    /**
+     * Get the fields selected below the edges and nodes of a connection.
+     */
+    private static List<Field> getSelectedNodeFields(SelectionSet connection, Environment context) {
+        List<Field> fields = new ArrayList<>();
+        for (Field edges : getSelectedFields(connection, ConnectionContainer.EDGES_KEYWORD, context)) {
+            for (Field node : getSelectedFields(edges.getSelectionSet(), EdgesContainer.NODE_KEYWORD, context)) {
+                fields.addAll(getSelectedFields(node.getSelectionSet(), null, context));
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Get the fields of a selection set, including those of inline fragments and fragment spreads.
+     *
+     * @param selectionSet the selection set (may be null)
+     * @param name only return fields with this name (or all fields if null)
+     * @param context the request environment
+     * @return the selected fields
+     */
+    static List<Field> getSelectedFields(SelectionSet selectionSet, String name, Environment context) {
+        List<Field> fields = new ArrayList<>();
+        if (selectionSet == null) {
+            return fields;
+        }
+        for (Selection selection : selectionSet.getSelections()) {
+            if (selection instanceof Field) {
+                if (name == null || name.equals(((Field) selection).getName())) {
+                    fields.add((Field) selection);
+                }
+            } else if (selection instanceof InlineFragment) {
+                fields.addAll(getSelectedFields(((InlineFragment) selection).getSelectionSet(), name, context));
+            } else if (selection instanceof FragmentSpread) {
+                FragmentDefinition fragment = context.fragments.get(((FragmentSpread) selection).getName());
+                if (fragment != null) {
+                    fields.addAll(getSelectedFields(fragment.getSelectionSet(), name, context));
+                }
+            }
+        }
+        return fields;
     }
 
     public static boolean requestContainsPageInfo(Field field) {
@@ -30,11 +30,15 @@ import org.testng.annotations.Test
 import javax.ws.rs.core.Response
 import javax.ws.rs.core.SecurityContext
 import java.security.Principal
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+import java.util.function.LongSupplier
 
 /**
  * GraphQL endpoint tests tested against the in-memory store.
  */
 class GraphQLEndointTest {
+    Elide elide
     GraphQLEndpoint endpoint
     SecurityContext user1 = Mockito.mock(SecurityContext)
     SecurityContext user2 = Mockito.mock(SecurityContext)
@@ -79,7 +83,7 @@ class GraphQLEndointTest {
         checkMappings[UserChecks.IS_USER_1] = UserChecks.IsUserId.One.class
         checkMappings[UserChecks.IS_USER_2] = UserChecks.IsUserId.Two.class
         checkMappings[CommitChecks.IS_NOT_USER_3] = CommitChecks.IsNotUser3.class
-        Elide elide = new Elide(
+        elide = new Elide(
                 new ElideSettingsBuilder(inMemoryStore)
                         .withEntityDictionary(new EntityDictionary(checkMappings))
                         .withAuditLogger(audit)
@@ -729,6 +733,37 @@ class GraphQLEndointTest {
         assertHasErrors(response)
     }
 
+    @Test
+    void testQueryCostLimits() {
+        DefaultOpaqueUserFunction getUser = new DefaultOpaqueUserFunction() {
+            @Override
+            Object apply(SecurityContext securityContext) {
+                return securityContext.getUserPrincipal()
+            }
+        }
+        // Each book query loads up to 500 books and 500 authors per book
+        AtomicLong now = new AtomicLong()
+        endpoint = new GraphQLEndpoint(elide, getUser,
+                new QueryCostLimiter(10000, 20, 10, { now.get() } as LongSupplier))
+
+        String cheapRequest = '{ book(first: "10") { edges { node { id } } } }'
+        String costlyRequest = '{ book { edges { node { id authors { edges { node { id } } } } } } }'
+
+        assertErrorStatus(endpoint.post(user1, graphQLRequestToJSON(costlyRequest)), 400)
+        assertErrorStatus(endpoint.post(user1, graphQLRequestToJSON('{ book { edges { node { id }')), 400)
+
+        // A cheap query costs 10: the bucket of user 1 holds two, user 2 has a separate one
+        Assert.assertEquals(endpoint.post(user1, graphQLRequestToJSON(cheapRequest)).getStatus(), 200)
+        Assert.assertEquals(endpoint.post(user1, graphQLRequestToJSON(cheapRequest)).getStatus(), 200)
+        assertErrorStatus(endpoint.post(user1, graphQLRequestToJSON(cheapRequest)), 429)
+        Assert.assertEquals(endpoint.post(user2, graphQLRequestToJSON(cheapRequest)).getStatus(), 200)
+
+        // One query is refilled every second
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1))
+        Assert.assertEquals(endpoint.post(user1, graphQLRequestToJSON(cheapRequest)).getStatus(), 200)
+        assertErrorStatus(endpoint.post(user1, graphQLRequestToJSON(cheapRequest)), 429)
+    }
+
     static String graphQLRequestToJSON(String request) {
         return graphQLRequestToJSON(request, new HashMap<String, String>())
     }
@@ -761,6 +796,12 @@ class GraphQLEndointTest {
         JSONAssert.assertEquals(expected, actual, true)
     }
 
+    static assertErrorStatus(Response response, int status) {
+        Assert.assertEquals(response.getStatus(), status)
+        JsonNode node = new ObjectMapper().readTree((String) response.getEntity())
+        Assert.assertFalse(node.get("errors").asList().isEmpty())
+    }
+
     static assertHasErrors(Response response) {
         JsonNode node = extract200Response(response)
         Assert.assertFalse(node.get("errors").asList().isEmpty())
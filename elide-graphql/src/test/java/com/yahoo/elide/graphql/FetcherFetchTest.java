@@ -6,10 +6,21 @@
 
 package com.yahoo.elide.graphql;
 
+import com.yahoo.elide.core.DataStoreTransaction;
 import graphql.ExecutionResult;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
 /**
  * Test the Fetch operation.
  *
@@ -161,6 +172,38 @@ public class FetcherFetchTest extends PersistentResourceFetcherTest {
         Assert.assertTrue(result.getErrors().isEmpty());
     }
 
+    @Test
+    public void testNodeRelationshipsAreRequestedBeforeWaiting() throws Exception {
+        List<String> events = new ArrayList<>();
+        DataStoreTransaction tx = spy(requestScope.getTransaction());
+        doAnswer(invocation -> {
+            events.add("load " + invocation.getArgument(2));
+            CompletableFuture<Object> loaded = (CompletableFuture<Object>) invocation.callRealMethod();
+            return new CompletableFuture<Object>() {
+                @Override
+                public Object join() {
+                    events.add("wait");
+                    return loaded.join();
+                }
+            };
+        }).when(tx).getRelationAsync(any(), any(), anyString(), any(), any(), any(), any());
+        requestScope = new GraphQLRequestScope(tx, null, requestScope.getElideSettings());
+
+        String graphQLRequest = "{"
+            + "book {"
+            + "  edges { node { title authors { edges { node { name } } } publisher { edges { node { name } } } } }"
+            + "}"
+            + "}";
+        ExecutionResult result = api.execute(graphQLRequest, requestScope);
+
+        Assert.assertTrue(result.getErrors().isEmpty());
+        Assert.assertEquals(events.subList(0, 7), Arrays.asList(
+                "load authors", "load authors", "load authors",
+                "load publisher", "load publisher", "load publisher",
+                "wait"));
+        Assert.assertEquals(events.stream().filter("wait"::equals).count(), 6);
+    }
+
     @Override
     public void runComparisonTest(String testName) throws Exception {
         // Preface with "fetch" directory:
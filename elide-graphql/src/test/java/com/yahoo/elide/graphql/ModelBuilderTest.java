@@ -7,6 +7,7 @@
 package com.yahoo.elide.graphql;
 
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.StartupTimings;
 import example.Author;
 import example.Book;
 import example.Publisher;
@@ -18,11 +19,13 @@ import graphql.schema.GraphQLInputObjectType;
 import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaPrinter;
 import org.testng.Assert;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -206,4 +209,20 @@ public class ModelBuilderTest {
 
         return true;
     }
+
+    @Test
+    public void testBuildIsRepeatable() {
+        DataFetcher fetcher = mock(DataFetcher.class);
+        GraphQLSchema first = new ModelBuilder(dictionary, fetcher).build();
+        GraphQLSchema second = new ModelBuilder(dictionary, fetcher).build();
+
+        SchemaPrinter printer = new SchemaPrinter();
+        Assert.assertEquals(printer.print(second), printer.print(first));
+
+        List<String> roots = first.getQueryType().getFieldDefinitions().stream()
+                .map(GraphQLFieldDefinition::getName)
+                .collect(Collectors.toList());
+        Assert.assertEquals(roots, roots.stream().sorted().collect(Collectors.toList()));
+        Assert.assertTrue(dictionary.getStartupTimings().getTimings().containsKey(StartupTimings.GRAPHQL_SCHEMA));
+    }
 }
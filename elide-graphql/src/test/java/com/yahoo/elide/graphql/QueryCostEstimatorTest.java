@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018, Oath Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.EntityDictionary;
+import example.Author;
+import example.Book;
+import example.Publisher;
+import graphql.schema.DataFetcher;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+
+public class QueryCostEstimatorTest {
+    private QueryCostEstimator estimator;
+
+    @BeforeClass
+    public void init() {
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+
+        ModelBuilder builder = new ModelBuilder(dictionary, mock(DataFetcher.class));
+        estimator = new QueryCostEstimator(builder.build(), new ElideSettingsBuilder(null)
+                .withEntityDictionary(dictionary)
+                .withDefaultPageSize(100)
+                .withDefaultMaxPageSize(1000)
+                .build());
+    }
+
+    @Test
+    public void testNestedCollectionsMultiply() {
+        String query = "{ book(first: \"10\") { edges { node { title "
+                + "authors { edges { node { name } } } } } } }";
+        Assert.assertEquals(estimator.estimate(query, null, null), 10 * (1 + 100));
+    }
+
+    @Test
+    public void testToOneRelationshipsLoadOneEntity() {
+        String query = "{ book(first: \"10\") { edges { node { title "
+                + "publisher { edges { node { name } } } } } } }";
+        Assert.assertEquals(estimator.estimate(query, null, null), 10 * (1 + 1));
+    }
+
+    @Test
+    public void testRequestedIdsAndPageLimits() {
+        Assert.assertEquals(estimator.estimate(
+                "{ book(ids: [\"1\", \"2\"]) { edges { node { title } } } }", null, null), 2);
+        Assert.assertEquals(estimator.estimate(
+                "{ book(first: \"5000\") { edges { node { title } } } }", null, null), 1000);
+        Assert.assertEquals(estimator.estimate(
+                "{ book { __typename edges { node { title } } } }", null, null), 100);
+    }
+
+    @Test
+    public void testVariablesAndFragments() {
+        String query = "query books($first: String) { book(first: $first) { edges { node { ...bookAuthors } } } "
+                + "author(first: $first) { edges { node { books { edges { node { ...bookAuthors } } } } } } } "
+                + "fragment bookAuthors on __node__book { authors(first: \"2\") { edges { node { name } } } }";
+        Assert.assertEquals(estimator.estimate(query, "books", Collections.singletonMap("first", "3")),
+                3 * (1 + 2) + 3 * (1 + 100 * (1 + 2)));
+    }
+
+    @Test
+    public void testTokenBuckets() {
+        AtomicLong now = new AtomicLong();
+        QueryCostLimiter limiter = new QueryCostLimiter(100, 100, 10, now::get);
+
+        Assert.assertTrue(limiter.tryAcquire("1", 80));
+        Assert.assertFalse(limiter.tryAcquire("1", 30));
+        Assert.assertTrue(limiter.tryAcquire("2", 30));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        Assert.assertTrue(limiter.tryAcquire("1", 30));
+        Assert.assertFalse(limiter.tryAcquire("1", 1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testBucketsMustRefill() {
+        new QueryCostLimiter(100, 100, 0);
+    }
+}
@@ -13,6 +13,8 @@ import org.hibernate.ScrollMode;
 import org.hibernate.SessionFactory;
 
 import javax.persistence.metamodel.EntityType;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -45,6 +47,7 @@ public class InjectionAwareHibernateStore extends HibernateSessionFactoryStore {
             Set<EntityType<?>> types = sessionFactory.getMetamodel().getEntities();
             log.info("Found {} entities", types.size());
 
+            List<Class<?>> mappedClasses = new ArrayList<>();
             for (EntityType type : sessionFactory.getMetamodel().getEntities()) {
                 try {
                     Class mappedClass = type.getJavaType();
@@ -53,7 +56,7 @@ public class InjectionAwareHibernateStore extends HibernateSessionFactoryStore {
                     dictionary.lookupEntityClass(mappedClass);
 
                     // Bind if successful
-                    dictionary.bindEntity(mappedClass);
+                    mappedClasses.add(mappedClass);
                 } catch (IllegalArgumentException e)  {
                     // Ignore this entity
                     // Turns out that hibernate may include non-entity types in this list when using things
@@ -61,6 +64,7 @@ public class InjectionAwareHibernateStore extends HibernateSessionFactoryStore {
                     // dictionary
                 }
             }
+            dictionary.bindEntities(mappedClasses);
         } else {
             log.info("No injector found, not binding one to entities.");
         }